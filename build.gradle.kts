@@ -3,6 +3,7 @@ plugins {
     id("checkstyle")
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
 }
 
 // QueryDSL 설정
@@ -62,6 +63,9 @@ dependencies {
     testImplementation(libs.bundles.spring.test)
     testRuntimeOnly(libs.junit.platform.launcher)
     testRuntimeOnly(libs.h2.database)
+
+    // Benchmark (src/jmh, 기본은 H2 인메모리)
+    jmh(libs.h2.database)
 }
 
 // QueryDSL 컴파일 설정
@@ -87,6 +91,17 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// JMH 벤치마크: ./gradlew jmh (-PjmhInclude=UuidInsertBenchmark 로 대상 지정, -PjmhProfilers=gc 로 할당량 측정)
+jmh {
+    jmhVersion.set(libs.versions.jmh.core.get())
+    if (project.hasProperty("jmhInclude")) {
+        includes.set(listOf(project.property("jmhInclude").toString()))
+    }
+    if (project.hasProperty("jmhProfilers")) {
+        profilers.set(project.property("jmhProfilers").toString().split(","))
+    }
+}
+
 // Checkstyle 설정 (Google Java Style)
 checkstyle {
     toolVersion = "10.12.5"
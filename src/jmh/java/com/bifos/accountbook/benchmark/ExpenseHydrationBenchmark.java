@@ -0,0 +1,178 @@
+package com.bifos.accountbook.benchmark;
+
+import com.bifos.accountbook.AccountBookApplication;
+import com.bifos.accountbook.expense.domain.converter.ExpenseStatusConverter;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.shared.converter.UuidConverter;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 지출 10,000행 하이드레이션 비용 측정
+ * <p>
+ * - convertColumnsLegacy / convertColumnsCurrent: 같은 원본 컬럼 값(uuid 4개 + status)을
+ *   이전 방식(UUID.fromString 검증 후 폐기, getEnumConstants() 선형 탐색)과 현재 컨버터로 변환
+ * - loadExpenses: JPA로 10,000행 전체를 엔티티로 조회 (이전 커밋에서 같은 명령으로 실행해 비교)
+ * <p>
+ * 할당량 비교는 GC 프로파일러로 확인합니다 (gc.alloc.rate.norm = 호출당 할당 바이트).
+ *
+ * <pre>{@code
+ * ./gradlew jmh -PjmhInclude=ExpenseHydrationBenchmark -PjmhProfilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ExpenseHydrationBenchmark {
+
+  private static final int ROWS = 10_000;
+
+  /**
+   * 기본 실행 설정 (시스템 프로퍼티로 덮어쓸 수 있음)
+   */
+  private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+      "spring.datasource.url", "jdbc:h2:mem:hydration;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto", "create-drop",
+      "spring.flyway.enabled", "false",
+      "server.port", "0",
+      "logging.level.root", "WARN",
+      "AUTH_SECRET", "benchmark-secret-key-for-jwt-token-generation-at-least-256-bits",
+      "JWT_EXPIRATION", "3600000",
+      "JWT_REFRESH_EXPIRATION", "604800000");
+
+  private final UuidConverter uuidConverter = new UuidConverter();
+  private final ExpenseStatusConverter statusConverter = new ExpenseStatusConverter();
+
+  private ConfigurableApplicationContext context;
+  private EntityManagerFactory entityManagerFactory;
+
+  /**
+   * JDBC로 읽은 원본 컬럼 값 (uuid, family_uuid, category_uuid, user_uuid, status)
+   */
+  private String[][] rawRows;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(AccountBookApplication.class)
+        .properties(DEFAULT_PROPERTIES)
+        .run();
+    entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+    Family family = context.getBean(FamilyRepository.class)
+                           .save(Family.builder().name("benchmark").monthlyBudget(BigDecimal.ZERO).build());
+    CustomUuid categoryUuid = CustomUuid.generate();
+    CustomUuid userUuid = CustomUuid.generate();
+    List<Expense> expenses = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      expenses.add(Expense.builder()
+                          .uuid(CustomUuid.generate())
+                          .family(family)
+                          .categoryUuid(categoryUuid)
+                          .userUuid(userUuid)
+                          .amount(BigDecimal.valueOf(1000 + i))
+                          .date(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(i))
+                          .build());
+    }
+    context.getBean(ExpenseRepository.class).saveAll(expenses);
+
+    rawRows = context.getBean(JdbcTemplate.class).query(
+        "SELECT uuid, family_uuid, category_uuid, user_uuid, status FROM expenses",
+        (rs, rowNum) -> new String[] {rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                                      rs.getString(5)}).toArray(String[][]::new);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void convertColumnsLegacy(Blackhole blackhole) {
+    for (String[] row : rawRows) {
+      for (int column = 0; column < 4; column++) {
+        blackhole.consume(legacyUuid(row[column]));
+      }
+      blackhole.consume(legacyStatus(row[4]));
+    }
+  }
+
+  @Benchmark
+  public void convertColumnsCurrent(Blackhole blackhole) {
+    for (String[] row : rawRows) {
+      for (int column = 0; column < 4; column++) {
+        // VARCHAR 모드에서 Hibernate가 문자열을 UUID로 읽은 뒤 컨버터에 전달하는 경로
+        blackhole.consume(uuidConverter.convertToEntityAttribute(UUID.fromString(row[column])));
+      }
+      blackhole.consume(statusConverter.convertToEntityAttribute(row[4]));
+    }
+  }
+
+  @Benchmark
+  public int loadExpenses() {
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      return entityManager.createQuery("SELECT e FROM Expense e", Expense.class)
+                          .getResultList()
+                          .size();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /**
+   * 이전 CustomUuid 생성 경로: 검증용 UUID.fromString 결과를 버리고 문자열을 보관
+   */
+  private static LegacyUuid legacyUuid(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      throw new IllegalArgumentException("UUID value cannot be null or empty");
+    }
+    UUID.fromString(value);
+    return new LegacyUuid(value);
+  }
+
+  /**
+   * 이전 AbstractCodeEnumConverter 조회 경로: 호출마다 상수 배열 복사 + 선형 탐색
+   */
+  private static ExpenseStatus legacyStatus(String code) {
+    for (ExpenseStatus status : ExpenseStatus.class.getEnumConstants()) {
+      if (status.getCode().equals(code)) {
+        return status;
+      }
+    }
+    throw new IllegalArgumentException(code);
+  }
+
+  private record LegacyUuid(String value) {
+  }
+}
@@ -0,0 +1,131 @@
+package com.bifos.accountbook.benchmark;
+
+import com.bifos.accountbook.shared.aop.FamilyAccessAspect;
+import com.bifos.accountbook.shared.aop.FamilyUuid;
+import com.bifos.accountbook.shared.aop.FamilyValidationService;
+import com.bifos.accountbook.shared.aop.UserUuid;
+import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * {@code @ValidateFamilyAccess} 어드바이스 오버헤드 측정
+ * <p>
+ * - legacyExtraction: 이전 방식(호출마다 getParameters()/getAnnotations() 순회 + 이름 기반 대체)으로 인자 추출
+ * - proxiedCall: 현재 FamilyAccessAspect가 적용된 프록시 호출 (권한 조회는 no-op으로 대체해 어드바이스 비용만 측정)
+ * - directCall: 프록시 없이 대상 메서드 직접 호출 (기준선)
+ * <p>
+ * proxiedCall - directCall 이 요청당 어드바이스 비용입니다.
+ *
+ * <pre>{@code
+ * ./gradlew jmh -PjmhInclude=FamilyAccessAdviceBenchmark -PjmhProfilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FamilyAccessAdviceBenchmark {
+
+  private final CustomUuid userUuid = CustomUuid.generate();
+  private final CustomUuid familyUuid = CustomUuid.generate();
+
+  private SampleService target;
+  private SampleService proxy;
+  private Method method;
+  private Object[] args;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    FamilyValidationService noOpValidation = new FamilyValidationService(null, null, null) {
+      @Override
+      public void validateFamilyAccess(CustomUuid userUuid, CustomUuid familyUuid) {
+        // 어드바이스 비용만 측정
+      }
+    };
+
+    target = new SampleService();
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new FamilyAccessAspect(noOpValidation, new DefaultListableBeanFactory()));
+    proxy = proxyFactory.getProxy();
+
+    method = SampleService.class.getMethod("getSummary", CustomUuid.class, CustomUuid.class, int.class, int.class);
+    args = new Object[] {userUuid, familyUuid, 2026, 1};
+  }
+
+  @Benchmark
+  public void legacyExtraction(Blackhole blackhole) {
+    Parameter[] parameters = method.getParameters();
+    CustomUuid user = null;
+    CustomUuid family = null;
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter param = parameters[i];
+      if (!param.getType().equals(CustomUuid.class)) {
+        continue;
+      }
+      boolean hasUserUuid = false;
+      boolean hasFamilyUuid = false;
+      for (Annotation annotation : param.getAnnotations()) {
+        if (annotation.annotationType().equals(UserUuid.class)) {
+          hasUserUuid = true;
+        } else if (annotation.annotationType().equals(FamilyUuid.class)) {
+          hasFamilyUuid = true;
+        }
+      }
+      if (hasUserUuid) {
+        user = (CustomUuid) args[i];
+      } else if (hasFamilyUuid) {
+        family = (CustomUuid) args[i];
+      } else if ("userUuid".equals(param.getName())) {
+        user = (CustomUuid) args[i];
+      } else if ("familyUuid".equals(param.getName())) {
+        family = (CustomUuid) args[i];
+      }
+      if (user != null && family != null) {
+        break;
+      }
+    }
+    blackhole.consume(user);
+    blackhole.consume(family);
+  }
+
+  @Benchmark
+  public int proxiedCall() {
+    return proxy.getSummary(userUuid, familyUuid, 2026, 1);
+  }
+
+  @Benchmark
+  public int directCall() {
+    return target.getSummary(userUuid, familyUuid, 2026, 1);
+  }
+
+  /**
+   * 대표적인 조회 서비스 시그니처 (사용자, 가족, 연, 월)
+   */
+  public static class SampleService {
+
+    @ValidateFamilyAccess
+    public int getSummary(@UserUuid CustomUuid userUuid, @FamilyUuid CustomUuid familyUuid, int year, int month) {
+      return year * 12 + month;
+    }
+  }
+}
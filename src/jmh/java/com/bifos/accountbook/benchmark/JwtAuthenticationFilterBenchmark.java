@@ -0,0 +1,130 @@
+package com.bifos.accountbook.benchmark;
+
+import com.bifos.accountbook.config.security.JwtAuthenticationFilter;
+import com.bifos.accountbook.config.security.JwtProperties;
+import com.bifos.accountbook.config.security.JwtTokenProvider;
+import com.bifos.accountbook.config.security.TokenRevocationRegistry;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.entity.User;
+import com.bifos.accountbook.user.domain.repository.RevokedTokenRepository;
+import com.bifos.accountbook.user.domain.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWT 인증 필터 요청당 비용 측정
+ * <p>
+ * - legacyDoubleParse: 이전 방식(호출마다 SecretKey/JwtParser 생성, validateToken + getUserIdFromToken으로 서명 검증 2회)
+ * - singleParse: 재사용 파서로 서명 검증 1회 (검증 결과 캐시 미적중 경로)
+ * - filterRequest: JwtAuthenticationFilter 전체 (같은 토큰 반복 요청 → 검증 결과 캐시 적중 + 메모리 폐기 목록 확인)
+ *
+ * <pre>{@code
+ * ./gradlew jmh -PjmhInclude=JwtAuthenticationFilterBenchmark -PjmhProfilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-at-least-256-bits";
+
+  private String token;
+  private SecretKey singletonKey;
+  private JwtParser singletonParser;
+  private JwtAuthenticationFilter filter;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+  private FilterChain chain;
+
+  @Setup
+  public void setUp() {
+    JwtProperties jwtProperties = new JwtProperties(SECRET, 3_600_000L, 604_800_000L);
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+    token = jwtTokenProvider.generateToken(User.builder().uuid(CustomUuid.generate()).build()).getToken();
+
+    singletonKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    singletonParser = Jwts.parser().verifyWith(singletonKey).build();
+
+    // 폐기 여부 확인은 메모리 조회만 하므로 저장소는 호출되지 않는 스텁으로 대체
+    TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(
+        stub(RevokedTokenRepository.class, null), stub(UserRepository.class, null), jwtProperties);
+    filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationRegistry);
+    request = stub(HttpServletRequest.class, "Bearer " + token);
+    response = stub(HttpServletResponse.class, null);
+    chain = (req, res) -> {
+    };
+  }
+
+  @Benchmark
+  public String legacyDoubleParse() {
+    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+    key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+  }
+
+  @Benchmark
+  public String singleParse() {
+    Claims claims = singletonParser.parseSignedClaims(token).getPayload();
+    return claims.getSubject();
+  }
+
+  @Benchmark
+  public void filterRequest(Blackhole blackhole) throws Exception {
+    filter.doFilter(request, response, chain);
+    blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    SecurityContextHolder.clearContext();
+  }
+
+  /**
+   * Authorization 헤더만 응답하는 최소 스텁 (spring-test 없이 필터를 직접 호출하기 위함)
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type, String authorization) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+      Class<?> returnType = method.getReturnType();
+      if (method.getName().equals("getHeader") && "Authorization".equals(args[0])) {
+        return authorization;
+      }
+      if (returnType == DispatcherType.class) {
+        return DispatcherType.REQUEST;
+      }
+      if (returnType == boolean.class) {
+        return false;
+      }
+      if (returnType == int.class) {
+        return 0;
+      }
+      if (returnType == long.class) {
+        return 0L;
+      }
+      return null;
+    });
+  }
+}
@@ -0,0 +1,114 @@
+package com.bifos.accountbook.benchmark;
+
+import com.bifos.accountbook.AccountBookApplication;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 지출 INSERT 처리량 비교: 랜덤 UUID(v4) vs 시간 순서 UUID(v7)
+ * <p>
+ * ExpenseRepository.save를 통해 uuid UNIQUE 인덱스가 있는 expenses 테이블에 한 건씩 저장합니다.
+ * 기본은 H2 인메모리이며, 실제 InnoDB 페이지 분할 영향은 MySQL을 지정해 측정합니다.
+ *
+ * <pre>{@code
+ * ./gradlew jmh -PjmhInclude=UuidInsertBenchmark
+ *
+ * # MySQL 대상 (빈 스키마, 테이블은 Hibernate가 생성)
+ * JAVA_TOOL_OPTIONS="-Dspring.datasource.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true \
+ *   -Dspring.datasource.username=root -Dspring.datasource.password=root" \
+ *   ./gradlew jmh -PjmhInclude=UuidInsertBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(4)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+  /**
+   * 기본 실행 설정 (시스템 프로퍼티로 덮어쓸 수 있음)
+   */
+  private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+      "spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto", "create-drop",
+      "spring.flyway.enabled", "false",
+      "server.port", "0",
+      "logging.level.root", "WARN",
+      "AUTH_SECRET", "benchmark-secret-key-for-jwt-token-generation-at-least-256-bits",
+      "JWT_EXPIRATION", "3600000",
+      "JWT_REFRESH_EXPIRATION", "604800000");
+
+  private static final BigDecimal AMOUNT = BigDecimal.valueOf(10000);
+
+  @Param({"V4", "V7"})
+  public String uuidVersion;
+
+  private ConfigurableApplicationContext context;
+  private ExpenseRepository expenseRepository;
+  private Family family;
+  private CustomUuid categoryUuid;
+  private CustomUuid userUuid;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(AccountBookApplication.class)
+        .properties(DEFAULT_PROPERTIES)
+        .run();
+    expenseRepository = context.getBean(ExpenseRepository.class);
+    family = context.getBean(FamilyRepository.class)
+                    .save(Family.builder().name("benchmark").monthlyBudget(BigDecimal.ZERO).build());
+    categoryUuid = CustomUuid.generate();
+    userUuid = CustomUuid.generate();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Expense saveExpense() {
+    Expense expense = Expense.builder()
+                             .uuid(nextUuid())
+                             .family(family)
+                             .categoryUuid(categoryUuid)
+                             .userUuid(userUuid)
+                             .amount(AMOUNT)
+                             .date(LocalDateTime.now())
+                             .build();
+    return expenseRepository.save(expense);
+  }
+
+  private CustomUuid nextUuid() {
+    return "V4".equals(uuidVersion)
+        ? CustomUuid.from(UUID.randomUUID().toString())
+        : CustomUuid.generate();
+  }
+}
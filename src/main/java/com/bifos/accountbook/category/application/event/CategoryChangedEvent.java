@@ -0,0 +1,12 @@
+package com.bifos.accountbook.category.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+
+/**
+ * 카테고리 변경 이벤트
+ * 카테고리가 수정(이름/아이콘/색상/예산 제외 플래그)되거나 삭제되면 발행됩니다.
+ * 카테고리 정보는 모든 기간의 대시보드 집계에 영향을 주므로 가족 전체 캐시 무효화를 트리거합니다.
+ */
+public record CategoryChangedEvent(CustomUuid familyUuid,
+                                   CustomUuid categoryUuid) {
+}
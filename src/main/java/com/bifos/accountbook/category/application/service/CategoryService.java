@@ -5,6 +5,7 @@ import com.bifos.accountbook.shared.aop.FamilyValidationService;
 import com.bifos.accountbook.category.application.dto.CategoryResponse;
 import com.bifos.accountbook.category.application.dto.CreateCategoryRequest;
 import com.bifos.accountbook.category.application.dto.UpdateCategoryRequest;
+import com.bifos.accountbook.category.application.event.CategoryChangedEvent;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.config.CacheConfig;
@@ -23,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +39,7 @@ public class CategoryService {
   private final ObjectProvider<RecurringExpenseService> recurringExpenseServiceProvider;
   private final FamilyValidationService familyValidationService; // 가족 검증 로직
   private final CacheManager cacheManager; // 캐시 관리자
+  private final ApplicationEventPublisher eventPublisher; // 이벤트 발행
 
   /**
    * 카테고리 생성
@@ -224,6 +227,9 @@ public class CategoryService {
     // 캐시 무효화 (CacheManager를 직접 사용)
     evictFamilyCache(familyUuidStr);
 
+    // 이벤트 발행 - 대시보드 캐시 무효화를 트리거
+    eventPublisher.publishEvent(new CategoryChangedEvent(familyUuid, category.getUuid()));
+
     return CategoryResponse.from(category);
   }
 
@@ -268,6 +274,9 @@ public class CategoryService {
     // 캐시 무효화 (CacheManager를 직접 사용)
     evictFamilyCache(familyUuidStr);
 
+    // 이벤트 발행 - 대시보드 캐시 무효화를 트리거
+    eventPublisher.publishEvent(new CategoryChangedEvent(familyUuid, category.getUuid()));
+
     log.info("Deleted category: {} by user: {}", categoryUuid, userUuid);
   }
 
@@ -293,17 +302,18 @@ public class CategoryService {
         new DefaultCategory("교육", "#14b8a6", "📚", false),
         new DefaultCategory("기타", "#6b7280", "📦", false));
 
-    for (DefaultCategory defaultCategory : defaultCategories) {
-      Category category = Category.builder()
-                                  .familyUuid(familyUuid)
-                                  .name(defaultCategory.name)
-                                  .color(defaultCategory.color)
-                                  .icon(defaultCategory.icon)
-                                  .isDefault(defaultCategory.isDefault)
-                                  .build();
-
-      categoryRepository.save(category);
-    }
+    // 한 번에 저장하여 JDBC 배치 INSERT 1회로 처리
+    List<Category> categories = defaultCategories.stream()
+                                                 .map(defaultCategory -> Category.builder()
+                                                                                 .familyUuid(familyUuid)
+                                                                                 .name(defaultCategory.name)
+                                                                                 .color(defaultCategory.color)
+                                                                                 .icon(defaultCategory.icon)
+                                                                                 .isDefault(defaultCategory.isDefault)
+                                                                                 .build())
+                                                 .toList();
+
+    categoryRepository.saveAll(categories);
   }
 
   /**
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -31,14 +32,23 @@ public class Category implements Serializable {
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * PK: id_sequences 테이블 기반 pooled 생성기 (Expense와 동일, JDBC 배치 INSERT 지원)
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "categories_id")
+  @TableGenerator(name = "categories_id",
+      table = "id_sequences",
+      pkColumnName = "sequence_name",
+      valueColumnName = "next_val",
+      pkColumnValue = "categories",
+      allocationSize = 50)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
-  @Column(name = "family_uuid", nullable = false, length = 36)
+  @Column(name = "family_uuid", nullable = false)
   private CustomUuid familyUuid;
 
   @Column(nullable = false, length = 50)
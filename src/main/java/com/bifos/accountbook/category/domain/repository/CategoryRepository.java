@@ -16,6 +16,12 @@ public interface CategoryRepository {
    */
   Category save(Category category);
 
+  /**
+   * 카테고리 일괄 저장
+   * 트랜잭션 커밋(flush) 시 hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT로 실행됩니다.
+   */
+  List<Category> saveAll(List<Category> categories);
+
   /**
    * UUID로 카테고리 조회
    */
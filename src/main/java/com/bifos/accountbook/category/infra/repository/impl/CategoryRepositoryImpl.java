@@ -31,6 +31,11 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     return jpaRepository.save(category);
   }
 
+  @Override
+  public List<Category> saveAll(List<Category> categories) {
+    return jpaRepository.saveAll(categories);
+  }
+
   @Override
   public Optional<Category> findByUuid(CustomUuid uuid) {
     return jpaRepository.findByUuid(uuid);
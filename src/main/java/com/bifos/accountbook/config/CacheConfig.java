@@ -1,6 +1,8 @@
 package com.bifos.accountbook.config;
 
+import com.bifos.accountbook.dashboard.application.service.DashboardCacheKeyIndex;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
@@ -13,7 +15,10 @@ import org.springframework.context.annotation.Configuration;
  * 캐시 설정
  *
  * Caffeine을 사용한 애플리케이션 레벨 캐싱 설정
- * 자주 조회되지만 변경이 적은 데이터(카테고리)에 대한 성능 최적화
+ * 자주 조회되지만 변경이 적은 데이터(카테고리, 대시보드 집계)에 대한 성능 최적화
+ *
+ * 모든 캐시는 시작 시점에 등록되므로 Actuator가 Micrometer에 캐시 메트릭
+ * (cache.gets{result=hit|miss}, cache.evictions, cache.size)을 자동으로 바인딩합니다.
  */
 @Slf4j
 @Configuration
@@ -24,6 +29,21 @@ public class CacheConfig {
    * 캐시 이름 상수
    */
   public static final String CATEGORIES_CACHE = "categories";
+  public static final String DASHBOARD_MONTHLY_AMOUNTS_CACHE = "dashboardMonthlyAmounts";
+  public static final String DASHBOARD_CATEGORY_BREAKDOWN_CACHE = "dashboardCategoryBreakdown";
+  public static final String DASHBOARD_DAILY_STATS_CACHE = "dashboardDailyStats";
+  public static final String DASHBOARD_MONTHLY_TREND_CACHE = "dashboardMonthlyTrend";
+  public static final String FAMILY_MEMBERSHIP_CACHE = "familyMemberships";
+
+  /**
+   * 대시보드 캐시 이름 목록 (아래 등록 루프에서 사용, 무효화는 DashboardCacheKeyIndex의 가족별 키로 처리)
+   */
+  public static final List<String> DASHBOARD_CACHES = List.of(
+      DASHBOARD_MONTHLY_AMOUNTS_CACHE,
+      DASHBOARD_CATEGORY_BREAKDOWN_CACHE,
+      DASHBOARD_DAILY_STATS_CACHE,
+      DASHBOARD_MONTHLY_TREND_CACHE
+  );
 
   /**
    * Caffeine 기반 CacheManager 설정
@@ -34,7 +54,7 @@ public class CacheConfig {
    * - 통계 활성화: 캐시 히트율 모니터링 (프로덕션에서 비활성화 가능)
    */
   @Bean
-  public CacheManager cacheManager() {
+  public CacheManager cacheManager(DashboardCacheKeyIndex dashboardCacheKeyIndex) {
     CaffeineCacheManager cacheManager = new CaffeineCacheManager(CATEGORIES_CACHE);
 
     cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -55,7 +75,28 @@ public class CacheConfig {
                                                           log.debug("Cache eviction - key: {}, cause: {}", key, cause))
     );
 
-    log.info("Caffeine CacheManager initialized with cache: {} (max size: 500)", CATEGORIES_CACHE);
+    // 대시보드 집계 캐시: 쓰기 이벤트로 가족·기간 단위 무효화 (DashboardCacheEvictionListener)
+    // TTL은 이벤트 누락·커밋 직전 조회 경합에 대한 안전장치
+    // 크기 초과·만료로 제거된 키는 evictionListener(동기 호출)로 가족별 키 색인에서도 제거
+    for (String cacheName : DASHBOARD_CACHES) {
+      cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                                                          .expireAfterWrite(10, TimeUnit.MINUTES)
+                                                          .maximumSize(5_000)
+                                                          .recordStats()
+                                                          .evictionListener((key, value, cause) ->
+                                                                                dashboardCacheKeyIndex.onEvicted(cacheName, key))
+                                                          .build());
+    }
+
+    // 가족 구성원 자격 캐시: 구성원 변경 이벤트로 무효화 (FamilyMembershipCacheEvictionListener)
+    // 권한 판단에 쓰이므로 TTL을 짧게 두어 이벤트 누락 시에도 오래 남지 않도록 함
+    cacheManager.registerCustomCache(FAMILY_MEMBERSHIP_CACHE, Caffeine.newBuilder()
+                                                                     .expireAfterWrite(5, TimeUnit.MINUTES)
+                                                                     .maximumSize(10_000)
+                                                                     .recordStats()
+                                                                     .build());
+
+    log.info("Caffeine CacheManager initialized with caches: {}", cacheManager.getCacheNames());
 
     return cacheManager;
   }
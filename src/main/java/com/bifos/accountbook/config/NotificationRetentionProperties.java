@@ -0,0 +1,68 @@
+package com.bifos.accountbook.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 알림 보관 기간 설정 (NotificationRetentionJob)
+ *
+ * 예산 알림과 반복 지출 알림, 읽은 알림과 읽지 않은 알림의 보관 기간을 각각 지정합니다.
+ * Immutable하게 관리되며, 애플리케이션 시작 시 한 번만 바인딩됩니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+
+  /**
+   * 읽은 예산 알림 보관 기간
+   */
+  private final Duration budgetRead;
+
+  /**
+   * 읽지 않은 예산 알림 보관 기간
+   */
+  private final Duration budgetUnread;
+
+  /**
+   * 읽은 반복 지출 알림 보관 기간
+   */
+  private final Duration recurringRead;
+
+  /**
+   * 읽지 않은 반복 지출 알림 보관 기간
+   */
+  private final Duration recurringUnread;
+
+  /**
+   * 트랜잭션 한 번에 삭제할 최대 알림 수 (1 이상)
+   */
+  private final int chunkSize;
+
+  /**
+   * 청크 사이 대기 시간 (복제 지연·운영 트래픽에 여유를 줌)
+   */
+  private final Duration pause;
+
+  /**
+   * Constructor Binding을 통한 Immutable 객체 생성
+   * 설정이 없으면 @DefaultValue 값을 사용합니다.
+   */
+  public NotificationRetentionProperties(@DefaultValue("90d") Duration budgetRead,
+                                         @DefaultValue("365d") Duration budgetUnread,
+                                         @DefaultValue("30d") Duration recurringRead,
+                                         @DefaultValue("90d") Duration recurringUnread,
+                                         @DefaultValue("500") int chunkSize,
+                                         @DefaultValue("200ms") Duration pause) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("notification.retention.chunk-size must be positive: " + chunkSize);
+    }
+    this.budgetRead = budgetRead;
+    this.budgetUnread = budgetUnread;
+    this.recurringRead = recurringRead;
+    this.recurringUnread = recurringUnread;
+    this.chunkSize = chunkSize;
+    this.pause = pause;
+  }
+}
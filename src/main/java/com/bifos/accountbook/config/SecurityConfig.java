@@ -2,17 +2,30 @@ package com.bifos.accountbook.config;
 
 import com.bifos.accountbook.shared.filter.RequestResponseLoggingFilter;
 import com.bifos.accountbook.config.security.JwtAuthenticationFilter;
+import com.bifos.accountbook.recurring.presentation.endpoint.RecurringExpenseBackfillEndpoint;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.SecurityContextHolderFilter;
@@ -26,10 +39,38 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  private static final String ACTUATOR_ADMIN_ROLE = "ADMIN";
+
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final CorsProperties corsProperties;
   private final RequestResponseLoggingFilter requestResponseLoggingFilter;
 
+  /**
+   * 쓰기 작업 actuator 엔드포인트 (반복 지출 백필)
+   *
+   * 아래 filterChain은 /actuator/**를 모두 허용하므로, 데이터를 바꾸는 엔드포인트는 이 체인이 먼저 잡아
+   * ADMIN 역할의 HTTP Basic 인증을 요구합니다 (관리 포트 분리와 무관하게 익명 호출 차단).
+   * 관리자 계정은 actuator.admin.*로 설정하며, 비밀번호가 비어 있으면 계정이 없어 항상 거부됩니다.
+   */
+  @Bean
+  @Order(1)
+  public SecurityFilterChain actuatorWriteFilterChain(
+      HttpSecurity http,
+      @Value("${actuator.admin.username:admin}") String username,
+      @Value("${actuator.admin.password:}") String password) {
+    http
+        .securityMatcher(EndpointRequest.to(RecurringExpenseBackfillEndpoint.class))
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session
+            .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .authorizeHttpRequests(auth -> auth
+            .anyRequest().hasRole(ACTUATOR_ADMIN_ROLE))
+        .httpBasic(Customizer.withDefaults())
+        .authenticationManager(actuatorAdminAuthenticationManager(username, password));
+
+    return http.build();
+  }
+
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) {
     http
@@ -45,7 +86,7 @@ public class SecurityConfig {
 
         // 요청에 대한 인증/인가 설정
         .authorizeHttpRequests(auth -> auth
-            // Public endpoints (Actuator)
+            // Public endpoints (Actuator, 쓰기 엔드포인트는 actuatorWriteFilterChain에서 먼저 처리)
             .requestMatchers("/actuator/**").permitAll()
 
             // Public API endpoints
@@ -86,6 +127,22 @@ public class SecurityConfig {
     return source;
   }
 
+  /**
+   * actuator 관리자 인증 (이 체인 전용, 사용자 API의 JWT 인증과 분리)
+   */
+  private AuthenticationManager actuatorAdminAuthenticationManager(String username, String password) {
+    List<UserDetails> admins = new ArrayList<>();
+    if (!password.isBlank()) {
+      admins.add(User.withUsername(username)
+          .password(passwordEncoder().encode(password))
+          .roles(ACTUATOR_ADMIN_ROLE)
+          .build());
+    }
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(admins));
+    provider.setPasswordEncoder(passwordEncoder());
+    return new ProviderManager(provider);
+  }
+
   @Bean
   public PasswordEncoder passwordEncoder() {
     return new BCryptPasswordEncoder();
@@ -1,15 +1,25 @@
 package com.bifos.accountbook.config.security;
 
 import com.bifos.accountbook.user.domain.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SecurityException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -18,18 +28,53 @@ import lombok.extern.slf4j.Slf4j;
  * JWT 토큰 검증/추출을 위한 추상 클래스
  * JwtTokenProvider와 NextAuthTokenProvider의 공통 로직을 제공합니다.
  * 하위 클래스는 getSecretKey()를 구현하여 각자의 비밀키를 제공합니다.
+ *
+ * 모든 요청에서 실행되므로 요청당 서명 검증은 한 번만 수행합니다.
+ * - parseClaims(): 서명 검증 + Claims 추출을 한 번에 처리 (실패 시 null)
+ * - JwtParser는 최초 사용 시 한 번 생성해 재사용 (불변, 스레드 안전)
+ * - 검증된 토큰은 SHA-256 해시 → Claims로 짧게 캐싱하며, 토큰의 exp를 넘겨 유지하지 않음
  */
 @Slf4j
 public abstract class AbstractJwtTokenProvider {
 
+  /**
+   * 검증 결과 캐시 최대 항목 수 (활성 사용자 수 기준으로 충분한 크기)
+   */
+  private static final int VERIFIED_CLAIMS_CACHE_SIZE = 10_000;
+
+  /**
+   * 검증 결과 캐시 최대 유지 시간 (exp가 더 이르면 exp까지만 유지)
+   */
+  private static final Duration VERIFIED_CLAIMS_MAX_TTL = Duration.ofMinutes(5);
+
+  /**
+   * 토큰 원문 대신 해시를 키로 사용 (힙에 Bearer 토큰을 보관하지 않음)
+   */
+  private final Cache<String, Claims> verifiedClaims =
+      Caffeine.newBuilder()
+              .maximumSize(VERIFIED_CLAIMS_CACHE_SIZE)
+              .expireAfter(Expiry.creating((String key, Claims claims) -> timeToLive(claims)))
+              .build();
+
+  /**
+   * 서명 검증 파서 (지연 생성, 경쟁 시 같은 파서를 중복 생성할 뿐이므로 동기화하지 않음)
+   */
+  private volatile JwtParser jwtParser;
+
   protected JwtParser getJwtParser() {
-    return Jwts.parser()
-               .verifyWith(getSigningKey())
-               .build();
+    JwtParser parser = jwtParser;
+    if (parser == null) {
+      parser = Jwts.parser()
+                   .verifyWith(getSigningKey())
+                   .build();
+      jwtParser = parser;
+    }
+    return parser;
   }
 
   /**
    * JWT 서명에 사용할 비밀키를 반환합니다.
+   * 호출마다 키를 새로 만들지 않도록 하위 클래스에서 생성 시 한 번만 만들어 보관합니다.
    *
    * @return SecretKey
    */
@@ -65,6 +110,30 @@ public abstract class AbstractJwtTokenProvider {
 
   protected abstract Function<User, String> toSubjectConverter();
 
+  /**
+   * 토큰 검증 + Claims 추출 (요청당 한 번만 호출)
+   *
+   * @param token JWT 토큰
+   * @return 검증된 Claims, 토큰이 유효하지 않으면 null
+   */
+  public Claims parseClaims(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+
+    String key = hash(token);
+    Claims cached = verifiedClaims.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    Claims claims = verify(token);
+    if (claims != null && claims.getExpiration() != null) {
+      verifiedClaims.put(key, claims);
+    }
+    return claims;
+  }
+
   /**
    * 토큰 검증
    *
@@ -72,21 +141,7 @@ public abstract class AbstractJwtTokenProvider {
    * @return 토큰이 유효하면 true, 그렇지 않으면 false
    */
   public boolean validateToken(String token) {
-    try {
-      getJwtParser().parseSignedClaims(token);
-      return true;
-    } catch (SecurityException e) {
-      log.debug("Invalid JWT signature: {}", e.getMessage());
-    } catch (MalformedJwtException e) {
-      log.debug("Invalid JWT token: {}", e.getMessage());
-    } catch (ExpiredJwtException e) {
-      log.debug("Expired JWT token: {}", e.getMessage());
-    } catch (UnsupportedJwtException e) {
-      log.debug("Unsupported JWT token: {}", e.getMessage());
-    } catch (IllegalArgumentException e) {
-      log.debug("JWT claims string is empty: {}", e.getMessage());
-    }
-    return false;
+    return parseClaims(token) != null;
   }
 
   /**
@@ -96,13 +151,7 @@ public abstract class AbstractJwtTokenProvider {
    * @return Claims 객체, 추출 실패 시 null
    */
   protected Claims getClaimsFromToken(String token) {
-    try {
-      return getJwtParser().parseSignedClaims(token)
-                           .getPayload();
-    } catch (Exception e) {
-      log.debug("Failed to extract claims from token: {}", e.getMessage());
-      return null;
-    }
+    return parseClaims(token);
   }
 
   /**
@@ -112,7 +161,53 @@ public abstract class AbstractJwtTokenProvider {
    * @return 사용자 ID, 추출 실패 시 null
    */
   public String getUserIdFromToken(String token) {
-    Claims claims = getClaimsFromToken(token);
+    Claims claims = parseClaims(token);
     return claims != null ? claims.getSubject() : null;
   }
+
+  /**
+   * 서명 검증 (캐시 미적중 시에만 실행)
+   */
+  private Claims verify(String token) {
+    try {
+      return getJwtParser().parseSignedClaims(token)
+                           .getPayload();
+    } catch (SecurityException e) {
+      log.debug("Invalid JWT signature: {}", e.getMessage());
+    } catch (MalformedJwtException e) {
+      log.debug("Invalid JWT token: {}", e.getMessage());
+    } catch (ExpiredJwtException e) {
+      log.debug("Expired JWT token: {}", e.getMessage());
+    } catch (UnsupportedJwtException e) {
+      log.debug("Unsupported JWT token: {}", e.getMessage());
+    } catch (JwtException e) {
+      log.debug("Invalid JWT: {}", e.getMessage());
+    } catch (IllegalArgumentException e) {
+      log.debug("JWT claims string is empty: {}", e.getMessage());
+    }
+    return null;
+  }
+
+  /**
+   * 캐시 유지 시간: min(exp까지 남은 시간, 최대 유지 시간)
+   */
+  private static Duration timeToLive(Claims claims) {
+    Date expiration = claims.getExpiration();
+    long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+    if (remainingMillis <= 0) {
+      return Duration.ZERO;
+    }
+    Duration remaining = Duration.ofMillis(remainingMillis);
+    return remaining.compareTo(VERIFIED_CLAIMS_MAX_TTL) < 0 ? remaining : VERIFIED_CLAIMS_MAX_TTL;
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+                                   .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.bifos.accountbook.config.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,15 +21,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
   @Override
   protected void doFilterInternal(@NonNull HttpServletRequest request,
                                   @NonNull HttpServletResponse response,
                                   @NonNull FilterChain filterChain) throws ServletException, IOException {
     String jwt = getJwtFromRequest(request);
-    if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-      Authentication authentication = jwtTokenProvider.createAuthentication(jwt);
-      SecurityContextHolder.getContext().setAuthentication(authentication);
+    if (StringUtils.hasText(jwt)) {
+      // 서명 검증과 사용자 추출을 한 번의 파싱으로 처리, 폐기 여부는 메모리 목록으로 확인 (DB 조회 없음)
+      Claims claims = jwtTokenProvider.parseAccessTokenClaims(jwt);
+      if (claims != null && !tokenRevocationRegistry.isRevoked(claims)) {
+        Authentication authentication = jwtTokenProvider.createAuthentication(claims);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+      }
     }
 
     filterChain.doFilter(request, response);
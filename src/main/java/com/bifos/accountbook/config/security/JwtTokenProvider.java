@@ -1,14 +1,15 @@
 package com.bifos.accountbook.config.security;
 
+import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.shared.utils.TimeUtils;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.SecureDigestAlgorithm;
 import java.util.Date;
 import java.util.List;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,14 +17,29 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider extends AbstractJwtTokenProvider {
 
+  /**
+   * 토큰 종류 클레임 (refresh 토큰에만 설정, Access 토큰 자리에 refresh 토큰을 쓰지 못하도록 구분)
+   */
+  static final String TOKEN_TYPE_CLAIM = "token_type";
+  static final String REFRESH_TOKEN_TYPE = "refresh";
+
   private final JwtProperties jwtProperties;
 
+  /**
+   * 서명/검증 키 (생성 시 한 번만 만들어 재사용)
+   */
+  private final SecretKey signingKey;
+
+  public JwtTokenProvider(JwtProperties jwtProperties) {
+    this.jwtProperties = jwtProperties;
+    this.signingKey = createSigningKey(jwtProperties.getSecret());
+  }
+
   @Override
   protected SecretKey getSigningKey() {
-    return createSigningKey(jwtProperties.getSecret());
+    return signingKey;
   }
 
   @Override
@@ -41,6 +57,7 @@ public class JwtTokenProvider extends AbstractJwtTokenProvider {
     Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
     final String token = Jwts.builder()
+                             .id(CustomUuid.generate().getValue())
                              .subject(toSubjectConverter().apply(user))
                              .issuedAt(now)
                              .expiration(expiryDate)
@@ -56,12 +73,15 @@ public class JwtTokenProvider extends AbstractJwtTokenProvider {
 
   /**
    * Refresh 토큰 생성
+   * 회전(rotation) 시 사용된 토큰을 폐기할 수 있도록 jti를 부여합니다.
    */
   public String generateRefreshToken(User user) {
     Date now = new Date();
     Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshExpiration());
 
     return Jwts.builder()
+               .id(CustomUuid.generate().getValue())
+               .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                .subject(toSubjectConverter().apply(user))
                .issuedAt(now)
                .expiration(expiryDate)
@@ -70,10 +90,35 @@ public class JwtTokenProvider extends AbstractJwtTokenProvider {
   }
 
   /**
-   * Authentication 객체 생성
+   * Access 토큰 검증 (서명 검증 1회)
+   *
+   * @param token JWT 토큰
+   * @return 검증된 Claims, 유효하지 않거나 refresh 토큰이면 null
+   */
+  public Claims parseAccessTokenClaims(String token) {
+    Claims claims = parseClaims(token);
+    return claims != null && !isRefreshToken(claims) ? claims : null;
+  }
+
+  /**
+   * Refresh 토큰 검증
+   *
+   * @param token JWT 토큰
+   * @return 검증된 Claims, 유효하지 않거나 jti가 없는 refresh 토큰이 아니면 null
    */
-  public Authentication createAuthentication(String token) {
-    String userId = getUserIdFromToken(token);
-    return new UsernamePasswordAuthenticationToken(userId, null, List.of());
+  public Claims parseRefreshTokenClaims(String token) {
+    Claims claims = parseClaims(token);
+    return claims != null && isRefreshToken(claims) && claims.getId() != null ? claims : null;
+  }
+
+  /**
+   * 검증된 Claims로 Authentication 객체 생성
+   */
+  public Authentication createAuthentication(Claims claims) {
+    return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, List.of());
+  }
+
+  private static boolean isRefreshToken(Claims claims) {
+    return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
   }
 }
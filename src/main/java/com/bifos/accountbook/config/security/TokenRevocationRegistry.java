@@ -0,0 +1,144 @@
+package com.bifos.accountbook.config.security;
+
+import com.bifos.accountbook.user.domain.entity.RevokedToken;
+import com.bifos.accountbook.user.domain.repository.RevokedTokenRepository;
+import com.bifos.accountbook.user.domain.repository.UserRepository;
+import com.bifos.accountbook.user.domain.value.DeletedUser;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 토큰 폐기 목록 (메모리)
+ *
+ * JwtAuthenticationFilter가 모든 요청에서 DB 조회 없이 O(1)로 폐기 여부를 확인하기 위한 목록입니다.
+ * - 폐기된 jti: revoked_tokens (refresh 토큰 회전 시 기록)
+ * - 삭제된 사용자 UUID: users.status = DELETED
+ *
+ * 기동 시 전체를 적재하고, 이후에는 주기적으로 마지막 조회 시각 이후 변경분만 조회합니다.
+ * 노드 간 시각 차이와 늦게 커밋된 행을 놓치지 않도록 조회 구간을 OVERLAP만큼 겹칩니다 (중복은 Map이 흡수).
+ *
+ * 블룸 필터 대신 정확한 해시 집합을 사용합니다. 오탐이 있으면 정상 토큰을 거부하거나
+ * 다시 DB를 확인해야 하는데, 아래 정리 규칙으로 항목 수가 작게 유지되므로 정확한 집합으로 충분합니다.
+ * - jti: 토큰 만료 시각이 지나면 제거 (이후에는 서명 검증 단계에서 거부됨)
+ * - 삭제 사용자: refresh 토큰 유효기간이 지나면 제거 (삭제 전에 발급된 토큰이 모두 만료됨)
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements SmartInitializingSingleton {
+
+  private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  /**
+   * 증분 조회 시 직전 조회 구간과 겹치는 시간
+   */
+  private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final UserRepository userRepository;
+
+  /**
+   * 삭제 사용자 보관 기간 (= refresh 토큰 유효기간)
+   */
+  private final Duration deletedUserRetention;
+
+  /**
+   * 폐기된 jti → 토큰 만료 시각(epoch millis)
+   */
+  private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();
+
+  /**
+   * 삭제된 사용자 UUID → 삭제 시각
+   */
+  private final Map<String, LocalDateTime> deletedUsers = new ConcurrentHashMap<>();
+
+  /**
+   * 증분 조회 기준 시각 (refresh()에서만 접근)
+   */
+  private LocalDateTime revokedWatermark = INITIAL_WATERMARK;
+  private LocalDateTime deletedUserWatermark = INITIAL_WATERMARK;
+
+  public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                 UserRepository userRepository,
+                                 JwtProperties jwtProperties) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.userRepository = userRepository;
+    this.deletedUserRetention = Duration.ofMillis(jwtProperties.getRefreshExpiration());
+  }
+
+  /**
+   * 토큰 폐기 여부 확인 (DB 조회 없음)
+   *
+   * @param claims 서명 검증된 Claims
+   * @return jti가 폐기되었거나 사용자가 삭제된 경우 true
+   */
+  public boolean isRevoked(Claims claims) {
+    String jti = claims.getId();
+    if (jti != null && revokedJtis.containsKey(jti)) {
+      return true;
+    }
+    String subject = claims.getSubject();
+    return subject != null && deletedUsers.containsKey(subject);
+  }
+
+  /**
+   * 이 노드에서 폐기한 토큰을 즉시 반영 (다른 노드는 다음 refresh()에서 반영)
+   */
+  public void revoke(String jti, Date expiresAt) {
+    revokedJtis.put(jti, expiresAt.getTime());
+  }
+
+  /**
+   * 기동 시 전체 적재 (요청을 받기 전에 목록을 채움)
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    refresh();
+    log.info("Token revocation registry loaded - revoked tokens: {}, deleted users: {}",
+             revokedJtis.size(), deletedUsers.size());
+  }
+
+  /**
+   * 변경분 증분 조회 및 만료 항목 정리
+   */
+  @Scheduled(fixedDelayString = "${jwt.revocation-refresh-interval:30000}",
+      initialDelayString = "${jwt.revocation-refresh-interval:30000}")
+  public synchronized void refresh() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime retentionLimit = now.minus(deletedUserRetention);
+
+    for (RevokedToken revokedToken : revokedTokenRepository.findRevokedSince(revokedWatermark.minus(OVERLAP), now)) {
+      revokedJtis.put(revokedToken.getJti(), toEpochMillis(revokedToken.getExpiresAt()));
+      if (revokedToken.getRevokedAt().isAfter(revokedWatermark)) {
+        revokedWatermark = revokedToken.getRevokedAt();
+      }
+    }
+
+    LocalDateTime deletedSince = deletedUserWatermark.minus(OVERLAP);
+    if (deletedSince.isBefore(retentionLimit)) {
+      deletedSince = retentionLimit;
+    }
+    for (DeletedUser deletedUser : userRepository.findDeletedUsersUpdatedSince(deletedSince)) {
+      deletedUsers.put(deletedUser.uuid().getValue(), deletedUser.updatedAt());
+      if (deletedUser.updatedAt().isAfter(deletedUserWatermark)) {
+        deletedUserWatermark = deletedUser.updatedAt();
+      }
+    }
+
+    long nowMillis = System.currentTimeMillis();
+    revokedJtis.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+    deletedUsers.values().removeIf(deletedAt -> deletedAt.isBefore(retentionLimit));
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,43 @@
+package com.bifos.accountbook.dashboard.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 스냅샷 응답 DTO
+ * - 홈 화면에 필요한 통계를 한 번의 요청으로 조회
+ * - 각 필드는 개별 대시보드 API 응답과 동일한 구조
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSnapshotResponse {
+
+  /**
+   * 월별 통계 (/stats/monthly)
+   */
+  private MonthlyStatsResponse monthlyStats;
+
+  /**
+   * 카테고리 분류 통계 (/stats/category-breakdown)
+   */
+  private CategoryBreakdownResponse categoryBreakdown;
+
+  /**
+   * 일별 통계 (/daily-stats)
+   */
+  private DailyStatsResponse dailyStats;
+
+  /**
+   * 월별 지출 추이 (/stats/monthly-trend)
+   */
+  private MonthlyTrendResponse monthlyTrend;
+
+  /**
+   * 현재 사용자의 읽지 않은 알림 수 (/notifications/unread-count)
+   */
+  private Long unreadNotificationCount;
+}
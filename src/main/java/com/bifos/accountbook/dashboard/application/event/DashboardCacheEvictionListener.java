@@ -0,0 +1,104 @@
+package com.bifos.accountbook.dashboard.application.event;
+
+import com.bifos.accountbook.category.application.event.CategoryChangedEvent;
+import com.bifos.accountbook.dashboard.application.service.DashboardStatsCache;
+import com.bifos.accountbook.expense.application.event.ExpenseBulkCreatedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseCreatedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseDeletedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseUpdatedEvent;
+import com.bifos.accountbook.family.application.event.FamilyDeletedEvent;
+import com.bifos.accountbook.income.application.event.IncomeCreatedEvent;
+import com.bifos.accountbook.income.application.event.IncomeDeletedEvent;
+import com.bifos.accountbook.income.application.event.IncomeUpdatedEvent;
+import com.bifos.accountbook.recurring.application.event.RecurringExpenseCreatedEvent;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 대시보드 캐시 무효화 이벤트 리스너
+ * 지출/수입/카테고리 변경, 가족 삭제 이벤트를 구독하여 해당 가족·기간의 대시보드 캐시를 무효화합니다.
+ * <p>
+ * 커밋 전에 무효화하면 다른 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있으므로 커밋 후에 처리합니다.
+ * 트랜잭션 밖에서 발행된 이벤트(반복 지출 스케줄러)도 처리하도록 fallbackExecution을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheEvictionListener {
+
+  private final DashboardStatsCache dashboardStatsCache;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleExpenseCreated(ExpenseCreatedEvent event) {
+    evict(event.familyUuid(), event.date());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleExpenseBulkCreated(ExpenseBulkCreatedEvent event) {
+    dashboardStatsCache.evict(event.familyUuid(), event.yearMonth());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleExpenseUpdated(ExpenseUpdatedEvent event) {
+    evict(event.familyUuid(), event.oldDate());
+    evict(event.familyUuid(), event.date());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleExpenseDeleted(ExpenseDeletedEvent event) {
+    evict(event.familyUuid(), event.date());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleIncomeCreated(IncomeCreatedEvent event) {
+    evict(event.familyUuid(), event.date());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleIncomeUpdated(IncomeUpdatedEvent event) {
+    evict(event.familyUuid(), event.oldDate());
+    evict(event.familyUuid(), event.date());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleIncomeDeleted(IncomeDeletedEvent event) {
+    evict(event.familyUuid(), event.date());
+  }
+
+  /**
+   * 카테고리 이름/색상/예산 제외 플래그 변경은 모든 기간에 영향을 주므로 가족 전체 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleCategoryChanged(CategoryChangedEvent event) {
+    dashboardStatsCache.evictFamily(event.familyUuid());
+  }
+
+  /**
+   * 반복 지출 자동 생성은 날짜 정보가 없으므로 가족 전체 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleRecurringExpenseCreated(RecurringExpenseCreatedEvent event) {
+    dashboardStatsCache.evictFamily(CustomUuid.from(event.familyUuid()));
+  }
+
+  /**
+   * 가족 삭제는 가족의 모든 지출·수입을 삭제 처리하므로 가족 전체 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleFamilyDeleted(FamilyDeletedEvent event) {
+    dashboardStatsCache.evictFamily(event.familyUuid());
+  }
+
+  private void evict(CustomUuid familyUuid, LocalDateTime date) {
+    if (familyUuid == null || date == null) {
+      return;
+    }
+    dashboardStatsCache.evict(familyUuid, YearMonth.from(date));
+  }
+}
@@ -0,0 +1,64 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 지출 롤업 재생성 작업
+ * - 롤업 조회가 활성화된 경우에만 등록 (dashboard.rollup.enabled=true)
+ * - 매일 새벽 전체 가족의 롤업을 원본 expenses에서 재생성하여 정합성 보정
+ * - 기동 시 재생성은 dashboard.rollup.rebuild-on-startup=true일 때만 (기본 false)
+ *   모든 노드가 기동마다 전체를 재생성하면 배포 직후 DB 부하가 몰리고 진행 중인 증분 갱신과 경합하므로,
+ *   초기 롤업은 V15 마이그레이션이 채우고 수동 복구가 필요할 때만 켬
+ * - 가족 단위로 트랜잭션을 분리하여 한 가족의 실패가 전체 작업을 중단시키지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dashboard.rollup.enabled", havingValue = "true")
+public class DailyExpenseRollupRebuildJob {
+
+  private final FamilyRepository familyRepository;
+  private final DailyExpenseRollupService dailyExpenseRollupService;
+  private final boolean rebuildOnStartup;
+
+  public DailyExpenseRollupRebuildJob(FamilyRepository familyRepository,
+                                      DailyExpenseRollupService dailyExpenseRollupService,
+                                      @Value("${dashboard.rollup.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+    this.familyRepository = familyRepository;
+    this.dailyExpenseRollupService = dailyExpenseRollupService;
+    this.rebuildOnStartup = rebuildOnStartup;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    if (rebuildOnStartup) {
+      rebuildAll();
+    }
+  }
+
+  @Scheduled(cron = "${dashboard.rollup.rebuild-cron:0 30 3 * * ?}")
+  public void rebuildAll() {
+    List<Family> families = familyRepository.findAllActive();
+    log.info("Starting daily expense rollup rebuild for {} families", families.size());
+
+    int rebuilt = 0;
+    for (Family family : families) {
+      try {
+        dailyExpenseRollupService.rebuild(family.getUuid());
+        rebuilt++;
+      } catch (Exception e) {
+        log.error("Failed to rebuild daily expense rollup: familyUuid={}", family.getUuid().getValue(), e);
+      }
+    }
+
+    log.info("Daily expense rollup rebuild completed. {}/{} families", rebuilt, families.size());
+  }
+}
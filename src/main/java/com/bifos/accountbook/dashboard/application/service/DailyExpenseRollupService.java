@@ -0,0 +1,100 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.dashboard.domain.repository.DailyExpenseRollupRepository;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일별 지출 롤업 유지 서비스
+ * - 지출 쓰기 경로(ExpenseService, RecurringExpenseScheduler)와 같은 트랜잭션에서 증분 반영
+ * - 수정은 "기존 값 차감(remove) → 변경 → 새 값 가산(add)" 순서로 호출
+ * - 벌크 변경(카테고리 이동, 가족 삭제)은 가족 단위 재생성(rebuild)으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DailyExpenseRollupService {
+
+  private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+  /**
+   * 지출을 롤업에 가산 (생성 또는 수정 후)
+   */
+  public void add(Expense expense) {
+    if (expense.getStatus() != ExpenseStatus.ACTIVE) {
+      return;
+    }
+    dailyExpenseRollupRepository.applyDelta(expense.getFamilyUuid(),
+                                            expense.getDate().toLocalDate(),
+                                            expense.getCategoryUuid(),
+                                            expense.isExcludeFromBudget(),
+                                            expense.getAmount(),
+                                            1L);
+  }
+
+  /**
+   * 여러 지출을 롤업에 가산 (일괄 생성)
+   * 같은 (날짜, 카테고리, 예산 제외 여부) 키로 묶어 키마다 한 번만 반영합니다.
+   */
+  public void addAll(List<Expense> expenses) {
+    Map<RollupKey, List<Expense>> grouped = expenses.stream()
+                                                    .filter(expense -> expense.getStatus() == ExpenseStatus.ACTIVE)
+                                                    .collect(Collectors.groupingBy(RollupKey::of,
+                                                                                   LinkedHashMap::new,
+                                                                                   Collectors.toList()));
+
+    grouped.forEach((key, group) -> dailyExpenseRollupRepository.applyDelta(
+        key.familyUuid(),
+        key.date(),
+        key.categoryUuid(),
+        key.excludeFromBudget(),
+        group.stream().map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+        group.size()));
+  }
+
+  /**
+   * 지출을 롤업에서 차감 (삭제 또는 수정 전)
+   */
+  public void remove(Expense expense) {
+    if (expense.getStatus() != ExpenseStatus.ACTIVE) {
+      return;
+    }
+    dailyExpenseRollupRepository.applyDelta(expense.getFamilyUuid(),
+                                            expense.getDate().toLocalDate(),
+                                            expense.getCategoryUuid(),
+                                            expense.isExcludeFromBudget(),
+                                            expense.getAmount().negate(),
+                                            -1L);
+  }
+
+  /**
+   * 가족의 롤업을 원본 지출에서 재생성
+   */
+  public int rebuild(CustomUuid familyUuid) {
+    int rows = dailyExpenseRollupRepository.rebuildByFamilyUuid(familyUuid);
+    log.debug("Rebuilt daily expense rollup: familyUuid={}, rows={}", familyUuid.getValue(), rows);
+    return rows;
+  }
+
+  private record RollupKey(CustomUuid familyUuid, LocalDate date, CustomUuid categoryUuid, boolean excludeFromBudget) {
+
+    static RollupKey of(Expense expense) {
+      return new RollupKey(expense.getFamilyUuid(),
+                           expense.getDate().toLocalDate(),
+                           expense.getCategoryUuid(),
+                           expense.isExcludeFromBudget());
+    }
+  }
+}
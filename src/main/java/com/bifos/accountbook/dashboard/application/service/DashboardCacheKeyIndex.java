@@ -0,0 +1,74 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 캐시 키의 가족별 색인
+ *
+ * 쓰기 이벤트마다 전체 캐시 키를 훑지 않고 해당 가족의 키만 찾아 무효화하기 위해 사용합니다.
+ * - DashboardStatsCache가 적재할 때 register()로 추가하고, 무효화할 때 removeIf()로 꺼냄
+ * - 크기 초과·만료로 Caffeine이 제거한 항목은 evictionListener(CacheConfig)가 onEvicted()로 색인에서도 제거
+ *
+ * 가족별 키 집합은 compute 안에서만 읽고 쓰며, 비면 가족 항목을 제거합니다.
+ */
+@Component
+public class DashboardCacheKeyIndex {
+
+  private final Map<CustomUuid, Set<Entry>> keysByFamily = new ConcurrentHashMap<>();
+
+  /**
+   * 캐시에 적재한 키 등록
+   */
+  void register(String cacheName, DashboardStatsCache.Key key) {
+    keysByFamily.compute(key.familyUuid(), (familyUuid, keys) -> {
+      Set<Entry> entries = keys != null ? keys : new HashSet<>();
+      entries.add(new Entry(cacheName, key));
+      return entries;
+    });
+  }
+
+  /**
+   * 가족의 키 중 조건에 맞는 키를 색인에서 제거하고 반환 (무효화 대상)
+   */
+  List<Entry> removeIf(CustomUuid familyUuid, Predicate<DashboardStatsCache.Key> predicate) {
+    List<Entry> removed = new ArrayList<>();
+    keysByFamily.computeIfPresent(familyUuid, (uuid, keys) -> {
+      keys.removeIf(entry -> {
+        if (predicate.test(entry.key())) {
+          removed.add(entry);
+          return true;
+        }
+        return false;
+      });
+      return keys.isEmpty() ? null : keys;
+    });
+    return removed;
+  }
+
+  /**
+   * Caffeine이 크기 초과·만료로 제거한 항목을 색인에서 제거
+   */
+  public void onEvicted(String cacheName, Object key) {
+    if (key instanceof DashboardStatsCache.Key dashboardKey) {
+      Entry entry = new Entry(cacheName, dashboardKey);
+      keysByFamily.computeIfPresent(dashboardKey.familyUuid(), (uuid, keys) -> {
+        keys.remove(entry);
+        return keys.isEmpty() ? null : keys;
+      });
+    }
+  }
+
+  /**
+   * 색인 항목 (캐시 이름, 키)
+   */
+  record Entry(String cacheName, DashboardStatsCache.Key key) {
+  }
+}
@@ -7,6 +7,7 @@ import com.bifos.accountbook.dashboard.application.dto.CategoryBreakdownItem;
 import com.bifos.accountbook.dashboard.application.dto.CategoryBreakdownResponse;
 import com.bifos.accountbook.dashboard.application.dto.MonthlyTrendPoint;
 import com.bifos.accountbook.dashboard.application.dto.MonthlyTrendResponse;
+import com.bifos.accountbook.config.CacheConfig;
 import com.bifos.accountbook.dashboard.domain.repository.projection.MonthlyTrendProjection;
 import com.bifos.accountbook.expense.application.dto.CategoryExpenseStat;
 import com.bifos.accountbook.expense.application.dto.CategoryExpenseSummaryResponse;
@@ -40,6 +41,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 대시보드 서비스 - 대시보드 통계 데이터 조회 - 지출/수입 요약 통계 - 카테고리별 집계
+ * 월별/카테고리/일별/추이 집계는 DashboardStatsCache에 가족·기간 단위로 캐싱 (쓰기 이벤트로 무효화)
  */
 @Slf4j
 @Service
@@ -49,6 +51,7 @@ public class DashboardService {
 
   private final DashboardRepository dashboardRepository;
   private final FamilyRepository familyRepository;
+  private final DashboardStatsCache dashboardStatsCache;
 
   /**
    * 카테고리별 지출 요약 조회 - 전체 지출 합계 - 카테고리별 지출 통계 (금액, 건수, 비율)
@@ -146,17 +149,26 @@ public class DashboardService {
                                               @FamilyUuid CustomUuid familyUuid,
                                               int year,
                                               int month) {
-    // 가족 정보 조회 (구성원 수)
+    return monthlyStats(familyUuid, year, month);
+  }
+
+  /**
+   * 월별 통계 집계 (권한 검증 없음 - 호출자가 검증 책임)
+   */
+  MonthlyStatsResponse monthlyStats(CustomUuid familyUuid, int year, int month) {
+    // 가족 정보 조회 (구성원 수) - 예산·구성원 수는 캐싱하지 않고 매번 조회 (PK 조회로 저렴)
     Family family = familyRepository.findByUuid(familyUuid)
                                     .orElseThrow(() -> new BusinessException(ErrorCode.FAMILY_NOT_FOUND));
 
-    // QueryDSL로 월별 지출 합계 조회 (DB에서 직접 집계)
-    BigDecimal monthlyExpense = dashboardRepository.getMonthlyExpenseAmount(
-        familyUuid, year, month);
-
-    // QueryDSL로 월별 수입 합계 조회 (DB에서 직접 집계)
-    BigDecimal monthlyIncome = dashboardRepository.getMonthlyIncomeAmount(
-        familyUuid, year, month);
+    // 월별 지출/수입 합계 (DB 집계 결과 캐싱)
+    MonthlyAmounts amounts = dashboardStatsCache.get(
+        CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE,
+        DashboardStatsCache.Key.of(familyUuid, YearMonth.of(year, month)),
+        () -> new MonthlyAmounts(
+            dashboardRepository.getMonthlyExpenseAmount(familyUuid, year, month),
+            dashboardRepository.getMonthlyIncomeAmount(familyUuid, year, month)));
+    BigDecimal monthlyExpense = amounts.expense();
+    BigDecimal monthlyIncome = amounts.income();
 
     // 가족의 월 예산 조회
     BigDecimal budget = family.getMonthlyBudget() != null
@@ -183,12 +195,26 @@ public class DashboardService {
                                                         int year,
                                                         int month,
                                                         boolean compareWithPrev) {
+    return categoryBreakdown(familyUuid, year, month, compareWithPrev);
+  }
+
+  /**
+   * 카테고리 분류 통계 집계 (권한 검증 없음 - 호출자가 검증 책임)
+   */
+  CategoryBreakdownResponse categoryBreakdown(CustomUuid familyUuid, int year, int month, boolean compareWithPrev) {
     YearMonth yearMonth = YearMonth.of(year, month);
-    LocalDateTime startOfMonth = yearMonth.atDay(1).atStartOfDay();
-    LocalDateTime startOfNextMonth = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+    return dashboardStatsCache.get(
+        CacheConfig.DASHBOARD_CATEGORY_BREAKDOWN_CACHE,
+        new DashboardStatsCache.Key(familyUuid, yearMonth, yearMonth, compareWithPrev),
+        () -> loadCategoryBreakdown(familyUuid, yearMonth, compareWithPrev));
+  }
 
+  private CategoryBreakdownResponse loadCategoryBreakdown(CustomUuid familyUuid,
+                                                          YearMonth yearMonth,
+                                                          boolean compareWithPrev) {
+    // 월 구간은 반열린 구간: 다음 달 1일 00:00 지출(반복 지출 등)은 포함하지 않음 (캐시 키의 의존 월과 일치)
     List<CategoryExpenseProjection> currentProjections =
-        dashboardRepository.getCategoryExpenseStats(familyUuid, null, startOfMonth, startOfNextMonth);
+        dashboardRepository.getMonthlyCategoryExpenseStats(familyUuid, yearMonth.getYear(), yearMonth.getMonthValue());
 
     BigDecimal totalExpense = currentProjections.stream()
                                                 .map(CategoryExpenseProjection::totalAmount)
@@ -197,11 +223,9 @@ public class DashboardService {
     Map<String, BigDecimal> prevAmountByCategory = new HashMap<>();
     if (compareWithPrev) {
       YearMonth prevYearMonth = yearMonth.minusMonths(1);
-      LocalDateTime prevStart = prevYearMonth.atDay(1).atStartOfDay();
-      LocalDateTime prevStartOfNext = yearMonth.atDay(1).atStartOfDay();
-
       List<CategoryExpenseProjection> prevProjections =
-          dashboardRepository.getCategoryExpenseStats(familyUuid, null, prevStart, prevStartOfNext);
+          dashboardRepository.getMonthlyCategoryExpenseStats(familyUuid, prevYearMonth.getYear(),
+                                                             prevYearMonth.getMonthValue());
 
       for (CategoryExpenseProjection p : prevProjections) {
         prevAmountByCategory.put(p.categoryUuid(), p.totalAmount());
@@ -236,8 +260,8 @@ public class DashboardService {
                                                           .toList();
 
     return CategoryBreakdownResponse.builder()
-                                    .year(year)
-                                    .month(month)
+                                    .year(yearMonth.getYear())
+                                    .month(yearMonth.getMonthValue())
                                     .totalExpense(totalExpense)
                                     .items(items)
                                     .build();
@@ -248,6 +272,20 @@ public class DashboardService {
                                               @FamilyUuid CustomUuid familyUuid,
                                               YearMonth fromYearMonth,
                                               YearMonth toYearMonth) {
+    return monthlyTrend(familyUuid, fromYearMonth, toYearMonth);
+  }
+
+  /**
+   * 월별 지출 추이 집계 (권한 검증 없음 - 호출자가 검증 책임)
+   */
+  MonthlyTrendResponse monthlyTrend(CustomUuid familyUuid, YearMonth fromYearMonth, YearMonth toYearMonth) {
+    return dashboardStatsCache.get(
+        CacheConfig.DASHBOARD_MONTHLY_TREND_CACHE,
+        new DashboardStatsCache.Key(familyUuid, fromYearMonth, toYearMonth, false),
+        () -> loadMonthlyTrend(familyUuid, fromYearMonth, toYearMonth));
+  }
+
+  private MonthlyTrendResponse loadMonthlyTrend(CustomUuid familyUuid, YearMonth fromYearMonth, YearMonth toYearMonth) {
     LocalDateTime from = fromYearMonth.atDay(1).atStartOfDay();
     LocalDateTime to = toYearMonth.plusMonths(1).atDay(1).atStartOfDay();
 
@@ -279,6 +317,20 @@ public class DashboardService {
                                           @FamilyUuid CustomUuid familyUuid,
                                           int year,
                                           int month) {
+    return dailyStats(familyUuid, year, month);
+  }
+
+  /**
+   * 일별 통계 집계 (권한 검증 없음 - 호출자가 검증 책임)
+   */
+  DailyStatsResponse dailyStats(CustomUuid familyUuid, int year, int month) {
+    return dashboardStatsCache.get(
+        CacheConfig.DASHBOARD_DAILY_STATS_CACHE,
+        DashboardStatsCache.Key.of(familyUuid, YearMonth.of(year, month)),
+        () -> loadDailyStats(familyUuid, year, month));
+  }
+
+  private DailyStatsResponse loadDailyStats(CustomUuid familyUuid, int year, int month) {
     Map<Integer, BigDecimal> expenseByDay = dashboardRepository.getDailyExpenseAmounts(familyUuid, year, month);
     Map<Integer, BigDecimal> incomeByDay = dashboardRepository.getDailyIncomeAmounts(familyUuid, year, month);
 
@@ -314,5 +366,10 @@ public class DashboardService {
                              .totalExpense(totalExpense)
                              .build();
   }
-}
 
+  /**
+   * 월별 지출/수입 합계 (캐시 값)
+   */
+  private record MonthlyAmounts(BigDecimal expense, BigDecimal income) {
+  }
+}
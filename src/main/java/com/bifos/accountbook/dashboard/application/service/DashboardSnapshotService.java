@@ -0,0 +1,147 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.dashboard.application.dto.CategoryBreakdownResponse;
+import com.bifos.accountbook.dashboard.application.dto.DailyStatsResponse;
+import com.bifos.accountbook.dashboard.application.dto.DashboardSnapshotResponse;
+import com.bifos.accountbook.dashboard.application.dto.MonthlyStatsResponse;
+import com.bifos.accountbook.dashboard.application.dto.MonthlyTrendResponse;
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
+import com.bifos.accountbook.shared.aop.FamilyUuid;
+import com.bifos.accountbook.shared.aop.UserUuid;
+import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대시보드 스냅샷 서비스
+ * - 홈 화면의 5개 통계(월별/카테고리/일별/추이/미읽음 알림)를 한 번의 요청으로 조회
+ * - 가족 접근 권한은 진입 시 1회만 검증 (@ValidateFamilyAccess)
+ * - 각 통계는 가상 스레드에서 병렬로 실행하며, 작업마다 독립된 읽기 전용 트랜잭션을 사용
+ *
+ * 동시 DB 작업 수는 전역 Semaphore로 제한합니다 (Hikari 풀 크기의 절반).
+ * 스냅샷 요청이 몰려도 커넥션 풀을 독점하지 않고 다른 API 요청이 사용할 여유를 남깁니다.
+ *
+ * 클래스 레벨 @Transactional을 두지 않습니다. 요청 스레드가 커넥션을 잡은 채로
+ * 하위 작업의 커넥션을 기다리면 풀 고갈(데드락)로 이어질 수 있기 때문입니다.
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+  private final DashboardService dashboardService;
+  private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Semaphore dbPermits;
+
+  public DashboardSnapshotService(DashboardService dashboardService,
+                                  NotificationUnreadCounterRepository notificationUnreadCounterRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  DataSource dataSource) {
+    this.dashboardService = dashboardService;
+    this.notificationUnreadCounterRepository = notificationUnreadCounterRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.dbPermits = new Semaphore(resolveMaxConcurrency(dataSource), true);
+  }
+
+  /**
+   * 대시보드 스냅샷 조회
+   *
+   * @param userUuid    사용자 UUID
+   * @param familyUuid  가족 UUID
+   * @param year        연도
+   * @param month       월 (1~12)
+   * @param trendMonths 추이 조회 개월 수 (기준 월 포함)
+   * @return 대시보드 스냅샷
+   */
+  @ValidateFamilyAccess
+  public DashboardSnapshotResponse getSnapshot(@UserUuid CustomUuid userUuid,
+                                               @FamilyUuid CustomUuid familyUuid,
+                                               int year,
+                                               int month,
+                                               int trendMonths) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+    YearMonth trendFrom = yearMonth.minusMonths(trendMonths - 1L);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<MonthlyStatsResponse> monthlyStats =
+          submit(executor, () -> dashboardService.monthlyStats(familyUuid, year, month));
+      Future<CategoryBreakdownResponse> categoryBreakdown =
+          submit(executor, () -> dashboardService.categoryBreakdown(familyUuid, year, month, true));
+      Future<DailyStatsResponse> dailyStats =
+          submit(executor, () -> dashboardService.dailyStats(familyUuid, year, month));
+      Future<MonthlyTrendResponse> monthlyTrend =
+          submit(executor, () -> dashboardService.monthlyTrend(familyUuid, trendFrom, yearMonth));
+      Future<Long> unreadCount =
+          submit(executor, () -> notificationUnreadCounterRepository.findUnreadCount(familyUuid, userUuid));
+
+      try {
+        return DashboardSnapshotResponse.builder()
+                                        .monthlyStats(await(monthlyStats))
+                                        .categoryBreakdown(await(categoryBreakdown))
+                                        .dailyStats(await(dailyStats))
+                                        .monthlyTrend(await(monthlyTrend))
+                                        .unreadNotificationCount(await(unreadCount))
+                                        .build();
+      } catch (RuntimeException e) {
+        // 하나라도 실패하면 나머지 작업은 취소 (결과를 사용하지 않으므로)
+        executor.shutdownNow();
+        throw e;
+      }
+    }
+  }
+
+  private <T> Future<T> submit(ExecutorService executor, Supplier<T> query) {
+    return executor.submit(() -> {
+      dbPermits.acquire();
+      try {
+        return readOnlyTransaction.execute(status -> query.get());
+      } finally {
+        dbPermits.release();
+      }
+    });
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "대시보드 스냅샷 조회가 중단되었습니다");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause().getMessage());
+    }
+  }
+
+  private static int resolveMaxConcurrency(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        return Math.max(1, maximumPoolSize / 2);
+      }
+    } catch (SQLException e) {
+      log.warn("Failed to resolve Hikari pool size. Using default concurrency {}", DEFAULT_MAX_CONCURRENCY, e);
+    }
+    return DEFAULT_MAX_CONCURRENCY;
+  }
+}
@@ -0,0 +1,119 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.YearMonth;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 집계 캐시
+ * - 가족 + 기간(YearMonth 구간) 단위로 집계 결과를 캐싱
+ * - 지출/수입/카테고리 변경 이벤트가 발생하면 해당 가족·기간에 걸친 항목만 무효화
+ *
+ * DashboardService의 권한 검증 없는 집계 메서드(스냅샷에서도 사용)에서 호출하므로
+ * {@code @Cacheable} 대신 CacheManager를 직접 사용합니다 (같은 클래스 내부 호출은 프록시를 거치지 않음).
+ *
+ * 무효화는 DashboardCacheKeyIndex의 가족별 키 집합만 확인하므로 비용이 전체 캐시 크기가 아니라 해당 가족의 항목 수에 비례합니다.
+ *
+ * 히트/미스/크기 기반 제거 통계는 Caffeine recordStats로 Micrometer에 자동 노출되며,
+ * 이벤트 기반 무효화 횟수는 dashboard.cache.invalidations 카운터로 별도 노출합니다.
+ */
+@Slf4j
+@Component
+public class DashboardStatsCache {
+
+  private final CacheManager cacheManager;
+  private final DashboardCacheKeyIndex keyIndex;
+  private final Counter periodInvalidations;
+  private final Counter familyInvalidations;
+
+  public DashboardStatsCache(CacheManager cacheManager, DashboardCacheKeyIndex keyIndex, MeterRegistry meterRegistry) {
+    this.cacheManager = cacheManager;
+    this.keyIndex = keyIndex;
+    this.periodInvalidations = Counter.builder("dashboard.cache.invalidations")
+                                      .description("Event driven dashboard cache invalidations")
+                                      .tag("scope", "period")
+                                      .register(meterRegistry);
+    this.familyInvalidations = Counter.builder("dashboard.cache.invalidations")
+                                      .description("Event driven dashboard cache invalidations")
+                                      .tag("scope", "family")
+                                      .register(meterRegistry);
+  }
+
+  /**
+   * 캐시 조회, 없으면 집계 후 저장
+   * Caffeine의 원자적 로딩을 사용하므로 같은 키에 대한 동시 요청은 한 번만 집계합니다.
+   * 키는 적재 전후로 색인에 등록합니다 (적재 중 무효화와 적재 직전 크기 제거로 색인에서 빠지는 경우 방지).
+   */
+  public <T> T get(String cacheName, Key key, Supplier<T> loader) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      return loader.get();
+    }
+    keyIndex.register(cacheName, key);
+    try {
+      T value = cache.get(key, loader::get);
+      keyIndex.register(cacheName, key);
+      return value;
+    } catch (Cache.ValueRetrievalException e) {
+      // 집계 중 발생한 예외(BusinessException 등)는 원래 타입 그대로 전파
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 특정 가족의 특정 월 데이터에 의존하는 항목 무효화
+   */
+  public void evict(CustomUuid familyUuid, YearMonth yearMonth) {
+    evictIf(familyUuid, key -> key.dependsOn(yearMonth));
+    periodInvalidations.increment();
+    log.debug("Evicted dashboard cache: familyUuid={}, yearMonth={}", familyUuid.getValue(), yearMonth);
+  }
+
+  /**
+   * 특정 가족의 모든 항목 무효화 (카테고리 변경, 가족 삭제 등 기간과 무관한 변경)
+   */
+  public void evictFamily(CustomUuid familyUuid) {
+    evictIf(familyUuid, key -> true);
+    familyInvalidations.increment();
+    log.debug("Evicted dashboard cache: familyUuid={}", familyUuid.getValue());
+  }
+
+  private void evictIf(CustomUuid familyUuid, Predicate<Key> predicate) {
+    for (DashboardCacheKeyIndex.Entry entry : keyIndex.removeIf(familyUuid, predicate)) {
+      Cache cache = cacheManager.getCache(entry.cacheName());
+      if (cache != null) {
+        cache.evict(entry.key());
+      }
+    }
+  }
+
+  /**
+   * 대시보드 캐시 키
+   *
+   * @param familyUuid      가족 UUID
+   * @param from            조회 시작 월
+   * @param to              조회 종료 월 (포함)
+   * @param compareWithPrev 전월 비교 여부 (true면 from 직전 월 데이터에도 의존)
+   */
+  public record Key(CustomUuid familyUuid, YearMonth from, YearMonth to, boolean compareWithPrev) {
+
+    public static Key of(CustomUuid familyUuid, YearMonth yearMonth) {
+      return new Key(familyUuid, yearMonth, yearMonth, false);
+    }
+
+    boolean dependsOn(YearMonth yearMonth) {
+      YearMonth start = compareWithPrev ? from.minusMonths(1) : from;
+      return !yearMonth.isBefore(start) && !yearMonth.isAfter(to);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.bifos.accountbook.dashboard.domain.entity;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 지출 롤업 (대시보드 read model)
+ * - (family_uuid, expense_date, category_uuid, exclude_from_budget) 단위로 ACTIVE 지출의 합계/건수를 유지
+ * - 지출 생성·수정·삭제 시 DailyExpenseRollupService가 증분(delta)으로 갱신
+ * - 원본 expenses 테이블에서 언제든 재생성 가능 (DailyExpenseRollupRebuildJob)
+ *
+ * 외부에 노출되지 않는 집계 테이블이므로 uuid 컬럼을 두지 않습니다.
+ */
+@Entity
+@Table(name = "daily_expense_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_daily_expense_rollup",
+        columnNames = {"family_uuid", "expense_date", "category_uuid", "exclude_from_budget"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyExpenseRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "family_uuid", nullable = false)
+  private CustomUuid familyUuid;
+
+  @Column(name = "expense_date", nullable = false)
+  private LocalDate expenseDate;
+
+  @Column(name = "category_uuid", nullable = false)
+  private CustomUuid categoryUuid;
+
+  @Column(name = "exclude_from_budget", nullable = false)
+  private boolean excludeFromBudget;
+
+  @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+  private BigDecimal totalAmount;
+
+  @Column(name = "expense_count", nullable = false)
+  private long expenseCount;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.bifos.accountbook.dashboard.domain.repository;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 지출 롤업 Repository 인터페이스
+ * JPA에 의존하지 않는 순수 도메인 레이어 인터페이스
+ */
+public interface DailyExpenseRollupRepository {
+
+  /**
+   * 롤업 행에 증분 반영 (없으면 생성)
+   * - 단일 UPSERT 문으로 실행되어 동시 갱신 시에도 합계가 유실되지 않음
+   *
+   * @param amountDelta 금액 증감분 (삭제/이동 시 음수)
+   * @param countDelta  건수 증감분 (삭제/이동 시 음수)
+   */
+  void applyDelta(CustomUuid familyUuid,
+                  LocalDate expenseDate,
+                  CustomUuid categoryUuid,
+                  boolean excludeFromBudget,
+                  BigDecimal amountDelta,
+                  long countDelta);
+
+  /**
+   * 가족의 롤업을 원본 expenses 테이블에서 재생성
+   *
+   * @return 재생성된 롤업 행 수
+   */
+  int rebuildByFamilyUuid(CustomUuid familyUuid);
+}
@@ -36,6 +36,13 @@ public interface DashboardRepository {
       LocalDateTime endDate
   );
 
+  /**
+   * 특정 월의 카테고리별 지출 통계 조회
+   * - getCategoryExpenseStats와 같은 집계를 월 시작 이상 ~ 다음 달 시작 미만의 반열린 구간으로 조회
+   *   (다음 달 1일 00:00 지출은 포함하지 않음)
+   */
+  List<CategoryExpenseProjection> getMonthlyCategoryExpenseStats(CustomUuid familyUuid, int year, int month);
+
   /**
    * 전체 지출 합계 조회
    * - SUM 집계
@@ -56,7 +63,7 @@ public interface DashboardRepository {
 
   /**
    * 특정 월의 지출 합계 조회 (QueryDSL)
-   * - YEAR(date), MONTH(date) 조건 사용
+   * - [월 시작, 다음 달 시작) 반열린 구간 조건 사용
    * - ACTIVE 상태만 집계
    *
    * @param familyUuid 가족 UUID (필수)
@@ -72,7 +79,7 @@ public interface DashboardRepository {
 
   /**
    * 특정 월의 수입 합계 조회 (QueryDSL)
-   * - YEAR(date), MONTH(date) 조건 사용
+   * - [월 시작, 다음 달 시작) 반열린 구간 조건 사용
    * - ACTIVE 상태만 집계
    *
    * @param familyUuid 가족 UUID (필수)
@@ -0,0 +1,50 @@
+package com.bifos.accountbook.dashboard.infra.repository.impl;
+
+import com.bifos.accountbook.dashboard.domain.repository.DailyExpenseRollupRepository;
+import com.bifos.accountbook.dashboard.infra.repository.jpa.DailyExpenseRollupJpaRepository;
+import com.bifos.accountbook.shared.converter.UuidColumnBinder;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * DailyExpenseRollupRepository 구현체
+ * - 네이티브 UPSERT로 증분 반영
+ * - DELETE + INSERT ... SELECT로 가족 단위 재생성
+ * - UUID 파라미터는 컬럼 저장 형식(VARCHAR/BINARY)에 맞춰 UuidColumnBinder로 변환
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyExpenseRollupRepositoryImpl implements DailyExpenseRollupRepository {
+
+  private final DailyExpenseRollupJpaRepository jpaRepository;
+  private final UuidColumnBinder uuidColumnBinder;
+  private final Clock clock;
+
+  @Override
+  public void applyDelta(CustomUuid familyUuid,
+                         LocalDate expenseDate,
+                         CustomUuid categoryUuid,
+                         boolean excludeFromBudget,
+                         BigDecimal amountDelta,
+                         long countDelta) {
+    jpaRepository.upsertDelta(uuidColumnBinder.bind(familyUuid),
+                              expenseDate,
+                              uuidColumnBinder.bind(categoryUuid),
+                              excludeFromBudget,
+                              amountDelta,
+                              countDelta,
+                              LocalDateTime.now(clock));
+  }
+
+  @Override
+  public int rebuildByFamilyUuid(CustomUuid familyUuid) {
+    Object familyUuidValue = uuidColumnBinder.bind(familyUuid);
+    jpaRepository.deleteByFamilyUuid(familyUuidValue);
+    return jpaRepository.insertAggregatedFromExpenses(familyUuidValue, LocalDateTime.now(clock));
+  }
+}
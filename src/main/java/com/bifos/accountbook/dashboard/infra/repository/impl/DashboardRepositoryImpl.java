@@ -18,6 +18,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,26 @@ public class DashboardRepositoryImpl implements DashboardRepository {
       LocalDateTime endDate) {
 
     QExpense expense = QExpense.expense;
+    return categoryExpenseStats(familyUuid, categoryUuid, dateGoe(expense, startDate), dateLoe(expense, endDate));
+  }
+
+  /**
+   * 특정 월의 카테고리별 지출 통계 (월 시작 이상 ~ 다음 달 시작 미만)
+   */
+  @Override
+  public List<CategoryExpenseProjection> getMonthlyCategoryExpenseStats(CustomUuid familyUuid, int year, int month) {
+    QExpense expense = QExpense.expense;
+    YearMonth yearMonth = YearMonth.of(year, month);
+    return categoryExpenseStats(familyUuid, null,
+                                expense.date.goe(monthStart(yearMonth)),
+                                expense.date.lt(monthStart(yearMonth.plusMonths(1))));
+  }
+
+  private List<CategoryExpenseProjection> categoryExpenseStats(CustomUuid familyUuid,
+                                                               CustomUuid categoryUuid,
+                                                               BooleanExpression dateFrom,
+                                                               BooleanExpression dateTo) {
+    QExpense expense = QExpense.expense;
     QCategory category = QCategory.category;
 
     // QueryDSL로 카테고리별 통계 조회 (Tuple 사용)
@@ -71,8 +92,8 @@ public class DashboardRepositoryImpl implements DashboardRepository {
             expense.family.uuid.eq(familyUuid),
             expense.status.eq(ExpenseStatus.ACTIVE),
             categoryUuidEq(expense, categoryUuid),
-            dateGoe(expense, startDate),
-            dateLoe(expense, endDate)
+            dateFrom,
+            dateTo
         )
         .groupBy(expense.categoryUuid, category.name, category.icon, category.color)
         .orderBy(expense.amount.sum().desc())
@@ -159,7 +180,7 @@ public class DashboardRepositoryImpl implements DashboardRepository {
 
   /**
    * 특정 월의 지출 합계 조회 (QueryDSL)
-   * - YEAR(date), MONTH(date) 조건 사용
+   * - 월 시작 이상 ~ 다음 달 시작 미만의 반열린 구간 조건 사용 (인덱스 범위 스캔)
    * - ACTIVE 상태만 집계
    * - 예산 제외 플래그가 true인 지출 제외
    * - 카테고리의 예산 제외 플래그가 true인 지출도 제외
@@ -172,6 +193,7 @@ public class DashboardRepositoryImpl implements DashboardRepository {
 
     QExpense expense = QExpense.expense;
     QCategory category = QCategory.category;
+    YearMonth yearMonth = YearMonth.of(year, month);
 
     BigDecimal result = queryFactory
         .select(expense.amount.sum().coalesce(BigDecimal.ZERO))
@@ -180,10 +202,10 @@ public class DashboardRepositoryImpl implements DashboardRepository {
         .on(expense.categoryUuid.eq(category.uuid)
                                 .and(category.status.eq(CategoryStatus.ACTIVE)))
         .where(
-            expense.family.uuid.eq(familyUuid),
+            expense.familyUuid.eq(familyUuid),
             expense.status.eq(ExpenseStatus.ACTIVE),
-            expense.date.year().eq(year),
-            expense.date.month().eq(month),
+            expense.date.goe(monthStart(yearMonth)),
+            expense.date.lt(monthStart(yearMonth.plusMonths(1))),
             expense.excludeFromBudget.eq(false)
                                      .and(
                                          category.excludeFromBudget.isNull()
@@ -197,7 +219,7 @@ public class DashboardRepositoryImpl implements DashboardRepository {
 
   /**
    * 특정 월의 수입 합계 조회 (QueryDSL)
-   * - YEAR(date), MONTH(date) 조건 사용
+   * - 월 시작 이상 ~ 다음 달 시작 미만의 반열린 구간 조건 사용 (인덱스 범위 스캔)
    * - ACTIVE 상태만 집계
    */
   @Override
@@ -207,15 +229,16 @@ public class DashboardRepositoryImpl implements DashboardRepository {
       int month) {
 
     QIncome income = QIncome.income;
+    YearMonth yearMonth = YearMonth.of(year, month);
 
     BigDecimal result = queryFactory
         .select(income.amount.sum().coalesce(BigDecimal.ZERO))
         .from(income)
         .where(
-            income.family.uuid.eq(familyUuid),
+            income.familyUuid.eq(familyUuid),
             income.status.eq(IncomeStatus.ACTIVE),
-            income.date.year().eq(year),
-            income.date.month().eq(month)
+            income.date.goe(monthStart(yearMonth)),
+            income.date.lt(monthStart(yearMonth.plusMonths(1)))
         )
         .fetchOne();
 
@@ -225,15 +248,16 @@ public class DashboardRepositoryImpl implements DashboardRepository {
   @Override
   public Map<Integer, BigDecimal> getDailyExpenseAmounts(CustomUuid familyUuid, int year, int month) {
     QExpense expense = QExpense.expense;
+    YearMonth yearMonth = YearMonth.of(year, month);
 
     List<Tuple> tuples = queryFactory
         .select(expense.date.dayOfMonth(), expense.amount.sum())
         .from(expense)
         .where(
-            expense.family.uuid.eq(familyUuid),
+            expense.familyUuid.eq(familyUuid),
             expense.status.eq(ExpenseStatus.ACTIVE),
-            expense.date.year().eq(year),
-            expense.date.month().eq(month)
+            expense.date.goe(monthStart(yearMonth)),
+            expense.date.lt(monthStart(yearMonth.plusMonths(1)))
         )
         .groupBy(expense.date.dayOfMonth())
         .fetch();
@@ -244,15 +268,16 @@ public class DashboardRepositoryImpl implements DashboardRepository {
   @Override
   public Map<Integer, BigDecimal> getDailyIncomeAmounts(CustomUuid familyUuid, int year, int month) {
     QIncome income = QIncome.income;
+    YearMonth yearMonth = YearMonth.of(year, month);
 
     List<Tuple> tuples = queryFactory
         .select(income.date.dayOfMonth(), income.amount.sum())
         .from(income)
         .where(
-            income.family.uuid.eq(familyUuid),
+            income.familyUuid.eq(familyUuid),
             income.status.eq(IncomeStatus.ACTIVE),
-            income.date.year().eq(year),
-            income.date.month().eq(month)
+            income.date.goe(monthStart(yearMonth)),
+            income.date.lt(monthStart(yearMonth.plusMonths(1)))
         )
         .groupBy(income.date.dayOfMonth())
         .fetch();
@@ -295,6 +320,15 @@ public class DashboardRepositoryImpl implements DashboardRepository {
                  .toList();
   }
 
+  /**
+   * 월 시작 시각 (해당 월 1일 00:00)
+   * YEAR(date)/MONTH(date) 같은 함수 조건은 인덱스를 사용할 수 없으므로
+   * [이번 달 시작, 다음 달 시작) 범위 조건으로 변환하여 사용
+   */
+  private static LocalDateTime monthStart(YearMonth yearMonth) {
+    return yearMonth.atDay(1).atStartOfDay();
+  }
+
   private <T> Map<Integer, BigDecimal> toAmountByDayMap(
       List<Tuple> tuples,
       Expression<Integer> dayExpression,
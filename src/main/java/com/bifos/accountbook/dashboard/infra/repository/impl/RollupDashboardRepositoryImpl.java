@@ -0,0 +1,384 @@
+package com.bifos.accountbook.dashboard.infra.repository.impl;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.category.domain.entity.QCategory;
+import com.bifos.accountbook.category.domain.value.CategoryStatus;
+import com.bifos.accountbook.dashboard.domain.entity.QDailyExpenseRollup;
+import com.bifos.accountbook.dashboard.domain.repository.DashboardRepository;
+import com.bifos.accountbook.dashboard.domain.repository.projection.MonthlyTrendProjection;
+import com.bifos.accountbook.dashboard.infra.repository.projection.MonthlyTrendProjectionImpl;
+import com.bifos.accountbook.expense.domain.entity.QExpense;
+import com.bifos.accountbook.expense.domain.repository.projection.CategoryExpenseProjection;
+import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
+import com.bifos.accountbook.expense.infra.repository.projection.CategoryExpenseProjectionImpl;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 일별 롤업 기반 대시보드 통계 Repository 구현체
+ * - dashboard.rollup.enabled=true 일 때 DashboardRepositoryImpl 대신 주입됨 (@Primary)
+ * - 지출 통계는 daily_expense_rollups에서 집계 → 가족의 지출 이력 길이와 무관하게 "일 수 × 카테고리 수" 행만 스캔
+ * - 조회 구간이 자정에 맞지 않으면 경계 날짜만 원본 expenses에서 집계하여 합산 (결과는 원본 집계와 동일)
+ * - 수입 통계는 롤업 대상이 아니므로 DashboardRepositoryImpl에 위임
+ *
+ * 롤업은 DailyExpenseRollupService가 지출 쓰기 경로에서 갱신하며,
+ * 활성화 전/정합성 점검 시에는 DailyExpenseRollupRebuildJob으로 재생성합니다.
+ */
+@Primary
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dashboard.rollup.enabled", havingValue = "true")
+public class RollupDashboardRepositoryImpl implements DashboardRepository {
+
+  private static final QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+  private static final QExpense expense = QExpense.expense;
+  private static final QCategory category = QCategory.category;
+
+  private final JPAQueryFactory queryFactory;
+  private final DashboardRepositoryImpl rawDashboardRepository;
+
+  @Override
+  public List<CategoryExpenseProjection> getCategoryExpenseStats(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate) {
+    return categoryExpenseStats(familyUuid, categoryUuid, RangeSplit.of(startDate, endDate));
+  }
+
+  /**
+   * 특정 월의 카테고리별 지출 통계
+   * 월 구간은 온전한 날짜만으로 이루어지므로 롤업에서만 집계 (다음 달 1일은 포함하지 않음)
+   */
+  @Override
+  public List<CategoryExpenseProjection> getMonthlyCategoryExpenseStats(CustomUuid familyUuid, int year, int month) {
+    return categoryExpenseStats(familyUuid, null, RangeSplit.ofMonth(YearMonth.of(year, month)));
+  }
+
+  private List<CategoryExpenseProjection> categoryExpenseStats(CustomUuid familyUuid,
+                                                               CustomUuid categoryUuid,
+                                                               RangeSplit split) {
+    Map<CustomUuid, Aggregate> aggregates = new LinkedHashMap<>();
+
+    if (split.hasRollupDays()) {
+      List<Tuple> tuples = queryFactory
+          .select(rollup.categoryUuid, rollup.totalAmount.sum(), rollup.expenseCount.sum())
+          .from(rollup)
+          .where(
+              rollup.familyUuid.eq(familyUuid),
+              rollupCategoryUuidEq(categoryUuid),
+              rollupDayGoe(split.rollupFrom()),
+              rollupDayLt(split.rollupTo())
+          )
+          .groupBy(rollup.categoryUuid)
+          .fetch();
+      for (Tuple tuple : tuples) {
+        merge(aggregates, tuple.get(rollup.categoryUuid),
+              tuple.get(rollup.totalAmount.sum()), tuple.get(rollup.expenseCount.sum()));
+      }
+    }
+
+    for (BooleanExpression rawRange : split.rawRanges()) {
+      List<Tuple> tuples = queryFactory
+          .select(expense.categoryUuid, expense.amount.sum(), expense.id.count())
+          .from(expense)
+          .where(
+              expense.familyUuid.eq(familyUuid),
+              expense.status.eq(ExpenseStatus.ACTIVE),
+              expenseCategoryUuidEq(categoryUuid),
+              rawRange
+          )
+          .groupBy(expense.categoryUuid)
+          .fetch();
+      for (Tuple tuple : tuples) {
+        merge(aggregates, tuple.get(expense.categoryUuid),
+              tuple.get(expense.amount.sum()), tuple.get(expense.id.count()));
+      }
+    }
+
+    aggregates.values().removeIf(aggregate -> aggregate.count() <= 0);
+    if (aggregates.isEmpty()) {
+      return List.of();
+    }
+
+    // 카테고리 메타 정보는 집계 후 한 번에 조회 (ACTIVE만, 없으면 미분류로 표시)
+    Map<CustomUuid, Category> categories = queryFactory
+        .selectFrom(category)
+        .where(
+            category.uuid.in(aggregates.keySet()),
+            category.status.eq(CategoryStatus.ACTIVE)
+        )
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(Category::getUuid, Function.identity()));
+
+    List<CategoryExpenseProjection> result = new ArrayList<>();
+    aggregates.forEach((catUuid, aggregate) -> {
+      Category cat = categories.get(catUuid);
+      result.add(new CategoryExpenseProjectionImpl(
+          catUuid != null ? catUuid.getValue() : "UNKNOWN",
+          cat != null ? cat.getName() : "미분류",
+          cat != null ? cat.getIcon() : "❓",
+          cat != null ? cat.getColor() : "#999999",
+          aggregate.amount(),
+          aggregate.count()
+      ));
+    });
+    result.sort(Comparator.comparing(CategoryExpenseProjection::totalAmount).reversed());
+    return result;
+  }
+
+  @Override
+  public BigDecimal getTotalExpenseAmount(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate) {
+
+    RangeSplit split = RangeSplit.of(startDate, endDate);
+    BigDecimal total = BigDecimal.ZERO;
+
+    if (split.hasRollupDays()) {
+      BigDecimal rollupSum = queryFactory
+          .select(rollup.totalAmount.sum())
+          .from(rollup)
+          .where(
+              rollup.familyUuid.eq(familyUuid),
+              rollupCategoryUuidEq(categoryUuid),
+              rollupDayGoe(split.rollupFrom()),
+              rollupDayLt(split.rollupTo())
+          )
+          .fetchOne();
+      total = total.add(rollupSum != null ? rollupSum : BigDecimal.ZERO);
+    }
+
+    for (BooleanExpression rawRange : split.rawRanges()) {
+      BigDecimal rawSum = queryFactory
+          .select(expense.amount.sum())
+          .from(expense)
+          .where(
+              expense.familyUuid.eq(familyUuid),
+              expense.status.eq(ExpenseStatus.ACTIVE),
+              expenseCategoryUuidEq(categoryUuid),
+              rawRange
+          )
+          .fetchOne();
+      total = total.add(rawSum != null ? rawSum : BigDecimal.ZERO);
+    }
+
+    return total;
+  }
+
+  /**
+   * 특정 월의 지출 합계 (예산 대상만)
+   * - 지출 자체의 예산 제외 플래그는 롤업 키에 포함되어 있음
+   * - 카테고리의 예산 제외 플래그는 조회 시점에 카테고리와 JOIN하여 반영
+   */
+  @Override
+  public BigDecimal getMonthlyExpenseAmount(CustomUuid familyUuid, int year, int month) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+
+    BigDecimal result = queryFactory
+        .select(rollup.totalAmount.sum().coalesce(BigDecimal.ZERO))
+        .from(rollup)
+        .leftJoin(category)
+        .on(rollup.categoryUuid.eq(category.uuid)
+                               .and(category.status.eq(CategoryStatus.ACTIVE)))
+        .where(
+            rollup.familyUuid.eq(familyUuid),
+            rollupDayGoe(yearMonth.atDay(1)),
+            rollupDayLt(yearMonth.plusMonths(1).atDay(1)),
+            rollup.excludeFromBudget.eq(false)
+                                    .and(
+                                        category.excludeFromBudget.isNull()
+                                                                  .or(category.excludeFromBudget.eq(false))
+                                    )
+        )
+        .fetchOne();
+
+    return result != null ? result : BigDecimal.ZERO;
+  }
+
+  @Override
+  public BigDecimal getMonthlyIncomeAmount(CustomUuid familyUuid, int year, int month) {
+    return rawDashboardRepository.getMonthlyIncomeAmount(familyUuid, year, month);
+  }
+
+  @Override
+  public Map<Integer, BigDecimal> getDailyExpenseAmounts(CustomUuid familyUuid, int year, int month) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+
+    List<Tuple> tuples = queryFactory
+        .select(rollup.expenseDate, rollup.totalAmount.sum())
+        .from(rollup)
+        .where(
+            rollup.familyUuid.eq(familyUuid),
+            rollupDayGoe(yearMonth.atDay(1)),
+            rollupDayLt(yearMonth.plusMonths(1).atDay(1))
+        )
+        .groupBy(rollup.expenseDate)
+        .having(rollup.expenseCount.sum().gt(0L))
+        .fetch();
+
+    Map<Integer, BigDecimal> amountByDay = new HashMap<>();
+    for (Tuple tuple : tuples) {
+      LocalDate day = tuple.get(rollup.expenseDate);
+      BigDecimal amount = tuple.get(rollup.totalAmount.sum());
+      if (day != null) {
+        amountByDay.put(day.getDayOfMonth(), amount != null ? amount : BigDecimal.ZERO);
+      }
+    }
+    return amountByDay;
+  }
+
+  @Override
+  public Map<Integer, BigDecimal> getDailyIncomeAmounts(CustomUuid familyUuid, int year, int month) {
+    return rawDashboardRepository.getDailyIncomeAmounts(familyUuid, year, month);
+  }
+
+  /**
+   * 월별 지출 추이
+   * DashboardService는 항상 월 경계(자정)로 호출하므로 롤업으로 처리하고,
+   * 그 외 구간은 원본 집계로 위임합니다.
+   */
+  @Override
+  public List<MonthlyTrendProjection> getMonthlyExpenseTrend(
+      CustomUuid familyUuid,
+      LocalDateTime from,
+      LocalDateTime to) {
+
+    if (!isStartOfDay(from) || !isStartOfDay(to)) {
+      return rawDashboardRepository.getMonthlyExpenseTrend(familyUuid, from, to);
+    }
+
+    List<Tuple> tuples = queryFactory
+        .select(rollup.expenseDate.year(), rollup.expenseDate.month(), rollup.totalAmount.sum())
+        .from(rollup)
+        .where(
+            rollup.familyUuid.eq(familyUuid),
+            rollupDayGoe(from.toLocalDate()),
+            rollupDayLt(to.toLocalDate())
+        )
+        .groupBy(rollup.expenseDate.year(), rollup.expenseDate.month())
+        .having(rollup.expenseCount.sum().gt(0L))
+        .orderBy(rollup.expenseDate.year().asc(), rollup.expenseDate.month().asc())
+        .fetch();
+
+    return tuples.stream()
+                 .<MonthlyTrendProjection>map(tuple -> {
+                   Integer year = tuple.get(rollup.expenseDate.year());
+                   Integer month = tuple.get(rollup.expenseDate.month());
+                   BigDecimal total = tuple.get(rollup.totalAmount.sum());
+                   return new MonthlyTrendProjectionImpl(
+                       year != null ? year : 0,
+                       month != null ? month : 0,
+                       total != null ? total : BigDecimal.ZERO
+                   );
+                 })
+                 .toList();
+  }
+
+  // ===== 동적 쿼리 조건 메서드 =====
+
+  private BooleanExpression rollupCategoryUuidEq(CustomUuid categoryUuid) {
+    return categoryUuid != null ? rollup.categoryUuid.eq(categoryUuid) : null;
+  }
+
+  private BooleanExpression expenseCategoryUuidEq(CustomUuid categoryUuid) {
+    return categoryUuid != null ? expense.categoryUuid.eq(categoryUuid) : null;
+  }
+
+  private BooleanExpression rollupDayGoe(LocalDate from) {
+    return from != null ? rollup.expenseDate.goe(from) : null;
+  }
+
+  private BooleanExpression rollupDayLt(LocalDate to) {
+    return to != null ? rollup.expenseDate.lt(to) : null;
+  }
+
+  private static boolean isStartOfDay(LocalDateTime dateTime) {
+    return dateTime != null && dateTime.toLocalTime().equals(LocalTime.MIDNIGHT);
+  }
+
+  private static void merge(Map<CustomUuid, Aggregate> aggregates, CustomUuid categoryUuid,
+                            BigDecimal amount, Long count) {
+    aggregates.merge(categoryUuid,
+                     new Aggregate(amount != null ? amount : BigDecimal.ZERO, count != null ? count : 0L),
+                     Aggregate::plus);
+  }
+
+  private record Aggregate(BigDecimal amount, long count) {
+
+    Aggregate plus(Aggregate other) {
+      return new Aggregate(amount.add(other.amount), count + other.count);
+    }
+  }
+
+  /**
+   * [startDate, endDate] 조회 구간 분할 결과
+   * - rollupFrom(포함) ~ rollupTo(미포함): 롤업으로 집계할 온전한 날짜 구간 (null이면 제한 없음)
+   * - rawRanges: 자정에 맞지 않는 경계 구간 → 원본 expenses에서 직접 집계
+   *
+   * 종료 시각은 기존 DashboardRepositoryImpl과 동일하게 포함(<=) 조건입니다.
+   */
+  private record RangeSplit(boolean hasRollupDays,
+                            LocalDate rollupFrom,
+                            LocalDate rollupTo,
+                            List<BooleanExpression> rawRanges) {
+
+    /**
+     * [월 시작, 다음 달 시작) 구간 → 롤업만 사용
+     */
+    static RangeSplit ofMonth(YearMonth yearMonth) {
+      return new RangeSplit(true, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1), List.of());
+    }
+
+    static RangeSplit of(LocalDateTime startDate, LocalDateTime endDate) {
+      // 같은 날 안의 구간(또는 역전된 구간)은 원본에서만 집계
+      if (startDate != null && endDate != null
+          && !startDate.toLocalDate().isBefore(endDate.toLocalDate())) {
+        return new RangeSplit(false, null, null,
+                              List.of(expense.date.goe(startDate).and(expense.date.loe(endDate))));
+      }
+
+      List<BooleanExpression> rawRanges = new ArrayList<>();
+      LocalDate rollupFrom = null;
+      if (startDate != null) {
+        if (isStartOfDay(startDate)) {
+          rollupFrom = startDate.toLocalDate();
+        } else {
+          rollupFrom = startDate.toLocalDate().plusDays(1);
+          rawRanges.add(expense.date.goe(startDate).and(expense.date.lt(rollupFrom.atStartOfDay())));
+        }
+      }
+
+      LocalDate rollupTo = null;
+      if (endDate != null) {
+        rollupTo = endDate.toLocalDate();
+        rawRanges.add(expense.date.goe(rollupTo.atStartOfDay()).and(expense.date.loe(endDate)));
+      }
+
+      boolean hasRollupDays = rollupFrom == null || rollupTo == null || rollupFrom.isBefore(rollupTo);
+      return new RangeSplit(hasRollupDays, rollupFrom, rollupTo, rawRanges);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.bifos.accountbook.dashboard.infra.repository.jpa;
+
+import com.bifos.accountbook.dashboard.domain.entity.DailyExpenseRollup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * DailyExpenseRollup JPA Repository
+ * Spring Data JPA 인터페이스 (Infrastructure Layer)
+ *
+ * UPSERT / INSERT ... SELECT는 JPQL로 표현할 수 없어 네이티브 쿼리를 사용합니다.
+ * (MySQL 및 H2 MODE=MySQL 공통 문법)
+ * UUID 파라미터는 컬럼 저장 형식에 따라 String 또는 byte[]이므로 Object로 받습니다 (UuidColumnBinder 참고).
+ */
+public interface DailyExpenseRollupJpaRepository extends JpaRepository<DailyExpenseRollup, Long> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO daily_expense_rollups
+          (family_uuid, expense_date, category_uuid, exclude_from_budget, total_amount, expense_count, updated_at)
+      VALUES (:familyUuid, :expenseDate, :categoryUuid, :excludeFromBudget, :amountDelta, :countDelta, :now)
+      ON DUPLICATE KEY UPDATE
+          total_amount = total_amount + :amountDelta,
+          expense_count = expense_count + :countDelta,
+          updated_at = :now
+      """, nativeQuery = true)
+  void upsertDelta(@Param("familyUuid") Object familyUuid,
+                   @Param("expenseDate") LocalDate expenseDate,
+                   @Param("categoryUuid") Object categoryUuid,
+                   @Param("excludeFromBudget") boolean excludeFromBudget,
+                   @Param("amountDelta") BigDecimal amountDelta,
+                   @Param("countDelta") long countDelta,
+                   @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query(value = "DELETE FROM daily_expense_rollups WHERE family_uuid = :familyUuid", nativeQuery = true)
+  int deleteByFamilyUuid(@Param("familyUuid") Object familyUuid);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO daily_expense_rollups
+          (family_uuid, expense_date, category_uuid, exclude_from_budget, total_amount, expense_count, updated_at)
+      SELECT e.family_uuid, CAST(e.date AS DATE), e.category_uuid, e.exclude_from_budget,
+             SUM(e.amount), COUNT(*), :now
+      FROM expenses e
+      WHERE e.family_uuid = :familyUuid
+        AND e.status = 'ACTIVE'
+      GROUP BY e.family_uuid, CAST(e.date AS DATE), e.category_uuid, e.exclude_from_budget
+      """, nativeQuery = true)
+  int insertAggregatedFromExpenses(@Param("familyUuid") Object familyUuid,
+                                   @Param("now") LocalDateTime now);
+}
@@ -2,11 +2,13 @@ package com.bifos.accountbook.dashboard.presentation.controller;
 
 import com.bifos.accountbook.dashboard.application.dto.CategoryBreakdownResponse;
 import com.bifos.accountbook.dashboard.application.dto.DailyStatsResponse;
+import com.bifos.accountbook.dashboard.application.dto.DashboardSnapshotResponse;
 import com.bifos.accountbook.dashboard.application.dto.MonthlyStatsResponse;
 import com.bifos.accountbook.dashboard.application.dto.MonthlyTrendResponse;
 import com.bifos.accountbook.expense.application.dto.CategoryExpenseSummaryResponse;
 import com.bifos.accountbook.expense.application.dto.ExpenseSummarySearchRequest;
 import com.bifos.accountbook.dashboard.application.service.DashboardService;
+import com.bifos.accountbook.dashboard.application.service.DashboardSnapshotService;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.shared.auth.LoginUser;
 import com.bifos.accountbook.shared.dto.ApiSuccessResponse;
@@ -39,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
   private final DashboardService dashboardService;
+  private final DashboardSnapshotService dashboardSnapshotService;
 
   @Operation(summary = "카테고리별 지출 요약", description = "가족의 카테고리별 지출 요약을 조회합니다.")
   @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -137,5 +140,32 @@ public class DashboardController {
 
     return ResponseEntity.ok(ApiSuccessResponse.of(response));
   }
-}
 
+  @Operation(summary = "대시보드 스냅샷 조회",
+      description = "홈 화면에 필요한 월별 통계, 카테고리 분류(전월 대비), 일별 통계, 월별 추이, 읽지 않은 알림 수를 한 번에 조회합니다.")
+  @ApiResponse(responseCode = "200", description = "조회 성공")
+  @GetMapping("/snapshot")
+  public ResponseEntity<ApiSuccessResponse<DashboardSnapshotResponse>> getSnapshot(
+      @LoginUser LoginUserDto loginUser,
+      @Parameter(description = "가족 UUID") @PathVariable CustomUuid familyUuid,
+      @RequestParam(required = false) Integer year,
+      @RequestParam(required = false) Integer month,
+      @Parameter(description = "추이 조회 개월 수 (기준 월 포함, 1~24)")
+      @RequestParam(defaultValue = "6") int trendMonths) {
+
+    if (trendMonths < 1 || trendMonths > 24) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE)
+          .addParameter("trendMonths", trendMonths);
+    }
+
+    // 기본값: 현재 연도/월
+    LocalDate now = LocalDate.now();
+    int targetYear = year != null ? year : now.getYear();
+    int targetMonth = month != null ? month : now.getMonthValue();
+
+    DashboardSnapshotResponse response = dashboardSnapshotService.getSnapshot(
+        loginUser.userUuid(), familyUuid, targetYear, targetMonth, trendMonths);
+
+    return ResponseEntity.ok(ApiSuccessResponse.of(response));
+  }
+}
@@ -0,0 +1,25 @@
+package com.bifos.accountbook.expense.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지출 일괄 등록 요청 DTO
+ * 영수증 여러 장을 한 번에 등록하는 용도 (최대 500건)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateExpenseRequest {
+
+  public static final int MAX_SIZE = 500;
+
+  @NotEmpty(message = "등록할 지출이 없습니다")
+  @Size(max = MAX_SIZE, message = "한 번에 최대 500건까지 등록할 수 있습니다")
+  private List<@Valid CreateExpenseRequest> expenses;
+}
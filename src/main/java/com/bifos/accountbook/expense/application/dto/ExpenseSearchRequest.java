@@ -42,6 +42,17 @@ public class ExpenseSearchRequest {
    */
   private String endDate;
 
+  /**
+   * 커서 (커서 페이지네이션, 선택사항)
+   * 빈 문자열이면 첫 페이지, null이면 오프셋 페이지네이션 사용
+   */
+  private String cursor;
+
+  /**
+   * 커서 모드에서 전체 개수 조회 여부 (기본 false: 카운트 쿼리 생략)
+   */
+  private boolean includeTotal;
+
   /**
    * 기본값 설정 메서드
    */
@@ -51,12 +62,35 @@ public class ExpenseSearchRequest {
       String categoryId,
       String startDate,
       String endDate) {
+    return withDefaults(page, size, categoryId, startDate, endDate, null, false);
+  }
+
+  /**
+   * 기본값 설정 메서드 (커서 페이지네이션 포함)
+   */
+  public static ExpenseSearchRequest withDefaults(
+      Integer page,
+      Integer size,
+      String categoryId,
+      String startDate,
+      String endDate,
+      String cursor,
+      boolean includeTotal) {
     return ExpenseSearchRequest.builder()
                                .page(page != null ? page : 0)
                                .size(size != null ? size : 20)
                                .categoryId(categoryId)
                                .startDate(startDate)
                                .endDate(endDate)
+                               .cursor(cursor)
+                               .includeTotal(includeTotal)
                                .build();
   }
+
+  /**
+   * 커서 페이지네이션 요청 여부
+   */
+  public boolean isCursorMode() {
+    return cursor != null;
+  }
 }
@@ -0,0 +1,20 @@
+package com.bifos.accountbook.expense.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * 지출 일괄 생성 이벤트
+ * 일괄 등록 시 행마다 ExpenseCreatedEvent를 발행하지 않고, 영향받은 월마다 한 번 발행합니다.
+ * 예산 알림 체크와 대시보드 캐시 무효화를 월 단위로 한 번씩 트리거합니다.
+ *
+ * @param budgetAmount 해당 월 지출 중 예산 합계에 반영되는 금액 합계
+ */
+public record ExpenseBulkCreatedEvent(CustomUuid familyUuid,
+                                      CustomUuid userUuid,
+                                      YearMonth yearMonth,
+                                      int count,
+                                      BigDecimal totalAmount,
+                                      BigDecimal budgetAmount) {
+}
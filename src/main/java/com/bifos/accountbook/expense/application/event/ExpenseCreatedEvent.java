@@ -7,11 +7,14 @@ import java.time.LocalDateTime;
 /**
  * 지출 생성 이벤트
  * 지출이 생성되면 발행되어 예산 알림 체크를 트리거합니다.
+ *
+ * @param budgetAmount 예산 합계에 반영되는 금액 (지출 또는 카테고리가 예산 제외면 0)
  */
 public record ExpenseCreatedEvent(CustomUuid expenseUuid,
                                   CustomUuid familyUuid,
                                   CustomUuid userUuid,
                                   BigDecimal amount,
+                                  BigDecimal budgetAmount,
                                   LocalDateTime date) {
 }
 
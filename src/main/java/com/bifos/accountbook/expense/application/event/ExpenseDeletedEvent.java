@@ -0,0 +1,19 @@
+package com.bifos.accountbook.expense.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지출 삭제 이벤트
+ * 지출이 삭제(Soft Delete)되면 발행되어 대시보드 캐시 무효화와 예산 합계 차감을 트리거합니다.
+ *
+ * @param budgetAmount 삭제 전 예산 합계에 반영되던 금액 (지출 또는 카테고리가 예산 제외면 0)
+ */
+public record ExpenseDeletedEvent(CustomUuid expenseUuid,
+                                  CustomUuid familyUuid,
+                                  CustomUuid userUuid,
+                                  BigDecimal amount,
+                                  BigDecimal budgetAmount,
+                                  LocalDateTime date) {
+}
@@ -6,13 +6,26 @@ import java.time.LocalDateTime;
 
 /**
  * 지출 수정 이벤트
- * 지출이 수정되면 발행되어 예산 알림 체크를 트리거합니다.
+ * 지출이 수정되면 발행되어 예산 알림 체크와 대시보드 캐시 무효화를 트리거합니다.
+ * 날짜가 변경된 경우 이전 날짜(oldDate)가 속한 기간도 무효화 대상입니다.
+ *
+ * @param newBudgetAmount 수정 후 예산 합계에 반영되는 금액 (지출 또는 카테고리가 예산 제외면 0)
+ * @param oldBudgetAmount 수정 전 예산 합계에 반영되던 금액
  */
 public record ExpenseUpdatedEvent(CustomUuid expenseUuid,
                                   CustomUuid familyUuid,
                                   CustomUuid userUuid,
                                   BigDecimal newAmount,
                                   BigDecimal oldAmount,
-                                  LocalDateTime date) {
-}
+                                  BigDecimal newBudgetAmount,
+                                  BigDecimal oldBudgetAmount,
+                                  LocalDateTime date,
+                                  LocalDateTime oldDate) {
 
+  /**
+   * 금액 변경 여부
+   */
+  public boolean amountChanged() {
+    return newAmount.compareTo(oldAmount) != 0;
+  }
+}
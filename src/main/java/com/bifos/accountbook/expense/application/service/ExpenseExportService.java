@@ -0,0 +1,166 @@
+package com.bifos.accountbook.expense.application.service;
+
+import com.bifos.accountbook.category.application.service.CategoryService;
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.shared.aop.FamilyUuid;
+import com.bifos.accountbook.shared.aop.UserUuid;
+import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지출 내역 CSV 내보내기 서비스
+ * <p>
+ * 응답 스트림에 한 행씩 바로 기록하므로 내보내기 기간(한 달 ~ 수년)과 무관하게 메모리 사용량이 일정합니다.
+ * - 지출은 ExpenseRepository의 순방향 스트리밍 조회로 읽음 (fetchSize 단위로 영속성 컨텍스트 정리)
+ * - 카테고리 이름은 카테고리 캐시에서 한 번만 조회하여 매핑
+ * <p>
+ * 권한 검증({@link #prepareExport})은 요청 스레드에서 응답 커밋 전에 수행하고,
+ * 실제 기록({@link #writeCsv})은 StreamingResponseBody의 비동기 스레드에서 읽기 전용 트랜잭션으로 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExpenseExportService {
+
+  /**
+   * JDBC fetch size (드라이버가 한 번에 가져오는 행 수이자 영속성 컨텍스트 정리 단위)
+   */
+  static final int FETCH_SIZE = 500;
+
+  private static final char UTF8_BOM = '\uFEFF'; // Excel 한글 깨짐 방지
+  private static final String HEADER = "날짜,카테고리,금액,설명";
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+  private final ExpenseRepository expenseRepository;
+  private final CategoryService categoryService;
+
+  /**
+   * 내보내기 준비 (권한 검증 + 카테고리 이름 매핑)
+   *
+   * @param from 시작 월 (포함)
+   * @param to   종료 월 (포함)
+   */
+  @ValidateFamilyAccess
+  public ExpenseCsvExport prepareExport(@UserUuid CustomUuid userUuid,
+                                        @FamilyUuid CustomUuid familyUuid,
+                                        YearMonth from,
+                                        YearMonth to) {
+    Map<CustomUuid, String> categoryNames = categoryService.getFamilyCategoriesEntity(familyUuid)
+                                                          .stream()
+                                                          .collect(Collectors.toMap(Category::getUuid,
+                                                                                    Category::getName,
+                                                                                    (a, b) -> a));
+    return new ExpenseCsvExport(familyUuid, from, to, categoryNames);
+  }
+
+  /**
+   * CSV 기록 (BOM + 헤더 + 날짜 내림차순 데이터 행)
+   * fetchSize 단위로 flush하여 클라이언트가 다운로드 진행을 바로 받을 수 있도록 합니다.
+   */
+  public void writeCsv(ExpenseCsvExport export, OutputStream outputStream) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    writer.write(UTF8_BOM);
+    writer.write(HEADER);
+    writer.write('\n');
+
+    int[] rows = {0};
+    try {
+      expenseRepository.forEachByFamilyUuidAndDateRange(
+          export.familyUuid(),
+          export.from().atDay(1).atStartOfDay(),
+          export.to().plusMonths(1).atDay(1).atStartOfDay(),
+          FETCH_SIZE,
+          expense -> {
+            writeRow(writer, expense, export.categoryNames());
+            if (++rows[0] % FETCH_SIZE == 0) {
+              flush(writer);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      // 클라이언트 연결 종료 등 응답 스트림 쓰기 실패
+      throw e.getCause();
+    }
+    writer.flush();
+
+    log.info("Exported expenses CSV: familyUuid={}, from={}, to={}, rows={}",
+             export.familyUuid().getValue(), export.from(), export.to(), rows[0]);
+  }
+
+  private void writeRow(Writer writer, Expense expense, Map<CustomUuid, String> categoryNames) {
+    try {
+      writer.write(expense.getDate().format(DATE_FORMAT));
+      writer.write(',');
+      writer.write(escape(categoryNames.getOrDefault(expense.getCategoryUuid(), "")));
+      writer.write(',');
+      writer.write(expense.getAmount().toPlainString());
+      writer.write(',');
+      writer.write(escape(expense.getDescription()));
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void flush(Writer writer) {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * CSV 필드 이스케이프 (RFC 4180)
+   * 콤마, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씁니다.
+   */
+  static String escape(String value) {
+    if (value == null || value.isEmpty()) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  /**
+   * 내보내기 대상 (권한 검증 완료 후 생성)
+   *
+   * @param familyUuid    가족 UUID
+   * @param from          시작 월 (포함)
+   * @param to            종료 월 (포함)
+   * @param categoryNames 카테고리 UUID → 이름
+   */
+  public record ExpenseCsvExport(CustomUuid familyUuid,
+                                 YearMonth from,
+                                 YearMonth to,
+                                 Map<CustomUuid, String> categoryNames) {
+
+    /**
+     * 다운로드 파일 이름 (expenses_2026-05.csv / expenses_2025-01_2025-12.csv)
+     */
+    public String fileName() {
+      return from.equals(to)
+          ? "expenses_" + from + ".csv"
+          : "expenses_" + from + "_" + to + ".csv";
+    }
+  }
+}
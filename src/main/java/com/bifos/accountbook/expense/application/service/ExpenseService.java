@@ -2,27 +2,41 @@ package com.bifos.accountbook.expense.application.service;
 
 import com.bifos.accountbook.shared.aop.FamilyValidationService;
 
+import com.bifos.accountbook.expense.application.dto.BulkCreateExpenseRequest;
 import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
 import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
 import com.bifos.accountbook.expense.application.dto.ExpenseSearchRequest;
 import com.bifos.accountbook.expense.application.dto.UpdateExpenseRequest;
+import com.bifos.accountbook.expense.application.event.ExpenseBulkCreatedEvent;
 import com.bifos.accountbook.expense.application.event.ExpenseCreatedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseDeletedEvent;
 import com.bifos.accountbook.expense.application.event.ExpenseUpdatedEvent;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.category.application.dto.CategoryResponse;
 import com.bifos.accountbook.category.application.service.CategoryService;
 import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.dashboard.application.service.DailyExpenseRollupService;
 import com.bifos.accountbook.expense.domain.entity.Expense;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.category.domain.repository.CategoryRepository;
 import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
 import com.bifos.accountbook.user.application.service.UserService;
+import com.bifos.accountbook.shared.dto.PaginationResponse;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.shared.aop.FamilyUuid;
 import com.bifos.accountbook.shared.aop.UserUuid;
 import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -45,6 +59,7 @@ public class ExpenseService {
   private final UserService userService; // 사용자 조회
   private final FamilyValidationService familyValidationService; // 가족 검증 로직
   private final ApplicationEventPublisher eventPublisher; // 이벤트 발행
+  private final DailyExpenseRollupService dailyExpenseRollupService; // 대시보드 일별 롤업 갱신
 
   /**
    * 특정 카테고리의 모든 지출을 가족의 기본 카테고리로 이동
@@ -68,6 +83,9 @@ public class ExpenseService {
 
     // 지출 이동
     expenseRepository.moveExpenses(oldCategoryUuid, defaultCategory.getUuid());
+
+    // 벌크 UPDATE는 롤업 증분 반영이 불가하므로 가족 단위로 재생성
+    dailyExpenseRollupService.rebuild(familyUuid);
     log.info("Moved expenses from category {} to default category {}", oldCategoryUuid, defaultCategory.getUuid());
   }
 
@@ -85,7 +103,7 @@ public class ExpenseService {
     var family = familyValidationService.validateAndGetFamily(userUuid, familyUuid);
 
     // 카테고리 확인 + 가족 소속 검증 (캐시 활용, DB 조회 없음)
-    categoryService.validateAndFindCached(familyUuid, categoryCustomUuid);
+    CategoryResponse category = categoryService.validateAndFindCached(familyUuid, categoryCustomUuid);
 
     // 지출 생성 (ORM 편의 메서드 활용)
     Expense expense = family.addExpense(
@@ -102,6 +120,7 @@ public class ExpenseService {
     }
 
     expense = expenseRepository.save(expense);
+    dailyExpenseRollupService.add(expense);
 
     // 이벤트 발행 - 예산 알림 체크를 트리거
     eventPublisher.publishEvent(new ExpenseCreatedEvent(
@@ -109,12 +128,81 @@ public class ExpenseService {
         expense.getFamilyUuid(),
         expense.getUserUuid(),
         expense.getAmount(),
+        expense.isExcludeFromBudget() || category.isExcludeFromBudget() ? BigDecimal.ZERO : expense.getAmount(),
         expense.getDate()
     ));
 
     return ExpenseResponse.fromWithoutCategory(expense);
   }
 
+  /**
+   * 지출 일괄 생성
+   * <p>
+   * 사용자·가족 검증은 요청당 한 번, 카테고리 검증은 고유 카테고리마다 한 번(캐시)만 수행합니다.
+   * 지출은 트랜잭션 커밋 시 JDBC 배치 INSERT로 저장되며,
+   * 예산 알림·대시보드 캐시 무효화 이벤트는 행마다가 아니라 영향받은 월마다 한 번 발행합니다.
+   */
+  @Transactional
+  public List<ExpenseResponse> createExpenses(CustomUuid userUuid,
+                                              CustomUuid familyUuid,
+                                              BulkCreateExpenseRequest request) {
+    // 사용자 확인
+    User user = userService.getUser(userUuid);
+
+    // 권한 확인 + Family 엔티티 조회
+    var family = familyValidationService.validateAndGetFamily(userUuid, familyUuid);
+
+    // 카테고리 확인 + 가족 소속 검증 (고유 카테고리마다 한 번, 캐시 활용)
+    request.getExpenses().stream()
+           .map(item -> CustomUuid.from(item.getCategoryUuid()))
+           .distinct()
+           .forEach(categoryUuid -> categoryService.validateAndFindCached(familyUuid, categoryUuid));
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Expense> expenses = new ArrayList<>(request.getExpenses().size());
+    for (CreateExpenseRequest item : request.getExpenses()) {
+      Expense expense = family.addExpense(
+          item.getAmount(),
+          CustomUuid.from(item.getCategoryUuid()),
+          user.getUuid(),
+          item.getDescription(),
+          item.getDate() != null ? item.getDate() : now
+      );
+      if (item.getExcludeFromBudget() != null) {
+        expense.setExcludeFromBudget(item.getExcludeFromBudget());
+      }
+      expenses.add(expense);
+    }
+
+    expenses = expenseRepository.saveAll(expenses);
+    dailyExpenseRollupService.addAll(expenses);
+
+    // 이벤트 발행 - 영향받은 월마다 한 번
+    Map<YearMonth, List<Expense>> expensesByMonth = expenses.stream()
+                                                            .collect(Collectors.groupingBy(
+                                                                expense -> YearMonth.from(expense.getDate()),
+                                                                TreeMap::new,
+                                                                Collectors.toList()));
+    Set<CustomUuid> excludedCategoryUuids = budgetExcludedCategoryUuids(familyUuid);
+    expensesByMonth.forEach((yearMonth, monthExpenses) -> eventPublisher.publishEvent(new ExpenseBulkCreatedEvent(
+        familyUuid,
+        user.getUuid(),
+        yearMonth,
+        monthExpenses.size(),
+        monthExpenses.stream().map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+        monthExpenses.stream()
+                     .map(expense -> budgetAmount(expense, excludedCategoryUuids))
+                     .reduce(BigDecimal.ZERO, BigDecimal::add)
+    )));
+
+    log.info("Bulk created expenses: familyUuid={}, count={}, months={}",
+             familyUuid.getValue(), expenses.size(), expensesByMonth.keySet());
+
+    return expenses.stream()
+                   .map(ExpenseResponse::fromWithoutCategory)
+                   .toList();
+  }
+
   /**
    * 가족의 지출 목록 조회 (페이징)
    */
@@ -138,28 +226,9 @@ public class ExpenseService {
       ExpenseSearchRequest searchRequest) {
 
     // 필터 파라미터 변환
-    CustomUuid categoryUuid = null;
-    if (searchRequest.getCategoryId() != null && !searchRequest.getCategoryId().isEmpty()) {
-      categoryUuid = CustomUuid.from(searchRequest.getCategoryId());
-    }
-
-    LocalDateTime startDateTime = null;
-    if (searchRequest.getStartDate() != null && !searchRequest.getStartDate().isEmpty()) {
-      try {
-        startDateTime = LocalDateTime.parse(searchRequest.getStartDate() + "T00:00:00");
-      } catch (Exception e) {
-        log.warn("Invalid startDate format: {}", searchRequest.getStartDate());
-      }
-    }
-
-    LocalDateTime endDateTime = null;
-    if (searchRequest.getEndDate() != null && !searchRequest.getEndDate().isEmpty()) {
-      try {
-        endDateTime = LocalDateTime.parse(searchRequest.getEndDate() + "T23:59:59");
-      } catch (Exception e) {
-        log.warn("Invalid endDate format: {}", searchRequest.getEndDate());
-      }
-    }
+    CustomUuid categoryUuid = parseCategoryUuid(searchRequest);
+    LocalDateTime startDateTime = parseStartDate(searchRequest);
+    LocalDateTime endDateTime = parseEndDate(searchRequest);
 
     // 페이징 설정
     Pageable pageable = PageRequest.of(
@@ -178,6 +247,103 @@ public class ExpenseService {
     return expenses.map(ExpenseResponse::fromWithoutCategory);
   }
 
+  /**
+   * 가족의 지출 목록 조회 (커서 페이지네이션 + 필터링)
+   * <p>
+   * (date, id) 키셋으로 다음 페이지를 탐색하므로 페이지 깊이와 무관하게 일정한 비용으로 조회합니다.
+   * size + 1건을 조회해 다음 페이지 존재 여부를 판단하며, 카운트 쿼리는 includeTotal=true일 때만 실행합니다.
+   */
+  @ValidateFamilyAccess
+  public PaginationResponse<ExpenseResponse> getFamilyExpensesByCursor(
+      @UserUuid CustomUuid userUuid,
+      @FamilyUuid CustomUuid familyUuid,
+      ExpenseSearchRequest searchRequest) {
+
+    int size = PageCursor.validateSize(searchRequest.getSize());
+    PageCursor cursor = PageCursor.decode(searchRequest.getCursor());
+    CustomUuid categoryUuid = parseCategoryUuid(searchRequest);
+    LocalDateTime startDateTime = parseStartDate(searchRequest);
+    LocalDateTime endDateTime = parseEndDate(searchRequest);
+
+    List<Expense> expenses = expenseRepository.findByFamilyUuidWithFiltersAfter(
+        familyUuid,
+        categoryUuid,
+        startDateTime,
+        endDateTime,
+        cursor,
+        size + 1);
+
+    boolean hasNext = expenses.size() > size;
+    List<Expense> content = hasNext ? expenses.subList(0, size) : expenses;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Expense last = content.get(content.size() - 1);
+      nextCursor = PageCursor.of(last.getDate(), last.getId()).encode();
+    }
+
+    Long total = searchRequest.isIncludeTotal()
+        ? expenseRepository.countByFamilyUuidWithFilters(familyUuid, categoryUuid, startDateTime, endDateTime)
+        : null;
+
+    return PaginationResponse.ofCursor(
+        content.stream().map(ExpenseResponse::fromWithoutCategory).toList(),
+        nextCursor,
+        size,
+        total);
+  }
+
+  /**
+   * 예산에서 제외된 카테고리 UUID (캐시된 활성 카테고리 목록 기준)
+   */
+  private Set<CustomUuid> budgetExcludedCategoryUuids(CustomUuid familyUuid) {
+    return categoryService.getFamilyCategoriesEntity(familyUuid).stream()
+                          .filter(Category::isExcludeFromBudget)
+                          .map(Category::getUuid)
+                          .collect(Collectors.toSet());
+  }
+
+  /**
+   * 예산 합계에 반영되는 금액 (예산 합계 쿼리와 같은 기준: 지출 또는 카테고리가 예산 제외면 0)
+   */
+  private BigDecimal budgetAmount(Expense expense, Set<CustomUuid> excludedCategoryUuids) {
+    if (expense.isExcludeFromBudget() || excludedCategoryUuids.contains(expense.getCategoryUuid())) {
+      return BigDecimal.ZERO;
+    }
+    return expense.getAmount();
+  }
+
+  private CustomUuid parseCategoryUuid(ExpenseSearchRequest searchRequest) {
+    if (searchRequest.getCategoryId() == null || searchRequest.getCategoryId().isEmpty()) {
+      return null;
+    }
+    return CustomUuid.from(searchRequest.getCategoryId());
+  }
+
+  private LocalDateTime parseStartDate(ExpenseSearchRequest searchRequest) {
+    if (searchRequest.getStartDate() == null || searchRequest.getStartDate().isEmpty()) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(searchRequest.getStartDate() + "T00:00:00");
+    } catch (Exception e) {
+      log.warn("Invalid startDate format: {}", searchRequest.getStartDate());
+      return null;
+    }
+  }
+
+  private LocalDateTime parseEndDate(ExpenseSearchRequest searchRequest) {
+    if (searchRequest.getEndDate() == null || searchRequest.getEndDate().isEmpty()) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(searchRequest.getEndDate() + "T23:59:59");
+    } catch (Exception e) {
+      log.warn("Invalid endDate format: {}", searchRequest.getEndDate());
+      return null;
+    }
+  }
+
   /**
    * 지출 상세 조회
    */
@@ -222,8 +388,14 @@ public class ExpenseService {
       categoryService.validateAndFindCached(expense.getFamilyUuid(), categoryCustomUuid);
     }
 
-    // 이벤트 발행을 위해 기존 금액 저장
+    // 이벤트 발행을 위해 기존 금액·날짜·예산 반영 금액 저장
+    Set<CustomUuid> excludedCategoryUuids = budgetExcludedCategoryUuids(expense.getFamilyUuid());
     BigDecimal oldAmount = expense.getAmount();
+    BigDecimal oldBudgetAmount = budgetAmount(expense, excludedCategoryUuids);
+    LocalDateTime oldDate = expense.getDate();
+
+    // 롤업: 기존 값 차감 후 변경된 값 가산 (날짜·카테고리·예산 제외 플래그 변경 모두 반영)
+    dailyExpenseRollupService.remove(expense);
 
     // 지출 정보 업데이트
     expense.update(
@@ -238,17 +410,20 @@ public class ExpenseService {
       expense.setExcludeFromBudget(request.getExcludeFromBudget());
     }
 
-    // 이벤트 발행 - 금액이 변경된 경우 예산 알림 체크를 트리거
-    if (request.getAmount() != null && !oldAmount.equals(request.getAmount())) {
-      eventPublisher.publishEvent(new ExpenseUpdatedEvent(
-          expense.getUuid(),
-          expense.getFamilyUuid(),
-          expense.getUserUuid(),
-          expense.getAmount(),
-          oldAmount,
-          expense.getDate()
-      ));
-    }
+    dailyExpenseRollupService.add(expense);
+
+    // 이벤트 발행 - 대시보드 캐시 무효화, 예산 반영 금액이 변경된 경우 예산 알림 체크를 트리거
+    eventPublisher.publishEvent(new ExpenseUpdatedEvent(
+        expense.getUuid(),
+        expense.getFamilyUuid(),
+        expense.getUserUuid(),
+        expense.getAmount(),
+        oldAmount,
+        budgetAmount(expense, excludedCategoryUuids),
+        oldBudgetAmount,
+        expense.getDate(),
+        oldDate
+    ));
 
     return ExpenseResponse.fromWithoutCategory(expense);
   }
@@ -270,6 +445,18 @@ public class ExpenseService {
     // 권한 확인
     familyValidationService.validateFamilyAccess(userUuid, expense.getFamilyUuid());
 
+    dailyExpenseRollupService.remove(expense);
+    BigDecimal budgetAmount = budgetAmount(expense, budgetExcludedCategoryUuids(expense.getFamilyUuid()));
     expense.delete();
+
+    // 이벤트 발행 - 대시보드 캐시 무효화, 예산 합계 차감을 트리거
+    eventPublisher.publishEvent(new ExpenseDeletedEvent(
+        expense.getUuid(),
+        expense.getFamilyUuid(),
+        expense.getUserUuid(),
+        expense.getAmount(),
+        budgetAmount,
+        expense.getDate()
+    ));
   }
 }
@@ -1,9 +1,11 @@
 package com.bifos.accountbook.expense.domain.entity;
 
 import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.shared.converter.UuidStringConverter;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
@@ -15,7 +17,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -29,7 +34,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Table(name = "expenses", indexes = {
     @Index(name = "idx_family_uuid_date", columnList = "family_uuid,date"),
-    @Index(name = "idx_category_uuid", columnList = "category_uuid")
+    @Index(name = "idx_category_uuid", columnList = "category_uuid"),
+    @Index(name = "idx_expenses_family_status_date_cover", columnList = "family_uuid,status,date,amount,category_uuid,exclude_from_budget")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uq_recurring_occurrence", columnNames = {"recurring_expense_uuid", "recurring_date"})
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -38,11 +46,21 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class Expense {
 
+  /**
+   * PK: id_sequences 테이블 기반 pooled 생성기 (allocationSize 단위로 미리 할당)
+   * IDENTITY는 INSERT 시점에 키를 받아야 해서 Hibernate JDBC 배치가 비활성화되므로 사용하지 않음
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "expenses_id")
+  @TableGenerator(name = "expenses_id",
+      table = "id_sequences",
+      pkColumnName = "sequence_name",
+      valueColumnName = "next_val",
+      pkColumnValue = "expenses",
+      allocationSize = 50)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
   /**
@@ -58,17 +76,17 @@ public class Expense {
    * JPA 쓰기는 family 연관관계가 담당하므로 insertable/updatable = false
    */
   @Getter(AccessLevel.NONE)
-  @Column(name = "family_uuid", insertable = false, updatable = false, length = 36)
+  @Column(name = "family_uuid", insertable = false, updatable = false)
   private CustomUuid familyUuid;
 
   /**
    * 카테고리 UUID (캐시 활용을 위해 연관관계 사용 안함)
    * CategoryService의 캐시를 통해 조회
    */
-  @Column(name = "category_uuid", nullable = false, length = 36)
+  @Column(name = "category_uuid", nullable = false)
   private CustomUuid categoryUuid;
 
-  @Column(name = "user_uuid", nullable = false, length = 36)
+  @Column(name = "user_uuid", nullable = false)
   private CustomUuid userUuid;
 
   @Column(nullable = false, precision = 12, scale = 2)
@@ -105,12 +123,19 @@ public class Expense {
   @Builder.Default
   private boolean excludeFromBudget = false;
 
-  @Column(name = "recurring_expense_uuid", length = 36)
+  @Column(name = "recurring_expense_uuid")
+  @Convert(converter = UuidStringConverter.class)
   private String recurringExpenseUuid;
 
   @Column(name = "`year_month`", length = 7)
   private String yearMonth;
 
+  /**
+   * 반복 지출 발생일 (사용자가 지출 일자를 바꿔도 유지, 반복 지출당 발생일마다 1건)
+   */
+  @Column(name = "recurring_date")
+  private LocalDate recurringDate;
+
   /**
    * JPA 연관관계 정책:
    * - Family: @ManyToOne 사용 (ORM의 장점 활용)
@@ -2,10 +2,14 @@ package com.bifos.accountbook.expense.domain.repository;
 
 import com.bifos.accountbook.expense.domain.entity.Expense;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -20,6 +24,12 @@ public interface ExpenseRepository {
    */
   Expense save(Expense expense);
 
+  /**
+   * 지출 일괄 저장
+   * 트랜잭션 커밋(flush) 시 hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT로 실행됩니다.
+   */
+  List<Expense> saveAll(List<Expense> expenses);
+
   /**
    * UUID로 지출 조회
    */
@@ -53,6 +63,45 @@ public interface ExpenseRepository {
       LocalDateTime endDate,
       Pageable pageable);
 
+  /**
+   * 가족 UUID와 필터링 조건으로 지출 조회 (키셋 페이지네이션)
+   * (date DESC, id DESC) 순서로 커서 이후 최대 limit건 조회
+   *
+   * @param cursor 이전 페이지 마지막 위치 (null이면 첫 페이지)
+   * @param limit  최대 조회 건수
+   */
+  List<Expense> findByFamilyUuidWithFiltersAfter(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate,
+      PageCursor cursor,
+      int limit);
+
+  /**
+   * 가족 UUID와 필터링 조건에 해당하는 지출 개수 조회
+   */
+  long countByFamilyUuidWithFilters(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate);
+
+  /**
+   * 가족 UUID와 날짜 범위 [startInclusive, endExclusive)의 활성 지출을 순방향 스트리밍으로 순회 (내보내기용)
+   * 날짜 내림차순으로 한 건씩 전달하며, 전체 결과를 메모리에 올리지 않습니다.
+   * 호출자의 트랜잭션 안에서 실행되어야 합니다.
+   *
+   * @param fetchSize JDBC fetch size (이 단위로 영속성 컨텍스트를 비움)
+   * @param action    지출 한 건마다 호출되는 콜백
+   */
+  void forEachByFamilyUuidAndDateRange(
+      CustomUuid familyUuid,
+      LocalDateTime startInclusive,
+      LocalDateTime endExclusive,
+      int fetchSize,
+      Consumer<Expense> action);
+
   /**
    * 가족 UUID로 지출 개수 조회 (삭제되지 않은)
    */
@@ -67,6 +116,15 @@ public interface ExpenseRepository {
       LocalDateTime startDate,
       LocalDateTime endDate);
 
+  /**
+   * 여러 가족의 날짜 범위 지출 금액 합계를 가족별로 한 번에 조회 (GROUP BY)
+   * 예산 합계 재조정용. 합산 기준은 sumAmountByFamilyUuidAndDateBetween과 같고, 지출이 없는 가족은 결과에 없음
+   */
+  Map<CustomUuid, BigDecimal> sumAmountByFamilyUuidsAndDateBetween(
+      Collection<CustomUuid> familyUuids,
+      LocalDateTime startDate,
+      LocalDateTime endDate);
+
   /**
    * 특정 카테고리의 모든 지출을 다른 카테고리로 이동
    * 카테고리 삭제 시 호출됨
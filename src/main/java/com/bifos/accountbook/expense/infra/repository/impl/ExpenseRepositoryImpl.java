@@ -1,18 +1,31 @@
 package com.bifos.accountbook.expense.infra.repository.impl;
 
+import com.bifos.accountbook.category.domain.entity.QCategory;
+import com.bifos.accountbook.category.domain.value.CategoryStatus;
 import com.bifos.accountbook.expense.domain.entity.Expense;
 import com.bifos.accountbook.expense.domain.entity.QExpense;
 import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
 import com.bifos.accountbook.expense.infra.repository.jpa.ExpenseJpaRepository;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -30,12 +43,18 @@ public class ExpenseRepositoryImpl implements ExpenseRepository {
 
   private final ExpenseJpaRepository jpaRepository;
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
 
   @Override
   public Expense save(Expense expense) {
     return jpaRepository.save(expense);
   }
 
+  @Override
+  public List<Expense> saveAll(List<Expense> expenses) {
+    return jpaRepository.saveAll(expenses);
+  }
+
   @Override
   public Optional<Expense> findByUuid(CustomUuid uuid) {
     return jpaRepository.findByUuid(uuid);
@@ -81,23 +100,64 @@ public class ExpenseRepositoryImpl implements ExpenseRepository {
                                                 categoryUuidEq(expense, categoryUuid),
                                                 dateGoe(expense, startDate),
                                                 dateLoe(expense, endDate))
-                                         .orderBy(expense.date.desc())
+                                         .orderBy(expense.date.desc(), expense.id.desc())
                                          .offset(pageable.getOffset())
                                          .limit(pageable.getPageSize())
                                          .fetch();
 
     // 전체 카운트 조회
-    Long total = queryFactory.select(expense.count())
-                             .from(expense)
-                             .where(expense.family.uuid.eq(familyUuid),
-                                    expense.status.eq(ExpenseStatus.ACTIVE),
-                                    categoryUuidEq(expense, categoryUuid),
-                                    dateGoe(expense, startDate),
-                                    dateLoe(expense, endDate)
-                             )
-                             .fetchOne();
+    long total = countByFamilyUuidWithFilters(familyUuid, categoryUuid, startDate, endDate);
+
+    return new PageImpl<>(expenses, pageable, total);
+  }
+
+  /**
+   * 가족 UUID와 필터링 조건으로 지출 조회 (키셋 페이지네이션)
+   * - (date DESC, id DESC) 순서에서 커서 위치 이후의 행만 조회 (OFFSET 없이 인덱스 탐색)
+   * - 깊은 페이지에서도 앞선 행을 읽고 버리는 비용이 없음
+   */
+  @Override
+  public List<Expense> findByFamilyUuidWithFiltersAfter(CustomUuid familyUuid,
+                                                        CustomUuid categoryUuid,
+                                                        LocalDateTime startDate,
+                                                        LocalDateTime endDate,
+                                                        PageCursor cursor,
+                                                        int limit) {
+
+    QExpense expense = QExpense.expense;
 
-    return new PageImpl<>(expenses, pageable, total != null ? total : 0L);
+    return queryFactory
+        .selectFrom(expense)
+        .where(expense.familyUuid.eq(familyUuid),
+               expense.status.eq(ExpenseStatus.ACTIVE),
+               categoryUuidEq(expense, categoryUuid),
+               dateGoe(expense, startDate),
+               dateLoe(expense, endDate),
+               after(expense, cursor))
+        .orderBy(expense.date.desc(), expense.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countByFamilyUuidWithFilters(CustomUuid familyUuid,
+                                           CustomUuid categoryUuid,
+                                           LocalDateTime startDate,
+                                           LocalDateTime endDate) {
+
+    QExpense expense = QExpense.expense;
+
+    Long total = queryFactory
+        .select(expense.count())
+        .from(expense)
+        .where(expense.familyUuid.eq(familyUuid),
+               expense.status.eq(ExpenseStatus.ACTIVE),
+               categoryUuidEq(expense, categoryUuid),
+               dateGoe(expense, startDate),
+               dateLoe(expense, endDate))
+        .fetchOne();
+
+    return total != null ? total : 0L;
   }
 
   // ===== 동적 쿼리 조건 메서드 =====
@@ -126,6 +186,66 @@ public class ExpenseRepositoryImpl implements ExpenseRepository {
     return endDate != null ? expense.date.loe(endDate) : null;
   }
 
+  /**
+   * 종료 날짜 동적 조건 (< endDate, 반개구간)
+   * null이면 조건 미적용
+   */
+  private BooleanExpression dateLt(QExpense expense, LocalDateTime endDate) {
+    return endDate != null ? expense.date.lt(endDate) : null;
+  }
+
+  /**
+   * 키셋 커서 동적 조건 ((date, id) &lt; (cursor.date, cursor.id))
+   * null이면 조건 미적용 (첫 페이지)
+   */
+  private BooleanExpression after(QExpense expense, PageCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return expense.date.lt(cursor.date())
+        .or(expense.date.eq(cursor.date()).and(expense.id.lt(cursor.id())));
+  }
+
+  /**
+   * 가족 UUID와 날짜 범위로 지출 스트리밍 순회 (QueryDSL + Hibernate ScrollableResults)
+   * - FORWARD_ONLY 커서와 fetchSize로 드라이버가 한 번에 fetchSize 행만 가져오도록 함
+   *   (MySQL은 useCursorFetch=true일 때 서버 측 커서 사용)
+   * - 읽기 전용 + 2차 캐시 미사용, fetchSize 단위로 영속성 컨텍스트를 비워 엔티티가 누적되지 않도록 함
+   */
+  @Override
+  public void forEachByFamilyUuidAndDateRange(CustomUuid familyUuid,
+                                              LocalDateTime startInclusive,
+                                              LocalDateTime endExclusive,
+                                              int fetchSize,
+                                              Consumer<Expense> action) {
+
+    QExpense expense = QExpense.expense;
+
+    @SuppressWarnings("unchecked")
+    Query<Expense> query = queryFactory.selectFrom(expense)
+                                       .where(expense.familyUuid.eq(familyUuid),
+                                              expense.status.eq(ExpenseStatus.ACTIVE),
+                                              dateGoe(expense, startInclusive),
+                                              dateLt(expense, endExclusive))
+                                       .orderBy(expense.date.desc(), expense.id.desc())
+                                       .createQuery()
+                                       .unwrap(Query.class);
+
+    query.setFetchSize(fetchSize);
+    query.setReadOnly(true);
+    query.setCacheMode(CacheMode.IGNORE);
+
+    try (ScrollableResults<Expense> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+      int count = 0;
+      while (results.next()) {
+        action.accept(results.get());
+        if (++count % fetchSize == 0) {
+          entityManager.clear();
+        }
+      }
+    }
+  }
+
   @Override
   public int countByFamilyUuid(CustomUuid familyUuid) {
     return jpaRepository.countByFamilyUuid(familyUuid);
@@ -138,6 +258,49 @@ public class ExpenseRepositoryImpl implements ExpenseRepository {
     return jpaRepository.sumAmountByFamilyUuidAndDateBetween(familyUuid, startDate, endDate);
   }
 
+  /**
+   * 가족별 지출 합계 (QueryDSL)
+   * - 조건은 sumAmountByFamilyUuidAndDateBetween(JPQL)과 동일 (ACTIVE, 지출·카테고리 예산 제외 플래그)
+   * - 가족 연관관계 대신 family_uuid 컬럼으로 필터링/그룹핑 (families 조인 없음)
+   */
+  @Override
+  public Map<CustomUuid, BigDecimal> sumAmountByFamilyUuidsAndDateBetween(Collection<CustomUuid> familyUuids,
+                                                                          LocalDateTime startDate,
+                                                                          LocalDateTime endDate) {
+    if (familyUuids.isEmpty()) {
+      return Map.of();
+    }
+
+    QExpense expense = QExpense.expense;
+    QCategory category = QCategory.category;
+
+    List<Tuple> tuples = queryFactory
+        .select(expense.familyUuid, expense.amount.sum())
+        .from(expense)
+        .leftJoin(category)
+        .on(expense.categoryUuid.eq(category.uuid)
+                                .and(category.status.eq(CategoryStatus.ACTIVE)))
+        .where(
+            expense.familyUuid.in(familyUuids),
+            expense.status.eq(ExpenseStatus.ACTIVE),
+            expense.date.between(startDate, endDate),
+            expense.excludeFromBudget.eq(false)
+                                     .and(
+                                         category.excludeFromBudget.isNull()
+                                                                   .or(category.excludeFromBudget.eq(false))
+                                     )
+        )
+        .groupBy(expense.familyUuid)
+        .fetch();
+
+    Map<CustomUuid, BigDecimal> totals = new HashMap<>();
+    for (Tuple tuple : tuples) {
+      BigDecimal total = tuple.get(expense.amount.sum());
+      totals.put(tuple.get(expense.familyUuid), total != null ? total : BigDecimal.ZERO);
+    }
+    return totals;
+  }
+
   @Override
   public void moveExpenses(CustomUuid oldCategoryUuid, CustomUuid newCategoryUuid) {
     jpaRepository.moveExpenses(oldCategoryUuid, newCategoryUuid);
@@ -1,11 +1,16 @@
 package com.bifos.accountbook.expense.presentation.controller;
 
 import com.bifos.accountbook.shared.dto.PaginationResponse;
+import com.bifos.accountbook.expense.application.dto.BulkCreateExpenseRequest;
 import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
 import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
 import com.bifos.accountbook.expense.application.dto.ExpenseSearchRequest;
 import com.bifos.accountbook.expense.application.dto.UpdateExpenseRequest;
+import com.bifos.accountbook.expense.application.service.ExpenseExportService;
+import com.bifos.accountbook.expense.application.service.ExpenseExportService.ExpenseCsvExport;
 import com.bifos.accountbook.expense.application.service.ExpenseService;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.shared.auth.LoginUser;
 import com.bifos.accountbook.shared.dto.ApiSuccessResponse;
@@ -16,10 +21,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,6 +42,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "지출 (Expense)", description = "지출 내역 관리 API")
 @Slf4j
@@ -40,6 +53,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExpenseController {
 
   private final ExpenseService expenseService;
+  private final ExpenseExportService expenseExportService;
 
   @Operation(summary = "지출 등록", description = "가족의 지출을 등록합니다.")
   @ApiResponse(responseCode = "201", description = "등록 성공")
@@ -56,7 +70,22 @@ public class ExpenseController {
         .body(ApiSuccessResponse.of("지출이 등록되었습니다", response));
   }
 
-  @Operation(summary = "지출 목록 조회", description = "가족의 지출 목록을 페이징 및 필터링하여 조회합니다.")
+  @Operation(summary = "지출 일괄 등록", description = "가족의 지출을 한 번에 여러 건(최대 500건) 등록합니다.")
+  @ApiResponse(responseCode = "201", description = "등록 성공")
+  @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+  @PostMapping("/bulk")
+  public ResponseEntity<ApiSuccessResponse<List<ExpenseResponse>>> createExpenses(
+      @LoginUser LoginUserDto loginUser,
+      @Parameter(description = "가족 UUID") @PathVariable CustomUuid familyUuid,
+      @Valid @RequestBody BulkCreateExpenseRequest request) {
+    List<ExpenseResponse> response = expenseService.createExpenses(loginUser.userUuid(), familyUuid, request);
+
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .body(ApiSuccessResponse.of(response.size() + "건의 지출이 등록되었습니다", response));
+  }
+
+  @Operation(summary = "지출 목록 조회", description = "가족의 지출 목록을 페이징 및 필터링하여 조회합니다. cursor 파라미터를 지정하면 (date, id) 키셋 커서 페이지네이션으로 조회합니다.")
   @ApiResponse(responseCode = "200", description = "조회 성공")
   @GetMapping
   public ResponseEntity<ApiSuccessResponse<PaginationResponse<ExpenseResponse>>> getFamilyExpenses(
@@ -66,10 +95,17 @@ public class ExpenseController {
       @RequestParam(defaultValue = "20") Integer size,
       @RequestParam(required = false) String categoryId,
       @RequestParam(required = false) String startDate,
-      @RequestParam(required = false) String endDate) {
+      @RequestParam(required = false) String endDate,
+      @Parameter(description = "커서 (빈 값이면 첫 페이지, 지정 시 커서 페이지네이션)") @RequestParam(required = false) String cursor,
+      @Parameter(description = "커서 모드에서 전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
 
     ExpenseSearchRequest searchRequest = ExpenseSearchRequest.withDefaults(
-        page, size, categoryId, startDate, endDate);
+        page, size, categoryId, startDate, endDate, cursor, includeTotal);
+
+    if (searchRequest.isCursorMode()) {
+      return ResponseEntity.ok(ApiSuccessResponse.of(
+          expenseService.getFamilyExpensesByCursor(loginUser.userUuid(), familyUuid, searchRequest)));
+    }
 
     Page<ExpenseResponse> expensesPage = expenseService.getFamilyExpenses(
         loginUser.userUuid(), familyUuid, searchRequest);
@@ -79,6 +115,43 @@ public class ExpenseController {
     return ResponseEntity.ok(ApiSuccessResponse.of(response));
   }
 
+  @Operation(summary = "지출 내역 CSV 내보내기",
+      description = "기간(from~to, YYYY-MM)의 지출 내역을 CSV로 스트리밍 다운로드합니다. to를 생략하면 from 한 달만 내보냅니다.")
+  @ApiResponse(responseCode = "200", description = "다운로드 성공")
+  @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportExpenses(
+      @LoginUser LoginUserDto loginUser,
+      @PathVariable CustomUuid familyUuid,
+      @Parameter(description = "시작 월 (YYYY-MM)") @RequestParam String from,
+      @Parameter(description = "종료 월 (YYYY-MM, 포함)") @RequestParam(required = false) String to) {
+
+    YearMonth fromYearMonth;
+    YearMonth toYearMonth;
+    try {
+      fromYearMonth = YearMonth.parse(from);
+      toYearMonth = to != null ? YearMonth.parse(to) : fromYearMonth;
+    } catch (DateTimeParseException e) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    if (fromYearMonth.isAfter(toYearMonth)) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    // 권한 검증은 응답 커밋 전에 수행 (스트리밍 시작 후에는 에러 응답 불가)
+    ExpenseCsvExport export = expenseExportService.prepareExport(
+        loginUser.userUuid(), familyUuid, fromYearMonth, toYearMonth);
+
+    StreamingResponseBody body = outputStream -> expenseExportService.writeCsv(export, outputStream);
+
+    return ResponseEntity.ok()
+                         .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                         .header(HttpHeaders.CONTENT_DISPOSITION,
+                                 ContentDisposition.attachment().filename(export.fileName()).build().toString())
+                         .body(body);
+  }
+
   @Operation(summary = "지출 상세 조회", description = "지출 UUID로 상세 정보를 조회합니다.")
   @ApiResponse(responseCode = "200", description = "조회 성공")
   @ApiResponse(responseCode = "404", description = "지출을 찾을 수 없음")
@@ -0,0 +1,16 @@
+package com.bifos.accountbook.family.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+
+/**
+ * 가족 월 예산 변경 이벤트
+ * 가족 수정으로 월 예산이 바뀌면 발행됩니다.
+ * 예산 알림의 가족·월별 합계(BudgetTotalsTracker)에 새 예산을 반영하고, 새로 넘은 임계값이 있으면 알림 평가를 트리거합니다.
+ *
+ * @param familyUuid    가족 UUID
+ * @param monthlyBudget 변경된 월 예산
+ */
+public record FamilyBudgetChangedEvent(CustomUuid familyUuid,
+                                       BigDecimal monthlyBudget) {
+}
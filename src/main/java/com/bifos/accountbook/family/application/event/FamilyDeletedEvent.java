@@ -0,0 +1,13 @@
+package com.bifos.accountbook.family.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+
+/**
+ * 가족 삭제 이벤트
+ * 가족 삭제로 가족의 지출·수입이 모두 삭제 처리되면 발행됩니다.
+ * 가족의 대시보드 집계 캐시(DashboardStatsCache) 전체 무효화를 트리거합니다.
+ *
+ * @param familyUuid 삭제된 가족 UUID
+ */
+public record FamilyDeletedEvent(CustomUuid familyUuid) {
+}
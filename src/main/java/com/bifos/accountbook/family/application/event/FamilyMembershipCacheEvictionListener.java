@@ -0,0 +1,27 @@
+package com.bifos.accountbook.family.application.event;
+
+import com.bifos.accountbook.shared.aop.FamilyMembershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가족 구성원 변경 시 구성원 자격 캐시 무효화
+ * 커밋 이후에 무효화해야 다음 조회가 변경된 구성원 정보를 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMembershipCacheEvictionListener {
+
+  private final FamilyMembershipCache familyMembershipCache;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleMembershipChanged(FamilyMembershipChangedEvent event) {
+    if (event.userUuid() == null) {
+      familyMembershipCache.evictFamily(event.familyUuid());
+    } else {
+      familyMembershipCache.evict(event.userUuid(), event.familyUuid());
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.bifos.accountbook.family.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+
+/**
+ * 가족 구성원 변경 이벤트
+ * 초대 수락으로 구성원이 추가되거나, 가족 삭제로 전체 구성원이 탈퇴 처리되면 발행됩니다.
+ * 권한 검증용 구성원 캐시(FamilyMembershipCache) 무효화를 트리거합니다.
+ *
+ * @param familyUuid 가족 UUID
+ * @param userUuid   변경된 사용자 UUID (null이면 가족 전체 구성원)
+ */
+public record FamilyMembershipChangedEvent(CustomUuid familyUuid,
+                                           CustomUuid userUuid) {
+
+  public static FamilyMembershipChangedEvent member(CustomUuid familyUuid, CustomUuid userUuid) {
+    return new FamilyMembershipChangedEvent(familyUuid, userUuid);
+  }
+
+  public static FamilyMembershipChangedEvent wholeFamily(CustomUuid familyUuid) {
+    return new FamilyMembershipChangedEvent(familyUuid, null);
+  }
+}
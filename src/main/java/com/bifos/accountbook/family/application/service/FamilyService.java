@@ -3,6 +3,9 @@ package com.bifos.accountbook.family.application.service;
 import com.bifos.accountbook.shared.aop.FamilyValidationService;
 
 import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.family.application.event.FamilyBudgetChangedEvent;
+import com.bifos.accountbook.family.application.event.FamilyDeletedEvent;
+import com.bifos.accountbook.family.application.event.FamilyMembershipChangedEvent;
 import com.bifos.accountbook.family.application.dto.CreateFamilyRequest;
 import com.bifos.accountbook.family.application.dto.FamilyResponse;
 import com.bifos.accountbook.family.application.dto.UpdateFamilyRequest;
@@ -14,6 +17,7 @@ import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.category.application.service.CategoryService;
+import com.bifos.accountbook.dashboard.application.service.DailyExpenseRollupService;
 import com.bifos.accountbook.user.application.service.UserProfileService;
 import com.bifos.accountbook.user.application.service.UserService;
 import com.bifos.accountbook.shared.value.CustomUuid;
@@ -26,6 +30,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +48,8 @@ public class FamilyService {
   private final CategoryService categoryService;
   private final FamilyValidationService familyValidationService;
   private final UserProfileService userProfileService;
+  private final DailyExpenseRollupService dailyExpenseRollupService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 가족 생성 (생성자를 owner로 자동 추가 + 기본 카테고리 생성)
@@ -122,9 +129,13 @@ public class FamilyService {
 
     family.updateName(request.getName());
 
-    // monthlyBudget이 제공된 경우에만 업데이트
+    // monthlyBudget이 제공된 경우에만 업데이트 (변경 시 예산 알림 합계에 반영, 커밋 후)
     if (request.getMonthlyBudget() != null) {
+      BigDecimal previousBudget = family.getMonthlyBudget();
       family.updateMonthlyBudget(request.getMonthlyBudget());
+      if (previousBudget == null || previousBudget.compareTo(request.getMonthlyBudget()) != 0) {
+        eventPublisher.publishEvent(new FamilyBudgetChangedEvent(familyUuid, request.getMonthlyBudget()));
+      }
     }
 
     int memberCount = familyMemberRepository.countByFamilyUuid(familyUuid);
@@ -147,6 +158,12 @@ public class FamilyService {
     familyMemberRepository.leaveAllByFamilyUuid(familyUuid);
     expenseRepository.softDeleteAllByFamilyUuid(familyUuid);
     incomeRepository.softDeleteAllByFamilyUuid(familyUuid);
+    dailyExpenseRollupService.rebuild(familyUuid);
+
+    // 전체 구성원 탈퇴 처리 → 구성원 자격 캐시 무효화 (커밋 후)
+    eventPublisher.publishEvent(FamilyMembershipChangedEvent.wholeFamily(familyUuid));
+    // 지출·수입 일괄 삭제 → 가족의 대시보드 캐시 무효화 (커밋 후)
+    eventPublisher.publishEvent(new FamilyDeletedEvent(familyUuid));
 
     log.info("Deleted family: {} by user: {}", familyUuid, userUuid);
   }
@@ -39,7 +39,7 @@ public class Family {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
   @Column(nullable = false, length = 100)
@@ -35,13 +35,13 @@ public class FamilyMember {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
-  @Column(name = "family_uuid", nullable = false, length = 36)
+  @Column(name = "family_uuid", nullable = false)
   private CustomUuid familyUuid;
 
-  @Column(name = "user_uuid", nullable = false, length = 36)
+  @Column(name = "user_uuid", nullable = false)
   private CustomUuid userUuid;
 
   @Column(nullable = false, length = 20)
@@ -1,6 +1,7 @@
 package com.bifos.accountbook.family.domain.repository;
 
 import com.bifos.accountbook.family.domain.entity.FamilyMember;
+import com.bifos.accountbook.family.domain.value.FamilyMembership;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +42,12 @@ public interface FamilyMemberRepository {
    */
   boolean existsActiveByFamilyUuidAndUserUuid(CustomUuid familyUuid, CustomUuid userUuid);
 
+  /**
+   * 가족 UUID와 사용자 UUID로 구성원 자격(역할/상태) 조회
+   * 상태와 무관하게 조회하므로 탈퇴(LEFT) 구성원도 반환합니다.
+   */
+  Optional<FamilyMembership> findMembership(CustomUuid familyUuid, CustomUuid userUuid);
+
   /**
    * 가족 UUID로 구성원 수 조회
    */
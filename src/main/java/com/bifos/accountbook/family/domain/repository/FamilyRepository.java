@@ -3,6 +3,7 @@ package com.bifos.accountbook.family.domain.repository;
 import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.family.domain.repository.projection.FamilyWithCountsProjection;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,11 @@ public interface FamilyRepository {
    */
   List<Family> findAllActive();
 
+  /**
+   * UUID 목록으로 활성화된 가족 일괄 조회 (삭제된 가족은 제외)
+   */
+  List<Family> findAllActiveByUuids(Collection<CustomUuid> uuids);
+
   /**
    * 사용자가 속한 가족 목록을 멤버/지출/카테고리 카운트와 함께 단일 쿼리로 조회 (N+1 방지)
    */
@@ -0,0 +1,19 @@
+package com.bifos.accountbook.family.domain.value;
+
+/**
+ * 가족 구성원 자격 (권한 검증용 조회 결과)
+ * FamilyMember 엔티티 전체 대신 역할/상태만 담아 캐싱합니다.
+ *
+ * @param role   구성원 역할
+ * @param status 구성원 상태
+ */
+public record FamilyMembership(FamilyMemberRole role, FamilyMemberStatus status) {
+
+  public boolean isActive() {
+    return status == FamilyMemberStatus.ACTIVE;
+  }
+
+  public boolean isOwner() {
+    return isActive() && role == FamilyMemberRole.OWNER;
+  }
+}
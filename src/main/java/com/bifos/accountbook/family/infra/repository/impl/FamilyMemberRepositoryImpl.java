@@ -4,6 +4,7 @@ import com.bifos.accountbook.family.domain.entity.FamilyMember;
 import com.bifos.accountbook.family.domain.entity.QFamilyMember;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
 import com.bifos.accountbook.family.domain.value.FamilyMemberStatus;
+import com.bifos.accountbook.family.domain.value.FamilyMembership;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.family.infra.repository.jpa.FamilyMemberJpaRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -53,6 +54,11 @@ public class FamilyMemberRepositoryImpl implements FamilyMemberRepository {
     return jpaRepository.existsByFamilyUuidAndUserUuidAndStatus(familyUuid, userUuid);
   }
 
+  @Override
+  public Optional<FamilyMembership> findMembership(CustomUuid familyUuid, CustomUuid userUuid) {
+    return jpaRepository.findMembership(familyUuid, userUuid);
+  }
+
   @Override
   public int countByFamilyUuid(CustomUuid familyUuid) {
     return jpaRepository.countByFamilyUuid(familyUuid);
@@ -17,6 +17,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -53,6 +54,14 @@ public class FamilyRepositoryImpl implements FamilyRepository {
     return jpaRepository.findAllActive();
   }
 
+  @Override
+  public List<Family> findAllActiveByUuids(Collection<CustomUuid> uuids) {
+    if (uuids.isEmpty()) {
+      return List.of();
+    }
+    return jpaRepository.findAllActiveByUuidIn(uuids);
+  }
+
   @Override
   public List<FamilyWithCountsProjection> findFamiliesWithCountsByUserUuid(CustomUuid userUuid) {
     QFamily f = new QFamily("f");
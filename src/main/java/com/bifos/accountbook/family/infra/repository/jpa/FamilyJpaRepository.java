@@ -2,6 +2,7 @@ package com.bifos.accountbook.family.infra.repository.jpa;
 
 import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,5 +22,8 @@ public interface FamilyJpaRepository extends JpaRepository<Family, Long> {
 
   @Query("SELECT f FROM Family f WHERE f.status = com.bifos.accountbook.family.domain.value.FamilyStatus.ACTIVE")
   List<Family> findAllActive();
+
+  @Query("SELECT f FROM Family f WHERE f.uuid IN :uuids AND f.status = com.bifos.accountbook.family.domain.value.FamilyStatus.ACTIVE")
+  List<Family> findAllActiveByUuidIn(@Param("uuids") Collection<CustomUuid> uuids);
 }
 
@@ -1,6 +1,7 @@
 package com.bifos.accountbook.family.infra.repository.jpa;
 
 import com.bifos.accountbook.family.domain.entity.FamilyMember;
+import com.bifos.accountbook.family.domain.value.FamilyMembership;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +33,11 @@ public interface FamilyMemberJpaRepository extends JpaRepository<FamilyMember, L
       @Param("familyUuid") CustomUuid familyUuid,
       @Param("userUuid") CustomUuid userUuid);
 
+  @Query("SELECT new com.bifos.accountbook.family.domain.value.FamilyMembership(fm.role, fm.status) FROM FamilyMember fm WHERE fm.familyUuid = :familyUuid AND fm.userUuid = :userUuid")
+  Optional<FamilyMembership> findMembership(
+      @Param("familyUuid") CustomUuid familyUuid,
+      @Param("userUuid") CustomUuid userUuid);
+
   @Query("SELECT COUNT(fm) FROM FamilyMember fm WHERE fm.familyUuid = :familyUuid AND fm.status = com.bifos.accountbook.family.domain.value.FamilyMemberStatus.ACTIVE")
   int countByFamilyUuid(@Param("familyUuid") CustomUuid familyUuid);
 
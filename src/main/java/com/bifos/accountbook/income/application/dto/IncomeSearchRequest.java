@@ -24,11 +24,31 @@ public class IncomeSearchRequest {
   private LocalDateTime startDate;
   private LocalDateTime endDate;
 
+  /**
+   * 커서 (빈 문자열이면 첫 페이지, null이면 오프셋 페이지네이션)
+   */
+  private String cursor;
+
+  /**
+   * 커서 모드에서 전체 개수 조회 여부
+   */
+  private boolean includeTotal;
+
   public static IncomeSearchRequest withDefaults(Integer page,
                                                  Integer size,
                                                  String categoryUuid,
                                                  String startDate,
                                                  String endDate) {
+    return withDefaults(page, size, categoryUuid, startDate, endDate, null, false);
+  }
+
+  public static IncomeSearchRequest withDefaults(Integer page,
+                                                 Integer size,
+                                                 String categoryUuid,
+                                                 String startDate,
+                                                 String endDate,
+                                                 String cursor,
+                                                 boolean includeTotal) {
 
     return IncomeSearchRequest.builder()
                               .page(page != null ? page : 0)
@@ -36,9 +56,18 @@ public class IncomeSearchRequest {
                               .categoryUuid(categoryUuid)
                               .startDate(parseDateTime(startDate, true))
                               .endDate(parseDateTime(endDate, false))
+                              .cursor(cursor)
+                              .includeTotal(includeTotal)
                               .build();
   }
 
+  /**
+   * 커서 페이지네이션 요청 여부
+   */
+  public boolean isCursorMode() {
+    return cursor != null;
+  }
+
   /**
    * 날짜 문자열을 LocalDateTime으로 파싱
    * 날짜만 있는 경우(2025-10-31) 또는 전체 DateTime(2025-10-31T00:00:00) 모두 지원
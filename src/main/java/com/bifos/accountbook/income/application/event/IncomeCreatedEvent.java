@@ -0,0 +1,16 @@
+package com.bifos.accountbook.income.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 수입 생성 이벤트
+ * 수입이 생성되면 발행되어 대시보드 캐시 무효화를 트리거합니다.
+ */
+public record IncomeCreatedEvent(CustomUuid incomeUuid,
+                                 CustomUuid familyUuid,
+                                 CustomUuid userUuid,
+                                 BigDecimal amount,
+                                 LocalDateTime date) {
+}
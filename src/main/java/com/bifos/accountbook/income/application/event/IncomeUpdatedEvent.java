@@ -0,0 +1,19 @@
+package com.bifos.accountbook.income.application.event;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 수입 수정 이벤트
+ * 수입이 수정되면 발행되어 대시보드 캐시 무효화를 트리거합니다.
+ * 날짜가 변경된 경우 이전 날짜(oldDate)가 속한 기간도 무효화 대상입니다.
+ */
+public record IncomeUpdatedEvent(CustomUuid incomeUuid,
+                                 CustomUuid familyUuid,
+                                 CustomUuid userUuid,
+                                 BigDecimal newAmount,
+                                 BigDecimal oldAmount,
+                                 LocalDateTime date,
+                                 LocalDateTime oldDate) {
+}
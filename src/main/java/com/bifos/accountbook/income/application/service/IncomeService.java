@@ -8,22 +8,30 @@ import com.bifos.accountbook.income.application.dto.CreateIncomeRequest;
 import com.bifos.accountbook.income.application.dto.IncomeResponse;
 import com.bifos.accountbook.income.application.dto.IncomeSearchRequest;
 import com.bifos.accountbook.income.application.dto.UpdateIncomeRequest;
+import com.bifos.accountbook.income.application.event.IncomeCreatedEvent;
+import com.bifos.accountbook.income.application.event.IncomeDeletedEvent;
+import com.bifos.accountbook.income.application.event.IncomeUpdatedEvent;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.income.domain.entity.Income;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.income.domain.repository.IncomeRepository;
 import com.bifos.accountbook.user.application.service.UserService;
+import com.bifos.accountbook.shared.dto.PaginationResponse;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.shared.aop.FamilyUuid;
 import com.bifos.accountbook.shared.aop.UserUuid;
 import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -41,6 +49,7 @@ public class IncomeService {
   private final CategoryService categoryService; // 카테고리 조회 (캐시 활용)
   private final UserService userService; // 사용자 조회
   private final FamilyValidationService familyValidationService;
+  private final ApplicationEventPublisher eventPublisher; // 이벤트 발행
 
   /**
    * 수입 생성
@@ -69,6 +78,15 @@ public class IncomeService {
 
     income = incomeRepository.save(income);
 
+    // 이벤트 발행 - 대시보드 캐시 무효화를 트리거
+    eventPublisher.publishEvent(new IncomeCreatedEvent(
+        income.getUuid(),
+        income.getFamilyUuid(),
+        income.getUserUuid(),
+        income.getAmount(),
+        income.getDate()
+    ));
+
     return IncomeResponse.fromWithoutCategory(income);
   }
 
@@ -89,16 +107,10 @@ public class IncomeService {
         Sort.by(Sort.Direction.DESC, "date"));
 
     // 카테고리 맵 생성 (Repository 캐시 활용)
-    Map<String, CategoryResponse> categoryMap = categoryService.getFamilyCategories(userUuid, familyUuid)
-                                                               .stream()
-                                                               .collect(Collectors.toMap(
-                                                                   CategoryResponse::getUuid,
-                                                                   Function.identity()));
+    Map<String, CategoryResponse> categoryMap = getCategoryMap(userUuid, familyUuid);
 
     // 필터 조건 변환
-    CustomUuid categoryUuid = searchRequest.getCategoryUuid() != null
-        ? CustomUuid.from(searchRequest.getCategoryUuid())
-        : null;
+    CustomUuid categoryUuid = parseCategoryUuid(searchRequest);
 
     // QueryDSL이 null 조건을 자동으로 처리하므로 단일 메서드 호출
     Page<Income> incomes = incomeRepository.findByFamilyUuidWithFilters(
@@ -109,10 +121,69 @@ public class IncomeService {
         pageable);
 
     // 카테고리 정보를 포함하여 응답 생성
-    return incomes.map(income -> {
-      CategoryResponse category = categoryMap.get(income.getCategoryUuid().getValue());
-      return IncomeResponse.from(income, category != null ? category.toCategoryInfo() : null);
-    });
+    return incomes.map(income -> toResponse(income, categoryMap));
+  }
+
+  /**
+   * 가족의 수입 목록 조회 (커서 페이지네이션 + 필터링)
+   * <p>
+   * (date, id) 키셋으로 다음 페이지를 탐색하며, size + 1건 조회로 다음 페이지 존재 여부를 판단합니다.
+   * 카운트 쿼리는 includeTotal=true일 때만 실행합니다.
+   */
+  @ValidateFamilyAccess
+  public PaginationResponse<IncomeResponse> getFamilyIncomesByCursor(@UserUuid CustomUuid userUuid,
+                                                                     @FamilyUuid CustomUuid familyUuid,
+                                                                     IncomeSearchRequest searchRequest) {
+    int size = PageCursor.validateSize(searchRequest.getSize());
+    PageCursor cursor = PageCursor.decode(searchRequest.getCursor());
+    CustomUuid categoryUuid = parseCategoryUuid(searchRequest);
+
+    List<Income> incomes = incomeRepository.findByFamilyUuidWithFiltersAfter(
+        familyUuid,
+        categoryUuid,
+        searchRequest.getStartDate(),
+        searchRequest.getEndDate(),
+        cursor,
+        size + 1);
+
+    boolean hasNext = incomes.size() > size;
+    List<Income> content = hasNext ? incomes.subList(0, size) : incomes;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Income last = content.get(content.size() - 1);
+      nextCursor = PageCursor.of(last.getDate(), last.getId()).encode();
+    }
+
+    Long total = searchRequest.isIncludeTotal()
+        ? incomeRepository.countByFamilyUuidWithFilters(familyUuid, categoryUuid,
+                                                        searchRequest.getStartDate(), searchRequest.getEndDate())
+        : null;
+
+    Map<String, CategoryResponse> categoryMap = getCategoryMap(userUuid, familyUuid);
+
+    return PaginationResponse.ofCursor(
+        content.stream().map(income -> toResponse(income, categoryMap)).toList(),
+        nextCursor,
+        size,
+        total);
+  }
+
+  private Map<String, CategoryResponse> getCategoryMap(CustomUuid userUuid, CustomUuid familyUuid) {
+    return categoryService.getFamilyCategories(userUuid, familyUuid)
+                          .stream()
+                          .collect(Collectors.toMap(CategoryResponse::getUuid, Function.identity()));
+  }
+
+  private CustomUuid parseCategoryUuid(IncomeSearchRequest searchRequest) {
+    return searchRequest.getCategoryUuid() != null
+        ? CustomUuid.from(searchRequest.getCategoryUuid())
+        : null;
+  }
+
+  private IncomeResponse toResponse(Income income, Map<String, CategoryResponse> categoryMap) {
+    CategoryResponse category = categoryMap.get(income.getCategoryUuid().getValue());
+    return IncomeResponse.from(income, category != null ? category.toCategoryInfo() : null);
   }
 
   /**
@@ -159,6 +230,10 @@ public class IncomeService {
       categoryService.validateAndFindCached(income.getFamilyUuid(), categoryCustomUuid);
     }
 
+    // 이벤트 발행을 위해 기존 금액·날짜 저장
+    BigDecimal oldAmount = income.getAmount();
+    LocalDateTime oldDate = income.getDate();
+
     // 수입 정보 업데이트
     income.update(
         categoryCustomUuid,
@@ -167,6 +242,17 @@ public class IncomeService {
         request.getDate()
     );
 
+    // 이벤트 발행 - 대시보드 캐시 무효화를 트리거
+    eventPublisher.publishEvent(new IncomeUpdatedEvent(
+        income.getUuid(),
+        income.getFamilyUuid(),
+        income.getUserUuid(),
+        income.getAmount(),
+        oldAmount,
+        income.getDate(),
+        oldDate
+    ));
+
     return IncomeResponse.fromWithoutCategory(income);
   }
 
@@ -188,5 +274,14 @@ public class IncomeService {
     familyValidationService.validateFamilyAccess(userUuid, income.getFamilyUuid());
 
     income.delete();
+
+    // 이벤트 발행 - 대시보드 캐시 무효화를 트리거
+    eventPublisher.publishEvent(new IncomeDeletedEvent(
+        income.getUuid(),
+        income.getFamilyUuid(),
+        income.getUserUuid(),
+        income.getAmount(),
+        income.getDate()
+    ));
   }
 }
@@ -15,8 +15,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,7 +30,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Table(name = "incomes", indexes = {
     @Index(name = "idx_family_uuid_date", columnList = "family_uuid,date"),
-    @Index(name = "idx_category_uuid", columnList = "category_uuid")
+    @Index(name = "idx_category_uuid", columnList = "category_uuid"),
+    @Index(name = "idx_incomes_family_status_date_cover", columnList = "family_uuid,status,date,amount,category_uuid")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -37,11 +40,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class Income {
 
+  /**
+   * PK: id_sequences 테이블 기반 pooled 생성기 (Expense와 동일, JDBC 배치 INSERT 지원)
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "incomes_id")
+  @TableGenerator(name = "incomes_id",
+      table = "id_sequences",
+      pkColumnName = "sequence_name",
+      valueColumnName = "next_val",
+      pkColumnValue = "incomes",
+      allocationSize = 50)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
   /**
@@ -52,14 +64,22 @@ public class Income {
   @JoinColumn(name = "family_uuid", referencedColumnName = "uuid", nullable = false)
   private Family family;
 
+  /**
+   * 가족 UUID (읽기 전용 — QueryDSL 조회에서 families 묵시적 JOIN 방지용)
+   * JPA 쓰기는 family 연관관계가 담당하므로 insertable/updatable = false
+   */
+  @Getter(AccessLevel.NONE)
+  @Column(name = "family_uuid", insertable = false, updatable = false)
+  private CustomUuid familyUuid;
+
   /**
    * 카테고리 UUID (캐시 활용을 위해 연관관계 사용 안함)
    * CategoryService의 캐시를 통해 조회
    */
-  @Column(name = "category_uuid", nullable = false, length = 36)
+  @Column(name = "category_uuid", nullable = false)
   private CustomUuid categoryUuid;
 
-  @Column(name = "user_uuid", nullable = false, length = 36)
+  @Column(name = "user_uuid", nullable = false)
   private CustomUuid userUuid;
 
   @Column(nullable = false, precision = 12, scale = 2)
@@ -112,6 +132,11 @@ public class Income {
    * Family UUID 조회 (편의 메서드)
    */
   public CustomUuid getFamilyUuid() {
+    // DB에서 로드된 경우 컬럼 필드 직접 반환 (LAZY 로딩 불필요)
+    // Builder로 생성 직후(save 전/직후)에는 familyUuid 컬럼이 아직 null이므로 연관관계로 fallback
+    if (this.familyUuid != null) {
+      return this.familyUuid;
+    }
     return family != null ? family.getUuid() : null;
   }
 
@@ -2,6 +2,7 @@ package com.bifos.accountbook.income.domain.repository;
 
 import com.bifos.accountbook.income.domain.entity.Income;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +60,30 @@ public interface IncomeRepository {
       LocalDateTime endDate,
       Pageable pageable);
 
+  /**
+   * 가족 UUID와 필터링 조건으로 수입 조회 (키셋 페이지네이션)
+   * (date DESC, id DESC) 순서로 커서 이후 최대 limit건 조회
+   *
+   * @param cursor 이전 페이지 마지막 위치 (null이면 첫 페이지)
+   * @param limit  최대 조회 건수
+   */
+  List<Income> findByFamilyUuidWithFiltersAfter(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate,
+      PageCursor cursor,
+      int limit);
+
+  /**
+   * 가족 UUID와 필터링 조건에 해당하는 수입 개수 조회
+   */
+  long countByFamilyUuidWithFilters(
+      CustomUuid familyUuid,
+      CustomUuid categoryUuid,
+      LocalDateTime startDate,
+      LocalDateTime endDate);
+
   /**
    * 가족의 모든 활성 수입을 DELETED 상태로 벌크 변경
    */
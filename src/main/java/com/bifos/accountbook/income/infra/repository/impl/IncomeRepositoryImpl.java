@@ -4,6 +4,7 @@ import com.bifos.accountbook.income.domain.entity.Income;
 import com.bifos.accountbook.income.domain.entity.QIncome;
 import com.bifos.accountbook.income.domain.repository.IncomeRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.income.domain.value.IncomeStatus;
 import com.bifos.accountbook.income.infra.repository.jpa.IncomeJpaRepository;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -80,28 +81,69 @@ public class IncomeRepositoryImpl implements IncomeRepository {
     // QueryDSL로 동적 쿼리 실행
     List<Income> incomes = queryFactory
         .selectFrom(income)
-        .where(income.family.uuid.eq(familyUuid),
+        .where(income.familyUuid.eq(familyUuid),
                income.status.eq(IncomeStatus.ACTIVE),
                categoryUuidEq(income, categoryUuid),
                dateGoe(income, startDate),
                dateLoe(income, endDate))
-        .orderBy(income.date.desc())
+        .orderBy(income.date.desc(), income.id.desc())
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
         .fetch();
 
     // 전체 카운트 조회
+    long total = countByFamilyUuidWithFilters(familyUuid, categoryUuid, startDate, endDate);
+
+    return new PageImpl<>(incomes, pageable, total);
+  }
+
+  /**
+   * 가족 UUID와 필터링 조건으로 수입 조회 (키셋 페이지네이션)
+   * - (date DESC, id DESC) 순서에서 커서 위치 이후의 행만 조회 (OFFSET 없이 인덱스 탐색)
+   * - 깊은 페이지에서도 앞선 행을 읽고 버리는 비용이 없음
+   */
+  @Override
+  public List<Income> findByFamilyUuidWithFiltersAfter(CustomUuid familyUuid,
+                                                       CustomUuid categoryUuid,
+                                                       LocalDateTime startDate,
+                                                       LocalDateTime endDate,
+                                                       PageCursor cursor,
+                                                       int limit) {
+
+    QIncome income = QIncome.income;
+
+    return queryFactory
+        .selectFrom(income)
+        .where(income.familyUuid.eq(familyUuid),
+               income.status.eq(IncomeStatus.ACTIVE),
+               categoryUuidEq(income, categoryUuid),
+               dateGoe(income, startDate),
+               dateLoe(income, endDate),
+               after(income, cursor))
+        .orderBy(income.date.desc(), income.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countByFamilyUuidWithFilters(CustomUuid familyUuid,
+                                           CustomUuid categoryUuid,
+                                           LocalDateTime startDate,
+                                           LocalDateTime endDate) {
+
+    QIncome income = QIncome.income;
+
     Long total = queryFactory
         .select(income.count())
         .from(income)
-        .where(income.family.uuid.eq(familyUuid),
+        .where(income.familyUuid.eq(familyUuid),
                income.status.eq(IncomeStatus.ACTIVE),
                categoryUuidEq(income, categoryUuid),
                dateGoe(income, startDate),
                dateLoe(income, endDate))
         .fetchOne();
 
-    return new PageImpl<>(incomes, pageable, total != null ? total : 0L);
+    return total != null ? total : 0L;
   }
 
   // ===== 동적 쿼리 조건 메서드 =====
@@ -130,12 +172,24 @@ public class IncomeRepositoryImpl implements IncomeRepository {
     return endDate != null ? income.date.loe(endDate) : null;
   }
 
+  /**
+   * 키셋 커서 동적 조건 ((date, id) &lt; (cursor.date, cursor.id))
+   * null이면 조건 미적용 (첫 페이지)
+   */
+  private BooleanExpression after(QIncome income, PageCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return income.date.lt(cursor.date())
+        .or(income.date.eq(cursor.date()).and(income.id.lt(cursor.id())));
+  }
+
   @Override
   public long softDeleteAllByFamilyUuid(CustomUuid familyUuid) {
     QIncome income = QIncome.income;
     return queryFactory.update(income)
         .set(income.status, IncomeStatus.DELETED)
-        .where(income.family.uuid.eq(familyUuid)
+        .where(income.familyUuid.eq(familyUuid)
             .and(income.status.eq(IncomeStatus.ACTIVE)))
         .execute();
   }
@@ -56,7 +56,7 @@ public class IncomeController {
         .body(ApiSuccessResponse.of("수입이 등록되었습니다", response));
   }
 
-  @Operation(summary = "수입 목록 조회", description = "가족의 수입 목록을 페이징 및 필터링하여 조회합니다.")
+  @Operation(summary = "수입 목록 조회", description = "가족의 수입 목록을 페이징 및 필터링하여 조회합니다. cursor 파라미터를 지정하면 (date, id) 키셋 커서 페이지네이션으로 조회합니다.")
   @ApiResponse(responseCode = "200", description = "조회 성공")
   @GetMapping
   public ResponseEntity<ApiSuccessResponse<PaginationResponse<IncomeResponse>>> getFamilyIncomes(
@@ -66,9 +66,17 @@ public class IncomeController {
       @RequestParam(defaultValue = "20") Integer size,
       @RequestParam(required = false) String categoryUuid,
       @RequestParam(required = false) String startDate,
-      @RequestParam(required = false) String endDate) {
+      @RequestParam(required = false) String endDate,
+      @Parameter(description = "커서 (빈 값이면 첫 페이지, 지정 시 커서 페이지네이션)") @RequestParam(required = false) String cursor,
+      @Parameter(description = "커서 모드에서 전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-    IncomeSearchRequest searchRequest = IncomeSearchRequest.withDefaults(page, size, categoryUuid, startDate, endDate);
+    IncomeSearchRequest searchRequest = IncomeSearchRequest.withDefaults(page, size, categoryUuid, startDate, endDate,
+                                                                         cursor, includeTotal);
+
+    if (searchRequest.isCursorMode()) {
+      return ResponseEntity.ok(ApiSuccessResponse.of(
+          incomeService.getFamilyIncomesByCursor(loginUser.userUuid(), familyUuid, searchRequest)));
+    }
 
     Page<IncomeResponse> incomesPage = incomeService.getFamilyIncomes(loginUser.userUuid(), familyUuid, searchRequest);
 
@@ -4,6 +4,7 @@ import com.bifos.accountbook.invitation.application.dto.CreateInvitationRequest;
 import com.bifos.accountbook.invitation.application.dto.InvitationResponse;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.family.application.event.FamilyMembershipChangedEvent;
 import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.family.domain.entity.FamilyMember;
 import com.bifos.accountbook.invitation.domain.entity.Invitation;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ public class InvitationService {
   private final FamilyMemberRepository familyMemberRepository;
   private final UserService userService;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   private static final String TOKEN_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
   private static final int TOKEN_LENGTH = 32;
@@ -141,6 +144,9 @@ public class InvitationService {
 
     familyMemberRepository.save(member);
     invitation.accept();
+
+    // 구성원 자격 캐시 무효화 (커밋 후)
+    eventPublisher.publishEvent(FamilyMembershipChangedEvent.member(invitation.getFamilyUuid(), user.getUuid()));
   }
 
   /**
@@ -40,13 +40,13 @@ public class Invitation {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
-  @Column(name = "family_uuid", nullable = false, length = 36)
+  @Column(name = "family_uuid", nullable = false)
   private CustomUuid familyUuid;
 
-  @Column(name = "inviter_user_uuid", nullable = false, length = 36)
+  @Column(name = "inviter_user_uuid", nullable = false)
   private CustomUuid inviterUserUuid;
 
   @Column(nullable = false, unique = true, length = 255)
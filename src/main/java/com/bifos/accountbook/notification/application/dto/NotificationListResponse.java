@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * 알림 목록 응답 DTO
+ * 알림 목록은 키셋 커서 페이지 단위이며, unreadCount는 페이지와 무관한 전체 읽지 않은 알림 수입니다.
  */
 @Getter
 @Builder
@@ -17,15 +18,32 @@ public class NotificationListResponse {
 
   private List<NotificationResponse> notifications;
   private Long unreadCount;
+
+  /**
+   * 이번 페이지의 알림 수
+   */
   private Integer totalCount;
 
+  /**
+   * 다음 페이지 존재 여부
+   */
+  private Boolean hasNext;
+
+  /**
+   * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+   */
+  private String nextCursor;
+
   public static NotificationListResponse of(
       List<NotificationResponse> notifications,
-      Long unreadCount) {
+      Long unreadCount,
+      String nextCursor) {
     return NotificationListResponse.builder()
                                    .notifications(notifications)
                                    .unreadCount(unreadCount)
                                    .totalCount(notifications.size())
+                                   .hasNext(nextCursor != null)
+                                   .nextCursor(nextCursor)
                                    .build();
   }
 }
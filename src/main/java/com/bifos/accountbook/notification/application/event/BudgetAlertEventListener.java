@@ -1,54 +1,107 @@
 package com.bifos.accountbook.notification.application.event;
 
+import com.bifos.accountbook.category.application.event.CategoryChangedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseBulkCreatedEvent;
 import com.bifos.accountbook.expense.application.event.ExpenseCreatedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseDeletedEvent;
 import com.bifos.accountbook.expense.application.event.ExpenseUpdatedEvent;
-import com.bifos.accountbook.notification.application.service.BudgetAlertService;
+import com.bifos.accountbook.family.application.event.FamilyBudgetChangedEvent;
+import com.bifos.accountbook.notification.application.service.BudgetAlertQueue;
+import com.bifos.accountbook.notification.application.service.BudgetTotalsTracker;
+import com.bifos.accountbook.recurring.application.event.RecurringExpenseCreatedEvent;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 예산 알림 이벤트 리스너
- * 지출 생성/수정 이벤트를 구독하여 예산 알림 체크를 트리거합니다.
+ * 지출/카테고리/예산 변경 이벤트를 구독하여 예산 알림 체크를 트리거합니다.
  * <p>
  * TransactionalEventListener를 사용하여 트랜잭션 커밋 후에 이벤트를 처리합니다.
- * 이를 통해 데이터 일관성을 보장하고 테스트에서도 예측 가능한 동작을 제공합니다.
+ * 이벤트의 예산 반영 금액 증감을 BudgetTotalsTracker에 반영하고(O(1), DB 조회 없음),
+ * 임계값을 새로 넘었거나 합계가 없을 때만 BudgetAlertQueue에 평가를 예약합니다.
+ * 평가는 큐에서 비동기로 실행되므로 지출 요청 응답 시간은 예산 평가 비용과 무관합니다.
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BudgetAlertEventListener {
 
-  private final BudgetAlertService budgetAlertService;
+  private final BudgetTotalsTracker budgetTotalsTracker;
+  private final BudgetAlertQueue budgetAlertQueue;
 
   /**
    * 지출 생성 이벤트 처리
-   * 트랜잭션 커밋 후에 예산 상태를 체크합니다.
    */
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleExpenseCreated(ExpenseCreatedEvent event) {
-    try {
-      budgetAlertService.checkAndCreateBudgetAlert(event.familyUuid(), event.date());
-    } catch (Exception e) {
-      log.error("Failed to check budget alert for expense created event", e);
-      // 예외를 삼킴 - 알림 생성 실패가 지출 생성을 방해하지 않도록
-    }
+    apply(event.familyUuid(), YearMonth.from(event.date()), event.budgetAmount());
   }
 
   /**
    * 지출 수정 이벤트 처리
-   * 트랜잭션 커밋 후에 예산 상태를 재체크합니다.
+   * 월이 바뀐 경우 이전 월에서 차감하고 새 월에 가산합니다.
    */
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleExpenseUpdated(ExpenseUpdatedEvent event) {
-    try {
-      budgetAlertService.checkAndCreateBudgetAlert(event.familyUuid(), event.date());
-    } catch (Exception e) {
-      log.error("Failed to check budget alert for expense updated event", e);
-      // 예외를 삼킴 - 알림 생성 실패가 지출 수정을 방해하지 않도록
+    YearMonth month = YearMonth.from(event.date());
+    YearMonth oldMonth = YearMonth.from(event.oldDate());
+    if (month.equals(oldMonth)) {
+      apply(event.familyUuid(), month, event.newBudgetAmount().subtract(event.oldBudgetAmount()));
+      return;
     }
+    apply(event.familyUuid(), oldMonth, event.oldBudgetAmount().negate());
+    apply(event.familyUuid(), month, event.newBudgetAmount());
+  }
+
+  /**
+   * 지출 삭제 이벤트 처리 (차감만 하므로 평가는 예약되지 않음)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleExpenseDeleted(ExpenseDeletedEvent event) {
+    apply(event.familyUuid(), YearMonth.from(event.date()), event.budgetAmount().negate());
   }
-}
 
+  /**
+   * 지출 일괄 생성 이벤트 처리 (영향받은 월마다 한 번)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleExpenseBulkCreated(ExpenseBulkCreatedEvent event) {
+    apply(event.familyUuid(), event.yearMonth(), event.budgetAmount());
+  }
+
+  /**
+   * 카테고리 예산 제외 플래그 변경·삭제는 증감으로 표현할 수 없으므로 가족 합계를 폐기하고 재평가
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleCategoryChanged(CategoryChangedEvent event) {
+    budgetTotalsTracker.invalidateFamily(event.familyUuid())
+                       .forEach(yearMonth -> budgetAlertQueue.submit(event.familyUuid(), yearMonth));
+  }
+
+  /**
+   * 월 예산 변경: 새 예산 기준으로 임계값을 넘은 월만 평가
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleFamilyBudgetChanged(FamilyBudgetChangedEvent event) {
+    budgetTotalsTracker.updateBudget(event.familyUuid(), event.monthlyBudget())
+                       .forEach(yearMonth -> budgetAlertQueue.submit(event.familyUuid(), yearMonth));
+  }
+
+  /**
+   * 반복 지출 자동 생성은 금액·날짜 정보가 없으므로 합계만 폐기 (다음 지출 이벤트에서 DB로 다시 채움)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleRecurringExpenseCreated(RecurringExpenseCreatedEvent event) {
+    budgetTotalsTracker.invalidateFamily(CustomUuid.from(event.familyUuid()));
+  }
+
+  private void apply(CustomUuid familyUuid, YearMonth yearMonth, BigDecimal delta) {
+    if (budgetTotalsTracker.applyDelta(familyUuid, yearMonth, delta)) {
+      budgetAlertQueue.submit(familyUuid, yearMonth);
+    }
+  }
+}
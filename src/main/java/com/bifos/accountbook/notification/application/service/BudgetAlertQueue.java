@@ -0,0 +1,340 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예산 알림 평가 큐 (가족·월 단위 병합)
+ *
+ * 지출 생성/수정 요청이 예산 평가(월 합계 조회 + 알림 생성) 비용을 기다리지 않도록,
+ * 커밋 후 리스너는 submit()으로 평가를 예약만 하고 즉시 반환합니다.
+ * - 같은 (가족, 월)에 대해 평가 대기 중인 요청이 있으면 새 요청은 합쳐짐 (평가는 최신 커밋 데이터를 다시 읽으므로 한 번이면 충분)
+ * - 평가 중에 들어온 요청은 현재 평가가 끝난 뒤 한 번 더 평가 (같은 키는 동시에 평가하지 않음)
+ * - 평가는 가상 스레드에서 실행하고, 동시 평가 수는 budget-alert.max-concurrency로 제한 (DB 커넥션 보호)
+ *
+ * 메트릭:
+ * - budget.alert.queue.depth: 평가 대기 중인 (가족, 월) 수
+ * - budget.alert.lag: 첫 요청부터 평가 시작까지 걸린 시간
+ * - budget.alert.evaluation: 평가 소요 시간
+ * - budget.alert.requests: 요청 수 (result=scheduled|coalesced)
+ *
+ * 평가 요청은 BudgetAlertEventListener가 BudgetTotalsTracker로 임계값 통과를 감지했을 때와
+ * 주기적 재조정(reconcile)에서 DB 합계로 바로잡은 결과 임계값 단계가 올라갔을 때만 들어옵니다.
+ *
+ * 큐는 노드 메모리에만 있으므로 종료 시점에 대기 중인 평가는 유실될 수 있습니다.
+ * 알림은 다음 지출 이벤트에서 다시 평가되므로 허용합니다.
+ */
+@Slf4j
+@Component
+public class BudgetAlertQueue implements DisposableBean {
+
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+  private static final String RECIPIENT_UNIQUE_KEY = "uq_notifications_family_user_type_month";
+
+  /**
+   * 재조정 한 번에 합산하는 가족 수 (IN 목록 크기와 트랜잭션 길이 제한)
+   */
+  private static final int RECONCILE_CHUNK_SIZE = 500;
+
+  private final BudgetAlertService budgetAlertService;
+  private final BudgetTotalsTracker budgetTotalsTracker;
+  private final Semaphore permits;
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("budget-alert-", 0).factory());
+
+  /**
+   * 평가 대기 또는 평가 중인 (가족, 월) → 상태. 상태 변경은 compute 안에서만 수행
+   */
+  private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  /**
+   * 실행 중인 평가 작업 수 (awaitIdle 용)
+   */
+  private final AtomicInteger activeTasks = new AtomicInteger();
+
+  private final Counter scheduled;
+  private final Counter coalesced;
+  private final Timer lag;
+  private final Timer evaluation;
+
+  public BudgetAlertQueue(BudgetAlertService budgetAlertService,
+                          BudgetTotalsTracker budgetTotalsTracker,
+                          MeterRegistry meterRegistry,
+                          @Value("${budget-alert.max-concurrency:4}") int maxConcurrency) {
+    this.budgetAlertService = budgetAlertService;
+    this.budgetTotalsTracker = budgetTotalsTracker;
+    this.permits = new Semaphore(maxConcurrency);
+    Gauge.builder("budget.alert.queue.depth", queueDepth, AtomicInteger::get)
+         .description("Budget alert evaluations waiting to run")
+         .register(meterRegistry);
+    this.scheduled = Counter.builder("budget.alert.requests")
+                            .description("Budget alert evaluation requests")
+                            .tag("result", "scheduled")
+                            .register(meterRegistry);
+    this.coalesced = Counter.builder("budget.alert.requests")
+                            .description("Budget alert evaluation requests")
+                            .tag("result", "coalesced")
+                            .register(meterRegistry);
+    this.lag = Timer.builder("budget.alert.lag")
+                    .description("Time from first request to evaluation start")
+                    .register(meterRegistry);
+    this.evaluation = Timer.builder("budget.alert.evaluation")
+                           .description("Budget alert evaluation time")
+                           .register(meterRegistry);
+  }
+
+  /**
+   * 예산 평가 예약 (호출 스레드를 막지 않음)
+   *
+   * @param familyUuid 가족 UUID
+   * @param yearMonth  평가할 월
+   */
+  public void submit(CustomUuid familyUuid, YearMonth yearMonth) {
+    Key key = new Key(familyUuid, yearMonth);
+    boolean[] startTask = {false};
+    slots.compute(key, (k, slot) -> {
+      if (slot == null) {
+        startTask[0] = true;
+        queueDepth.incrementAndGet();
+        scheduled.increment();
+        return new Slot(System.nanoTime());
+      }
+      if (slot.pending) {
+        coalesced.increment();
+      } else {
+        // 평가 중: 끝난 뒤 같은 작업에서 한 번 더 평가
+        slot.pending = true;
+        slot.enqueuedAt = System.nanoTime();
+        queueDepth.incrementAndGet();
+        scheduled.increment();
+      }
+      return slot;
+    });
+
+    if (startTask[0]) {
+      activeTasks.incrementAndGet();
+      try {
+        executor.execute(() -> drain(key));
+      } catch (RejectedExecutionException e) {
+        // 종료 중에는 평가를 건너뜀
+        discard(key);
+        activeTasks.decrementAndGet();
+        log.warn("Budget alert queue is shut down - skipped familyUuid={}, yearMonth={}", familyUuid, yearMonth);
+      }
+    }
+  }
+
+  /**
+   * 메모리 합계(BudgetTotalsTracker)를 DB와 주기적으로 재조정
+   * 이번 달과 지난 달 합계만 유지하고, 남은 (가족, 월)의 합계를 가족 묶음 단위 GROUP BY 합산으로 덮어씁니다.
+   * 다른 노드의 쓰기나 이벤트 없는 쓰기로 어긋난 합계가 여기서 바로잡히고,
+   * 그 결과 임계값 단계가 올라간 (가족, 월)만 평가(알림 생성)를 예약합니다.
+   */
+  @Scheduled(fixedDelayString = "${budget-alert.reconcile-interval:300000}",
+      initialDelayString = "${budget-alert.reconcile-interval:300000}")
+  public void reconcile() {
+    budgetTotalsTracker.pruneBefore(YearMonth.now().minusMonths(1));
+    Map<CustomUuid, List<YearMonth>> tracked = budgetTotalsTracker.trackedMonths();
+
+    int raisedCount = 0;
+    Map<CustomUuid, List<YearMonth>> chunk = new HashMap<>();
+    for (Map.Entry<CustomUuid, List<YearMonth>> entry : tracked.entrySet()) {
+      chunk.put(entry.getKey(), entry.getValue());
+      if (chunk.size() == RECONCILE_CHUNK_SIZE) {
+        raisedCount += reconcileChunk(chunk);
+        chunk = new HashMap<>();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      raisedCount += reconcileChunk(chunk);
+    }
+    log.debug("Budget totals reconciled - families: {}, raised: {}", tracked.size(), raisedCount);
+  }
+
+  /**
+   * 가족 묶음 하나를 재조정하고 임계값 단계가 올라간 (가족, 월) 평가 예약
+   *
+   * @return 평가를 예약한 (가족, 월) 수
+   */
+  private int reconcileChunk(Map<CustomUuid, List<YearMonth>> chunk) {
+    try {
+      Map<CustomUuid, List<YearMonth>> raised = budgetAlertService.reconcileTotals(chunk);
+      raised.forEach((familyUuid, months) -> months.forEach(yearMonth -> submit(familyUuid, yearMonth)));
+      return raised.values().stream().mapToInt(List::size).sum();
+    } catch (Exception e) {
+      // 다음 재조정에서 다시 시도
+      log.error("Failed to reconcile budget totals - families: {}", chunk.size(), e);
+      return 0;
+    }
+  }
+
+  /**
+   * 대기 중인 평가가 모두 끝날 때까지 대기 (테스트 및 종료 처리용)
+   *
+   * @return 제한 시간 안에 모두 끝나면 true
+   */
+  public boolean awaitIdle(Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    synchronized (activeTasks) {
+      while (activeTasks.get() > 0) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        activeTasks.wait(remainingMillis);
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("Budget alert queue did not drain within {} - pending evaluations: {}", SHUTDOWN_TIMEOUT, slots.size());
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 키의 대기 요청이 없어질 때까지 평가 반복
+   */
+  private void drain(Key key) {
+    try {
+      permits.acquire();
+      try {
+        do {
+          evaluate(key, begin(key));
+        } while (!finish(key));
+      } finally {
+        permits.release();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      discard(key);
+      log.warn("Budget alert evaluation interrupted: familyUuid={}, yearMonth={}", key.familyUuid(), key.yearMonth());
+    } finally {
+      if (activeTasks.decrementAndGet() == 0) {
+        synchronized (activeTasks) {
+          activeTasks.notifyAll();
+        }
+      }
+    }
+  }
+
+  private void evaluate(Key key, long enqueuedAt) {
+    lag.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+    long startedAt = System.nanoTime();
+    try {
+      budgetAlertService.checkAndCreateBudgetAlert(key.familyUuid(), key.yearMonth().atDay(1).atStartOfDay());
+    } catch (DataIntegrityViolationException e) {
+      if (isRecipientConflict(e) && markRetried(key)) {
+        // 다른 노드가 같은 알림을 먼저 저장함 (UNIQUE 제약 위반으로 롤백) → 남은 구성원만 저장하도록 한 번 더 평가
+        log.info("Budget alert created concurrently, re-evaluating: familyUuid={}, yearMonth={}",
+                 key.familyUuid(), key.yearMonth());
+        submit(key.familyUuid(), key.yearMonth());
+      } else {
+        log.error("Failed to check budget alert: familyUuid={}, yearMonth={}", key.familyUuid(), key.yearMonth(), e);
+      }
+    } catch (Exception e) {
+      // 알림 생성 실패는 다음 지출 이벤트에서 다시 평가됨
+      log.error("Failed to check budget alert: familyUuid={}, yearMonth={}", key.familyUuid(), key.yearMonth(), e);
+    } finally {
+      evaluation.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * 알림 수신자 UNIQUE 제약(uq_notifications_family_user_type_month) 위반인지
+   */
+  private static boolean isRecipientConflict(DataIntegrityViolationException e) {
+    return e.getMessage() != null && e.getMessage().toLowerCase(Locale.ROOT).contains(RECIPIENT_UNIQUE_KEY);
+  }
+
+  /**
+   * 이번 drain에서 아직 재평가하지 않았으면 재평가 표시 후 true (같은 키를 평가하는 동안 한 번만 재평가)
+   */
+  private boolean markRetried(Key key) {
+    boolean[] first = {false};
+    slots.computeIfPresent(key, (k, slot) -> {
+      first[0] = !slot.retried;
+      slot.retried = true;
+      return slot;
+    });
+    return first[0];
+  }
+
+  /**
+   * 평가 시작: 대기 표시를 지우고 첫 요청 시각 반환 (이후 요청은 재평가로 예약됨)
+   */
+  private long begin(Key key) {
+    long[] enqueuedAt = {System.nanoTime()};
+    slots.computeIfPresent(key, (k, slot) -> {
+      slot.pending = false;
+      enqueuedAt[0] = slot.enqueuedAt;
+      queueDepth.decrementAndGet();
+      return slot;
+    });
+    return enqueuedAt[0];
+  }
+
+  /**
+   * 평가 종료: 평가 중 새 요청이 없었으면 키를 제거하고 true
+   */
+  private boolean finish(Key key) {
+    return slots.computeIfPresent(key, (k, slot) -> slot.pending ? slot : null) == null;
+  }
+
+  private void discard(Key key) {
+    slots.computeIfPresent(key, (k, slot) -> {
+      if (slot.pending) {
+        queueDepth.decrementAndGet();
+      }
+      return null;
+    });
+  }
+
+  /**
+   * 병합 단위 (가족, 월)
+   */
+  record Key(CustomUuid familyUuid, YearMonth yearMonth) {
+  }
+
+  /**
+   * 키별 상태 (slots.compute 안에서만 읽고 씀)
+   */
+  private static final class Slot {
+
+    private boolean pending = true;
+    private boolean retried;
+    private long enqueuedAt;
+
+    private Slot(long enqueuedAt) {
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+}
@@ -7,13 +7,21 @@ import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.notification.domain.value.BudgetUsage;
 import com.bifos.accountbook.notification.domain.value.NotificationType;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,35 +40,41 @@ public class BudgetAlertService {
   private final FamilyRepository familyRepository;
   private final ExpenseRepository expenseRepository;
   private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
   private final FamilyMemberRepository familyMemberRepository;
+  private final BudgetTotalsTracker budgetTotalsTracker;
 
   /**
    * 예산 알림 체크 및 생성
-   * 지출이 생성/수정될 때 호출되어 예산 상태를 체크하고 필요시 알림을 생성합니다.
+   * BudgetAlertQueue에서 호출되어 예산 상태를 DB 기준으로 체크하고 필요시 알림을 생성합니다.
+   * 합산 결과는 BudgetTotalsTracker에 반영해 이후 이벤트는 증감만으로 임계값 통과를 감지합니다.
    * <p>
-   * REQUIRES_NEW: TransactionalEventListener에서 호출되므로 새로운 트랜잭션 필요
+   * REQUIRES_NEW: 호출 스레드의 트랜잭션과 무관하게 평가마다 새 트랜잭션 사용
    *
    * @param familyUuid 가족 UUID
    * @param date       지출 날짜
    */
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void checkAndCreateBudgetAlert(CustomUuid familyUuid, LocalDateTime date) {
+    YearMonth targetMonth = YearMonth.from(date);
+
     // 1. 가족 조회
     Family family = familyRepository.findActiveByUuid(familyUuid).orElse(null);
     if (family == null) {
       log.debug("Family not found or inactive: {}", familyUuid);
+      budgetTotalsTracker.invalidateFamily(familyUuid);
       return;
     }
 
-    // 2. 예산 미설정 시 알림 불필요
+    // 2. 예산 미설정 시 알림 불필요 (합산 없이 미설정 상태만 기록)
     if (family.getMonthlyBudget() == null ||
         family.getMonthlyBudget().compareTo(BigDecimal.ZERO) == 0) {
       log.debug("Monthly budget not set for family: {}", familyUuid);
+      budgetTotalsTracker.seed(familyUuid, targetMonth, family.getMonthlyBudget(), BigDecimal.ZERO);
       return;
     }
 
     // 3. 해당 월의 지출 합계 계산
-    YearMonth targetMonth = YearMonth.from(date);
     LocalDateTime startOfMonth = targetMonth.atDay(1).atStartOfDay();
     LocalDateTime endOfMonth = targetMonth.atEndOfMonth().atTime(23, 59, 59);
 
@@ -73,15 +87,17 @@ public class BudgetAlertService {
     if (totalExpense == null) {
       totalExpense = BigDecimal.ZERO;
     }
+    budgetTotalsTracker.seed(familyUuid, targetMonth, family.getMonthlyBudget(), totalExpense);
 
     // 4. 예산 대비 사용률 계산
-    BigDecimal percentage = calculatePercentage(totalExpense, family.getMonthlyBudget());
+    BudgetUsage usage = new BudgetUsage(totalExpense, family.getMonthlyBudget());
+    BigDecimal percentage = usage.percentage();
 
     log.info("Budget check - Family: {}, Month: {}, Expense: {}, Budget: {}, Percentage: {}%",
              familyUuid, targetMonth, totalExpense, family.getMonthlyBudget(), percentage);
 
     // 5. 알림 타입 결정
-    NotificationType alertType = determineAlertType(percentage);
+    NotificationType alertType = usage.alertType();
 
     if (alertType == null) {
       log.debug("No alert needed - Percentage: {}%", percentage);
@@ -93,36 +109,57 @@ public class BudgetAlertService {
   }
 
   /**
-   * 예산 대비 사용률 계산
-   */
-  private BigDecimal calculatePercentage(BigDecimal totalExpense, BigDecimal budget) {
-    if (budget.compareTo(BigDecimal.ZERO) == 0) {
-      return BigDecimal.ZERO;
-    }
-
-    return totalExpense
-        .divide(budget, 4, RoundingMode.HALF_UP)
-        .multiply(BigDecimal.valueOf(100))
-        .setScale(2, RoundingMode.HALF_UP);
-  }
-
-  /**
-   * 예산 사용률에 따른 알림 타입 결정
+   * 메모리 합계(BudgetTotalsTracker)를 DB 합계로 재조정 (알림은 생성하지 않음)
+   * 가족 조회 1회 + 월별 가족 GROUP BY 합산 1회로 처리하므로 가족 수만큼 평가를 돌리지 않습니다.
+   * 비활성 가족의 합계는 폐기합니다.
+   *
+   * @param tracked 재조정할 가족별 월 목록
+   * @return 재조정으로 임계값 단계가 올라간 가족별 월 목록 (평가 대상)
    */
-  private NotificationType determineAlertType(BigDecimal percentage) {
-    if (percentage.compareTo(BigDecimal.valueOf(100)) > 0) {
-      return NotificationType.BUDGET_100_EXCEEDED;
-    } else if (percentage.compareTo(BigDecimal.valueOf(80)) > 0) {
-      return NotificationType.BUDGET_80_EXCEEDED;
-    } else if (percentage.compareTo(BigDecimal.valueOf(50)) > 0) {
-      return NotificationType.BUDGET_50_EXCEEDED;
-    }
-    return null; // 알림 불필요
+  @Transactional(readOnly = true)
+  public Map<CustomUuid, List<YearMonth>> reconcileTotals(Map<CustomUuid, List<YearMonth>> tracked) {
+    Map<CustomUuid, Family> families = familyRepository.findAllActiveByUuids(tracked.keySet())
+        .stream()
+        .collect(Collectors.toMap(Family::getUuid, Function.identity()));
+
+    Map<YearMonth, List<CustomUuid>> familiesByMonth = new HashMap<>();
+    tracked.forEach((familyUuid, months) -> {
+      if (!families.containsKey(familyUuid)) {
+        budgetTotalsTracker.invalidateFamily(familyUuid);
+        return;
+      }
+      months.forEach(yearMonth -> familiesByMonth.computeIfAbsent(yearMonth, key -> new ArrayList<>()).add(familyUuid));
+    });
+
+    Map<CustomUuid, List<YearMonth>> raised = new HashMap<>();
+    familiesByMonth.forEach((yearMonth, familyUuids) -> {
+      Map<CustomUuid, BigDecimal> totals = expenseRepository.sumAmountByFamilyUuidsAndDateBetween(
+          familyUuids,
+          yearMonth.atDay(1).atStartOfDay(),
+          yearMonth.atEndOfMonth().atTime(23, 59, 59));
+
+      for (CustomUuid familyUuid : familyUuids) {
+        BigDecimal budget = families.get(familyUuid).getMonthlyBudget();
+        // 예산 미설정이면 seed와 같이 합계를 0으로 유지
+        BigDecimal totalExpense = new BudgetUsage(BigDecimal.ZERO, budget).budgetSet()
+            ? totals.getOrDefault(familyUuid, BigDecimal.ZERO)
+            : BigDecimal.ZERO;
+        if (budgetTotalsTracker.reseed(familyUuid, yearMonth, budget, totalExpense)) {
+          raised.computeIfAbsent(familyUuid, key -> new ArrayList<>()).add(yearMonth);
+        }
+      }
+    });
+    return raised;
   }
 
   /**
    * 중복되지 않은 경우에만 알림 생성
-   * 가족의 모든 활성 구성원에게 각각 알림을 생성합니다.
+   * 가족의 모든 활성 구성원 중 아직 알림을 받지 않은 구성원에게 알림을 생성합니다.
+   * <p>
+   * 이미 받은 구성원은 (가족, 타입, 연월) 한 번의 조회로 구하고, 남은 구성원의 알림은 한 번의 배치 INSERT로 저장하므로
+   * 비용은 구성원 수에만 비례하고 알림 이력 크기와 무관합니다.
+   * 다른 노드가 같은 알림을 먼저 저장한 경우 (가족, 수신자, 타입, 연월) UNIQUE 제약 위반으로 트랜잭션이 롤백되고,
+   * BudgetAlertQueue가 한 번 더 평가해 남은 구성원에게만 생성합니다.
    */
   private void createAlertIfNotExists(
       Family family,
@@ -141,40 +178,41 @@ public class BudgetAlertService {
       return;
     }
 
-    // 각 구성원별로 중복 체크 및 알림 생성
-    for (FamilyMember member : members) {
-      // 중복 체크: 해당 사용자에게 같은 달에 같은 타입의 알림이 이미 있는지 확인
-      List<Notification> existingNotifications = notificationRepository
-          .findByFamilyAndType(family.getUuid(), alertType);
-
-      boolean userHasNotification = existingNotifications.stream()
-          .anyMatch(n -> n.getUserUuid() != null
-              && n.getUserUuid().equals(member.getUserUuid())
-              && n.getYearMonth().equals(yearMonth));
-
-      if (userHasNotification) {
-        log.debug("Alert already exists for user: {} - Family: {}, Type: {}, Month: {}",
-                  member.getUserUuid(), family.getUuid(), alertType, yearMonth);
-        continue;
-      }
-
-      // 각 구성원별로 알림 생성
-      Notification notification = Notification.builder()
-                                              .familyUuid(family.getUuid())
-                                              .userUuid(member.getUserUuid()) // 각 구성원별 알림
-                                              .type(alertType)
-                                              .title(generateTitle(alertType))
-                                              .message(generateMessage(family, alertType, percentage, totalExpense))
-                                              .referenceType("BUDGET")
-                                              .yearMonth(yearMonth)
-                                              .isRead(false)
-                                              .build();
-
-      notificationRepository.save(notification);
-
-      log.info("Budget alert created for user: {} - Family: {}, Type: {}, Percentage: {}%",
-               member.getUserUuid(), family.getUuid(), alertType, percentage);
+    // 중복 체크: 같은 달에 같은 타입의 알림을 이미 받은 구성원
+    Set<CustomUuid> notifiedUserUuids =
+        notificationRepository.findNotifiedUserUuids(family.getUuid(), alertType, yearMonth);
+
+    String title = generateTitle(alertType);
+    String message = generateMessage(family, alertType, percentage, totalExpense);
+    List<Notification> notifications = members.stream()
+                                              .map(FamilyMember::getUserUuid)
+                                              .distinct()
+                                              .filter(userUuid -> !notifiedUserUuids.contains(userUuid))
+                                              .map(userUuid -> Notification.builder()
+                                                                           .familyUuid(family.getUuid())
+                                                                           .userUuid(userUuid) // 각 구성원별 알림
+                                                                           .type(alertType)
+                                                                           .title(title)
+                                                                           .message(message)
+                                                                           .referenceType("BUDGET")
+                                                                           .yearMonth(yearMonth)
+                                                                           .isRead(false)
+                                                                           .build())
+                                              .toList();
+
+    if (notifications.isEmpty()) {
+      log.debug("Alert already exists for all members - Family: {}, Type: {}, Month: {}",
+                family.getUuid(), alertType, yearMonth);
+      return;
     }
+
+    // 일괄 저장 (JDBC 배치 INSERT) + 수신자별 읽지 않은 알림 수 증가 (같은 트랜잭션)
+    notificationRepository.saveAll(notifications);
+    notifications.forEach(notification -> notificationUnreadCounterRepository.applyDelta(
+        family.getUuid(), notification.getUserUuid(), 1));
+
+    log.info("Budget alert created for {} member(s) - Family: {}, Type: {}, Percentage: {}%",
+             notifications.size(), family.getUuid(), alertType, percentage);
   }
 
   /**
@@ -0,0 +1,214 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.notification.domain.value.BudgetUsage;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가족·월별 예산 대상 지출 합계 (메모리, 노드별)
+ *
+ * 지출 이벤트마다 월 전체를 다시 합산하지 않고, 이벤트의 예산 대상 금액 증감만 반영해 임계값(50/80/100%) 통과를 O(1)로 감지합니다.
+ * - 합계는 BudgetAlertService가 DB에서 합산할 때(최초 평가, 임계값 통과 확인) seed()로 채워지고, 주기적 재조정에서 reseed()로 덮어써짐
+ * - 이후 이벤트는 applyDelta()로 증감만 반영하고, 임계값 단계가 올라갈 때만 평가(DB 합산 + 알림 생성)를 요청
+ * - 합계가 없는 (가족, 월)에 금액이 더해지면 평가를 요청해 DB에서 채움
+ *
+ * 합계는 평가를 줄이기 위한 추정치입니다. 알림은 항상 DB 합산으로 확인한 뒤 생성하므로,
+ * 다른 노드의 쓰기나 이벤트 없는 쓰기(반복 지출 생성)로 합계가 어긋나도 잘못된 알림은 생기지 않고
+ * 통과 감지가 다음 재조정까지 늦어질 뿐입니다.
+ *
+ * 같은 가족의 갱신은 가족 UUID로 선택한 스트라이프 락으로 직렬화합니다 (가족 수와 무관하게 락 수 고정).
+ */
+@Component
+public class BudgetTotalsTracker {
+
+  private static final int STRIPES = 64;
+
+  private final Lock[] stripes = new Lock[STRIPES];
+  private final Map<CustomUuid, FamilyTotals> families = new ConcurrentHashMap<>();
+
+  public BudgetTotalsTracker() {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * DB에서 합산한 값으로 합계 설정
+   *
+   * @param budget       월 예산 (null 또는 0이면 예산 미설정 → 이후 증감은 평가를 요청하지 않음)
+   * @param totalExpense 예산 대상 지출 합계 (예산 미설정이면 합산하지 않으므로 0)
+   */
+  public void seed(CustomUuid familyUuid, YearMonth yearMonth, BigDecimal budget, BigDecimal totalExpense) {
+    Lock lock = lockFor(familyUuid);
+    lock.lock();
+    try {
+      FamilyTotals totals = families.computeIfAbsent(familyUuid, key -> new FamilyTotals());
+      totals.budget = budget;
+      totals.monthTotals.put(yearMonth, totalExpense);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 주기적 재조정: 합계가 있는 (가족, 월)만 DB에서 합산한 값으로 덮어씀
+   * 그 사이 폐기되거나 정리된 합계는 다시 채우지 않음 (폐기한 쪽이 평가를 요청함)
+   *
+   * @return 덮어쓴 결과 임계값 단계가 올라갔으면 true (평가 필요)
+   */
+  public boolean reseed(CustomUuid familyUuid, YearMonth yearMonth, BigDecimal budget, BigDecimal totalExpense) {
+    Lock lock = lockFor(familyUuid);
+    lock.lock();
+    try {
+      FamilyTotals totals = families.get(familyUuid);
+      BigDecimal before = totals != null ? totals.monthTotals.get(yearMonth) : null;
+      if (before == null) {
+        return false;
+      }
+      int levelBefore = new BudgetUsage(before, totals.budget).level();
+      totals.budget = budget;
+      totals.monthTotals.put(yearMonth, totalExpense);
+      return new BudgetUsage(totalExpense, budget).level() > levelBefore;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 예산 대상 금액 증감 반영
+   *
+   * @param delta 예산 대상 금액 변화량 (감소는 음수)
+   * @return 평가가 필요하면 true (임계값 단계가 올라갔거나, 합계가 없는 월에 금액이 더해진 경우)
+   */
+  public boolean applyDelta(CustomUuid familyUuid, YearMonth yearMonth, BigDecimal delta) {
+    if (delta.signum() == 0) {
+      return false;
+    }
+    Lock lock = lockFor(familyUuid);
+    lock.lock();
+    try {
+      FamilyTotals totals = families.get(familyUuid);
+      BigDecimal before = totals != null ? totals.monthTotals.get(yearMonth) : null;
+      if (before == null) {
+        // 감소만으로는 임계값을 새로 넘을 수 없으므로 합계가 없으면 증가일 때만 DB에서 채움
+        return delta.signum() > 0;
+      }
+      BigDecimal after = before.add(delta);
+      totals.monthTotals.put(yearMonth, after);
+      return new BudgetUsage(after, totals.budget).level() > new BudgetUsage(before, totals.budget).level();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 월 예산 변경 반영
+   *
+   * @return 새 예산 기준으로 임계값 단계가 올라간 월 목록 (평가 대상)
+   */
+  public List<YearMonth> updateBudget(CustomUuid familyUuid, BigDecimal budget) {
+    Lock lock = lockFor(familyUuid);
+    lock.lock();
+    try {
+      FamilyTotals totals = families.get(familyUuid);
+      if (totals == null) {
+        return List.of();
+      }
+      if (!new BudgetUsage(BigDecimal.ZERO, totals.budget).budgetSet()) {
+        // 예산 미설정 상태에서는 합계를 채우지 않았으므로 폐기 후 DB에서 다시 평가
+        families.remove(familyUuid);
+        return List.copyOf(totals.monthTotals.keySet());
+      }
+      List<YearMonth> raised = new ArrayList<>();
+      totals.monthTotals.forEach((yearMonth, total) -> {
+        if (new BudgetUsage(total, budget).level() > new BudgetUsage(total, totals.budget).level()) {
+          raised.add(yearMonth);
+        }
+      });
+      totals.budget = budget;
+      return raised;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 가족의 합계 전체 폐기 (카테고리 예산 제외 변경처럼 증감으로 표현할 수 없는 변경)
+   *
+   * @return 폐기 전 합계가 있던 월 목록 (재평가 대상)
+   */
+  public List<YearMonth> invalidateFamily(CustomUuid familyUuid) {
+    Lock lock = lockFor(familyUuid);
+    lock.lock();
+    try {
+      FamilyTotals totals = families.remove(familyUuid);
+      return totals != null ? List.copyOf(totals.monthTotals.keySet()) : List.of();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 합계가 있는 (가족, 월) 목록 (주기적 재조정용)
+   */
+  public Map<CustomUuid, List<YearMonth>> trackedMonths() {
+    Map<CustomUuid, List<YearMonth>> tracked = new HashMap<>();
+    for (CustomUuid familyUuid : families.keySet()) {
+      Lock lock = lockFor(familyUuid);
+      lock.lock();
+      try {
+        FamilyTotals totals = families.get(familyUuid);
+        if (totals != null && !totals.monthTotals.isEmpty()) {
+          tracked.put(familyUuid, List.copyOf(totals.monthTotals.keySet()));
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return tracked;
+  }
+
+  /**
+   * 기준 월보다 이전 월의 합계 제거 (지난 달 지출 수정은 드물어 다시 필요하면 DB에서 채움)
+   */
+  public void pruneBefore(YearMonth oldest) {
+    for (CustomUuid familyUuid : families.keySet()) {
+      Lock lock = lockFor(familyUuid);
+      lock.lock();
+      try {
+        FamilyTotals totals = families.get(familyUuid);
+        if (totals == null) {
+          continue;
+        }
+        totals.monthTotals.keySet().removeIf(yearMonth -> yearMonth.isBefore(oldest));
+        if (totals.monthTotals.isEmpty()) {
+          families.remove(familyUuid);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private Lock lockFor(CustomUuid familyUuid) {
+    return stripes[Math.floorMod(familyUuid.hashCode(), STRIPES)];
+  }
+
+  /**
+   * 가족별 상태 (가족 스트라이프 락 안에서만 읽고 씀)
+   */
+  private static final class FamilyTotals {
+
+    private BigDecimal budget;
+    private final Map<YearMonth, BigDecimal> monthTotals = new HashMap<>();
+  }
+}
@@ -0,0 +1,185 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.config.NotificationRetentionProperties;
+import com.bifos.accountbook.notification.domain.entity.Notification;
+import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
+import com.bifos.accountbook.notification.domain.value.NotificationType;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 보관 기간 정리 작업
+ * - 예산/반복 지출 알림 × 읽음/읽지 않음 4개 정책별로 보관 기간이 지난 알림을 삭제
+ * - 한 번의 DELETE로 넓은 범위를 잠그지 않도록 타입별 (created_at, id) 키셋 청크(chunk-size) 단위로 트랜잭션을 나누고, 청크 사이에 pause만큼 대기
+ * - 청크마다 대상 행만 PK로 다시 잠그므로 업무 시간에 실행해도 알림 조회/읽음 처리를 오래 막지 않음
+ * - 읽지 않은 알림을 지우면 같은 트랜잭션에서 읽지 않은 알림 카운터를 차감
+ * - 진행 상황은 notification.retention.deleted(policy별)와 notification.retention.chunk 메트릭으로 공개
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationRetentionJob {
+
+  private static final Set<NotificationType> BUDGET_TYPES = Set.of(
+      NotificationType.BUDGET_50_EXCEEDED,
+      NotificationType.BUDGET_80_EXCEEDED,
+      NotificationType.BUDGET_100_EXCEEDED);
+  private static final Set<NotificationType> RECURRING_TYPES = Set.of(NotificationType.RECURRING_EXPENSE_CREATED);
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+  private final NotificationRetentionProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+  private final MeterRegistry meterRegistry;
+  private final Timer chunkTimer;
+
+  public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                  NotificationUnreadCounterRepository notificationUnreadCounterRepository,
+                                  NotificationRetentionProperties properties,
+                                  PlatformTransactionManager transactionManager,
+                                  Clock clock,
+                                  MeterRegistry meterRegistry) {
+    this.notificationRepository = notificationRepository;
+    this.notificationUnreadCounterRepository = notificationUnreadCounterRepository;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.clock = clock;
+    this.meterRegistry = meterRegistry;
+    this.chunkTimer = Timer.builder("notification.retention.chunk")
+                           .description("알림 보관 정리 청크 1회(잠금 + 삭제 + 카운터 차감) 소요 시간")
+                           .register(meterRegistry);
+  }
+
+  @Scheduled(cron = "${notification.retention.cron:0 0 4 * * ?}")
+  public void purgeAll() {
+    LocalDateTime now = LocalDateTime.now(clock);
+    List<Policy> policies = List.of(
+        new Policy("budget-read", BUDGET_TYPES, true, properties.getBudgetRead()),
+        new Policy("budget-unread", BUDGET_TYPES, false, properties.getBudgetUnread()),
+        new Policy("recurring-read", RECURRING_TYPES, true, properties.getRecurringRead()),
+        new Policy("recurring-unread", RECURRING_TYPES, false, properties.getRecurringUnread()));
+
+    for (Policy policy : policies) {
+      try {
+        long deleted = purge(policy, now.minus(policy.retention()));
+        log.info("Notification retention completed: policy={}, deleted={}", policy.name(), deleted);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Notification retention interrupted: policy={}", policy.name());
+        return;
+      } catch (Exception e) {
+        log.error("Failed to purge notifications: policy={}", policy.name(), e);
+      }
+    }
+  }
+
+  /**
+   * 한 정책의 보관 기간 지난 알림을 청크 단위로 삭제
+   *
+   * @return 삭제된 알림 수
+   */
+  private long purge(Policy policy, LocalDateTime cutoff) throws InterruptedException {
+    Counter deletedCounter = Counter.builder("notification.retention.deleted")
+                                    .description("보관 기간이 지나 삭제된 알림 수")
+                                    .tag("policy", policy.name())
+                                    .register(meterRegistry);
+    long deleted = 0;
+    for (NotificationType type : policy.types()) {
+      deleted += purgeType(policy, type, cutoff, deletedCounter);
+    }
+    return deleted;
+  }
+
+  /**
+   * 한 타입을 (created_at, id) 키셋 순서로 청크 삭제
+   * 타입별로 나누어야 (is_read, type, created_at, id) 인덱스 순서와 정렬이 같아져 청크마다 인덱스 범위 한 번만 읽음
+   */
+  private long purgeType(Policy policy, NotificationType type, LocalDateTime cutoff, Counter deletedCounter)
+      throws InterruptedException {
+    int chunkSize = properties.getChunkSize();
+    long deleted = 0;
+    PageCursor last = null;
+
+    while (true) {
+      List<PageCursor> keys = notificationRepository.findRetentionKeys(type, policy.read(), cutoff, last, chunkSize);
+      if (keys.isEmpty()) {
+        return deleted;
+      }
+      last = keys.getLast();
+      List<Long> ids = keys.stream().map(PageCursor::id).toList();
+
+      long startedAt = System.nanoTime();
+      Integer chunkDeleted = transactionTemplate.execute(status -> deleteChunk(ids, policy, cutoff));
+      chunkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      int count = chunkDeleted != null ? chunkDeleted : 0;
+      deleted += count;
+      deletedCounter.increment(count);
+      log.debug("Notification retention chunk: policy={}, type={}, lastId={}, deleted={}",
+                policy.name(), type, last.id(), count);
+
+      if (keys.size() < chunkSize) {
+        return deleted;
+      }
+      pause();
+    }
+  }
+
+  /**
+   * 청크 삭제 (트랜잭션 1개)
+   * 조회 이후 읽음 처리된 알림은 잠금 조회에서 제외되어 다른 정책의 보관 기간을 따릅니다.
+   */
+  private int deleteChunk(List<Long> ids, Policy policy, LocalDateTime cutoff) {
+    List<Notification> notifications = notificationRepository.findAllForRetentionWithLock(ids, policy.read(), cutoff);
+    if (notifications.isEmpty()) {
+      return 0;
+    }
+
+    int deleted = notificationRepository.deleteAllByIds(notifications.stream().map(Notification::getId).toList());
+
+    if (!policy.read()) {
+      Map<Recipient, Long> unreadByRecipient = notifications.stream()
+          .filter(notification -> notification.getUserUuid() != null)
+          .collect(Collectors.groupingBy(
+              notification -> new Recipient(notification.getFamilyUuid(), notification.getUserUuid()),
+              Collectors.counting()));
+      unreadByRecipient.forEach((recipient, count) -> notificationUnreadCounterRepository.applyDelta(
+          recipient.familyUuid(), recipient.userUuid(), -count));
+    }
+    return deleted;
+  }
+
+  private void pause() throws InterruptedException {
+    Duration pause = properties.getPause();
+    if (!pause.isZero() && !pause.isNegative()) {
+      Thread.sleep(pause);
+    }
+  }
+
+  /**
+   * 보관 정책 (알림 타입 묶음 × 읽음 여부)
+   */
+  private record Policy(String name, Set<NotificationType> types, boolean read, Duration retention) {
+  }
+
+  private record Recipient(CustomUuid familyUuid, CustomUuid userUuid) {
+  }
+}
@@ -8,12 +8,13 @@ import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.notification.domain.entity.Notification;
 import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.shared.aop.FamilyUuid;
 import com.bifos.accountbook.shared.aop.UserUuid;
 import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,25 +30,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
   private final FamilyValidationService familyValidationService;
 
   /**
-   * 가족의 모든 알림 조회 (현재 사용자 기준)
+   * 가족의 알림 피드 조회 (현재 사용자 기준, 커서 페이지네이션)
    * 가족의 알림이지만 현재 사용자에게 전달된 알림만 조회합니다.
+   * <p>
+   * (createdAt, id) 키셋으로 다음 페이지를 탐색하므로 알림 이력 크기와 무관하게 size + 1건만 읽고,
+   * 읽지 않은 알림 수는 미리 집계된 카운터에서 키 조회로 가져옵니다.
    */
   @ValidateFamilyAccess
   public NotificationListResponse getFamilyNotifications(@UserUuid CustomUuid userUuid,
-                                                         @FamilyUuid CustomUuid familyUuid) {
-    // 현재 사용자의 알림 목록 조회 (가족 내에서)
-    List<Notification> notifications = notificationRepository.findByFamilyAndUser(familyUuid, userUuid);
-
-    long unreadCount = notifications.stream().filter(n -> !Boolean.TRUE.equals(n.getIsRead())).count();
+                                                         @FamilyUuid CustomUuid familyUuid,
+                                                         String cursor,
+                                                         int size) {
+    PageCursor.validateSize(size);
+    List<Notification> notifications =
+        notificationRepository.findFeed(familyUuid, userUuid, PageCursor.decode(cursor), size + 1);
+
+    boolean hasNext = notifications.size() > size;
+    List<Notification> content = hasNext ? notifications.subList(0, size) : notifications;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Notification last = content.get(content.size() - 1);
+      nextCursor = PageCursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
 
-    List<NotificationResponse> responses = notifications.stream()
-                                                        .map(NotificationResponse::from)
-                                                        .collect(Collectors.toList());
+    long unreadCount = notificationUnreadCounterRepository.findUnreadCount(familyUuid, userUuid);
 
-    return NotificationListResponse.of(responses, unreadCount);
+    return NotificationListResponse.of(content.stream().map(NotificationResponse::from).toList(),
+                                       unreadCount,
+                                       nextCursor);
   }
 
   /**
@@ -94,7 +109,11 @@ public class NotificationService {
           .addParameter("notificationUuid", notificationUuid);
     }
 
-    notification.markAsRead();
+    // 조건부 UPDATE로 실제로 읽음 처리된 경우에만 카운터 차감 (동시 요청에도 한 번만 차감)
+    if (notificationRepository.markAsReadIfUnread(notification.getId())) {
+      notificationUnreadCounterRepository.applyDelta(familyUuid, userUuid, -1);
+    }
+    notification.markAsRead(); // 응답용 (벌크 UPDATE 후 준영속 상태이므로 추가 UPDATE 없음)
 
     return NotificationResponse.from(notification);
   }
@@ -111,17 +130,13 @@ public class NotificationService {
 
   /**
    * 가족의 모든 알림 읽음 처리 (현재 사용자 기준)
-   * 현재 사용자의 모든 알림만 읽음 처리합니다.
+   * 현재 사용자의 모든 알림만 단일 UPDATE로 읽음 처리하고, 처리된 수만큼 카운터를 차감합니다.
    */
   @ValidateFamilyAccess
   @Transactional
   public void markAllAsRead(@UserUuid CustomUuid userUuid, @FamilyUuid CustomUuid familyUuid) {
-    List<Notification> notifications = notificationRepository
-        .findUnreadByFamilyAndUser(familyUuid, userUuid);
-
-    for (Notification notification : notifications) {
-      notification.markAsRead();
-    }
+    int updated = notificationRepository.markAllAsRead(familyUuid, userUuid);
+    notificationUnreadCounterRepository.applyDelta(familyUuid, userUuid, -updated);
   }
 
   /**
@@ -130,8 +145,8 @@ public class NotificationService {
    */
   @ValidateFamilyAccess
   public Long getUnreadCount(@UserUuid CustomUuid userUuid, @FamilyUuid CustomUuid familyUuid) {
-    // 가족 내에서 현재 사용자의 읽지 않은 알림 수만 조회 - DB COUNT 쿼리로 최적화
-    return notificationRepository.countUnreadByFamilyAndUser(familyUuid, userUuid);
+    // 배지 폴링 경로: COUNT 대신 미리 집계된 카운터 키 조회
+    return notificationUnreadCounterRepository.findUnreadCount(familyUuid, userUuid);
   }
 }
 
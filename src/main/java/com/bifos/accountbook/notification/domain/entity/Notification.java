@@ -11,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -26,12 +28,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * 예산 경고, 예산 초과 등 사용자에게 보낼 알림을 저장합니다.
  */
 @Entity
-@Table(name = "notifications", indexes = {
-    @Index(name = "idx_family_uuid", columnList = "family_uuid"),
-    @Index(name = "idx_family_type_month", columnList = "family_uuid,type,alert_month"),
-    @Index(name = "idx_family_user_created", columnList = "family_uuid,user_uuid,created_at"),
-    @Index(name = "idx_user_is_read", columnList = "user_uuid,is_read")
-})
+@Table(name = "notifications",
+    uniqueConstraints = @UniqueConstraint(name = "uq_notifications_family_user_type_month",
+        columnNames = {"family_uuid", "user_uuid", "type", "alert_month"}),
+    indexes = {
+        @Index(name = "idx_family_uuid", columnList = "family_uuid"),
+        @Index(name = "idx_family_type_month", columnList = "family_uuid,type,alert_month"),
+        @Index(name = "idx_family_user_created", columnList = "family_uuid,user_uuid,created_at"),
+        @Index(name = "idx_user_is_read", columnList = "user_uuid,is_read"),
+        @Index(name = "idx_notifications_retention", columnList = "is_read,type,created_at,id")
+    })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
@@ -39,17 +45,26 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class Notification {
 
+  /**
+   * PK: id_sequences 테이블 기반 pooled 생성기 (Expense와 동일, JDBC 배치 INSERT 지원)
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+  @TableGenerator(name = "notifications_id",
+      table = "id_sequences",
+      pkColumnName = "sequence_name",
+      valueColumnName = "next_val",
+      pkColumnValue = "notifications",
+      allocationSize = 50)
   private Long id;
 
-  @Column(name = "notification_uuid", nullable = false, unique = true, length = 36)
+  @Column(name = "notification_uuid", nullable = false, unique = true)
   private CustomUuid notificationUuid;
 
-  @Column(name = "family_uuid", nullable = false, length = 36)
+  @Column(name = "family_uuid", nullable = false)
   private CustomUuid familyUuid;
 
-  @Column(name = "user_uuid", length = 36)
+  @Column(name = "user_uuid")
   private CustomUuid userUuid;
 
   /**
@@ -65,7 +80,7 @@ public class Notification {
   @Column(nullable = false, columnDefinition = "TEXT")
   private String message;
 
-  @Column(name = "reference_uuid", length = 36)
+  @Column(name = "reference_uuid")
   private CustomUuid referenceUuid;
 
   @Column(name = "reference_type", length = 50)
@@ -73,7 +88,7 @@ public class Notification {
 
   /**
    * 알림 생성 연월 (YYYY-MM)
-   * 중복 알림 방지를 위해 사용
+   * 중복 알림 방지를 위해 사용 (가족·수신자·타입·연월 UNIQUE, 수신자가 NULL인 가족 전체 알림은 제외)
    */
   @Column(name = "alert_month", nullable = false, length = 7)
   private String yearMonth;
@@ -0,0 +1,49 @@
+package com.bifos.accountbook.notification.domain.entity;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (가족, 수신자)별 읽지 않은 알림 수 (알림 배지 read model)
+ * - 알림 생성 / 읽음 처리 / 전체 읽음 처리와 같은 트랜잭션에서 증분(delta)으로 갱신
+ * - 배지 폴링은 COUNT 쿼리 대신 (family_uuid, user_uuid) 키 조회 한 번으로 처리
+ *
+ * 외부에 노출되지 않는 집계 테이블이므로 uuid 컬럼을 두지 않습니다.
+ */
+@Entity
+@Table(name = "notification_unread_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_notification_unread_counter", columnNames = {"family_uuid", "user_uuid"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationUnreadCounter {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "family_uuid", nullable = false)
+  private CustomUuid familyUuid;
+
+  @Column(name = "user_uuid", nullable = false)
+  private CustomUuid userUuid;
+
+  @Column(name = "unread_count", nullable = false)
+  private long unreadCount;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
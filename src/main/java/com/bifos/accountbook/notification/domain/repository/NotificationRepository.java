@@ -2,9 +2,12 @@ package com.bifos.accountbook.notification.domain.repository;
 
 import com.bifos.accountbook.notification.domain.entity.Notification;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.notification.domain.value.NotificationType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 알림 Repository 인터페이스
@@ -16,6 +19,12 @@ public interface NotificationRepository {
    */
   Notification save(Notification notification);
 
+  /**
+   * 알림 일괄 저장
+   * 트랜잭션 커밋(flush) 시 hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT로 실행됩니다.
+   */
+  List<Notification> saveAll(List<Notification> notifications);
+
   /**
    * UUID로 알림 조회
    */
@@ -50,9 +59,12 @@ public interface NotificationRepository {
                                      String yearMonth);
 
   /**
-   * 가족의 특정 타입 알림 조회
+   * 특정 가족, 타입, 연월 알림을 이미 받은 사용자 UUID 목록
+   * 중복 알림 방지용 (결과 크기는 구성원 수 이하, 알림 이력 크기와 무관)
    */
-  List<Notification> findByFamilyAndType(CustomUuid familyUuid, NotificationType type);
+  Set<CustomUuid> findNotifiedUserUuids(CustomUuid familyUuid,
+                                        NotificationType type,
+                                        String yearMonth);
 
   /**
    * 가족 UUID와 사용자 UUID로 알림 조회 (최신순)
@@ -61,9 +73,27 @@ public interface NotificationRepository {
   List<Notification> findByFamilyAndUser(CustomUuid familyUuid, CustomUuid userUuid);
 
   /**
-   * 가족 내 특정 사용자의 읽지 않은 알림 조회
+   * 가족 내 특정 사용자의 알림 피드 (키셋 커서 페이지네이션, (createdAt, id) 내림차순)
+   * 커서 위치부터 limit건만 조회하므로 페이지 깊이·알림 이력 크기와 무관하게 일정한 비용으로 조회합니다.
+   *
+   * @param cursor 마지막으로 받은 알림 위치 (null이면 첫 페이지)
+   * @param limit  최대 조회 건수
+   */
+  List<Notification> findFeed(CustomUuid familyUuid, CustomUuid userUuid, PageCursor cursor, int limit);
+
+  /**
+   * 읽지 않은 알림만 읽음 처리 (조건부 UPDATE)
+   *
+   * @return 이번 호출로 읽음 처리되었으면 true (이미 읽은 알림이면 false)
+   */
+  boolean markAsReadIfUnread(Long notificationId);
+
+  /**
+   * 가족 내 특정 사용자의 읽지 않은 알림 전체 읽음 처리 (단일 UPDATE)
+   *
+   * @return 읽음 처리된 알림 수
    */
-  List<Notification> findUnreadByFamilyAndUser(CustomUuid familyUuid, CustomUuid userUuid);
+  int markAllAsRead(CustomUuid familyUuid, CustomUuid userUuid);
 
   /**
    * 가족 내 특정 사용자의 읽지 않은 알림 수
@@ -71,9 +101,28 @@ public interface NotificationRepository {
   long countUnreadByFamilyAndUser(CustomUuid familyUuid, CustomUuid userUuid);
 
   /**
-   * 오래된 알림 삭제 (예: 3개월 이상 지난 알림)
-   * Batch 작업용
+   * 보관 기간이 지난 알림의 (created_at, id) 키 조회 (보관 작업 청크 단위)
+   * 한 타입씩 (created_at, id) 오름차순 키셋으로 훑으므로 청크마다 idx_notifications_retention 범위 한 번만 읽습니다.
+   *
+   * @param after 이전 청크의 마지막 키 (처음이면 null)
+   * @param limit 청크 크기
    */
-  void deleteByCreatedAtBefore(java.time.LocalDateTime dateTime);
-}
+  List<PageCursor> findRetentionKeys(NotificationType type,
+                                     boolean read,
+                                     LocalDateTime createdBefore,
+                                     PageCursor after,
+                                     int limit);
+
+  /**
+   * 삭제 대상 알림을 PK로 다시 조회하면서 행 잠금 (조회 이후 읽음 처리된 알림은 제외)
+   * PK 조회만 잠그므로 잠금 범위는 청크 크기로 제한됩니다.
+   */
+  List<Notification> findAllForRetentionWithLock(List<Long> ids, boolean read, LocalDateTime createdBefore);
 
+  /**
+   * 알림 ID 목록 삭제
+   *
+   * @return 삭제된 알림 수
+   */
+  int deleteAllByIds(List<Long> ids);
+}
@@ -0,0 +1,24 @@
+package com.bifos.accountbook.notification.domain.repository;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+
+/**
+ * 읽지 않은 알림 수 Repository 인터페이스
+ * JPA에 의존하지 않는 순수 도메인 레이어 인터페이스
+ */
+public interface NotificationUnreadCounterRepository {
+
+  /**
+   * 가족 내 사용자의 읽지 않은 알림 수 (집계 행이 없으면 0)
+   */
+  long findUnreadCount(CustomUuid familyUuid, CustomUuid userUuid);
+
+  /**
+   * 읽지 않은 알림 수에 증분 반영 (없으면 생성)
+   * - 단일 UPSERT 문으로 실행되어 동시 갱신 시에도 증감이 유실되지 않음
+   * - 결과는 0 미만으로 내려가지 않음
+   *
+   * @param delta 증감분 (알림 생성 시 양수, 읽음 처리 시 음수)
+   */
+  void applyDelta(CustomUuid familyUuid, CustomUuid userUuid, long delta);
+}
@@ -0,0 +1,65 @@
+package com.bifos.accountbook.notification.domain.value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 월 예산 사용량 (지출 합계 / 월 예산)
+ * 알림 생성(BudgetAlertService)과 임계값 통과 감지(BudgetTotalsTracker)가 같은 기준을 쓰도록 판정 로직을 모읍니다.
+ *
+ * @param totalExpense 예산 대상 지출 합계
+ * @param budget       월 예산 (null 또는 0이면 예산 미설정)
+ */
+public record BudgetUsage(BigDecimal totalExpense, BigDecimal budget) {
+
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+  private static final BigDecimal EIGHTY = BigDecimal.valueOf(80);
+  private static final BigDecimal FIFTY = BigDecimal.valueOf(50);
+
+  public boolean budgetSet() {
+    return budget != null && budget.compareTo(BigDecimal.ZERO) != 0;
+  }
+
+  /**
+   * 예산 대비 사용률 (%, 소수점 2자리)
+   */
+  public BigDecimal percentage() {
+    if (!budgetSet()) {
+      return BigDecimal.ZERO;
+    }
+    return totalExpense.divide(budget, 4, RoundingMode.HALF_UP)
+                       .multiply(HUNDRED)
+                       .setScale(2, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * 사용률에 해당하는 알림 타입 (알림 불필요 시 null)
+   */
+  public NotificationType alertType() {
+    BigDecimal percentage = percentage();
+    if (percentage.compareTo(HUNDRED) > 0) {
+      return NotificationType.BUDGET_100_EXCEEDED;
+    } else if (percentage.compareTo(EIGHTY) > 0) {
+      return NotificationType.BUDGET_80_EXCEEDED;
+    } else if (percentage.compareTo(FIFTY) > 0) {
+      return NotificationType.BUDGET_50_EXCEEDED;
+    }
+    return null;
+  }
+
+  /**
+   * 통과한 임계값 단계 (0: 없음, 1: 50%, 2: 80%, 3: 100%)
+   */
+  public int level() {
+    NotificationType alertType = alertType();
+    if (alertType == null) {
+      return 0;
+    }
+    return switch (alertType) {
+      case BUDGET_50_EXCEEDED -> 1;
+      case BUDGET_80_EXCEEDED -> 2;
+      case BUDGET_100_EXCEEDED -> 3;
+      case RECURRING_EXPENSE_CREATED -> 0;
+    };
+  }
+}
@@ -1,31 +1,44 @@
 package com.bifos.accountbook.notification.infra.repository.impl;
 
 import com.bifos.accountbook.notification.domain.entity.Notification;
+import com.bifos.accountbook.notification.domain.entity.QNotification;
 import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.notification.domain.value.NotificationType;
 import com.bifos.accountbook.notification.infra.repository.jpa.NotificationJpaRepository;
+import com.bifos.accountbook.shared.value.PageCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 /**
  * NotificationRepository 구현체
  * JpaRepository를 내부적으로 사용하여 도메인 인터페이스 구현
+ * 피드 커서 조건은 QueryDSL로 동적 생성
  */
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepository {
 
   private final NotificationJpaRepository jpaRepository;
+  private final JPAQueryFactory queryFactory;
 
   @Override
   public Notification save(Notification notification) {
     return jpaRepository.save(notification);
   }
 
+  @Override
+  public List<Notification> saveAll(List<Notification> notifications) {
+    return jpaRepository.saveAll(notifications);
+  }
+
   @Override
   public Optional<Notification> findByNotificationUuid(CustomUuid notificationUuid) {
     return jpaRepository.findByNotificationUuid(notificationUuid);
@@ -60,8 +73,11 @@ public class NotificationRepositoryImpl implements NotificationRepository {
   }
 
   @Override
-  public List<Notification> findByFamilyAndType(CustomUuid familyUuid, NotificationType type) {
-    return jpaRepository.findAllByFamilyUuidAndType(familyUuid, type);
+  public Set<CustomUuid> findNotifiedUserUuids(
+      CustomUuid familyUuid,
+      NotificationType type,
+      String yearMonth) {
+    return new HashSet<>(jpaRepository.findUserUuidsByFamilyUuidAndTypeAndYearMonth(familyUuid, type, yearMonth));
   }
 
   @Override
@@ -70,8 +86,27 @@ public class NotificationRepositoryImpl implements NotificationRepository {
   }
 
   @Override
-  public List<Notification> findUnreadByFamilyAndUser(CustomUuid familyUuid, CustomUuid userUuid) {
-    return jpaRepository.findAllByFamilyUuidAndUserUuidAndIsReadFalse(familyUuid, userUuid);
+  public List<Notification> findFeed(CustomUuid familyUuid, CustomUuid userUuid, PageCursor cursor, int limit) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory
+        .selectFrom(notification)
+        .where(notification.familyUuid.eq(familyUuid),
+               notification.userUuid.eq(userUuid),
+               after(notification, cursor))
+        .orderBy(notification.createdAt.desc(), notification.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public boolean markAsReadIfUnread(Long notificationId) {
+    return jpaRepository.markAsReadIfUnread(notificationId) > 0;
+  }
+
+  @Override
+  public int markAllAsRead(CustomUuid familyUuid, CustomUuid userUuid) {
+    return jpaRepository.markAllAsReadByFamilyUuidAndUserUuid(familyUuid, userUuid);
   }
 
   @Override
@@ -79,9 +114,65 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     return jpaRepository.countByFamilyUuidAndUserUuidAndIsReadFalse(familyUuid, userUuid);
   }
 
+  /**
+   * 보관 기간 지난 알림 키 (QueryDSL)
+   * (is_read, type) 동등 + (created_at, id) 범위·정렬이 idx_notifications_retention 순서와 같아 filesort 없이 청크 크기만큼만 읽음
+   */
+  @Override
+  public List<PageCursor> findRetentionKeys(NotificationType type,
+                                            boolean read,
+                                            LocalDateTime createdBefore,
+                                            PageCursor after,
+                                            int limit) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory
+        .select(notification.createdAt, notification.id)
+        .from(notification)
+        .where(notification.isRead.eq(read),
+               notification.type.eq(type),
+               notification.createdAt.lt(createdBefore),
+               retentionAfter(notification, after))
+        .orderBy(notification.createdAt.asc(), notification.id.asc())
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(tuple -> PageCursor.of(tuple.get(notification.createdAt), tuple.get(notification.id)))
+        .toList();
+  }
+
   @Override
-  public void deleteByCreatedAtBefore(LocalDateTime dateTime) {
-    jpaRepository.deleteByCreatedAtBefore(dateTime);
+  public List<Notification> findAllForRetentionWithLock(List<Long> ids, boolean read, LocalDateTime createdBefore) {
+    return jpaRepository.findAllForRetentionWithLock(ids, read, createdBefore);
+  }
+
+  @Override
+  public int deleteAllByIds(List<Long> ids) {
+    return jpaRepository.deleteAllByIdIn(ids);
+  }
+
+  /**
+   * 보관 작업 키셋 조건 ((createdAt, id) &gt; (after.date, after.id))
+   * null이면 조건 미적용 (첫 청크)
+   */
+  private BooleanExpression retentionAfter(QNotification notification, PageCursor after) {
+    if (after == null) {
+      return null;
+    }
+    return notification.createdAt.gt(after.date())
+        .or(notification.createdAt.eq(after.date()).and(notification.id.gt(after.id())));
+  }
+
+  /**
+   * 키셋 커서 동적 조건 ((createdAt, id) &lt; (cursor.date, cursor.id))
+   * null이면 조건 미적용 (첫 페이지)
+   */
+  private BooleanExpression after(QNotification notification, PageCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return notification.createdAt.lt(cursor.date())
+        .or(notification.createdAt.eq(cursor.date()).and(notification.id.lt(cursor.id())));
   }
 }
 
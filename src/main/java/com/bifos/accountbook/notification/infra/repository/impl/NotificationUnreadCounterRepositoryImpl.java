@@ -0,0 +1,40 @@
+package com.bifos.accountbook.notification.infra.repository.impl;
+
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
+import com.bifos.accountbook.notification.infra.repository.jpa.NotificationUnreadCounterJpaRepository;
+import com.bifos.accountbook.shared.converter.UuidColumnBinder;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * NotificationUnreadCounterRepository 구현체
+ * - 조회는 (family_uuid, user_uuid) UNIQUE 키 조회
+ * - 증감은 네이티브 UPSERT (UUID 파라미터는 UuidColumnBinder로 변환)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCounterRepositoryImpl implements NotificationUnreadCounterRepository {
+
+  private final NotificationUnreadCounterJpaRepository jpaRepository;
+  private final UuidColumnBinder uuidColumnBinder;
+  private final Clock clock;
+
+  @Override
+  public long findUnreadCount(CustomUuid familyUuid, CustomUuid userUuid) {
+    return jpaRepository.findUnreadCountByFamilyUuidAndUserUuid(familyUuid, userUuid).orElse(0L);
+  }
+
+  @Override
+  public void applyDelta(CustomUuid familyUuid, CustomUuid userUuid, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    jpaRepository.upsertDelta(uuidColumnBinder.bind(familyUuid),
+                              uuidColumnBinder.bind(userUuid),
+                              delta,
+                              LocalDateTime.now(clock));
+  }
+}
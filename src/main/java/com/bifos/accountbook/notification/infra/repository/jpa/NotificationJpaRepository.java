@@ -3,10 +3,12 @@ package com.bifos.accountbook.notification.infra.repository.jpa;
 import com.bifos.accountbook.notification.domain.entity.Notification;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.notification.domain.value.NotificationType;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -46,13 +48,15 @@ public interface NotificationJpaRepository extends JpaRepository<Notification, L
       @Param("type") NotificationType type,
       @Param("yearMonth") String yearMonth);
 
-  @Query("SELECT n FROM Notification n " +
+  @Query("SELECT n.userUuid FROM Notification n " +
       "WHERE n.familyUuid = :familyUuid " +
       "AND n.type = :type " +
-      "ORDER BY n.createdAt DESC")
-  List<Notification> findAllByFamilyUuidAndType(
+      "AND n.yearMonth = :yearMonth " +
+      "AND n.userUuid IS NOT NULL")
+  List<CustomUuid> findUserUuidsByFamilyUuidAndTypeAndYearMonth(
       @Param("familyUuid") CustomUuid familyUuid,
-      @Param("type") NotificationType type);
+      @Param("type") NotificationType type,
+      @Param("yearMonth") String yearMonth);
 
   @Query("SELECT n FROM Notification n " +
       "WHERE n.familyUuid = :familyUuid " +
@@ -70,16 +74,33 @@ public interface NotificationJpaRepository extends JpaRepository<Notification, L
       @Param("familyUuid") CustomUuid familyUuid,
       @Param("userUuid") CustomUuid userUuid);
 
-  @Query("SELECT n FROM Notification n " +
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Notification n SET n.isRead = true " +
+      "WHERE n.id = :id " +
+      "AND n.isRead = false")
+  int markAsReadIfUnread(@Param("id") Long id);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Notification n SET n.isRead = true " +
       "WHERE n.familyUuid = :familyUuid " +
       "AND n.userUuid = :userUuid " +
       "AND n.isRead = false")
-  List<Notification> findAllByFamilyUuidAndUserUuidAndIsReadFalse(
+  int markAllAsReadByFamilyUuidAndUserUuid(
       @Param("familyUuid") CustomUuid familyUuid,
       @Param("userUuid") CustomUuid userUuid);
 
-  @Modifying
-  @Query("DELETE FROM Notification n WHERE n.createdAt < :dateTime")
-  void deleteByCreatedAtBefore(@Param("dateTime") LocalDateTime dateTime);
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT n FROM Notification n " +
+      "WHERE n.id IN :ids " +
+      "AND n.isRead = :isRead " +
+      "AND n.createdAt < :createdBefore")
+  List<Notification> findAllForRetentionWithLock(
+      @Param("ids") List<Long> ids,
+      @Param("isRead") boolean isRead,
+      @Param("createdBefore") LocalDateTime createdBefore);
+
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+  int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
 
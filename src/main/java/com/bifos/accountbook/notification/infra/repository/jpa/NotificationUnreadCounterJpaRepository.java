@@ -0,0 +1,41 @@
+package com.bifos.accountbook.notification.infra.repository.jpa;
+
+import com.bifos.accountbook.notification.domain.entity.NotificationUnreadCounter;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * NotificationUnreadCounter JPA Repository
+ * Spring Data JPA 인터페이스 (Infrastructure Layer)
+ *
+ * UPSERT는 JPQL로 표현할 수 없어 네이티브 쿼리를 사용합니다.
+ * (MySQL 및 H2 MODE=MySQL 공통 문법)
+ * UUID 파라미터는 컬럼 저장 형식에 따라 String 또는 byte[]이므로 Object로 받습니다 (UuidColumnBinder 참고).
+ */
+public interface NotificationUnreadCounterJpaRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+  @Query("SELECT c.unreadCount FROM NotificationUnreadCounter c " +
+      "WHERE c.familyUuid = :familyUuid " +
+      "AND c.userUuid = :userUuid")
+  Optional<Long> findUnreadCountByFamilyUuidAndUserUuid(
+      @Param("familyUuid") CustomUuid familyUuid,
+      @Param("userUuid") CustomUuid userUuid);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO notification_unread_counters (family_uuid, user_uuid, unread_count, updated_at)
+      VALUES (:familyUuid, :userUuid, GREATEST(:delta, 0), :now)
+      ON DUPLICATE KEY UPDATE
+          unread_count = GREATEST(unread_count + :delta, 0),
+          updated_at = :now
+      """, nativeQuery = true)
+  void upsertDelta(@Param("familyUuid") Object familyUuid,
+                   @Param("userUuid") Object userUuid,
+                   @Param("delta") long delta,
+                   @Param("now") LocalDateTime now);
+}
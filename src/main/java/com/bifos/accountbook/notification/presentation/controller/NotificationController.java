@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "알림 (Notification)", description = "알림 조회 및 읽음 처리 API")
@@ -33,13 +34,15 @@ public class NotificationController {
 
   private final NotificationService notificationService;
 
-  @Operation(summary = "가족 알림 목록 조회", description = "가족의 모든 알림 목록을 조회합니다.")
+  @Operation(summary = "가족 알림 목록 조회", description = "가족의 알림 목록을 최신순으로 조회합니다. (createdAt, id) 키셋 커서 페이지네이션이며, 응답의 nextCursor로 다음 페이지를 조회합니다.")
   @ApiResponse(responseCode = "200", description = "조회 성공")
   @ApiResponse(responseCode = "404", description = "가족을 찾을 수 없음")
   @GetMapping("/families/{familyUuid}/notifications")
   public ResponseEntity<ApiSuccessResponse<NotificationListResponse>> getFamilyNotifications(@LoginUser LoginUserDto loginUser,
-                                                                                             @Parameter(description = "가족 UUID") @PathVariable CustomUuid familyUuid) {
-    NotificationListResponse response = notificationService.getFamilyNotifications(loginUser.userUuid(), familyUuid);
+                                                                                             @Parameter(description = "가족 UUID") @PathVariable CustomUuid familyUuid,
+                                                                                             @Parameter(description = "커서 (생략하면 첫 페이지)") @RequestParam(required = false) String cursor,
+                                                                                             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") Integer size) {
+    NotificationListResponse response = notificationService.getFamilyNotifications(loginUser.userUuid(), familyUuid, cursor, size);
     return ResponseEntity.ok(ApiSuccessResponse.of(response));
   }
 
@@ -3,7 +3,9 @@ package com.bifos.accountbook.recurring.application.dto;
 import com.bifos.accountbook.category.application.dto.CategoryInfo;
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.recurring.domain.value.RecurringExpenseStatus;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +22,10 @@ public class RecurringExpenseDto {
     private String categoryUuid;
     private String name;
     private BigDecimal amount;
-    private int dayOfMonth;
+    private RecurringFrequency frequency;
+    private Integer dayOfMonth;
+    private Integer dayOfWeek;
+    private Integer monthOfYear;
   }
 
   @Getter
@@ -31,7 +36,10 @@ public class RecurringExpenseDto {
     private String categoryUuid;
     private String name;
     private BigDecimal amount;
+    private RecurringFrequency frequency;
     private Integer dayOfMonth;
+    private Integer dayOfWeek;
+    private Integer monthOfYear;
   }
 
   @Getter
@@ -46,7 +54,11 @@ public class RecurringExpenseDto {
     private String userUuid;
     private String name;
     private BigDecimal amount;
-    private int dayOfMonth;
+    private RecurringFrequency frequency;
+    private Integer dayOfMonth;
+    private Integer dayOfWeek;
+    private Integer monthOfYear;
+    private LocalDate nextRunDate;
     private RecurringExpenseStatus status;
     private boolean generatedThisMonth;
     private LocalDateTime createdAt;
@@ -62,7 +74,11 @@ public class RecurringExpenseDto {
           .userUuid(entity.getUserUuid())
           .name(entity.getName())
           .amount(entity.getAmount())
+          .frequency(entity.getFrequency())
           .dayOfMonth(entity.getDayOfMonth())
+          .dayOfWeek(entity.getDayOfWeek())
+          .monthOfYear(entity.getMonthOfYear())
+          .nextRunDate(entity.getNextRunAt().toLocalDate())
           .status(entity.getStatus())
           .generatedThisMonth(generatedThisMonth)
           .createdAt(entity.getCreatedAt())
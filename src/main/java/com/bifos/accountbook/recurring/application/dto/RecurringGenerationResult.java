@@ -0,0 +1,15 @@
+package com.bifos.accountbook.recurring.application.dto;
+
+/**
+ * 반복 지출 생성 결과 (정기 실행 구간 1개 또는 백필 1회)
+ *
+ * @param templates    처리한 템플릿 수
+ * @param created      생성된 지출 수
+ * @param failedChunks 실패한 청크 수 (0이 아니면 워터마크를 전진하지 않음)
+ */
+public record RecurringGenerationResult(int templates, int created, int failedChunks) {
+
+  public boolean completed() {
+    return failedChunks == 0;
+  }
+}
@@ -0,0 +1,201 @@
+package com.bifos.accountbook.recurring.application.service;
+
+import com.bifos.accountbook.dashboard.application.service.DailyExpenseRollupService;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
+import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
+import com.bifos.accountbook.recurring.domain.value.RecurringOccurrence;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 반복 지출 템플릿 청크 → 지출 일괄 생성
+ * - 도래한 템플릿을 쓰기 잠금으로 다시 읽고, 생성과 같은 트랜잭션에서 next_run_at을 다음 발생일로 전진
+ *   (조회 이후 다른 노드가 전진시킨 템플릿은 잠금 조회에서 빠지므로 발생일마다 한 번만 생성)
+ * - 청크마다 이미 생성된 발생과 활성 가족을 각각 한 번의 쿼리로 조회
+ * - 지출은 saveAll로 JDBC 배치 INSERT, 롤업은 같은 트랜잭션에서 키별 1회 반영
+ *
+ * RecurringExpenseScheduler와 별도 빈으로 두어 @Transactional이 프록시를 통해 적용되도록 합니다.
+ * 백필과 정기 생성이 같은 발생을 동시에 생성하면 uq_recurring_occurrence 위반으로 청크 전체가 롤백되고,
+ * 스케줄러가 청크를 다시 실행하면 이미 생성된 발생은 조회 단계에서 제외됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringExpenseGenerator {
+
+  private final RecurringExpenseRepository recurringExpenseRepository;
+  private final ExpenseRepository expenseRepository;
+  private final FamilyRepository familyRepository;
+  private final DailyExpenseRollupService dailyExpenseRollupService;
+
+  /**
+   * 도래한 발생 생성 + next_run_at 전진
+   *
+   * @param templates next_run_at이 through 실행 시각 이하인 템플릿 청크
+   * @param through   이 일자까지 도래한 발생을 생성
+   * @param oldest    이보다 이른 발생은 생성하지 않고 건너뜀 (max-catch-up-days, 백필 대상)
+   * @return 가족 UUID별 생성 건수
+   */
+  @Transactional
+  public Map<String, Integer> generateDue(List<RecurringExpense> templates, LocalDate through, LocalDate oldest) {
+    List<RecurringExpense> due = recurringExpenseRepository.findAllDueByIdsWithLock(
+        templates.stream().map(RecurringExpense::getId).toList(),
+        through.atTime(RecurringSchedule.RUN_TIME));
+
+    Map<RecurringExpense, List<LocalDate>> occurrences = new LinkedHashMap<>();
+    for (RecurringExpense template : due) {
+      List<LocalDate> dates = template.advanceThrough(through);
+      List<LocalDate> kept = dates.stream().filter(date -> !date.isBefore(oldest)).toList();
+      if (kept.size() < dates.size()) {
+        log.warn("Recurring expense occurrences older than max-catch-up-days skipped. Backfill required: "
+                + "recurringUuid={}, from={}, to={}",
+            template.getUuid().getValue(), dates.getFirst(), oldest.minusDays(1));
+      }
+      occurrences.put(template, kept);
+    }
+    List<LocalDate> allDates = occurrences.values().stream().flatMap(List::stream).sorted().toList();
+    if (allDates.isEmpty()) {
+      return new HashMap<>();
+    }
+    return createExpenses(occurrences, findGeneratedOccurrences(occurrences, allDates.getFirst(), allDates.getLast()));
+  }
+
+  /**
+   * [from, to] 구간의 발생 중 아직 생성되지 않은 것을 생성 (next_run_at은 변경하지 않음)
+   * - 템플릿 등록 이후 실행 시각이 지난 발생만 대상
+   * - 같은 주기(월/주/연)에 이미 생성된 발생이 있으면 건너뜀
+   *   (반복일이 바뀐 템플릿은 이전 일자로 생성된 발생이 있으므로 같은 달에 두 번 생성하지 않음)
+   *
+   * @return 가족 UUID별 생성 건수
+   */
+  @Transactional
+  public Map<String, Integer> backfill(List<RecurringExpense> templates, LocalDate from, LocalDate to) {
+    Map<RecurringExpense, List<LocalDate>> candidates = new LinkedHashMap<>();
+    LocalDate periodFrom = null;
+    LocalDate periodTo = null;
+    for (RecurringExpense template : templates) {
+      RecurringSchedule schedule = template.getSchedule();
+      List<LocalDate> dates = schedule.occurrencesBetween(from, to).stream()
+          .filter(date -> date.atTime(RecurringSchedule.RUN_TIME).isAfter(template.getCreatedAt()))
+          .toList();
+      candidates.put(template, dates);
+      if (dates.isEmpty()) {
+        continue;
+      }
+      LocalDate start = schedule.periodStart(dates.getFirst());
+      LocalDate end = schedule.periodEnd(dates.getLast());
+      periodFrom = periodFrom == null || start.isBefore(periodFrom) ? start : periodFrom;
+      periodTo = periodTo == null || end.isAfter(periodTo) ? end : periodTo;
+    }
+    if (periodFrom == null) {
+      return new HashMap<>();
+    }
+
+    Set<RecurringOccurrence> generated = findGeneratedOccurrences(candidates, periodFrom, periodTo);
+    Map<RecurringExpense, List<LocalDate>> occurrences = new LinkedHashMap<>();
+    candidates.forEach((template, dates) -> {
+      RecurringSchedule schedule = template.getSchedule();
+      String recurringUuid = template.getUuid().getValue();
+      Set<LocalDate> periods = generated.stream()
+          .filter(occurrence -> occurrence.recurringExpenseUuid().equals(recurringUuid))
+          .map(occurrence -> schedule.periodStart(occurrence.date()))
+          .collect(Collectors.toSet());
+      occurrences.put(template, dates.stream().filter(date -> {
+        if (periods.contains(schedule.periodStart(date))) {
+          log.debug("Recurring expense already generated in period: recurringUuid={}, date={}", recurringUuid, date);
+          return false;
+        }
+        return true;
+      }).toList());
+    });
+    return createExpenses(occurrences, generated);
+  }
+
+  /**
+   * 발생이 있는 템플릿들의 [from, to] 구간 생성 이력을 한 번의 쿼리로 조회
+   */
+  private Set<RecurringOccurrence> findGeneratedOccurrences(Map<RecurringExpense, List<LocalDate>> occurrences,
+                                                            LocalDate from,
+                                                            LocalDate to) {
+    return recurringExpenseRepository.findGeneratedOccurrences(
+        occurrences.entrySet().stream()
+            .filter(entry -> !entry.getValue().isEmpty())
+            .map(entry -> entry.getKey().getUuid().getValue())
+            .toList(),
+        from,
+        to);
+  }
+
+  private Map<String, Integer> createExpenses(Map<RecurringExpense, List<LocalDate>> occurrences,
+                                             Set<RecurringOccurrence> generated) {
+    Map<String, Integer> familyCountMap = new HashMap<>();
+    if (occurrences.values().stream().allMatch(List::isEmpty)) {
+      return familyCountMap;
+    }
+
+    Map<CustomUuid, Family> families = familyRepository.findAllActiveByUuids(
+            occurrences.keySet().stream().map(template -> CustomUuid.from(template.getFamilyUuid())).distinct().toList())
+        .stream()
+        .collect(Collectors.toMap(Family::getUuid, Function.identity()));
+
+    List<Expense> expenses = new ArrayList<>();
+    occurrences.forEach((template, dates) -> {
+      if (dates.isEmpty()) {
+        return;
+      }
+      Family family = families.get(CustomUuid.from(template.getFamilyUuid()));
+      if (family == null) {
+        log.warn("Family not found for recurring expense: familyUuid={}", template.getFamilyUuid());
+        return;
+      }
+
+      String recurringUuid = template.getUuid().getValue();
+      for (LocalDate date : dates) {
+        if (generated.contains(new RecurringOccurrence(recurringUuid, date))) {
+          log.debug("Recurring expense already generated: recurringUuid={}, date={}", recurringUuid, date);
+          continue;
+        }
+        expenses.add(Expense.builder()
+            .family(family)
+            .categoryUuid(CustomUuid.from(template.getCategoryUuid()))
+            .userUuid(CustomUuid.from(template.getUserUuid()))
+            .amount(template.getAmount())
+            .description(template.getName())
+            .date(date.atStartOfDay())
+            .recurringExpenseUuid(recurringUuid)
+            .yearMonth(YearMonth.from(date).toString())
+            .recurringDate(date)
+            .build());
+        familyCountMap.merge(template.getFamilyUuid(), 1, Integer::sum);
+      }
+    });
+
+    if (expenses.isEmpty()) {
+      return familyCountMap;
+    }
+
+    expenseRepository.saveAll(expenses);
+    dailyExpenseRollupService.addAll(expenses);
+
+    log.debug("Generated {} expenses from {} recurring templates", expenses.size(), occurrences.size());
+    return familyCountMap;
+  }
+}
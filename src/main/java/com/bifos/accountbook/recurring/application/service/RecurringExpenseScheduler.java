@@ -1,62 +1,304 @@
 package com.bifos.accountbook.recurring.application.service;
 
+import com.bifos.accountbook.recurring.application.dto.RecurringGenerationResult;
 import com.bifos.accountbook.recurring.application.event.RecurringExpenseCreatedEvent;
-import com.bifos.accountbook.expense.domain.entity.Expense;
-import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
-import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
-import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
-import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.recurring.domain.repository.RecurringGenerationWatermarkRepository;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
+import com.bifos.accountbook.shared.lease.HeldLease;
+import com.bifos.accountbook.shared.lease.SchedulerLeaseManager;
+import com.bifos.accountbook.shared.value.PageCursor;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 반복 지출 자동 생성 스케줄러
+ * - next_run_at이 기준 시각 이하인 활성 템플릿만 (status, next_run_at) 인덱스로 범위 조회하므로
+ *   조회 비용은 전체 템플릿 수가 아니라 도래한 템플릿 수에 비례
+ * - 도래한 템플릿을 id 순 청크(chunk-size)로 읽어 가상 스레드에서 청크별 트랜잭션으로 생성하고,
+ *   같은 트랜잭션에서 next_run_at을 다음 발생일로 전진
+ * - 동시에 실행하는 청크 수는 max-concurrency로 제한 (청크마다 DB 커넥션 1개 사용)
+ * - 실행 중인 청크가 가득 차면 다음 페이지 조회를 멈추므로 메모리에는 최대 max-concurrency + 1개 청크만 올라감
+ * - 한 청크의 실패는 다른 청크에 영향을 주지 않으며, 이벤트는 모든 청크가 끝난 뒤 가족별로 한 번 발행
+ *
+ * 누락 복구:
+ * - 실행을 놓친 템플릿은 next_run_at이 과거로 남으므로 다음 실행/기동 시 도래한 발생이 모두 생성됨
+ *   (max-catch-up-days보다 오래된 발생은 건너뛰고 경고 로그)
+ * - 모든 청크가 성공하면 워터마크(recurring_generation_watermarks)를 기준일로 전진하고,
+ *   기동 시·주기 점검은 워터마크가 최신인 구간을 임대 없이 건너뜀
+ * - 임의 구간 재생성은 backfill() (관리용 actuator 엔드포인트 recurringbackfill)
+ * 생성은 (반복 지출, 발생일) UNIQUE 키로 멱등이므로 같은 구간을 다시 실행해도 중복되지 않습니다.
+ *
+ * 다중 노드:
+ * - 모든 노드가 같은 스케줄로 실행하고, 작업마다 DB 임대(scheduler_leases)를 얻은 노드만 생성
+ * - shards > 1이면 가족 해시 버킷(0~1023)을 shards개 구간으로 나누고 구간마다 임대와 워터마크를 따로 둠
+ *   노드마다 시작 구간을 다르게 잡아 여러 노드가 구간을 나누어 처리
+ * - 임대는 heartbeat로 연장되며, 임대를 잃으면 청크 사이에서 멈추고 워터마크는 fencing token으로 늦은 쓰기를 막음
+ * - 노드가 죽어 남은 구간은 임대 만료 후 다른 노드의 주기 점검(catch-up-interval)이 이어받음
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RecurringExpenseScheduler {
 
-  private static final DateTimeFormatter YEAR_MONTH_FORMATTER =
-      DateTimeFormatter.ofPattern("yyyy-MM");
+  static final String JOB_NAME = "recurring-expense-generation";
 
   private final RecurringExpenseRepository recurringExpenseRepository;
-  private final ExpenseRepository expenseRepository;
-  private final FamilyRepository familyRepository;
+  private final RecurringGenerationWatermarkRepository watermarkRepository;
+  private final RecurringExpenseGenerator recurringExpenseGenerator;
+  private final SchedulerLeaseManager leaseManager;
   private final ApplicationEventPublisher eventPublisher;
   private final Clock clock;
+  private final int chunkSize;
+  private final int maxConcurrency;
+  private final int maxCatchUpDays;
+  private final boolean catchUpOnStartup;
+  private final int shards;
+  private final Duration leaseDuration;
 
+  /**
+   * 정기 실행, 기동 시 따라잡기, 백필이 동시에 같은 발생을 생성하지 않도록 직렬화
+   */
+  private final ReentrantLock runLock = new ReentrantLock();
+
+  public RecurringExpenseScheduler(RecurringExpenseRepository recurringExpenseRepository,
+                                   RecurringGenerationWatermarkRepository watermarkRepository,
+                                   RecurringExpenseGenerator recurringExpenseGenerator,
+                                   SchedulerLeaseManager leaseManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   Clock clock,
+                                   @Value("${recurring.generation.chunk-size:500}") int chunkSize,
+                                   @Value("${recurring.generation.max-concurrency:4}") int maxConcurrency,
+                                   @Value("${recurring.generation.max-catch-up-days:31}") int maxCatchUpDays,
+                                   @Value("${recurring.generation.catch-up-on-startup:true}") boolean catchUpOnStartup,
+                                   @Value("${recurring.generation.shards:1}") int shards,
+                                   @Value("${recurring.generation.lease-duration:300000}") long leaseDurationMillis) {
+    if (shards < 1 || shards > RecurringExpense.SHARD_KEYS) {
+      throw new IllegalArgumentException(
+          "recurring.generation.shards must be between 1 and " + RecurringExpense.SHARD_KEYS + ": " + shards);
+    }
+    this.recurringExpenseRepository = recurringExpenseRepository;
+    this.watermarkRepository = watermarkRepository;
+    this.recurringExpenseGenerator = recurringExpenseGenerator;
+    this.leaseManager = leaseManager;
+    this.eventPublisher = eventPublisher;
+    this.clock = clock;
+    this.chunkSize = chunkSize;
+    this.maxConcurrency = maxConcurrency;
+    this.maxCatchUpDays = maxCatchUpDays;
+    this.catchUpOnStartup = catchUpOnStartup;
+    this.shards = shards;
+    this.leaseDuration = Duration.ofMillis(leaseDurationMillis);
+  }
+
+  /**
+   * 매일 RecurringSchedule.RUN_TIME에 실행 (cron과 RUN_TIME은 같아야 함)
+   */
   @Scheduled(cron = "0 0 1 * * ?")
   public void generateRecurringExpenses() {
-    LocalDate today = LocalDate.now(clock);
-    int dayOfMonth = today.getDayOfMonth();
-    String yearMonth = today.format(YEAR_MONTH_FORMATTER);
+    runLock.lock();
+    try {
+      runShards(LocalDate.now(clock));
+    } finally {
+      runLock.unlock();
+    }
+  }
 
-    log.info("Starting recurring expense generation for day={}, yearMonth={}", dayOfMonth, yearMonth);
+  /**
+   * 기동 시 누락분 따라잡기
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void catchUpOnStartup() {
+    if (!catchUpOnStartup) {
+      return;
+    }
+    catchUpPending("startup");
+  }
+
+  /**
+   * 주기 점검: 정기 실행 중 임대를 가진 노드가 죽어 남은 구간을 임대 만료 후 이어받음
+   * 워터마크가 최신인 구간은 임대를 잡지 않고 건너뜁니다.
+   */
+  @Scheduled(fixedDelayString = "${recurring.generation.catch-up-interval:900000}",
+             initialDelayString = "${recurring.generation.catch-up-interval:900000}")
+  public void catchUpPeriodically() {
+    catchUpPending("periodic");
+  }
+
+  private void catchUpPending(String trigger) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    // 실행 시각 전이면 오늘은 정기 실행에 맡김
+    LocalDate through = now.toLocalTime().isBefore(RecurringSchedule.RUN_TIME)
+        ? now.toLocalDate().minusDays(1)
+        : now.toLocalDate();
+
+    runLock.lock();
+    try {
+      runShards(through);
+    } catch (Exception e) {
+      log.error("Failed to catch up recurring expense generation: trigger={}", trigger, e);
+    } finally {
+      runLock.unlock();
+    }
+  }
+
+  /**
+   * 구간 [from, to]의 발생 중 누락된 것을 재생성 (이미 생성된 지출은 건너뜀)
+   * 템플릿 등록 이후의 발생만 대상이며, next_run_at과 워터마크는 변경하지 않습니다.
+   */
+  public RecurringGenerationResult backfill(LocalDate from, LocalDate to) {
+    runLock.lock();
+    try {
+      RecurringGenerationResult result = generate(
+          after -> recurringExpenseRepository.findActiveAfter(after != null ? after.id() : 0, chunkSize),
+          templates -> recurringExpenseGenerator.backfill(templates, from, to),
+          null);
+      log.info("Recurring expense backfill completed: from={}, to={}, result={}", from, to, result);
+      return result;
+    } finally {
+      runLock.unlock();
+    }
+  }
+
+  /**
+   * 모든 구간을 노드별 시작 구간부터 차례로 처리 (임대를 얻지 못한 구간은 다른 노드가 처리 중)
+   */
+  private void runShards(LocalDate through) {
+    int offset = Math.floorMod(leaseManager.getOwner().hashCode(), shards);
+    for (int i = 0; i < shards; i++) {
+      int shard = (offset + i) % shards;
+      String jobName = jobName(shard);
+      try {
+        runShard(jobName, ShardRange.of(shard, shards), through);
+      } catch (Exception e) {
+        log.error("Failed to generate recurring expenses: job={}", jobName, e);
+      }
+    }
+  }
 
-    List<RecurringExpense> templates =
-        recurringExpenseRepository.findAllActiveByDayOfMonth(dayOfMonth);
+  /**
+   * 구간에서 through 실행 시각까지 도래한 템플릿을 생성하고, 모든 청크가 성공하면 워터마크 전진
+   * 실패한 청크가 있거나 임대를 잃으면 워터마크는 그대로 두고, 남은 템플릿은 next_run_at이 과거로 남아 다음 실행에서 생성됩니다.
+   */
+  private void runShard(String jobName, ShardRange range, LocalDate through) {
+    // 이미 완료된 구간은 임대를 잡지 않음 (주기 점검이 대부분 여기서 끝남)
+    if (isCompleted(jobName, through)) {
+      return;
+    }
 
-    if (templates.isEmpty()) {
-      log.info("No recurring expense templates found for day={}", dayOfMonth);
+    Optional<HeldLease> acquired = leaseManager.acquire(jobName, leaseDuration);
+    if (acquired.isEmpty()) {
+      log.debug("Recurring expense generation is running on another node: job={}", jobName);
       return;
     }
+    try (HeldLease lease = acquired.get()) {
+      // 임대를 얻기 전 다른 노드가 완료했을 수 있으므로 다시 조회
+      if (isCompleted(jobName, through)) {
+        return;
+      }
 
-    // 가족별 생성 수 추적
-    Map<String, Integer> familyCountMap = new HashMap<>();
+      LocalDateTime cutoff = through.atTime(RecurringSchedule.RUN_TIME);
+      LocalDate oldest = through.minusDays(maxCatchUpDays - 1L);
+      log.info("Starting recurring expense generation: job={}, through={}", jobName, through);
 
-    for (RecurringExpense template : templates) {
-      processTemplate(template, yearMonth, today, familyCountMap);
+      RecurringGenerationResult result = generate(
+          after -> recurringExpenseRepository.findDueAfter(cutoff, range.from(), range.to(), after, chunkSize),
+          templates -> recurringExpenseGenerator.generateDue(templates, through, oldest),
+          lease);
+      if (!result.completed()) {
+        log.error("Recurring expense generation incomplete. Watermark stays before {}: job={}, {}",
+            through, jobName, result);
+        return;
+      }
+      watermarkRepository.advance(jobName, through, lease.fencingToken());
+    }
+  }
+
+  private boolean isCompleted(String jobName, LocalDate through) {
+    return watermarkRepository.findLastCompletedDate(jobName)
+        .map(lastCompleted -> !lastCompleted.isBefore(through))
+        .orElse(false);
+  }
+
+  /**
+   * 템플릿을 청크로 읽어 병렬 생성하고, 끝나면 가족별 이벤트 발행
+   * 생성된 템플릿은 next_run_at이 cutoff 뒤로 전진해 조회에서 빠지므로, (next_run_at, id) 키셋이 처리 중인 청크와 겹치지 않습니다.
+   *
+   * @param pageLoader     이전 청크의 마지막 (next_run_at, id) 다음부터 최대 chunk-size건 조회 (첫 청크는 null)
+   * @param chunkGenerator 청크 1개 생성 (트랜잭션 1개), 가족 UUID별 생성 건수 반환
+   * @param lease          보유 중인 임대 (백필은 null). 임대를 잃으면 다음 청크부터 멈추고 실패로 집계
+   */
+  private RecurringGenerationResult generate(Function<PageCursor, List<RecurringExpense>> pageLoader,
+                                             Function<List<RecurringExpense>, Map<String, Integer>> chunkGenerator,
+                                             HeldLease lease) {
+    // 가족별 생성 수 추적 (청크 스레드에서 병합)
+    Map<String, Integer> familyCountMap = new ConcurrentHashMap<>();
+    AtomicInteger failedChunks = new AtomicInteger();
+    Semaphore permits = new Semaphore(maxConcurrency);
+    int templateCount = 0;
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      PageCursor after = null;
+      while (true) {
+        if (lease != null && !lease.isValid()) {
+          log.warn("Scheduler lease lost. Stopping recurring expense generation: job={}, after={}",
+              lease.leaseName(), after);
+          failedChunks.incrementAndGet();
+          break;
+        }
+        List<RecurringExpense> templates = pageLoader.apply(after);
+        if (templates.isEmpty()) {
+          break;
+        }
+        // 청크 스레드가 next_run_at을 전진시키기 전에 키를 읽어 둠
+        RecurringExpense last = templates.getLast();
+        after = PageCursor.of(last.getNextRunAt(), last.getId());
+        templateCount += templates.size();
+
+        permits.acquire();
+        executor.submit(() -> {
+          try {
+            if (!processChunk(templates, chunkGenerator, familyCountMap)) {
+              failedChunks.incrementAndGet();
+            }
+          } finally {
+            permits.release();
+          }
+        });
+
+        if (templates.size() < chunkSize) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Recurring expense generation interrupted");
+      failedChunks.incrementAndGet();
+    }
+
+    if (templateCount == 0) {
+      log.info("No recurring expense templates to generate");
+      return new RecurringGenerationResult(0, 0, failedChunks.get());
     }
 
     // 가족별 이벤트 발행
@@ -67,49 +309,65 @@ public class RecurringExpenseScheduler {
           entry.getValue()));
     }
 
-    log.info("Recurring expense generation completed. {} families, {} expenses created",
+    int created = familyCountMap.values().stream().mapToInt(Integer::intValue).sum();
+    log.info("Recurring expense generation completed. {} templates, {} families, {} expenses created",
+        templateCount,
         familyCountMap.size(),
-        familyCountMap.values().stream().mapToInt(Integer::intValue).sum());
+        created);
+    return new RecurringGenerationResult(templateCount, created, failedChunks.get());
   }
 
-  @Transactional
-  public void processTemplate(RecurringExpense template, String yearMonth,
-                              LocalDate today, Map<String, Integer> familyCountMap) {
-    String recurringUuid = template.getUuid().getValue();
-
-    if (recurringExpenseRepository.existsByRecurringExpenseUuidAndYearMonth(
-        recurringUuid, yearMonth)) {
-      log.warn("Recurring expense already generated: recurringUuid={}, yearMonth={}",
-          recurringUuid, yearMonth);
-      return;
+  /**
+   * 청크 1개 생성 (트랜잭션 1개)
+   * 백필 등과 생성이 겹쳐 uq_recurring_occurrence에 걸리면 청크 전체가 롤백되므로 한 번 더 실행합니다.
+   * 재실행 시 이미 생성된 발생은 조회 단계에서 제외됩니다.
+   *
+   * @return 성공 여부
+   */
+  private boolean processChunk(List<RecurringExpense> templates,
+                               Function<List<RecurringExpense>, Map<String, Integer>> chunkGenerator,
+                               Map<String, Integer> familyCountMap) {
+    try {
+      merge(familyCountMap, generateWithRetry(templates, chunkGenerator));
+      return true;
+    } catch (Exception e) {
+      log.error("Failed to generate recurring expenses: firstId={}, lastId={}",
+          templates.getFirst().getId(), templates.getLast().getId(), e);
+      return false;
     }
+  }
 
-    Family family = familyRepository.findActiveByUuid(
-        CustomUuid.from(template.getFamilyUuid())).orElse(null);
-    if (family == null) {
-      log.warn("Family not found for recurring expense: familyUuid={}",
-          template.getFamilyUuid());
-      return;
+  private static Map<String, Integer> generateWithRetry(
+      List<RecurringExpense> templates,
+      Function<List<RecurringExpense>, Map<String, Integer>> chunkGenerator) {
+    try {
+      return chunkGenerator.apply(templates);
+    } catch (DataIntegrityViolationException e) {
+      log.info("Recurring expenses generated concurrently. Retrying chunk: firstId={}, lastId={}",
+          templates.getFirst().getId(), templates.getLast().getId());
+      return chunkGenerator.apply(templates);
     }
+  }
 
-    LocalDateTime expenseDate = today.atTime(0, 0);
-
-    Expense expense = Expense.builder()
-        .family(family)
-        .categoryUuid(CustomUuid.from(template.getCategoryUuid()))
-        .userUuid(CustomUuid.from(template.getUserUuid()))
-        .amount(template.getAmount())
-        .description(template.getName())
-        .date(expenseDate)
-        .recurringExpenseUuid(recurringUuid)
-        .yearMonth(yearMonth)
-        .build();
+  private static void merge(Map<String, Integer> familyCountMap, Map<String, Integer> chunkCounts) {
+    chunkCounts.forEach((familyUuid, count) -> familyCountMap.merge(familyUuid, count, Integer::sum));
+  }
 
-    expenseRepository.save(expense);
+  /**
+   * 구간별 작업 이름 (임대와 워터마크 키). 단일 구간이면 기존 작업 이름을 그대로 사용
+   */
+  String jobName(int shard) {
+    return shards == 1 ? JOB_NAME : JOB_NAME + ":" + shard + "/" + shards;
+  }
 
-    familyCountMap.merge(template.getFamilyUuid(), 1, Integer::sum);
+  /**
+   * 가족 해시 버킷 구간 [from, to)
+   */
+  record ShardRange(int from, int to) {
 
-    log.info("Generated expense from recurring template: recurringUuid={}, familyUuid={}, amount={}",
-        recurringUuid, template.getFamilyUuid(), template.getAmount());
+    static ShardRange of(int shard, int shards) {
+      return new ShardRange(shard * RecurringExpense.SHARD_KEYS / shards,
+                            (shard + 1) * RecurringExpense.SHARD_KEYS / shards);
+    }
   }
 }
@@ -10,15 +10,20 @@ import com.bifos.accountbook.category.domain.entity.Category;
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.category.domain.repository.CategoryRepository;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.shared.aop.FamilyUuid;
 import com.bifos.accountbook.shared.aop.UserUuid;
 import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +41,7 @@ public class RecurringExpenseService {
   private final RecurringExpenseRepository recurringExpenseRepository;
   private final CategoryRepository categoryRepository;
   private final CategoryService categoryService;
+  private final Clock clock;
 
   @ValidateFamilyAccess
   @Transactional
@@ -44,7 +50,10 @@ public class RecurringExpenseService {
       @FamilyUuid CustomUuid familyUuid,
       RecurringExpenseDto.Create dto) {
 
-    validateDayOfMonth(dto.getDayOfMonth());
+    RecurringSchedule schedule = RecurringSchedule.of(
+        dto.getFrequency() != null ? dto.getFrequency() : RecurringFrequency.MONTHLY,
+        dto.getDayOfMonth(), dto.getDayOfWeek(), dto.getMonthOfYear());
+    validateSchedule(schedule);
 
     CustomUuid categoryCustomUuid = CustomUuid.from(dto.getCategoryUuid());
     CategoryResponse categoryResponse =
@@ -56,17 +65,17 @@ public class RecurringExpenseService {
         .userUuid(userUuid.getValue())
         .name(dto.getName())
         .amount(dto.getAmount())
-        .dayOfMonth(dto.getDayOfMonth())
+        .frequency(schedule.frequency())
+        .dayOfMonth(schedule.dayOfMonth())
+        .dayOfWeek(schedule.dayOfWeek())
+        .monthOfYear(schedule.monthOfYear())
         .build();
+    entity.scheduleFrom(LocalDateTime.now(clock));
 
     entity = recurringExpenseRepository.save(entity);
 
-    String currentYearMonth = LocalDate.now().format(YEAR_MONTH_FORMATTER);
-    boolean generated = recurringExpenseRepository
-        .existsByRecurringExpenseUuidAndYearMonth(
-            entity.getUuid().getValue(), currentYearMonth);
-
-    return RecurringExpenseDto.Response.from(entity, generated,
+    // 방금 등록한 템플릿으로 생성된 지출은 없으므로 조회하지 않음
+    return RecurringExpenseDto.Response.from(entity, false,
         categoryResponse.toCategoryInfo());
   }
 
@@ -88,25 +97,34 @@ public class RecurringExpenseService {
 
     String targetYearMonth = yearMonth != null
         ? yearMonth
-        : LocalDate.now().format(YEAR_MONTH_FORMATTER);
+        : LocalDate.now(clock).format(YEAR_MONTH_FORMATTER);
+
+    // 생성 여부는 템플릿 수와 관계없이 쿼리 1회로 조회
+    Set<String> generatedUuids = recurringExpenseRepository.findGeneratedRecurringExpenseUuids(
+        entities.stream().map(entity -> entity.getUuid().getValue()).toList(),
+        targetYearMonth);
 
     return entities.stream()
         .map(entity -> {
-          boolean generated = recurringExpenseRepository
-              .existsByRecurringExpenseUuidAndYearMonth(
-                  entity.getUuid().getValue(), targetYearMonth);
+          boolean generated = generatedUuids.contains(entity.getUuid().getValue());
           CategoryInfo category = categoryMap.get(entity.getCategoryUuid());
           return RecurringExpenseDto.Response.from(entity, generated, category);
         })
         .collect(Collectors.toList());
   }
 
+  /**
+   * 활성 반복 지출의 월 환산 총액 (주간 ×52/12, 연간 /12)
+   */
   @ValidateFamilyAccess
   public BigDecimal getMonthlyTotal(
       @UserUuid CustomUuid userUuid,
       @FamilyUuid CustomUuid familyUuid) {
 
-    return recurringExpenseRepository.sumActiveAmountByFamilyUuid(familyUuid.getValue());
+    return recurringExpenseRepository.sumActiveAmountByFrequency(familyUuid.getValue())
+        .entrySet().stream()
+        .map(entry -> entry.getKey().toMonthlyAmount(entry.getValue()))
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
   }
 
   @ValidateFamilyAccess
@@ -125,8 +143,15 @@ public class RecurringExpenseService {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
-    if (dto.getDayOfMonth() != null) {
-      validateDayOfMonth(dto.getDayOfMonth());
+    // 일정 항목은 보낸 값만 바꾸고 나머지는 현재 일정 유지 (주기에 쓰지 않는 값은 버려짐)
+    RecurringSchedule schedule = RecurringSchedule.of(
+        dto.getFrequency() != null ? dto.getFrequency() : entity.getFrequency(),
+        dto.getDayOfMonth() != null ? dto.getDayOfMonth() : entity.getDayOfMonth(),
+        dto.getDayOfWeek() != null ? dto.getDayOfWeek() : entity.getDayOfWeek(),
+        dto.getMonthOfYear() != null ? dto.getMonthOfYear() : entity.getMonthOfYear());
+    boolean rescheduled = !schedule.equals(entity.getSchedule());
+    if (rescheduled) {
+      validateSchedule(schedule);
     }
 
     if (dto.getCategoryUuid() != null) {
@@ -134,12 +159,16 @@ public class RecurringExpenseService {
       categoryService.validateAndFindCached(familyUuid, categoryCustomUuid);
     }
 
-    entity.update(dto.getCategoryUuid(), dto.getName(), dto.getAmount(), dto.getDayOfMonth());
+    entity.update(dto.getCategoryUuid(), dto.getName(), dto.getAmount());
+    if (rescheduled) {
+      entity.reschedule(schedule, LocalDateTime.now(clock));
+    }
 
-    String currentYearMonth = LocalDate.now().format(YEAR_MONTH_FORMATTER);
+    String currentYearMonth = LocalDate.now(clock).format(YEAR_MONTH_FORMATTER);
+    String recurringUuid = entity.getUuid().getValue();
     boolean generated = recurringExpenseRepository
-        .existsByRecurringExpenseUuidAndYearMonth(
-            entity.getUuid().getValue(), currentYearMonth);
+        .findGeneratedRecurringExpenseUuids(List.of(recurringUuid), currentYearMonth)
+        .contains(recurringUuid);
 
     // 업데이트 후 카테고리 정보 조회
     CategoryInfo category = CategoryInfo.from(
@@ -178,10 +207,15 @@ public class RecurringExpenseService {
     recurringExpenseRepository.moveRecurringExpenses(oldCategoryUuid, defaultCategory.getUuid());
   }
 
-  private void validateDayOfMonth(int dayOfMonth) {
-    if (dayOfMonth < 1 || dayOfMonth > 28) {
+  private void validateSchedule(RecurringSchedule schedule) {
+    Integer dayOfMonth = schedule.dayOfMonth();
+    if (dayOfMonth != null && (dayOfMonth < 1 || dayOfMonth > 31)) {
       throw new BusinessException(ErrorCode.INVALID_DAY_OF_MONTH)
           .addParameter("dayOfMonth", String.valueOf(dayOfMonth));
     }
+    if (!schedule.isValid()) {
+      throw new BusinessException(ErrorCode.INVALID_RECURRING_SCHEDULE)
+          .addParameter("frequency", schedule.frequency().name());
+    }
   }
 }
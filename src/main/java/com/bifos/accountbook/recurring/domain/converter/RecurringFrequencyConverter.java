@@ -0,0 +1,15 @@
+package com.bifos.accountbook.recurring.domain.converter;
+
+import com.bifos.accountbook.shared.converter.AbstractCodeEnumConverter;
+
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class RecurringFrequencyConverter
+    extends AbstractCodeEnumConverter<RecurringFrequency> {
+
+  public RecurringFrequencyConverter() {
+    super(RecurringFrequency.class);
+  }
+}
@@ -1,8 +1,12 @@
 package com.bifos.accountbook.recurring.domain.entity;
 
 import com.bifos.accountbook.recurring.domain.value.RecurringExpenseStatus;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
+import com.bifos.accountbook.shared.converter.UuidStringConverter;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
@@ -12,7 +16,12 @@ import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +33,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Table(name = "recurring_expenses", indexes = {
     @Index(name = "idx_recurring_family_uuid", columnList = "family_uuid"),
-    @Index(name = "idx_recurring_day", columnList = "day_of_month")
+    @Index(name = "idx_recurring_status_next_run", columnList = "status,next_run_at")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -33,20 +42,28 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class RecurringExpense {
 
+  /**
+   * 가족 해시 버킷 수 (샤드 모드에서 노드가 나누어 맡는 단위)
+   */
+  public static final int SHARD_KEYS = 1024;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true, length = 36)
+  @Column(nullable = false, unique = true)
   private CustomUuid uuid;
 
-  @Column(name = "family_uuid", nullable = false, length = 36)
+  @Column(name = "family_uuid", nullable = false)
+  @Convert(converter = UuidStringConverter.class)
   private String familyUuid;
 
-  @Column(name = "category_uuid", nullable = false, length = 36)
+  @Column(name = "category_uuid", nullable = false)
+  @Convert(converter = UuidStringConverter.class)
   private String categoryUuid;
 
-  @Column(name = "user_uuid", nullable = false, length = 36)
+  @Column(name = "user_uuid", nullable = false)
+  @Convert(converter = UuidStringConverter.class)
   private String userUuid;
 
   @Column(nullable = false, length = 100)
@@ -55,8 +72,42 @@ public class RecurringExpense {
   @Column(nullable = false, precision = 12, scale = 2)
   private BigDecimal amount;
 
-  @Column(name = "day_of_month", nullable = false, columnDefinition = "TINYINT")
-  private int dayOfMonth;
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private RecurringFrequency frequency = RecurringFrequency.MONTHLY;
+
+  /**
+   * MONTHLY/YEARLY 기준 일자 (1~31, 그 달에 없으면 말일)
+   */
+  @Column(name = "day_of_month", columnDefinition = "TINYINT")
+  private Integer dayOfMonth;
+
+  /**
+   * WEEKLY 기준 요일 (1=월요일 ~ 7=일요일)
+   */
+  @Column(name = "day_of_week", columnDefinition = "TINYINT")
+  private Integer dayOfWeek;
+
+  /**
+   * YEARLY 기준 월 (1~12)
+   */
+  @Column(name = "month_of_year", columnDefinition = "TINYINT")
+  private Integer monthOfYear;
+
+  /**
+   * 다음 생성 일시 (발생일 + RecurringSchedule.RUN_TIME)
+   * 스케줄러는 status + next_run_at 인덱스로 next_run_at <= 기준 시각인 템플릿만 범위 조회하고,
+   * 생성과 같은 트랜잭션에서 다음 발생일로 전진시킵니다.
+   */
+  @Column(name = "next_run_at", nullable = false)
+  private LocalDateTime nextRunAt;
+
+  /**
+   * 가족 UUID 해시 버킷 (0 ~ SHARD_KEYS-1, 샤드 모드 생성 범위 분할용)
+   * MySQL CRC32(family_uuid) % 1024와 같은 값 (V23 초기화와 일치)
+   */
+  @Column(name = "family_shard_key", nullable = false, columnDefinition = "SMALLINT")
+  private int familyShardKey;
 
   @Column(nullable = false, length = 20)
   @Builder.Default
@@ -75,11 +126,35 @@ public class RecurringExpense {
     if (uuid == null) {
       uuid = CustomUuid.generate();
     }
+    familyShardKey = shardKeyOf(familyUuid);
+    if (nextRunAt == null) {
+      nextRunAt = getSchedule().firstRunAfter(LocalDateTime.now());
+    }
+  }
+
+  /**
+   * 가족 UUID 문자열의 해시 버킷
+   */
+  public static int shardKeyOf(String familyUuid) {
+    CRC32 crc32 = new CRC32();
+    crc32.update(familyUuid.getBytes(StandardCharsets.UTF_8));
+    return (int) (crc32.getValue() % SHARD_KEYS);
   }
 
   // ========== 비즈니스 메서드 ==========
 
-  public void update(String categoryUuid, String name, BigDecimal amount, Integer dayOfMonth) {
+  public RecurringSchedule getSchedule() {
+    return new RecurringSchedule(frequency, dayOfMonth, dayOfWeek, monthOfYear);
+  }
+
+  /**
+   * 등록 시 첫 실행 일시 지정 (실행 시각이 now 이후인 첫 발생일)
+   */
+  public void scheduleFrom(LocalDateTime now) {
+    this.nextRunAt = getSchedule().firstRunAfter(now);
+  }
+
+  public void update(String categoryUuid, String name, BigDecimal amount) {
     if (categoryUuid != null) {
       this.categoryUuid = categoryUuid;
     }
@@ -89,9 +164,37 @@ public class RecurringExpense {
     if (amount != null) {
       this.amount = amount;
     }
-    if (dayOfMonth != null) {
-      this.dayOfMonth = dayOfMonth;
+  }
+
+  /**
+   * 일정 변경 (ADR-B13: 즉시 전체 반영)
+   * 주기가 같으면 대기 중인 발생일의 주기(월/주/연) 이전으로는 돌아가지 않으므로,
+   * 이미 생성된 주기에 한 번 더 생성되지 않습니다.
+   */
+  public void reschedule(RecurringSchedule schedule, LocalDateTime now) {
+    LocalDate from = schedule.frequency() == frequency
+        ? schedule.periodStart(nextRunAt.toLocalDate())
+        : now.toLocalDate();
+    this.frequency = schedule.frequency();
+    this.dayOfMonth = schedule.dayOfMonth();
+    this.dayOfWeek = schedule.dayOfWeek();
+    this.monthOfYear = schedule.monthOfYear();
+    this.nextRunAt = schedule.firstRunAfter(now, from);
+  }
+
+  /**
+   * through까지 도래한 발생일을 반환하고 next_run_at을 through 다음 발생일로 전진
+   */
+  public List<LocalDate> advanceThrough(LocalDate through) {
+    RecurringSchedule schedule = getSchedule();
+    List<LocalDate> dueDates = new ArrayList<>();
+    LocalDate date = nextRunAt.toLocalDate();
+    while (!date.isAfter(through)) {
+      dueDates.add(date);
+      date = schedule.nextAfter(date);
     }
+    this.nextRunAt = date.atTime(RecurringSchedule.RUN_TIME);
+    return dueDates;
   }
 
   public void end() {
@@ -0,0 +1,48 @@
+package com.bifos.accountbook.recurring.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반복 지출 생성 워터마크 (작업별 마지막 완료 일자)
+ * - 하루치 생성이 모든 청크에서 성공하면 그 일자로 전진 (뒤로 가지 않음)
+ * - 다음 실행/기동 시 워터마크 다음 날부터 오늘까지 누락된 일자를 따라잡음
+ * - fencing_token은 마지막으로 전진시킨 임대의 토큰. 더 작은 토큰(임대를 잃은 노드)의 전진은 무시
+ */
+@Entity
+@Table(name = "recurring_generation_watermarks", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_recurring_generation_watermark_job", columnNames = "job_name")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringGenerationWatermark {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "job_name", nullable = false, length = 100)
+  private String jobName;
+
+  @Column(name = "last_completed_date", nullable = false)
+  private LocalDate lastCompletedDate;
+
+  @Column(name = "fencing_token", nullable = false)
+  private long fencingToken;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
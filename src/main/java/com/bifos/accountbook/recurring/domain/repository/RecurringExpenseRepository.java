@@ -1,10 +1,18 @@
 package com.bifos.accountbook.recurring.domain.repository;
 
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import com.bifos.accountbook.recurring.domain.value.RecurringOccurrence;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RecurringExpenseRepository {
 
@@ -14,12 +22,43 @@ public interface RecurringExpenseRepository {
 
   List<RecurringExpense> findAllActiveByFamilyUuid(String familyUuid);
 
-  List<RecurringExpense> findAllActiveByDayOfMonth(int dayOfMonth);
+  /**
+   * next_run_at이 cutoff 이하인 활성 반복 지출을 (next_run_at, id) 순으로 after 이후 최대 limit건 조회 (생성 작업 청크 단위)
+   *
+   * @param shardKeyFrom 가족 해시 버킷 하한 (포함)
+   * @param shardKeyTo   가족 해시 버킷 상한 (제외)
+   * @param after        이전 청크의 마지막 (next_run_at, id) (첫 청크는 null)
+   */
+  List<RecurringExpense> findDueAfter(
+      LocalDateTime cutoff, int shardKeyFrom, int shardKeyTo, PageCursor after, int limit);
 
-  boolean existsByRecurringExpenseUuidAndYearMonth(
-      String recurringExpenseUuid, String yearMonth);
+  /**
+   * 청크의 반복 지출 중 아직 도래 상태인 것만 쓰기 잠금과 함께 다시 조회
+   * 조회 이후 다른 노드가 전진시킨 반복 지출은 제외됩니다.
+   */
+  List<RecurringExpense> findAllDueByIdsWithLock(Collection<Long> ids, LocalDateTime cutoff);
 
-  BigDecimal sumActiveAmountByFamilyUuid(String familyUuid);
+  /**
+   * 활성 반복 지출을 id 순으로 afterId 이후 최대 limit건 조회 (백필 청크 단위)
+   */
+  List<RecurringExpense> findActiveAfter(long afterId, int limit);
+
+  /**
+   * 템플릿 중 yearMonth에 지출이 생성된 템플릿 UUID (단일 쿼리)
+   * 템플릿 UUID로 시작하는 uq_recurring_occurrence 인덱스를 사용합니다.
+   */
+  Set<String> findGeneratedRecurringExpenseUuids(Collection<String> recurringExpenseUuids, String yearMonth);
+
+  /**
+   * [from, to] 구간에 이미 생성된 발생 조회 (청크 단위 일괄 확인)
+   */
+  Set<RecurringOccurrence> findGeneratedOccurrences(
+      Collection<String> recurringExpenseUuids, LocalDate from, LocalDate to);
+
+  /**
+   * 주기별 활성 반복 지출 금액 합계
+   */
+  Map<RecurringFrequency, BigDecimal> sumActiveAmountByFrequency(String familyUuid);
 
   void moveRecurringExpenses(CustomUuid oldCategoryUuid, CustomUuid newCategoryUuid);
 }
@@ -0,0 +1,21 @@
+package com.bifos.accountbook.recurring.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 반복 지출 생성 워터마크 Repository 인터페이스
+ */
+public interface RecurringGenerationWatermarkRepository {
+
+  /**
+   * 작업의 마지막 완료 일자 (한 번도 완료하지 않았으면 empty)
+   */
+  Optional<LocalDate> findLastCompletedDate(String jobName);
+
+  /**
+   * 마지막 완료 일자 전진 (이미 더 늦은 일자가 기록되어 있으면 유지)
+   * 더 큰 fencing token으로 이미 전진한 적이 있으면 임대를 잃은 노드의 늦은 쓰기로 보고 무시합니다.
+   */
+  void advance(String jobName, LocalDate completedDate, long fencingToken);
+}
@@ -0,0 +1,43 @@
+package com.bifos.accountbook.recurring.domain.value;
+
+import com.bifos.accountbook.shared.value.CodeEnum;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 반복 주기
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RecurringFrequency implements CodeEnum {
+
+  /**
+   * 매월 day_of_month일 (그 달에 없는 일자면 말일)
+   */
+  MONTHLY("MONTHLY"),
+
+  /**
+   * 매주 day_of_week요일 (1=월요일 ~ 7=일요일)
+   */
+  WEEKLY("WEEKLY"),
+
+  /**
+   * 매년 month_of_year월 day_of_month일 (2월 29일은 평년에 28일)
+   */
+  YEARLY("YEARLY");
+
+  private final String code;
+
+  /**
+   * 1회 금액을 월 환산 금액으로 변환 (주간 ×52/12, 연간 /12, 소수 둘째 자리 반올림)
+   */
+  public BigDecimal toMonthlyAmount(BigDecimal amount) {
+    return switch (this) {
+      case MONTHLY -> amount;
+      case WEEKLY -> amount.multiply(BigDecimal.valueOf(52)).divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_UP);
+      case YEARLY -> amount.divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_UP);
+    };
+  }
+}
@@ -0,0 +1,9 @@
+package com.bifos.accountbook.recurring.domain.value;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 지출의 발생 1건 (expenses UNIQUE 키 uq_recurring_occurrence와 같은 구성)
+ */
+public record RecurringOccurrence(String recurringExpenseUuid, LocalDate date) {
+}
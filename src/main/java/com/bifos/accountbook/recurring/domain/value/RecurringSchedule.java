@@ -0,0 +1,139 @@
+package com.bifos.accountbook.recurring.domain.value;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 일정 (주기 + 주기별 기준 일자)
+ * - MONTHLY: dayOfMonth (1~31, 그 달에 없으면 말일)
+ * - WEEKLY: dayOfWeek (1=월요일 ~ 7=일요일)
+ * - YEARLY: monthOfYear + dayOfMonth (2월 29일은 평년에 28일)
+ * 주기에 쓰지 않는 값은 null로 정규화합니다.
+ */
+public record RecurringSchedule(RecurringFrequency frequency,
+                                Integer dayOfMonth,
+                                Integer dayOfWeek,
+                                Integer monthOfYear) {
+
+  /**
+   * 생성 실행 시각. 발생일의 이 시각이 next_run_at이 됨 (스케줄러 cron과 같아야 함)
+   */
+  public static final LocalTime RUN_TIME = LocalTime.of(1, 0);
+
+  public static RecurringSchedule of(RecurringFrequency frequency,
+                                     Integer dayOfMonth,
+                                     Integer dayOfWeek,
+                                     Integer monthOfYear) {
+    return switch (frequency) {
+      case MONTHLY -> new RecurringSchedule(frequency, dayOfMonth, null, null);
+      case WEEKLY -> new RecurringSchedule(frequency, null, dayOfWeek, null);
+      case YEARLY -> new RecurringSchedule(frequency, dayOfMonth, null, monthOfYear);
+    };
+  }
+
+  public static RecurringSchedule monthly(int dayOfMonth) {
+    return of(RecurringFrequency.MONTHLY, dayOfMonth, null, null);
+  }
+
+  /**
+   * 주기에 필요한 값이 모두 있고 범위 안인지
+   */
+  public boolean isValid() {
+    return switch (frequency) {
+      case MONTHLY -> dayOfMonth != null && dayOfMonth >= 1 && dayOfMonth <= 31;
+      case WEEKLY -> dayOfWeek != null && dayOfWeek >= 1 && dayOfWeek <= 7;
+      case YEARLY -> monthOfYear != null && monthOfYear >= 1 && monthOfYear <= 12
+          && dayOfMonth != null && dayOfMonth >= 1 && dayOfMonth <= Month.of(monthOfYear).maxLength();
+    };
+  }
+
+  /**
+   * date 이후(date 포함) 첫 발생일
+   */
+  public LocalDate firstOnOrAfter(LocalDate date) {
+    return switch (frequency) {
+      case MONTHLY -> {
+        LocalDate candidate = clampToMonth(date.withDayOfMonth(1), dayOfMonth);
+        yield candidate.isBefore(date) ? clampToMonth(date.withDayOfMonth(1).plusMonths(1), dayOfMonth) : candidate;
+      }
+      case WEEKLY -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(dayOfWeek)));
+      case YEARLY -> {
+        LocalDate candidate = clampToMonth(LocalDate.of(date.getYear(), monthOfYear, 1), dayOfMonth);
+        yield candidate.isBefore(date)
+            ? clampToMonth(LocalDate.of(date.getYear() + 1, monthOfYear, 1), dayOfMonth)
+            : candidate;
+      }
+    };
+  }
+
+  /**
+   * date 다음(date 제외) 발생일
+   */
+  public LocalDate nextAfter(LocalDate date) {
+    return firstOnOrAfter(date.plusDays(1));
+  }
+
+  /**
+   * 실행 시각이 now보다 뒤인 첫 실행 일시 (등록 시 next_run_at)
+   */
+  public LocalDateTime firstRunAfter(LocalDateTime now) {
+    return firstRunAfter(now, now.toLocalDate());
+  }
+
+  /**
+   * 실행 시각이 now보다 뒤인 첫 실행 일시 (일정 변경 시 next_run_at)
+   *
+   * @param from 이 일자 이전 발생일은 건너뜀
+   */
+  public LocalDateTime firstRunAfter(LocalDateTime now, LocalDate from) {
+    LocalDate start = from.isAfter(now.toLocalDate()) ? from : now.toLocalDate();
+    LocalDate date = firstOnOrAfter(start);
+    if (!date.atTime(RUN_TIME).isAfter(now)) {
+      date = nextAfter(date);
+    }
+    return date.atTime(RUN_TIME);
+  }
+
+  /**
+   * date가 속한 주기의 시작일 (월초 / 월요일 / 연초)
+   */
+  public LocalDate periodStart(LocalDate date) {
+    return switch (frequency) {
+      case MONTHLY -> date.withDayOfMonth(1);
+      case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case YEARLY -> date.withDayOfYear(1);
+    };
+  }
+
+  /**
+   * date가 속한 주기의 마지막 일자 (월말 / 일요일 / 연말)
+   */
+  public LocalDate periodEnd(LocalDate date) {
+    return switch (frequency) {
+      case MONTHLY -> date.with(TemporalAdjusters.lastDayOfMonth());
+      case WEEKLY -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+      case YEARLY -> date.with(TemporalAdjusters.lastDayOfYear());
+    };
+  }
+
+  /**
+   * [from, to] 구간의 발생일
+   */
+  public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+    List<LocalDate> dates = new ArrayList<>();
+    for (LocalDate date = firstOnOrAfter(from); !date.isAfter(to); date = nextAfter(date)) {
+      dates.add(date);
+    }
+    return dates;
+  }
+
+  private static LocalDate clampToMonth(LocalDate firstOfMonth, int dayOfMonth) {
+    return firstOfMonth.withDayOfMonth(Math.min(dayOfMonth, firstOfMonth.lengthOfMonth()));
+  }
+}
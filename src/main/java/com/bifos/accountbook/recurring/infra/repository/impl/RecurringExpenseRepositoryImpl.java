@@ -4,13 +4,26 @@ import com.bifos.accountbook.expense.domain.entity.QExpense;
 import com.bifos.accountbook.recurring.domain.entity.QRecurringExpense;
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.recurring.domain.value.RecurringExpenseStatus;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import com.bifos.accountbook.recurring.domain.value.RecurringOccurrence;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import com.bifos.accountbook.recurring.infra.repository.jpa.RecurringExpenseJpaRepository;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -40,44 +53,111 @@ public class RecurringExpenseRepositoryImpl implements RecurringExpenseRepositor
         .where(
             recurringExpense.familyUuid.eq(familyUuid),
             recurringExpense.status.eq(RecurringExpenseStatus.ACTIVE))
-        .orderBy(recurringExpense.dayOfMonth.asc())
+        .orderBy(recurringExpense.nextRunAt.asc(), recurringExpense.id.asc())
         .fetch();
   }
 
+  /**
+   * idx_recurring_status_next_run (status, next_run_at)은 InnoDB에서 PK(id)가 뒤에 붙어 (status, next_run_at, id) 순이므로
+   * 정렬 없이 인덱스 순서대로 읽고 limit에서 멈춥니다.
+   * family_shard_key는 인덱스에 넣지 않습니다. next_run_at 뒤에 두면 같은 next_run_at 안에서 id 순이 깨져
+   * (1일·25일처럼 도래 템플릿이 모두 같은 01:00을 가짐) 정렬이 다시 필요해지고,
+   * 구간 밖 템플릿은 행을 읽어 거르는 비용만 들어 도래한 템플릿 수에 비례하기 때문입니다.
+   */
   @Override
-  public List<RecurringExpense> findAllActiveByDayOfMonth(int dayOfMonth) {
+  public List<RecurringExpense> findDueAfter(
+      LocalDateTime cutoff, int shardKeyFrom, int shardKeyTo, PageCursor after, int limit) {
     return queryFactory.selectFrom(recurringExpense)
         .where(
-            recurringExpense.dayOfMonth.eq(dayOfMonth),
-            recurringExpense.status.eq(RecurringExpenseStatus.ACTIVE))
+            recurringExpense.status.eq(RecurringExpenseStatus.ACTIVE),
+            recurringExpense.nextRunAt.loe(cutoff),
+            recurringExpense.familyShardKey.goe(shardKeyFrom),
+            recurringExpense.familyShardKey.lt(shardKeyTo),
+            dueAfter(after))
+        .orderBy(recurringExpense.nextRunAt.asc(), recurringExpense.id.asc())
+        .limit(limit)
         .fetch();
   }
 
+  private BooleanExpression dueAfter(PageCursor after) {
+    if (after == null) {
+      return null;
+    }
+    return recurringExpense.nextRunAt.gt(after.date())
+        .or(recurringExpense.nextRunAt.eq(after.date()).and(recurringExpense.id.gt(after.id())));
+  }
+
+  @Override
+  public List<RecurringExpense> findAllDueByIdsWithLock(Collection<Long> ids, LocalDateTime cutoff) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return jpaRepository.findAllDueByIdsWithLock(ids, cutoff);
+  }
+
   @Override
-  public boolean existsByRecurringExpenseUuidAndYearMonth(
-      String recurringExpenseUuid, String yearMonth) {
+  public List<RecurringExpense> findActiveAfter(long afterId, int limit) {
+    return queryFactory.selectFrom(recurringExpense)
+        .where(
+            recurringExpense.status.eq(RecurringExpenseStatus.ACTIVE),
+            recurringExpense.id.gt(afterId))
+        .orderBy(recurringExpense.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public Set<String> findGeneratedRecurringExpenseUuids(
+      Collection<String> recurringExpenseUuids, String yearMonth) {
+    if (recurringExpenseUuids.isEmpty()) {
+      return Set.of();
+    }
     QExpense expense = QExpense.expense;
 
-    Integer result = queryFactory.selectOne()
+    return new HashSet<>(queryFactory.selectDistinct(expense.recurringExpenseUuid)
         .from(expense)
         .where(
-            expense.recurringExpenseUuid.eq(recurringExpenseUuid),
+            expense.recurringExpenseUuid.in(recurringExpenseUuids),
             expense.yearMonth.eq(yearMonth))
-        .fetchFirst();
+        .fetch());
+  }
 
-    return result != null;
+  @Override
+  public Set<RecurringOccurrence> findGeneratedOccurrences(
+      Collection<String> recurringExpenseUuids, LocalDate from, LocalDate to) {
+    if (recurringExpenseUuids.isEmpty()) {
+      return Set.of();
+    }
+    QExpense expense = QExpense.expense;
+
+    return queryFactory.select(expense.recurringExpenseUuid, expense.recurringDate)
+        .from(expense)
+        .where(
+            expense.recurringExpenseUuid.in(recurringExpenseUuids),
+            expense.recurringDate.between(from, to))
+        .fetch()
+        .stream()
+        .map(tuple -> new RecurringOccurrence(
+            tuple.get(expense.recurringExpenseUuid),
+            tuple.get(expense.recurringDate)))
+        .collect(Collectors.toSet());
   }
 
   @Override
-  public BigDecimal sumActiveAmountByFamilyUuid(String familyUuid) {
-    BigDecimal sum = queryFactory.select(recurringExpense.amount.sum())
+  public Map<RecurringFrequency, BigDecimal> sumActiveAmountByFrequency(String familyUuid) {
+    NumberExpression<BigDecimal> amountSum = recurringExpense.amount.sum();
+    Map<RecurringFrequency, BigDecimal> sums = new EnumMap<>(RecurringFrequency.class);
+    queryFactory.select(recurringExpense.frequency, amountSum)
         .from(recurringExpense)
         .where(
             recurringExpense.familyUuid.eq(familyUuid),
             recurringExpense.status.eq(RecurringExpenseStatus.ACTIVE))
-        .fetchOne();
-
-    return sum != null ? sum : BigDecimal.ZERO;
+        .groupBy(recurringExpense.frequency)
+        .fetch()
+        .forEach(tuple -> sums.put(
+            tuple.get(recurringExpense.frequency),
+            tuple.get(amountSum)));
+    return sums;
   }
 
   @Override
@@ -0,0 +1,33 @@
+package com.bifos.accountbook.recurring.infra.repository.impl;
+
+import com.bifos.accountbook.recurring.domain.repository.RecurringGenerationWatermarkRepository;
+import com.bifos.accountbook.recurring.infra.repository.jpa.RecurringGenerationWatermarkJpaRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class RecurringGenerationWatermarkRepositoryImpl implements RecurringGenerationWatermarkRepository {
+
+  private final RecurringGenerationWatermarkJpaRepository jpaRepository;
+  private final Clock clock;
+
+  @Override
+  public Optional<LocalDate> findLastCompletedDate(String jobName) {
+    return jpaRepository.findLastCompletedDateByJobName(jobName);
+  }
+
+  /**
+   * 스케줄러는 트랜잭션 밖에서 호출하므로 UPSERT 한 건을 자체 트랜잭션으로 실행
+   */
+  @Override
+  @Transactional
+  public void advance(String jobName, LocalDate completedDate, long fencingToken) {
+    jpaRepository.upsert(jobName, completedDate, fencingToken, LocalDateTime.now(clock));
+  }
+}
@@ -2,8 +2,13 @@ package com.bifos.accountbook.recurring.infra.repository.jpa;
 
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,4 +21,16 @@ public interface RecurringExpenseJpaRepository extends JpaRepository<RecurringEx
       AND r.status = com.bifos.accountbook.recurring.domain.value.RecurringExpenseStatus.ACTIVE
       """)
   Optional<RecurringExpense> findActiveByUuid(@Param("uuid") CustomUuid uuid);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+      SELECT r
+      FROM RecurringExpense r
+      WHERE r.id IN :ids
+      AND r.status = com.bifos.accountbook.recurring.domain.value.RecurringExpenseStatus.ACTIVE
+      AND r.nextRunAt <= :cutoff
+      ORDER BY r.id
+      """)
+  List<RecurringExpense> findAllDueByIdsWithLock(@Param("ids") Collection<Long> ids,
+                                                 @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,38 @@
+package com.bifos.accountbook.recurring.infra.repository.jpa;
+
+import com.bifos.accountbook.recurring.domain.entity.RecurringGenerationWatermark;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * UPSERT는 JPQL로 표현할 수 없어 네이티브 쿼리를 사용합니다.
+ * (MySQL 및 H2 MODE=MySQL 공통 문법)
+ * MySQL은 UPDATE 절을 왼쪽부터 적용하므로 last_completed_date를 fencing_token보다 먼저 갱신합니다.
+ */
+public interface RecurringGenerationWatermarkJpaRepository
+    extends JpaRepository<RecurringGenerationWatermark, Long> {
+
+  @Query("SELECT w.lastCompletedDate FROM RecurringGenerationWatermark w WHERE w.jobName = :jobName")
+  Optional<LocalDate> findLastCompletedDateByJobName(@Param("jobName") String jobName);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO recurring_generation_watermarks (job_name, last_completed_date, fencing_token, updated_at)
+      VALUES (:jobName, :completedDate, :fencingToken, :now)
+      ON DUPLICATE KEY UPDATE
+          last_completed_date = CASE WHEN fencing_token <= :fencingToken
+                                     THEN GREATEST(last_completed_date, :completedDate)
+                                     ELSE last_completed_date END,
+          fencing_token = GREATEST(fencing_token, :fencingToken),
+          updated_at = :now
+      """, nativeQuery = true)
+  void upsert(@Param("jobName") String jobName,
+              @Param("completedDate") LocalDate completedDate,
+              @Param("fencingToken") long fencingToken,
+              @Param("now") LocalDateTime now);
+}
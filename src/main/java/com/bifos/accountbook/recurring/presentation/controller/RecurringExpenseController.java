@@ -10,6 +10,7 @@ import com.bifos.accountbook.recurring.presentation.dto.CreateRecurringExpenseRe
 import com.bifos.accountbook.recurring.presentation.dto.GetRecurringExpensesResponse;
 import com.bifos.accountbook.recurring.presentation.dto.RecurringExpenseResponse;
 import com.bifos.accountbook.recurring.presentation.dto.UpdateRecurringExpenseRequest;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -54,7 +55,10 @@ public class RecurringExpenseController {
         .categoryUuid(request.getCategoryUuid())
         .name(request.getName())
         .amount(request.getAmount())
+        .frequency(toFrequency(request.getFrequency()))
         .dayOfMonth(request.getDayOfMonth())
+        .dayOfWeek(request.getDayOfWeek())
+        .monthOfYear(request.getMonthOfYear())
         .build();
 
     RecurringExpenseDto.Response serviceResponse =
@@ -95,7 +99,7 @@ public class RecurringExpenseController {
   }
 
   @Operation(summary = "반복 지출 월간 총액 조회",
-      description = "활성 상태인 반복 지출의 월간 총액을 조회합니다.")
+      description = "활성 상태인 반복 지출의 월 환산 총액을 조회합니다. (주간 ×52/12, 연간 ÷12)")
   @ApiResponse(responseCode = "200", description = "조회 성공")
   @GetMapping("/monthly-total")
   public ResponseEntity<ApiSuccessResponse<BigDecimal>> getMonthlyTotal(
@@ -123,7 +127,10 @@ public class RecurringExpenseController {
         .categoryUuid(request.getCategoryUuid())
         .name(request.getName())
         .amount(request.getAmount())
+        .frequency(toFrequency(request.getFrequency()))
         .dayOfMonth(request.getDayOfMonth())
+        .dayOfWeek(request.getDayOfWeek())
+        .monthOfYear(request.getMonthOfYear())
         .build();
 
     RecurringExpenseDto.Response serviceResponse =
@@ -148,4 +155,8 @@ public class RecurringExpenseController {
 
     return ResponseEntity.ok(ApiSuccessResponse.of("삭제되었습니다.", null));
   }
+
+  private static RecurringFrequency toFrequency(String frequency) {
+    return frequency != null ? RecurringFrequency.valueOf(frequency) : null;
+  }
 }
@@ -6,11 +6,17 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 반복 지출 등록 요청
+ * - frequency 생략 시 MONTHLY
+ * - MONTHLY: dayOfMonth (그 달에 없는 일자면 말일), WEEKLY: dayOfWeek, YEARLY: monthOfYear + dayOfMonth
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,8 +33,25 @@ public class CreateRecurringExpenseRequest {
   @Digits(integer = 10, fraction = 2, message = "금액은 최대 10자리 정수와 2자리 소수를 가질 수 있습니다")
   private BigDecimal amount;
 
-  @NotNull(message = "결제일은 필수입니다")
   @Min(value = 1, message = "결제일은 1 이상이어야 합니다")
-  @Max(value = 28, message = "결제일은 28 이하여야 합니다")
+  @Max(value = 31, message = "결제일은 31 이하여야 합니다")
   private Integer dayOfMonth;
+
+  @Pattern(regexp = "MONTHLY|WEEKLY|YEARLY", message = "반복 주기는 MONTHLY, WEEKLY, YEARLY 중 하나여야 합니다")
+  private String frequency;
+
+  @Min(value = 1, message = "요일은 1(월요일) 이상이어야 합니다")
+  @Max(value = 7, message = "요일은 7(일요일) 이하여야 합니다")
+  private Integer dayOfWeek;
+
+  @Min(value = 1, message = "월은 1 이상이어야 합니다")
+  @Max(value = 12, message = "월은 12 이하여야 합니다")
+  private Integer monthOfYear;
+
+  /**
+   * 매월 반복 등록 요청
+   */
+  public CreateRecurringExpenseRequest(String categoryUuid, String name, BigDecimal amount, Integer dayOfMonth) {
+    this(categoryUuid, name, amount, dayOfMonth, null, null, null);
+  }
 }
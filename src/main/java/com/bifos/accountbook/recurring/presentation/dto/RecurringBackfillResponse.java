@@ -0,0 +1,31 @@
+package com.bifos.accountbook.recurring.presentation.dto;
+
+import com.bifos.accountbook.recurring.application.dto.RecurringGenerationResult;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringBackfillResponse {
+
+  private LocalDate from;
+  private LocalDate to;
+  private int templates;
+  private int created;
+  private int failedChunks;
+
+  public static RecurringBackfillResponse of(LocalDate from, LocalDate to, RecurringGenerationResult result) {
+    return RecurringBackfillResponse.builder()
+        .from(from)
+        .to(to)
+        .templates(result.templates())
+        .created(result.created())
+        .failedChunks(result.failedChunks())
+        .build();
+  }
+}
@@ -3,6 +3,7 @@ package com.bifos.accountbook.recurring.presentation.dto;
 import com.bifos.accountbook.category.application.dto.CategoryInfo;
 import com.bifos.accountbook.recurring.application.dto.RecurringExpenseDto;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +23,11 @@ public class RecurringExpenseResponse {
   private String userUuid;
   private String name;
   private BigDecimal amount;
-  private int dayOfMonth;
+  private String frequency;
+  private Integer dayOfMonth;
+  private Integer dayOfWeek;
+  private Integer monthOfYear;
+  private LocalDate nextRunDate;
   private String status;
   private boolean generatedThisMonth;
   private LocalDateTime createdAt;
@@ -37,7 +42,11 @@ public class RecurringExpenseResponse {
         .userUuid(dto.getUserUuid())
         .name(dto.getName())
         .amount(dto.getAmount())
+        .frequency(dto.getFrequency().name())
         .dayOfMonth(dto.getDayOfMonth())
+        .dayOfWeek(dto.getDayOfWeek())
+        .monthOfYear(dto.getMonthOfYear())
+        .nextRunDate(dto.getNextRunDate())
         .status(dto.getStatus().name())
         .generatedThisMonth(dto.isGeneratedThisMonth())
         .createdAt(dto.getCreatedAt())
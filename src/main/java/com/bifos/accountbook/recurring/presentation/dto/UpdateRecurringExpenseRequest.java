@@ -4,11 +4,16 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 반복 지출 수정 요청 (null인 항목은 변경하지 않음)
+ * 일정 항목을 바꾸면 다음 생성일(nextRunDate)이 새 일정으로 다시 계산됩니다.
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +28,21 @@ public class UpdateRecurringExpenseRequest {
   private BigDecimal amount;
 
   @Min(value = 1, message = "결제일은 1 이상이어야 합니다")
-  @Max(value = 28, message = "결제일은 28 이하여야 합니다")
+  @Max(value = 31, message = "결제일은 31 이하여야 합니다")
   private Integer dayOfMonth;
+
+  @Pattern(regexp = "MONTHLY|WEEKLY|YEARLY", message = "반복 주기는 MONTHLY, WEEKLY, YEARLY 중 하나여야 합니다")
+  private String frequency;
+
+  @Min(value = 1, message = "요일은 1(월요일) 이상이어야 합니다")
+  @Max(value = 7, message = "요일은 7(일요일) 이하여야 합니다")
+  private Integer dayOfWeek;
+
+  @Min(value = 1, message = "월은 1 이상이어야 합니다")
+  @Max(value = 12, message = "월은 12 이하여야 합니다")
+  private Integer monthOfYear;
+
+  public UpdateRecurringExpenseRequest(String categoryUuid, String name, BigDecimal amount, Integer dayOfMonth) {
+    this(categoryUuid, name, amount, dayOfMonth, null, null, null);
+  }
 }
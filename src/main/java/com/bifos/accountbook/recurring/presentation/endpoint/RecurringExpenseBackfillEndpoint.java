@@ -0,0 +1,57 @@
+package com.bifos.accountbook.recurring.presentation.endpoint;
+
+import com.bifos.accountbook.recurring.application.service.RecurringExpenseScheduler;
+import com.bifos.accountbook.recurring.presentation.dto.RecurringBackfillResponse;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반복 지출 백필 관리 엔드포인트 (actuator)
+ * POST /actuator/recurringbackfill {"from": "2026-10-01", "to": "2026-10-03"}
+ *
+ * 관리 포트(운영: management.server.port, 내부망 전용)에서만 노출하고, ADMIN 역할의 HTTP Basic 인증을 요구합니다 (SecurityConfig).
+ * 템플릿마다 이미 발생이 생성된 주기(월/주/연)는 건너뛰므로 같은 구간을 여러 번 실행해도 안전합니다.
+ */
+@Component
+@Endpoint(id = "recurringbackfill")
+@RequiredArgsConstructor
+public class RecurringExpenseBackfillEndpoint {
+
+  private static final int MAX_DAYS = 366;
+
+  private final RecurringExpenseScheduler recurringExpenseScheduler;
+  private final Clock clock;
+
+  @WriteOperation
+  public RecurringBackfillResponse backfill(String from, String to) {
+    LocalDate fromDate = parse("from", from);
+    LocalDate toDate = parse("to", to);
+
+    if (fromDate.isAfter(toDate)) {
+      throw new InvalidEndpointRequestException("from must not be after to", "from > to");
+    }
+    if (toDate.isAfter(LocalDate.now(clock))) {
+      throw new InvalidEndpointRequestException("to must not be in the future", "to > today");
+    }
+    if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_DAYS) {
+      throw new InvalidEndpointRequestException("range must be at most " + MAX_DAYS + " days", "range too large");
+    }
+
+    return RecurringBackfillResponse.of(fromDate, toDate, recurringExpenseScheduler.backfill(fromDate, toDate));
+  }
+
+  private static LocalDate parse(String name, String value) {
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new InvalidEndpointRequestException(name + " must be yyyy-MM-dd", "invalid " + name);
+    }
+  }
+}
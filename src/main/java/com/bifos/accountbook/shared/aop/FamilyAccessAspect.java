@@ -2,21 +2,23 @@ package com.bifos.accountbook.shared.aop;
 
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
-import com.bifos.accountbook.shared.aop.FamilyValidationService;
 import com.bifos.accountbook.shared.value.CustomUuid;
-import com.bifos.accountbook.shared.aop.FamilyUuid;
-import com.bifos.accountbook.shared.aop.UserUuid;
-import com.bifos.accountbook.shared.aop.ValidateFamilyAccess;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodIntrospector;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 /**
  * 가족 접근 권한 검증 AOP
@@ -26,27 +28,21 @@ import org.springframework.stereotype.Component;
  *
  * <h3>검증 로직</h3>
  * <ol>
- *   <li>메서드 파라미터에서 <b>userUuid</b>와 <b>familyUuid</b>를 추출</li>
+ *   <li>메서드별로 미리 계산한 인덱스({@link FamilyAccessParameters})로 <b>userUuid</b>와 <b>familyUuid</b>를 추출</li>
  *   <li>FamilyValidationService를 통해 권한 확인</li>
  *   <li>권한이 없으면 BusinessException 발생</li>
  * </ol>
  *
  * <h3>파라미터 요구사항</h3>
  * <ul>
- *   <li><b>사용자 UUID</b>: CustomUuid 타입 (필수)
- *     <ul>
- *       <li>권장: {@link UserUuid @UserUuid} 애노테이션 사용</li>
- *       <li>하위 호환: 파라미터 이름이 "userUuid"인 경우 자동 인식</li>
- *     </ul>
- *   </li>
- *   <li><b>가족 UUID</b>: CustomUuid 타입 (필수)
- *     <ul>
- *       <li>권장: {@link FamilyUuid @FamilyUuid} 애노테이션 사용</li>
- *       <li>하위 호환: 파라미터 이름이 "familyUuid"인 경우 자동 인식</li>
- *     </ul>
- *   </li>
+ *   <li><b>사용자 UUID</b>: {@link UserUuid @UserUuid} CustomUuid 파라미터 (필수, 1개)</li>
+ *   <li><b>가족 UUID</b>: {@link FamilyUuid @FamilyUuid} CustomUuid 파라미터 (필수, 1개)</li>
  * </ul>
  *
+ * <p>거의 모든 조회 API를 감싸는 어드바이스이므로 호출마다 리플렉션으로 파라미터를 순회하지 않습니다.
+ * 애플리케이션 시작 시 모든 빈의 {@code @ValidateFamilyAccess} 메서드를 검사해 인자 위치를 캐싱하고,
+ * 잘못 설정된 메서드가 있으면 첫 요청이 아니라 기동 단계에서 실패합니다.</p>
+ *
  * @see ValidateFamilyAccess
  * @see UserUuid
  * @see FamilyUuid
@@ -56,95 +52,93 @@ import org.springframework.stereotype.Component;
 @Aspect
 @Component
 @RequiredArgsConstructor
-public class FamilyAccessAspect {
+public class FamilyAccessAspect implements SmartInitializingSingleton {
 
   private final FamilyValidationService familyValidationService;
+  private final ListableBeanFactory beanFactory;
+
+  /**
+   * 메서드별 인자 위치 (불변 값, 기동 시 채우고 이후에는 조회만)
+   */
+  private final Map<Method, FamilyAccessParameters> parametersByMethod = new ConcurrentHashMap<>();
 
   /**
    * @ValidateFamilyAccess 애노테이션이 붙은 메서드 실행 전에 권한 검증
    *
    * @param joinPoint 메서드 실행 지점
-   * @throws BusinessException 권한이 없거나 필수 파라미터가 없는 경우
+   * @throws BusinessException 권한이 없거나 필수 인자가 null인 경우
    */
-  @Before("@annotation(validateFamilyAccess)")
-  public void validateFamilyAccess(JoinPoint joinPoint, ValidateFamilyAccess validateFamilyAccess) throws BusinessException {
-    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    Method method = signature.getMethod();
+  @Before("@annotation(com.bifos.accountbook.shared.aop.ValidateFamilyAccess)")
+  public void validateFamilyAccess(JoinPoint joinPoint) throws BusinessException {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    FamilyAccessParameters parameters = parametersOf(method);
     Object[] args = joinPoint.getArgs();
-    Parameter[] parameters = method.getParameters();
 
-    // 파라미터 추출: 한 번의 루프로 두 파라미터 모두 찾기
-    // 1순위: 애노테이션 기반 추출 (@UserUuid, @FamilyUuid)
-    // 2순위: 파라미터 이름 기반 추출 (하위 호환성)
-    CustomUuid userUuid = null;
-    CustomUuid familyUuid = null;
+    CustomUuid userUuid = parameters.userUuid(args);
+    if (userUuid == null) {
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                                  "@ValidateFamilyAccess: 'userUuid' 인자가 null입니다")
+          .addParameter("method", method.getName());
+    }
 
-    for (int i = 0; i < parameters.length; i++) {
-      Parameter param = parameters[i];
-      if (!param.getType().equals(CustomUuid.class)) {
-        continue;
-      }
+    CustomUuid familyUuid = parameters.familyUuid(args);
+    if (familyUuid == null) {
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                                  "@ValidateFamilyAccess: 'familyUuid' 인자가 null입니다")
+          .addParameter("method", method.getName());
+    }
 
-      // 애노테이션 확인
-      Annotation[] annotations = param.getAnnotations();
-      boolean hasUserUuidAnnotation = false;
-      boolean hasFamilyUuidAnnotation = false;
+    // 권한 검증
+    familyValidationService.validateFamilyAccess(userUuid, familyUuid);
+  }
 
-      for (Annotation annotation : annotations) {
-        if (annotation.annotationType().equals(UserUuid.class)) {
-          hasUserUuidAnnotation = true;
-        } else if (annotation.annotationType().equals(FamilyUuid.class)) {
-          hasFamilyUuidAnnotation = true;
-        }
-      }
+  /**
+   * 모든 빈의 @ValidateFamilyAccess 메서드를 검사해 인자 위치를 미리 계산
+   * 잘못 설정된 메서드를 모아 한 번에 보고하고 기동을 중단합니다.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    List<String> errors = new ArrayList<>();
 
-      // 애노테이션 기반 추출 (우선순위 높음)
-      // 중복 애노테이션 감지: 이미 값이 있으면 예외 발생
-      if (hasUserUuidAnnotation) {
-        if (userUuid != null) {
-          throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                                      "@ValidateFamilyAccess: @UserUuid 애노테이션이 여러 파라미터에 중복 사용되었습니다")
-              .addParameter("method", method.getName());
-        }
-        userUuid = (CustomUuid) args[i];
-      } else if (hasFamilyUuidAnnotation) {
-        if (familyUuid != null) {
-          throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                                      "@ValidateFamilyAccess: @FamilyUuid 애노테이션이 여러 파라미터에 중복 사용되었습니다")
-              .addParameter("method", method.getName());
-        }
-        familyUuid = (CustomUuid) args[i];
-      } else {
-        // 애노테이션이 없으면 파라미터 이름으로 추출 (하위 호환성)
-        String paramName = param.getName();
-        if ("userUuid".equals(paramName) && userUuid == null) {
-          userUuid = (CustomUuid) args[i];
-        } else if ("familyUuid".equals(paramName) && familyUuid == null) {
-          familyUuid = (CustomUuid) args[i];
-        }
+    for (String beanName : beanFactory.getBeanDefinitionNames()) {
+      Class<?> beanType = beanFactory.getType(beanName, false);
+      if (beanType == null) {
+        continue;
       }
+      Map<Method, ValidateFamilyAccess> methods = MethodIntrospector.selectMethods(
+          ClassUtils.getUserClass(beanType),
+          (MethodIntrospector.MetadataLookup<ValidateFamilyAccess>) m -> m.getAnnotation(ValidateFamilyAccess.class));
 
-      // 두 파라미터를 모두 찾으면 루프 종료
-      if (userUuid != null && familyUuid != null) {
-        break;
+      for (Method method : methods.keySet()) {
+        try {
+          parametersByMethod.computeIfAbsent(method, FamilyAccessParameters::resolve);
+        } catch (IllegalStateException e) {
+          errors.add(e.getMessage());
+        }
       }
     }
 
-    // 필수 파라미터 검증
-    if (userUuid == null) {
-      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                                  "@ValidateFamilyAccess: 'userUuid' 파라미터(CustomUuid)가 필요합니다")
-          .addParameter("method", method.getName());
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException("잘못 설정된 @ValidateFamilyAccess 메서드가 있습니다\n"
+                                          + String.join("\n", errors));
     }
+    log.debug("@ValidateFamilyAccess 메서드 {}개의 인자 위치를 캐싱했습니다", parametersByMethod.size());
+  }
 
-    if (familyUuid == null) {
-      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                                  "@ValidateFamilyAccess: 'familyUuid' 파라미터(CustomUuid)가 필요합니다")
+  /**
+   * 메서드의 인자 위치 조회
+   * 기동 시 검사 대상이 아니었던 메서드(지연 등록 빈 등)는 최초 호출 시 한 번 계산합니다.
+   */
+  private FamilyAccessParameters parametersOf(Method method) {
+    FamilyAccessParameters parameters = parametersByMethod.get(method);
+    if (parameters != null) {
+      return parameters;
+    }
+    try {
+      return parametersByMethod.computeIfAbsent(method, FamilyAccessParameters::resolve);
+    } catch (IllegalStateException e) {
+      throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage())
           .addParameter("method", method.getName());
     }
-
-    // 권한 검증
-    familyValidationService.validateFamilyAccess(userUuid, familyUuid);
   }
 }
-
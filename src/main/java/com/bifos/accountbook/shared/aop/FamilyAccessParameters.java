@@ -0,0 +1,77 @@
+package com.bifos.accountbook.shared.aop;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * {@link ValidateFamilyAccess} 메서드의 검증 대상 인자 위치
+ *
+ * <p>{@link UserUuid @UserUuid}, {@link FamilyUuid @FamilyUuid} 파라미터의 인덱스를 메서드당 한 번만 계산해 보관합니다.
+ * 호출마다 파라미터/애노테이션을 리플렉션으로 순회하지 않고 인덱스로 바로 인자를 꺼냅니다.</p>
+ *
+ * @param userUuidIndex   {@code @UserUuid} 파라미터 인덱스
+ * @param familyUuidIndex {@code @FamilyUuid} 파라미터 인덱스
+ */
+record FamilyAccessParameters(int userUuidIndex, int familyUuidIndex) {
+
+  /**
+   * 메서드 시그니처에서 인자 위치 계산
+   *
+   * <p>파라미터 이름은 보지 않습니다 ({@code -parameters} 컴파일 옵션에 의존하지 않음).</p>
+   *
+   * @throws IllegalStateException 애노테이션이 없거나 중복되었거나, 타입이 CustomUuid가 아닌 경우
+   */
+  static FamilyAccessParameters resolve(Method method) {
+    Parameter[] parameters = method.getParameters();
+    int userUuidIndex = -1;
+    int familyUuidIndex = -1;
+
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter param = parameters[i];
+      boolean user = param.isAnnotationPresent(UserUuid.class);
+      boolean family = param.isAnnotationPresent(FamilyUuid.class);
+      if (!user && !family) {
+        continue;
+      }
+      if (user && family) {
+        throw misconfigured(method, "@UserUuid와 @FamilyUuid를 한 파라미터에 함께 사용할 수 없습니다");
+      }
+      if (!param.getType().equals(CustomUuid.class)) {
+        throw misconfigured(method, (user ? "@UserUuid" : "@FamilyUuid") + " 파라미터는 CustomUuid 타입이어야 합니다");
+      }
+      if (user) {
+        if (userUuidIndex >= 0) {
+          throw misconfigured(method, "@UserUuid 애노테이션이 여러 파라미터에 중복 사용되었습니다");
+        }
+        userUuidIndex = i;
+      } else {
+        if (familyUuidIndex >= 0) {
+          throw misconfigured(method, "@FamilyUuid 애노테이션이 여러 파라미터에 중복 사용되었습니다");
+        }
+        familyUuidIndex = i;
+      }
+    }
+
+    if (userUuidIndex < 0) {
+      throw misconfigured(method, "@UserUuid CustomUuid 파라미터가 필요합니다");
+    }
+    if (familyUuidIndex < 0) {
+      throw misconfigured(method, "@FamilyUuid CustomUuid 파라미터가 필요합니다");
+    }
+    return new FamilyAccessParameters(userUuidIndex, familyUuidIndex);
+  }
+
+  CustomUuid userUuid(Object[] args) {
+    return (CustomUuid) args[userUuidIndex];
+  }
+
+  CustomUuid familyUuid(Object[] args) {
+    return (CustomUuid) args[familyUuidIndex];
+  }
+
+  private static IllegalStateException misconfigured(Method method, String reason) {
+    return new IllegalStateException("@ValidateFamilyAccess: " + reason + " ("
+                                         + method.getDeclaringClass().getSimpleName() + "." + method.getName() + ")");
+  }
+}
@@ -0,0 +1,96 @@
+package com.bifos.accountbook.shared.aop;
+
+import com.bifos.accountbook.config.CacheConfig;
+import com.bifos.accountbook.family.domain.value.FamilyMembership;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가족 구성원 자격 캐시 (요청 간 공유)
+ * - (사용자, 가족) 단위로 역할/상태를 캐싱해 @ValidateFamilyAccess마다 실행되던 구성원 조회를 줄임
+ * - 구성원 변경(초대 수락, 가족 삭제)은 FamilyMembershipChangedEvent로 무효화
+ * - 구성원이 아닌 경우(조회 결과 없음)는 캐싱하지 않음 (가입 직후 접근이 막히지 않도록)
+ *
+ * 히트/미스/크기 기반 제거 통계는 Caffeine recordStats로 Micrometer에 자동 노출되며(cache.gets 등, cache=familyMemberships),
+ * 이벤트 기반 무효화 횟수는 family.membership.cache.invalidations 카운터로 별도 노출합니다.
+ */
+@Slf4j
+@Component
+public class FamilyMembershipCache {
+
+  private final CacheManager cacheManager;
+  private final Counter memberInvalidations;
+  private final Counter familyInvalidations;
+
+  public FamilyMembershipCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+    this.cacheManager = cacheManager;
+    this.memberInvalidations = Counter.builder("family.membership.cache.invalidations")
+                                      .description("Event driven family membership cache invalidations")
+                                      .tag("scope", "member")
+                                      .register(meterRegistry);
+    this.familyInvalidations = Counter.builder("family.membership.cache.invalidations")
+                                      .description("Event driven family membership cache invalidations")
+                                      .tag("scope", "family")
+                                      .register(meterRegistry);
+  }
+
+  /**
+   * 캐시 조회, 없으면 loader로 조회 후 저장 (조회 결과가 없으면 저장하지 않음)
+   */
+  public Optional<FamilyMembership> get(CustomUuid userUuid, CustomUuid familyUuid,
+                                        Supplier<Optional<FamilyMembership>> loader) {
+    Cache<Object, Object> cache = nativeCache();
+    if (cache == null) {
+      return loader.get();
+    }
+    Object cached = cache.get(new Key(userUuid, familyUuid), key -> loader.get().orElse(null));
+    return Optional.ofNullable((FamilyMembership) cached);
+  }
+
+  /**
+   * 특정 사용자의 특정 가족 구성원 자격 무효화
+   */
+  public void evict(CustomUuid userUuid, CustomUuid familyUuid) {
+    Cache<Object, Object> cache = nativeCache();
+    if (cache != null) {
+      cache.invalidate(new Key(userUuid, familyUuid));
+    }
+    memberInvalidations.increment();
+    log.debug("Evicted family membership cache: userUuid={}, familyUuid={}", userUuid.getValue(), familyUuid.getValue());
+  }
+
+  /**
+   * 특정 가족의 모든 구성원 자격 무효화
+   */
+  public void evictFamily(CustomUuid familyUuid) {
+    Cache<Object, Object> cache = nativeCache();
+    if (cache != null) {
+      cache.asMap()
+           .keySet()
+           .removeIf(key -> key instanceof Key membershipKey && membershipKey.familyUuid().equals(familyUuid));
+    }
+    familyInvalidations.increment();
+    log.debug("Evicted family membership cache: familyUuid={}", familyUuid.getValue());
+  }
+
+  private Cache<Object, Object> nativeCache() {
+    if (cacheManager.getCache(CacheConfig.FAMILY_MEMBERSHIP_CACHE) instanceof CaffeineCache caffeineCache) {
+      return caffeineCache.getNativeCache();
+    }
+    return null;
+  }
+
+  /**
+   * 구성원 캐시 키
+   */
+  record Key(CustomUuid userUuid, CustomUuid familyUuid) {
+  }
+}
@@ -3,11 +3,10 @@ package com.bifos.accountbook.shared.aop;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.family.domain.entity.Family;
-import com.bifos.accountbook.family.domain.entity.FamilyMember;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
-import com.bifos.accountbook.family.domain.value.FamilyMemberRole;
+import com.bifos.accountbook.family.domain.value.FamilyMembership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 가족 관련 검증 로직을 담당하는 서비스
  * 순환 의존성을 피하기 위해 검증 로직만 분리
+ *
+ * 구성원 자격은 FamilyMembershipCache를 거쳐 조회하므로 같은 (사용자, 가족)에 대한 반복 검증은 DB를 조회하지 않습니다.
  */
 @Slf4j
 @Service
@@ -24,6 +25,7 @@ public class FamilyValidationService {
 
   private final FamilyMemberRepository familyMemberRepository;
   private final FamilyRepository familyRepository;
+  private final FamilyMembershipCache familyMembershipCache;
 
   /**
    * 가족 접근 권한 확인
@@ -35,14 +37,7 @@ public class FamilyValidationService {
    */
   @Transactional(readOnly = true)
   public void validateFamilyAccess(CustomUuid userUuid, CustomUuid familyUuid) {
-    boolean isMember = familyMemberRepository.existsActiveByFamilyUuidAndUserUuid(
-        familyUuid, userUuid);
-
-    if (!isMember) {
-      throw new BusinessException(ErrorCode.NOT_FAMILY_MEMBER)
-          .addParameter("userUuid", userUuid.getValue())
-          .addParameter("familyUuid", familyUuid.getValue());
-    }
+    getActiveMembership(userUuid, familyUuid);
   }
 
   /**
@@ -55,16 +50,13 @@ public class FamilyValidationService {
    */
   @Transactional(readOnly = true)
   public void validateFamilyOwner(CustomUuid userUuid, CustomUuid familyUuid) {
-    FamilyMember membership = familyMemberRepository.findByFamilyUuidAndUserUuid(familyUuid, userUuid)
-                                                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FAMILY_MEMBER)
-                                                        .addParameter("userUuid", userUuid.getValue())
-                                                        .addParameter("familyUuid", familyUuid.getValue()));
+    FamilyMembership membership = getActiveMembership(userUuid, familyUuid);
 
-    if (membership.getRole() != FamilyMemberRole.OWNER) {
+    if (!membership.isOwner()) {
       throw new BusinessException(ErrorCode.FORBIDDEN, "가족 소유자만 이 작업을 수행할 수 있습니다")
           .addParameter("userUuid", userUuid.getValue())
           .addParameter("familyUuid", familyUuid.getValue())
-          .addParameter("role", membership.getRole().getCode());
+          .addParameter("role", membership.role().getCode());
     }
   }
 
@@ -85,15 +77,23 @@ public class FamilyValidationService {
                                         .addParameter("familyUuid", familyUuid.getValue()));
 
     // 2. 권한 확인
-    boolean isMember = familyMemberRepository.existsActiveByFamilyUuidAndUserUuid(familyUuid, userUuid);
-
-    if (!isMember) {
-      throw new BusinessException(ErrorCode.NOT_FAMILY_MEMBER)
-          .addParameter("userUuid", userUuid.getValue())
-          .addParameter("familyUuid", familyUuid.getValue());
-    }
+    getActiveMembership(userUuid, familyUuid);
 
     return family;
   }
+
+  /**
+   * 활성 구성원 자격 조회 (캐시 우선)
+   *
+   * @throws BusinessException 구성원이 아니거나 탈퇴한 경우
+   */
+  private FamilyMembership getActiveMembership(CustomUuid userUuid, CustomUuid familyUuid) {
+    return familyMembershipCache.get(userUuid, familyUuid,
+                                     () -> familyMemberRepository.findMembership(familyUuid, userUuid))
+                                .filter(FamilyMembership::isActive)
+                                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FAMILY_MEMBER)
+                                    .addParameter("userUuid", userUuid.getValue())
+                                    .addParameter("familyUuid", familyUuid.getValue()));
+  }
 }
 
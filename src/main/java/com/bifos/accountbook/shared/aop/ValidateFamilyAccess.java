@@ -15,24 +15,24 @@ import java.lang.annotation.Target;
  * <pre>
  * {@code
  * @ValidateFamilyAccess
- * public ExpenseResponse createExpense(CustomUuid userUuid, String familyUuid, CreateExpenseRequest request) {
+ * public ExpenseResponse createExpense(@UserUuid CustomUuid userUuid, @FamilyUuid CustomUuid familyUuid,
+ *                                      CreateExpenseRequest request) {
  *   // familyUuid 파라미터가 자동으로 권한 검증됨
  * }
  * }
  * </pre>
  *
- * <h3>파라미터 이름 규칙</h3>
+ * <h3>파라미터 규칙</h3>
  * <ul>
- *   <li><b>userUuid</b>: 사용자 UUID (CustomUuid 타입, 필수)</li>
- *   <li><b>familyUuid</b>: 가족 UUID (String 타입, 필수)</li>
+ *   <li><b>{@link UserUuid @UserUuid}</b>: 사용자 UUID (CustomUuid 타입, 필수)</li>
+ *   <li><b>{@link FamilyUuid @FamilyUuid}</b>: 가족 UUID (CustomUuid 타입, 필수)</li>
  * </ul>
+ * <p>파라미터 이름은 보지 않습니다. 규칙을 지키지 않은 메서드가 있으면 애플리케이션 기동이 실패합니다.</p>
  *
  * @see com.bifos.accountbook.shared.aop.FamilyAccessAspect
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ValidateFamilyAccess {
-  // 기본적으로 "familyUuid" 파라미터를 찾아서 검증
-  // 추후 확장 가능: @ValidateFamilyAccess(paramName = "customFamilyUuid")
 }
 
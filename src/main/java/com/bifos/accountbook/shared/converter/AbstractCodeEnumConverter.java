@@ -3,6 +3,10 @@ package com.bifos.accountbook.shared.converter;
 import com.bifos.accountbook.shared.value.CodeEnum;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * CodeEnum을 DB 코드값으로 변환하는 추상 Converter
@@ -17,6 +21,9 @@ import jakarta.persistence.Converter;
  * }
  * </pre>
  *
+ * 코드값 → Enum 조회는 생성 시 만든 불변 Map으로 처리합니다.
+ * (조회 행의 컬럼마다 호출되므로 getEnumConstants() 복사 + 선형 탐색을 피함)
+ *
  * @param <E> CodeEnum을 구현한 Enum 타입
  */
 @Converter
@@ -24,9 +31,12 @@ public abstract class AbstractCodeEnumConverter<E extends Enum<E> & CodeEnum>
     implements AttributeConverter<E, String> {
 
   private final Class<E> enumClass;
+  private final Map<String, E> enumsByCode;
 
   protected AbstractCodeEnumConverter(Class<E> enumClass) {
     this.enumClass = enumClass;
+    this.enumsByCode = Map.copyOf(Arrays.stream(enumClass.getEnumConstants())
+                                        .collect(Collectors.toMap(CodeEnum::getCode, Function.identity())));
   }
 
   @Override
@@ -43,10 +53,9 @@ public abstract class AbstractCodeEnumConverter<E extends Enum<E> & CodeEnum>
       return null;
     }
 
-    for (E enumValue : enumClass.getEnumConstants()) {
-      if (enumValue.getCode().equals(dbData)) {
-        return enumValue;
-      }
+    E enumValue = enumsByCode.get(dbData);
+    if (enumValue != null) {
+      return enumValue;
     }
     throw new IllegalArgumentException(
         String.format("DB 값 '%s'를 %s로 변환할 수 없습니다", dbData, enumClass.getSimpleName())
@@ -0,0 +1,40 @@
+package com.bifos.accountbook.shared.converter;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네이티브 쿼리용 UUID 파라미터 변환기
+ * <p>
+ * 엔티티 매핑은 {@link UuidConverter} + hibernate.type.preferred_uuid_jdbc_type으로 자동 처리되지만,
+ * 네이티브 쿼리 파라미터는 Hibernate 타입 정보 없이 바인딩되므로 컬럼 저장 형식에 맞춰 직접 변환합니다.
+ * - VARCHAR: 36자 문자열
+ * - BINARY: 16바이트 (상위 8바이트 mostSigBits + 하위 8바이트 leastSigBits)
+ */
+@Component
+public class UuidColumnBinder {
+
+  private final boolean binary;
+
+  public UuidColumnBinder(
+      @Value("${spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type:VARCHAR}") String uuidJdbcType) {
+    this.binary = "BINARY".equalsIgnoreCase(uuidJdbcType);
+  }
+
+  /**
+   * 컬럼 저장 형식에 맞는 바인딩 값 (String 또는 byte[])
+   */
+  public Object bind(CustomUuid uuid) {
+    UUID value = uuid.toUuid();
+    if (!binary) {
+      return value.toString();
+    }
+    return ByteBuffer.allocate(16)
+                     .putLong(value.getMostSignificantBits())
+                     .putLong(value.getLeastSignificantBits())
+                     .array();
+  }
+}
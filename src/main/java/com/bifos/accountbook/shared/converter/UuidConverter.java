@@ -3,38 +3,47 @@ package com.bifos.accountbook.shared.converter;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
 
 /**
  * JPA AttributeConverter for CustomUuid
  *
- * CustomUuid <-> VARCHAR(36) 자동 변환
+ * CustomUuid <-> java.util.UUID 자동 변환
  * {@code @Converter(autoApply = true)}로 설정하면 모든 CustomUuid 필드에 자동 적용
+ *
+ * 실제 컬럼 타입은 Hibernate의 UUID 매핑 설정(hibernate.type.preferred_uuid_jdbc_type)이 결정
+ * - VARCHAR (기본): 'xxxxxxxx-xxxx-...' 36자 문자열
+ * - BINARY: 16바이트 (MySQL UUID_TO_BIN(uuid)와 동일한 바이트 순서)
+ *
+ * {@code @Immutable}: CustomUuid는 불변이므로 Hibernate가 변경 감지용 스냅샷을 만들 때
+ * 값을 변환-역변환으로 복제하지 않고 같은 인스턴스를 공유하도록 지정
  */
+@Immutable
 @Converter(autoApply = true)
-public class UuidConverter implements AttributeConverter<CustomUuid, String> {
+public class UuidConverter implements AttributeConverter<CustomUuid, UUID> {
 
   /**
    * Entity -> Database
-   * CustomUuid를 String으로 변환하여 DB에 저장
+   * CustomUuid를 UUID로 변환하여 DB에 저장
    */
   @Override
-  public String convertToDatabaseColumn(CustomUuid attribute) {
+  public UUID convertToDatabaseColumn(CustomUuid attribute) {
     if (attribute == null) {
       return null;
     }
-    return attribute.getValue();
+    return attribute.toUuid();
   }
 
   /**
    * Database -> Entity
-   * DB의 String을 CustomUuid로 변환
+   * DB의 UUID를 CustomUuid로 변환
    */
   @Override
-  public CustomUuid convertToEntityAttribute(String dbData) {
-    if (dbData == null || dbData.trim().isEmpty()) {
+  public CustomUuid convertToEntityAttribute(UUID dbData) {
+    if (dbData == null) {
       return null;
     }
     return CustomUuid.from(dbData);
   }
 }
-
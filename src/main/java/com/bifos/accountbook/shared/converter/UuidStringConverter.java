@@ -0,0 +1,32 @@
+package com.bifos.accountbook.shared.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.UUID;
+
+/**
+ * String 타입 UUID 필드용 JPA AttributeConverter
+ *
+ * CustomUuid 대신 String으로 UUID를 들고 있는 엔티티(RecurringExpense 등)도
+ * {@link UuidConverter}와 같은 컬럼 타입(VARCHAR/BINARY)으로 저장되도록 java.util.UUID를 거쳐 변환합니다.
+ * autoApply가 아니므로 필드에 {@code @Convert(converter = UuidStringConverter.class)}로 지정합니다.
+ */
+@Converter
+public class UuidStringConverter implements AttributeConverter<String, UUID> {
+
+  @Override
+  public UUID convertToDatabaseColumn(String attribute) {
+    if (attribute == null) {
+      return null;
+    }
+    return UUID.fromString(attribute);
+  }
+
+  @Override
+  public String convertToEntityAttribute(UUID dbData) {
+    if (dbData == null) {
+      return null;
+    }
+    return dbData.toString();
+  }
+}
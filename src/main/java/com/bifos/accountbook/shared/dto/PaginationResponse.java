@@ -1,5 +1,6 @@
 package com.bifos.accountbook.shared.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,12 +12,16 @@ import org.springframework.data.domain.Page;
  * 공통 페이지네이션 응답 DTO
  * 프론트엔드 친화적인 구조로 변환
  *
+ * 오프셋 페이지네이션: totalElements/totalPages/currentPage 포함
+ * 커서 페이지네이션: nextCursor 포함, totalElements/totalPages는 요청 시에만 포함 (null 필드는 응답에서 제외)
+ *
  * @param <T> 응답 데이터 타입
  */
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginationResponse<T> {
 
   /**
@@ -25,19 +30,29 @@ public class PaginationResponse<T> {
   private List<T> items;
 
   /**
-   * 전체 요소 수
+   * 전체 요소 수 (커서 모드에서는 includeTotal=true일 때만)
+   */
+  private Long totalElements;
+
+  /**
+   * 전체 페이지 수 (커서 모드에서는 includeTotal=true일 때만)
    */
-  private long totalElements;
+  private Integer totalPages;
 
   /**
-   * 전체 페이지 수
+   * 현재 페이지 (0-based, 오프셋 모드 전용)
    */
-  private int totalPages;
+  private Integer currentPage;
 
   /**
-   * 현재 페이지 (0-based)
+   * 다음 페이지 존재 여부
    */
-  private int currentPage;
+  private Boolean hasNext;
+
+  /**
+   * 다음 페이지 조회용 커서 (커서 모드 전용, 마지막 페이지면 null)
+   */
+  private String nextCursor;
 
   /**
    * Page 객체를 PaginationResponse로 변환
@@ -52,7 +67,27 @@ public class PaginationResponse<T> {
                              .totalElements(page.getTotalElements())
                              .totalPages(page.getTotalPages())
                              .currentPage(page.getNumber())
+                             .hasNext(page.hasNext())
                              .build();
   }
-}
 
+  /**
+   * 커서 페이지 결과를 PaginationResponse로 변환
+   *
+   * @param items      현재 페이지 데이터
+   * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+   * @param pageSize   페이지 크기 (totalPages 계산용)
+   * @param total      전체 요소 수 (카운트를 생략했으면 null)
+   * @param <T>        응답 데이터 타입
+   * @return PaginationResponse 객체
+   */
+  public static <T> PaginationResponse<T> ofCursor(List<T> items, String nextCursor, int pageSize, Long total) {
+    return PaginationResponse.<T>builder()
+                             .items(items)
+                             .hasNext(nextCursor != null)
+                             .nextCursor(nextCursor)
+                             .totalElements(total)
+                             .totalPages(total != null ? (int) Math.ceil((double) total / pageSize) : null)
+                             .build();
+  }
+}
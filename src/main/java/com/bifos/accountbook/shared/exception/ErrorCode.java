@@ -22,6 +22,7 @@ public enum ErrorCode {
   ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "접근 권한이 없습니다"),
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C006", "서버 내부 오류가 발생했습니다"),
   INVALID_UUID_FORMAT(HttpStatus.BAD_REQUEST, "C007", "UUID 형식이 올바르지 않습니다"),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C008", "페이지 커서가 올바르지 않습니다"),
 
   // ============================================
   // User Errors (2000~2999)
@@ -85,7 +86,8 @@ public enum ErrorCode {
   // Recurring Expense Errors (6500~6599)
   // ============================================
   RECURRING_EXPENSE_NOT_FOUND(HttpStatus.NOT_FOUND, "RE001", "반복 지출을 찾을 수 없습니다"),
-  INVALID_DAY_OF_MONTH(HttpStatus.BAD_REQUEST, "RE002", "반복일은 1~28 사이여야 합니다"),
+  INVALID_DAY_OF_MONTH(HttpStatus.BAD_REQUEST, "RE002", "반복일은 1~31 사이여야 합니다"),
+  INVALID_RECURRING_SCHEDULE(HttpStatus.BAD_REQUEST, "RE003", "반복 주기에 맞는 일정 값이 필요합니다"),
 
   // ============================================
   // Notification Errors (8000~8999)
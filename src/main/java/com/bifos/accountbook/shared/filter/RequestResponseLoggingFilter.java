@@ -38,6 +38,17 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
       return;
     }
 
+    // 스트리밍 응답(CSV 내보내기 등)은 래핑하지 않음
+    // ContentCachingResponseWrapper가 전체 body를 메모리에 모았다가 마지막에 복사하므로 스트리밍이 무력화됨
+    if (isStreamingEndpoint(request)) {
+      Instant start = Instant.now();
+      filterChain.doFilter(request, response);
+      log.info("[RES] {} {} → {} ({}ms) | Body: (streaming, not logged)",
+               request.getMethod(), request.getRequestURI(), response.getStatus(),
+               Duration.between(start, Instant.now()).toMillis());
+      return;
+    }
+
     // Request/Response 래핑 (body를 여러 번 읽을 수 있도록)
     ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request, 1000);
     ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
@@ -132,6 +143,13 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
     return str.substring(0, maxLength) + "... (truncated)";
   }
 
+  /**
+   * 응답 body를 버퍼링하면 안 되는 스트리밍 엔드포인트 여부
+   */
+  private boolean isStreamingEndpoint(HttpServletRequest request) {
+    return request.getRequestURI().endsWith("/expenses/export");
+  }
+
   /**
    * 로깅 제외할 경로 필터링
    */
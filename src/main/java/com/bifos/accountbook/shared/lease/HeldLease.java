@@ -0,0 +1,92 @@
+package com.bifos.accountbook.shared.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보유 중인 스케줄 작업 임대
+ * - 가상 스레드 heartbeat가 duration/3 간격으로 임대를 연장
+ * - 연장에 실패하거나 마지막 연장 이후 duration이 지나면 isValid()가 false가 되므로,
+ *   작업은 청크 사이마다 확인하고 멈춰야 함
+ * - 임대를 잃은 뒤의 쓰기는 fencingToken()을 함께 저장해 늦은 쓰기를 구분
+ */
+@Slf4j
+public final class HeldLease implements AutoCloseable {
+
+  private final SchedulerLeaseManager manager;
+  private final String leaseName;
+  private final long fencingToken;
+  private final Duration duration;
+  private final Thread heartbeat;
+
+  private volatile boolean lost;
+  private volatile Instant validUntil;
+
+  HeldLease(SchedulerLeaseManager manager, String leaseName, long fencingToken, Duration duration) {
+    this.manager = manager;
+    this.leaseName = leaseName;
+    this.fencingToken = fencingToken;
+    this.duration = duration;
+    this.validUntil = manager.clock().instant().plus(duration);
+    this.heartbeat = Thread.ofVirtual()
+                           .name("lease-heartbeat-" + leaseName)
+                           .start(this::heartbeat);
+  }
+
+  public String leaseName() {
+    return leaseName;
+  }
+
+  public long fencingToken() {
+    return fencingToken;
+  }
+
+  public boolean isValid() {
+    return !lost && manager.clock().instant().isBefore(validUntil);
+  }
+
+  private void heartbeat() {
+    Duration interval = duration.dividedBy(3);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        Thread.sleep(interval);
+      } catch (InterruptedException e) {
+        return;
+      }
+      Instant renewedAt = manager.clock().instant();
+      try {
+        if (!manager.renew(leaseName, fencingToken, duration)) {
+          lost = true;
+          log.warn("Scheduler lease lost: leaseName={}, fencingToken={}", leaseName, fencingToken);
+          return;
+        }
+        validUntil = renewedAt.plus(duration);
+      } catch (Exception e) {
+        // 일시적인 DB 오류는 다음 주기에 다시 시도하고, 그동안 validUntil이 지나면 isValid()가 false가 됨
+        log.warn("Failed to renew scheduler lease: leaseName={}", leaseName, e);
+      }
+    }
+  }
+
+  /**
+   * heartbeat를 멈추고 임대를 반납 (다른 노드가 바로 가져갈 수 있음)
+   */
+  @Override
+  public void close() {
+    heartbeat.interrupt();
+    try {
+      heartbeat.join(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (lost) {
+      return;
+    }
+    try {
+      manager.release(leaseName, fencingToken);
+    } catch (Exception e) {
+      log.warn("Failed to release scheduler lease: leaseName={}", leaseName, e);
+    }
+  }
+}
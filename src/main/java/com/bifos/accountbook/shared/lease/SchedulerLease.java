@@ -0,0 +1,50 @@
+package com.bifos.accountbook.shared.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 임대(lease) — 여러 노드 중 한 노드만 작업을 실행하도록 하는 DB 락
+ * - 만료된 임대만 조건부 UPDATE로 가져갈 수 있고, 가져갈 때마다 fencing_token이 1 증가
+ * - 보유 노드는 heartbeat로 expires_at을 연장하며, 연장에 실패하면 작업을 멈춤
+ * - 임대를 잃은 노드의 늦은 쓰기는 fencing_token 비교로 무시됨 (예: 반복 지출 워터마크)
+ */
+@Entity
+@Table(name = "scheduler_leases", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_scheduler_leases_name", columnNames = "lease_name")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "lease_name", nullable = false, length = 100)
+  private String leaseName;
+
+  @Column(nullable = false, length = 100)
+  private String owner;
+
+  @Column(name = "fencing_token", nullable = false)
+  private long fencingToken;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
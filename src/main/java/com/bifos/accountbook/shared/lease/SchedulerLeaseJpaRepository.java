@@ -0,0 +1,61 @@
+package com.bifos.accountbook.shared.lease;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 임대 행 생성은 INSERT 경합을 피하려고 네이티브 UPSERT(no-op)를 사용하고,
+ * 획득/연장/반납은 조건부 UPDATE의 영향 행 수로 성공 여부를 판단합니다.
+ * (MySQL 및 H2 MODE=MySQL 공통 문법)
+ */
+public interface SchedulerLeaseJpaRepository extends JpaRepository<SchedulerLease, Long> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO scheduler_leases (lease_name, owner, fencing_token, expires_at, updated_at)
+      VALUES (:leaseName, '', 0, :now, :now)
+      ON DUPLICATE KEY UPDATE lease_name = lease_name
+      """, nativeQuery = true)
+  void insertIfAbsent(@Param("leaseName") String leaseName, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("UPDATE SchedulerLease l " +
+      "SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, l.expiresAt = :expiresAt, l.updatedAt = :now " +
+      "WHERE l.leaseName = :leaseName " +
+      "AND l.expiresAt <= :now")
+  int acquire(@Param("leaseName") String leaseName,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+  @Modifying
+  @Query("UPDATE SchedulerLease l " +
+      "SET l.expiresAt = :expiresAt, l.updatedAt = :now " +
+      "WHERE l.leaseName = :leaseName " +
+      "AND l.owner = :owner " +
+      "AND l.fencingToken = :fencingToken " +
+      "AND l.expiresAt > :now")
+  int renew(@Param("leaseName") String leaseName,
+            @Param("owner") String owner,
+            @Param("fencingToken") long fencingToken,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+  @Modifying
+  @Query("UPDATE SchedulerLease l " +
+      "SET l.expiresAt = :now, l.updatedAt = :now " +
+      "WHERE l.leaseName = :leaseName " +
+      "AND l.owner = :owner " +
+      "AND l.fencingToken = :fencingToken")
+  int release(@Param("leaseName") String leaseName,
+              @Param("owner") String owner,
+              @Param("fencingToken") long fencingToken,
+              @Param("now") LocalDateTime now);
+
+  @Query("SELECT l.fencingToken FROM SchedulerLease l WHERE l.leaseName = :leaseName AND l.owner = :owner")
+  Optional<Long> findFencingToken(@Param("leaseName") String leaseName, @Param("owner") String owner);
+}
@@ -0,0 +1,99 @@
+package com.bifos.accountbook.shared.lease;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 기반 스케줄 작업 임대 관리
+ * - acquire: 만료된 임대를 조건부 UPDATE로 가져오고 fencing token을 1 증가 (동시에 한 노드만 성공)
+ * - 획득한 임대는 HeldLease가 duration/3 간격의 heartbeat로 연장하고, close 시 즉시 반납
+ * - 노드가 죽으면 heartbeat가 멈춰 duration 뒤 다른 노드가 가져갈 수 있음
+ *
+ * owner는 scheduler.lease.owner로 지정하지 않으면 호스트명 + 임의 접미사로 정합니다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+  private final SchedulerLeaseJpaRepository jpaRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+
+  @Getter
+  private final String owner;
+
+  public SchedulerLeaseManager(SchedulerLeaseJpaRepository jpaRepository,
+                               PlatformTransactionManager transactionManager,
+                               Clock clock,
+                               @Value("${scheduler.lease.owner:}") String owner) {
+    this.jpaRepository = jpaRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.clock = clock;
+    this.owner = owner.isBlank() ? defaultOwner() : owner;
+  }
+
+  /**
+   * 임대 획득 시도
+   *
+   * @param leaseName 작업 이름
+   * @param duration  임대 유지 시간 (heartbeat가 멈추면 이 시간 뒤 만료)
+   * @return 다른 노드가 보유 중이면 empty
+   */
+  public Optional<HeldLease> acquire(String leaseName, Duration duration) {
+    Long fencingToken = transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now(clock);
+      jpaRepository.insertIfAbsent(leaseName, now);
+      if (jpaRepository.acquire(leaseName, owner, now, now.plus(duration)) == 0) {
+        return null;
+      }
+      return jpaRepository.findFencingToken(leaseName, owner).orElse(null);
+    });
+    if (fencingToken == null) {
+      return Optional.empty();
+    }
+    log.debug("Scheduler lease acquired: leaseName={}, owner={}, fencingToken={}", leaseName, owner, fencingToken);
+    return Optional.of(new HeldLease(this, leaseName, fencingToken, duration));
+  }
+
+  /**
+   * @return 연장 성공 여부 (다른 노드가 만료된 임대를 가져갔으면 false)
+   */
+  boolean renew(String leaseName, long fencingToken, Duration duration) {
+    Integer updated = transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now(clock);
+      return jpaRepository.renew(leaseName, owner, fencingToken, now, now.plus(duration));
+    });
+    return updated != null && updated > 0;
+  }
+
+  void release(String leaseName, long fencingToken) {
+    transactionTemplate.executeWithoutResult(
+        status -> jpaRepository.release(leaseName, owner, fencingToken, LocalDateTime.now(clock)));
+    log.debug("Scheduler lease released: leaseName={}, owner={}, fencingToken={}", leaseName, owner, fencingToken);
+  }
+
+  Clock clock() {
+    return clock;
+  }
+
+  private static String defaultOwner() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
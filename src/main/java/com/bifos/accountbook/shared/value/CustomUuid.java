@@ -2,45 +2,144 @@ package com.bifos.accountbook.shared.value;
 
 import java.io.Serializable;
 import java.util.UUID;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
 
 /**
  * Custom UUID Value Object
  * <p>
- * DB에는 VARCHAR(36)으로 저장되지만, 애플리케이션에서는 타입 안전한 객체로 사용
+ * DB에는 VARCHAR(36) 또는 BINARY(16)으로 저장되지만, 애플리케이션에서는 타입 안전한 객체로 사용
  * 불변 객체로 설계되어 안전성 보장
+ * <p>
+ * 조회 행마다 생성되는 객체이므로 할당을 최소화합니다.
+ * - 값은 128비트(mostSigBits, leastSigBits)로 보관하고, 문자열 검증/파싱은 추가 객체 없이 문자 단위로 처리
+ * - DB 조회 값(java.util.UUID)으로 만든 경우 문자열은 getValue() 최초 호출 시에만 생성
+ * - 동등성은 128비트 값 기준 (대소문자만 다른 문자열은 같은 UUID)
  */
-@Getter
-@EqualsAndHashCode
-public class CustomUuid implements Serializable {
+public final class CustomUuid implements Serializable {
 
-  private final String value;
+  private static final int CANONICAL_LENGTH = 36;
 
-  private CustomUuid(String value) {
-    if (value == null || value.trim().isEmpty()) {
-      throw new IllegalArgumentException("UUID value cannot be null or empty");
-    }
-    // UUID 형식 검증
-    try {
-      UUID.fromString(value);
-    } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException("Invalid UUID format: " + value, e);
-    }
+  private final long mostSigBits;
+  private final long leastSigBits;
+
+  /**
+   * 문자열 표현 (지연 생성, 경쟁 시 같은 값을 중복 생성할 뿐이므로 동기화하지 않음)
+   */
+  private String value;
+
+  private CustomUuid(long mostSigBits, long leastSigBits, String value) {
+    this.mostSigBits = mostSigBits;
+    this.leastSigBits = leastSigBits;
     this.value = value;
   }
 
   /**
-   * 새로운 UUID 생성
+   * 새로운 UUID 생성 (시간 순서 UUIDv7)
+   * uuid UNIQUE 인덱스에 순차적으로 추가되어 랜덤 UUID 대비 페이지 분할이 적음
    */
   public static CustomUuid generate() {
-    return new CustomUuid(UUID.randomUUID().toString());
+    return from(UuidV7.next());
   }
 
   /**
    * 기존 UUID 문자열로부터 생성
+   * 8-4-4-4-12 형식의 36자 16진수 문자열만 허용 (대소문자 무관)
    */
   public static CustomUuid from(String value) {
-    return new CustomUuid(value);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("UUID value cannot be null or empty");
+    }
+    if (!isCanonical(value)) {
+      throw new IllegalArgumentException("Invalid UUID format: " + value);
+    }
+    return new CustomUuid(parseHex(value, 0, 8) << 32 | parseHex(value, 9, 13) << 16 | parseHex(value, 14, 18),
+                          parseHex(value, 19, 23) << 48 | parseHex(value, 24, 36),
+                          value);
+  }
+
+  /**
+   * java.util.UUID로부터 생성 (DB 조회 값 변환용)
+   */
+  public static CustomUuid from(UUID uuid) {
+    return new CustomUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+  }
+
+  /**
+   * UUID 문자열 (API 응답, 로그 등 외부 표현)
+   */
+  public String getValue() {
+    String result = value;
+    if (result == null) {
+      result = toUuid().toString();
+      value = result;
+    }
+    return result;
+  }
+
+  /**
+   * java.util.UUID로 변환 (DB 저장 값 변환용)
+   */
+  public UUID toUuid() {
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CustomUuid other)) {
+      return false;
+    }
+    return mostSigBits == other.mostSigBits && leastSigBits == other.leastSigBits;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(mostSigBits ^ leastSigBits);
+  }
+
+  /**
+   * 정규 UUID 문자열 여부 (추가 객체 할당 없이 문자 단위로 검사)
+   * 모든 요청 파라미터/조회 행마다 호출되므로 UUID.fromString으로 파싱 후 버리는 방식을 사용하지 않음
+   */
+  static boolean isCanonical(String value) {
+    if (value.length() != CANONICAL_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < CANONICAL_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if (hexValue(c) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * [from, to) 구간의 16진수 문자열을 long으로 변환 (isCanonical 통과 후에만 호출)
+   */
+  private static long parseHex(String value, int from, int to) {
+    long result = 0;
+    for (int i = from; i < to; i++) {
+      result = (result << 4) | hexValue(value.charAt(i));
+    }
+    return result;
+  }
+
+  private static int hexValue(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
   }
 }
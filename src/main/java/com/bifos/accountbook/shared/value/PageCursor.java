@@ -0,0 +1,75 @@
+package com.bifos.accountbook.shared.value;
+
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 커서 Value Object
+ * <p>
+ * 정렬 키 (date DESC, id DESC)의 마지막 위치를 담으며, 클라이언트에는 Base64URL 문자열로만 노출합니다.
+ * 내부 PK(id)가 포함되므로 형식은 불투명(opaque)하게 유지하고 클라이언트가 해석하지 않도록 합니다.
+ *
+ * @param date 마지막 항목의 날짜
+ * @param id   마지막 항목의 내부 ID (같은 날짜 내 순서 보장)
+ */
+public record PageCursor(LocalDateTime date, long id) {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * 커서 페이지 한 번에 조회할 수 있는 최대 건수 (size + 1건을 읽으므로 조회 비용 상한)
+   */
+  public static final int MAX_SIZE = 100;
+
+  public static PageCursor of(LocalDateTime date, Long id) {
+    return new PageCursor(date, id);
+  }
+
+  /**
+   * 커서 페이지 크기 검증 (1 ~ MAX_SIZE)
+   *
+   * @throws BusinessException 범위를 벗어난 경우 (INVALID_INPUT_VALUE)
+   */
+  public static int validateSize(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw BusinessException.invalidInput("size", size, "1 이상 " + MAX_SIZE + " 이하여야 합니다");
+    }
+    return size;
+  }
+
+  /**
+   * 커서 문자열 디코딩
+   * null 또는 빈 문자열이면 첫 페이지(null)를 의미합니다.
+   *
+   * @throws BusinessException 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+   */
+  public static PageCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Missing separator");
+      }
+      return new PageCursor(LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                            Long.parseLong(decoded.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BusinessException(ErrorCode.INVALID_CURSOR, e)
+          .addParameter("cursor", cursor);
+    }
+  }
+
+  /**
+   * 커서 문자열 인코딩 (Base64URL, 패딩 없음)
+   */
+  public String encode() {
+    String raw = date + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,59 @@
+package com.bifos.accountbook.shared.value;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID(v7, RFC 9562) 생성기
+ * <p>
+ * 레이아웃: unix_ts_ms(48) | ver=7(4) | 밀리초 내 카운터(12) | var=10(2) | random(62)
+ * <p>
+ * 랜덤 UUID(v4)는 uuid UNIQUE 인덱스의 B-tree 전체에 흩어져 INSERT마다 페이지 분할을 일으키지만,
+ * v7은 발급 순서대로 증가하므로 항상 인덱스 오른쪽 끝에 추가됩니다.
+ * <p>
+ * 단조 증가 보장:
+ * - (타임스탬프 &lt;&lt; 12 | 카운터)를 하나의 AtomicLong에 두고 CAS로 갱신 (전역 락 없음)
+ * - 같은 밀리초에서는 카운터 +1, 4096개를 넘으면 타임스탬프로 자리올림
+ * - 시스템 시계가 뒤로 가더라도 마지막 값 + 1을 사용
+ */
+final class UuidV7 {
+
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_RFC4122 = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_62_BITS = 0x3FFF_FFFF_FFFF_FFFFL;
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+  // 랜덤 구간은 v4(UUID.randomUUID)와 동일하게 SecureRandom 사용 (추측 불가능성 유지)
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private static final UuidV7 INSTANCE = new UuidV7();
+
+  /**
+   * 마지막으로 발급한 (unix ms &lt;&lt; 12 | 카운터)
+   */
+  private final AtomicLong lastStamp = new AtomicLong();
+
+  UuidV7() {
+  }
+
+  /**
+   * 현재 시각 기준 UUIDv7 생성 (애플리케이션 전역 인스턴스)
+   */
+  static UUID next() {
+    return INSTANCE.next(System.currentTimeMillis());
+  }
+
+  /**
+   * 주어진 시각 기준 UUIDv7 생성
+   */
+  UUID next(long epochMillis) {
+    long candidate = epochMillis << COUNTER_BITS;
+    long stamp = lastStamp.updateAndGet(last -> Math.max(candidate, last + 1));
+
+    long mostSigBits = ((stamp >>> COUNTER_BITS) << 16) | VERSION_7 | (stamp & COUNTER_MASK);
+    long leastSigBits = (RANDOM.nextLong() & RANDOM_62_BITS) | VARIANT_RFC4122;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
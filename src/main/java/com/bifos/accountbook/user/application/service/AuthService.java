@@ -4,14 +4,21 @@ import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.config.security.AccessToken;
 import com.bifos.accountbook.config.security.JwtTokenProvider;
+import com.bifos.accountbook.config.security.TokenRevocationRegistry;
+import com.bifos.accountbook.shared.utils.TimeUtils;
+import com.bifos.accountbook.user.domain.entity.RevokedToken;
 import com.bifos.accountbook.user.domain.entity.User;
+import com.bifos.accountbook.user.domain.repository.RevokedTokenRepository;
 import com.bifos.accountbook.user.domain.repository.UserRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.user.domain.value.UserStatus;
 import com.bifos.accountbook.user.presentation.dto.AuthResponse;
 import com.bifos.accountbook.user.presentation.dto.SocialLoginRequest;
+import io.jsonwebtoken.Claims;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +31,8 @@ public class AuthService {
   private final UserRepository userRepository;
   private final UserService userService; // 사용자 조회
   private final JwtTokenProvider jwtTokenProvider;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
+  private final RevokedTokenRepository revokedTokenRepository;
 
 
   /**
@@ -59,14 +68,18 @@ public class AuthService {
   }
 
   /**
-   * Refresh 토큰으로 새 Access 토큰 발급
+   * Refresh 토큰으로 새 Access 토큰 발급 (회전)
+   * 사용된 refresh 토큰은 폐기하고 새 refresh 토큰을 함께 발급합니다.
+   * 같은 refresh 토큰으로 다시 요청하면 jti UNIQUE 제약에 걸려 거부됩니다 (동시 요청 중 하나만 성공).
    */
+  @Transactional
   public AuthResponse refreshToken(String refreshToken) {
-    if (!jwtTokenProvider.validateToken(refreshToken)) {
+    Claims claims = jwtTokenProvider.parseRefreshTokenClaims(refreshToken);
+    if (claims == null || tokenRevocationRegistry.isRevoked(claims)) {
       throw new BusinessException(ErrorCode.INVALID_TOKEN, "유효하지 않은 refresh 토큰입니다");
     }
 
-    String userUuid = jwtTokenProvider.getUserIdFromToken(refreshToken);
+    String userUuid = claims.getSubject();
     if (userUuid == null) {
       throw new BusinessException(ErrorCode.INVALID_TOKEN, "토큰에서 사용자 UUID를 추출할 수 없습니다");
     }
@@ -78,9 +91,28 @@ public class AuthService {
           .addParameter("userUuid", user.getUuid().getValue());
     }
 
+    revokeRefreshToken(claims);
+
     return generateAuthResponse(user);
   }
 
+  /**
+   * 사용된 refresh 토큰 폐기 (DB 기록 + 이 노드의 메모리 목록 즉시 반영)
+   */
+  private void revokeRefreshToken(Claims claims) {
+    try {
+      revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                                                      .jti(claims.getId())
+                                                      .userUuid(claims.getSubject())
+                                                      .expiresAt(TimeUtils.toLocalDateTime(claims.getExpiration()))
+                                                      .revokedAt(LocalDateTime.now())
+                                                      .build());
+    } catch (DataIntegrityViolationException e) {
+      throw new BusinessException(ErrorCode.INVALID_TOKEN, "이미 사용된 refresh 토큰입니다");
+    }
+    tokenRevocationRegistry.revoke(claims.getId(), claims.getExpiration());
+  }
+
   /**
    * JWT 토큰 및 사용자 정보 응답 생성
    * JWT의 sub (subject)에는 user.uuid를 사용하여 내부 ID 노출을 방지합니다.
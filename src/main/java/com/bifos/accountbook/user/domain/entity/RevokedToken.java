@@ -0,0 +1,53 @@
+package com.bifos.accountbook.user.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 폐기된 토큰
+ * - Refresh 토큰 회전 시 사용된 토큰의 jti를 기록 (같은 토큰으로 다시 갱신할 수 없음)
+ * - jti UNIQUE 제약으로 동시 갱신 요청 중 하나만 성공
+ * - TokenRevocationRegistry가 revoked_at 기준으로 증분 조회해 노드별 메모리 목록을 갱신
+ *
+ * jti/userUuid는 엔티티 외부 ID가 아니라 JWT 클레임 값이므로 String으로 보관합니다.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uq_revoked_tokens_jti", columnNames = "jti"),
+    indexes = @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 36)
+  private String jti;
+
+  @Column(name = "user_uuid", nullable = false, length = 36)
+  private String userUuid;
+
+  /**
+   * 토큰 자체의 만료 시각 (이후에는 서명 검증에서 거부되므로 폐기 목록에서 제외)
+   */
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "revoked_at", nullable = false)
+  private LocalDateTime revokedAt;
+}
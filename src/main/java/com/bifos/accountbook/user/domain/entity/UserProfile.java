@@ -36,7 +36,7 @@ public class UserProfile {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(name = "user_uuid", nullable = false, unique = true, length = 36)
+  @Column(name = "user_uuid", nullable = false, unique = true)
   private CustomUuid userUuid;
 
   /**
@@ -70,7 +70,7 @@ public class UserProfile {
    * 기본 가족 UUID
    * 사용자가 마지막으로 선택한 가족/그룹의 UUID
    */
-  @Column(name = "default_family_uuid", length = 36)
+  @Column(name = "default_family_uuid")
   private CustomUuid defaultFamilyUuid;
 
   @CreatedDate
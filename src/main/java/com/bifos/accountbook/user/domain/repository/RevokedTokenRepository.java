@@ -0,0 +1,21 @@
+package com.bifos.accountbook.user.domain.repository;
+
+import com.bifos.accountbook.user.domain.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기 토큰 Repository 인터페이스
+ */
+public interface RevokedTokenRepository {
+
+  /**
+   * 폐기 기록 저장 후 즉시 flush (jti 중복 시 DataIntegrityViolationException)
+   */
+  RevokedToken saveAndFlush(RevokedToken revokedToken);
+
+  /**
+   * 지정 시각 이후 폐기되었고 아직 만료되지 않은 토큰 조회 (증분 갱신용)
+   */
+  List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now);
+}
@@ -2,6 +2,9 @@ package com.bifos.accountbook.user.domain.repository;
 
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.value.DeletedUser;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,4 +37,9 @@ public interface UserRepository {
    * Provider와 ProviderId 존재 여부 확인
    */
   boolean existsByProviderAndProviderId(String provider, String providerId);
+
+  /**
+   * 지정 시각 이후 상태가 갱신된 삭제 사용자 UUID 조회 (토큰 폐기 목록 증분 갱신용)
+   */
+  List<DeletedUser> findDeletedUsersUpdatedSince(LocalDateTime since);
 }
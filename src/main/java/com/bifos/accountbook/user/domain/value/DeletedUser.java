@@ -0,0 +1,13 @@
+package com.bifos.accountbook.user.domain.value;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 사용자 UUID와 상태 갱신 시각 (토큰 폐기 목록 갱신용 조회 결과)
+ *
+ * @param uuid      사용자 UUID
+ * @param updatedAt 마지막 갱신 시각 (삭제 처리 시각으로 사용)
+ */
+public record DeletedUser(CustomUuid uuid, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,29 @@
+package com.bifos.accountbook.user.infra.repository.impl;
+
+import com.bifos.accountbook.user.domain.entity.RevokedToken;
+import com.bifos.accountbook.user.domain.repository.RevokedTokenRepository;
+import com.bifos.accountbook.user.infra.repository.jpa.RevokedTokenJpaRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * RevokedTokenRepository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepositoryImpl implements RevokedTokenRepository {
+
+  private final RevokedTokenJpaRepository jpaRepository;
+
+  @Override
+  public RevokedToken saveAndFlush(RevokedToken revokedToken) {
+    return jpaRepository.saveAndFlush(revokedToken);
+  }
+
+  @Override
+  public List<RevokedToken> findRevokedSince(LocalDateTime since, LocalDateTime now) {
+    return jpaRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now);
+  }
+}
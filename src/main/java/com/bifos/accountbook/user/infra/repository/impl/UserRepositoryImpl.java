@@ -4,6 +4,10 @@ import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.user.domain.repository.UserRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.user.infra.repository.jpa.UserJpaRepository;
+import com.bifos.accountbook.user.domain.value.DeletedUser;
+import com.bifos.accountbook.user.domain.value.UserStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -42,5 +46,9 @@ public class UserRepositoryImpl implements UserRepository {
   public boolean existsByProviderAndProviderId(String provider, String providerId) {
     return jpaRepository.existsByProviderAndProviderId(provider, providerId);
   }
-}
 
+  @Override
+  public List<DeletedUser> findDeletedUsersUpdatedSince(LocalDateTime since) {
+    return jpaRepository.findUsersByStatusUpdatedSince(UserStatus.DELETED, since);
+  }
+}
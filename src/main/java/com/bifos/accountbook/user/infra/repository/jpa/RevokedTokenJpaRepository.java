@@ -0,0 +1,14 @@
+package com.bifos.accountbook.user.infra.repository.jpa;
+
+import com.bifos.accountbook.user.domain.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * RevokedToken JPA Repository
+ */
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedToken, Long> {
+
+  List<RevokedToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+}
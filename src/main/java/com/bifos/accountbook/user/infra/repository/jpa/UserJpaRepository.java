@@ -2,8 +2,14 @@ package com.bifos.accountbook.user.infra.repository.jpa;
 
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.value.DeletedUser;
+import com.bifos.accountbook.user.domain.value.UserStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * User JPA Repository
@@ -18,5 +24,9 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
   Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
   boolean existsByProviderAndProviderId(String provider, String providerId);
-}
 
+  @Query("SELECT new com.bifos.accountbook.user.domain.value.DeletedUser(u.uuid, u.updatedAt) "
+      + "FROM User u WHERE u.status = :status AND u.updatedAt >= :since")
+  List<DeletedUser> findUsersByStatusUpdatedSince(@Param("status") UserStatus status,
+                                                  @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,25 @@
+-- V15: daily_expense_rollups 테이블 생성
+-- 대시보드 지출 통계용 일별 롤업 (family_uuid, expense_date, category_uuid, exclude_from_budget 단위 합계/건수)
+-- 지출 쓰기 경로에서 증분 갱신되며, 원본 expenses에서 언제든 재생성 가능
+
+CREATE TABLE `daily_expense_rollups` (
+    `id`                  BIGINT         NOT NULL AUTO_INCREMENT,
+    `family_uuid`         VARCHAR(36)    NOT NULL COMMENT '가족UUID',
+    `expense_date`        DATE           NOT NULL COMMENT '지출일',
+    `category_uuid`       VARCHAR(36)    NOT NULL COMMENT '카테고리UUID',
+    `exclude_from_budget` BOOLEAN        NOT NULL DEFAULT FALSE COMMENT '예산제외여부',
+    `total_amount`        DECIMAL(14, 2) NOT NULL COMMENT '지출합계',
+    `expense_count`       BIGINT         NOT NULL COMMENT '지출건수',
+    `updated_at`          DATETIME       NOT NULL COMMENT '갱신일시',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_daily_expense_rollup` (`family_uuid`, `expense_date`, `category_uuid`, `exclude_from_budget`)
+) COMMENT='일별지출롤업';
+
+-- 기존 지출로 초기 롤업 생성
+INSERT INTO `daily_expense_rollups`
+    (`family_uuid`, `expense_date`, `category_uuid`, `exclude_from_budget`, `total_amount`, `expense_count`, `updated_at`)
+SELECT e.`family_uuid`, CAST(e.`date` AS DATE), e.`category_uuid`, e.`exclude_from_budget`,
+       SUM(e.`amount`), COUNT(*), NOW()
+FROM `expenses` e
+WHERE e.`status` = 'ACTIVE'
+GROUP BY e.`family_uuid`, CAST(e.`date` AS DATE), e.`category_uuid`, e.`exclude_from_budget`;
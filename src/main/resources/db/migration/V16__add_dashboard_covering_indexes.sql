@@ -0,0 +1,10 @@
+-- V16: 대시보드 집계용 커버링 인덱스 추가
+-- 월별/일별/카테고리별 합계 쿼리는 (family_uuid, status, date 범위) 조건으로 조회하고
+-- amount, category_uuid, exclude_from_budget만 읽으므로 인덱스만으로 처리 가능 (테이블 접근 없음)
+-- 조회 조건은 YEAR(date)/MONTH(date) 대신 [월 시작, 다음 달 시작) 범위를 사용해야 인덱스 범위 스캔이 적용됨
+
+CREATE INDEX `idx_expenses_family_status_date_cover`
+    ON `expenses` (`family_uuid`, `status`, `date`, `amount`, `category_uuid`, `exclude_from_budget`);
+
+CREATE INDEX `idx_incomes_family_status_date_cover`
+    ON `incomes` (`family_uuid`, `status`, `date`, `amount`, `category_uuid`);
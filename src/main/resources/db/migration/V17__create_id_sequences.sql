@@ -0,0 +1,17 @@
+-- V17: 배치 INSERT 가능한 PK 생성용 시퀀스 테이블 (MySQL에는 SEQUENCE가 없음)
+-- Hibernate @TableGenerator(pooled, allocationSize = 50)가 행 단위로 next_val을 읽고 allocationSize만큼 증가시킴
+-- IDENTITY는 INSERT마다 생성 키를 받아야 해서 hibernate.jdbc.batch_size가 무시되므로 대체
+--
+-- pooled 최적화기는 읽은 값 v에 대해 (v - 49 ~ v) 범위를 사용하므로
+-- 기존 데이터와 겹치지 않도록 MAX(id) + 50으로 초기화
+-- (컬럼의 AUTO_INCREMENT는 그대로 두어 롤백이 가능하도록 유지)
+
+CREATE TABLE `id_sequences` (
+    `sequence_name` VARCHAR(255) NOT NULL COMMENT '시퀀스명(테이블명)',
+    `next_val`      BIGINT                COMMENT '다음 할당 상한값',
+    PRIMARY KEY (`sequence_name`)
+) COMMENT='PK시퀀스';
+
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'expenses', COALESCE(MAX(`id`), 0) + 50
+FROM `expenses`;
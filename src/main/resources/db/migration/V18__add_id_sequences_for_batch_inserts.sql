@@ -0,0 +1,15 @@
+-- V18: incomes, notifications, categories도 id_sequences 기반 pooled 생성기로 전환 (V17 참고)
+-- 가족 생성 시 기본 카테고리 11건, 예산 알림의 구성원별 알림 등 다건 INSERT를 JDBC 배치로 묶기 위함
+-- 기존 데이터와 겹치지 않도록 MAX(id) + 50으로 초기화
+
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'incomes', COALESCE(MAX(`id`), 0) + 50
+FROM `incomes`;
+
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'notifications', COALESCE(MAX(`id`), 0) + 50
+FROM `notifications`;
+
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'categories', COALESCE(MAX(`id`), 0) + 50
+FROM `categories`;
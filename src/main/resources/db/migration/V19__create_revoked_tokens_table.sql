@@ -0,0 +1,20 @@
+-- V19: revoked_tokens 테이블 생성
+-- Refresh 토큰 회전(rotation) 시 사용된 토큰의 jti를 기록해 재사용을 차단
+-- jti UNIQUE 제약이 동시 갱신 요청 중 하나만 성공시키는 원자적 관문 역할
+-- 각 노드는 revoked_at 기준으로 증분 조회해 메모리 폐기 목록(TokenRevocationRegistry)을 갱신
+--
+-- jti/user_uuid는 엔티티 외부 ID가 아니라 토큰 식별자이므로 String으로 매핑 (UUID BINARY(16) 전환 대상 아님)
+
+CREATE TABLE `revoked_tokens` (
+    `id`         BIGINT      NOT NULL AUTO_INCREMENT,
+    `jti`        VARCHAR(36) NOT NULL COMMENT '토큰ID',
+    `user_uuid`  VARCHAR(36) NOT NULL COMMENT '사용자UUID',
+    `expires_at` DATETIME    NOT NULL COMMENT '토큰만료일시',
+    `revoked_at` DATETIME    NOT NULL COMMENT '폐기일시',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_revoked_tokens_jti` (`jti`),
+    INDEX `idx_revoked_tokens_revoked_at` (`revoked_at`)
+) COMMENT='폐기토큰';
+
+-- 삭제 사용자 증분 조회용 (status = 'DELETED' AND updatedAt >= ?)
+CREATE INDEX `idx_users_status_updated_at` ON `users` (`status`, `updatedAt`);
@@ -0,0 +1,18 @@
+-- V20: notifications (가족, 수신자, 타입, 연월) UNIQUE 제약 추가
+-- 예산 알림 중복 방지를 애플리케이션 조회가 아닌 DB 제약으로 보장 (다른 노드의 동시 평가 포함)
+-- user_uuid가 NULL인 가족 전체 알림(반복 지출 생성)은 UNIQUE 비교에서 제외되므로 같은 달에 여러 건 허용
+--
+-- 이미 알림을 받은 수신자 조회(family_uuid, type, alert_month)는 기존 idx_family_type_month를 사용
+
+-- 1. 기존 중복 알림 정리 (같은 수신자의 같은 타입·연월 알림은 가장 먼저 생성된 1건만 유지)
+DELETE n1 FROM notifications n1
+JOIN notifications n2
+  ON n1.family_uuid = n2.family_uuid
+ AND n1.user_uuid = n2.user_uuid
+ AND n1.type = n2.type
+ AND n1.alert_month = n2.alert_month
+ AND n1.id > n2.id;
+
+-- 2. UNIQUE 제약 추가
+ALTER TABLE notifications
+    ADD UNIQUE KEY uq_notifications_family_user_type_month (family_uuid, user_uuid, type, alert_month);
@@ -0,0 +1,22 @@
+-- V21: notification_unread_counters 테이블 생성
+-- (가족, 수신자)별 읽지 않은 알림 수를 미리 계산해 두어 배지 폴링(unread-count)이 키 조회 한 번으로 끝나도록 함
+-- 알림 생성 / 읽음 처리 / 전체 읽음 처리와 같은 트랜잭션에서 UPSERT로 증감 반영
+-- 가족 전체 알림(user_uuid NULL)은 사용자 피드에 노출되지 않으므로 집계하지 않음
+
+CREATE TABLE `notification_unread_counters` (
+    `id`           BIGINT      NOT NULL AUTO_INCREMENT,
+    `family_uuid`  VARCHAR(36) NOT NULL COMMENT '가족UUID',
+    `user_uuid`    VARCHAR(36) NOT NULL COMMENT '수신자UUID',
+    `unread_count` BIGINT      NOT NULL COMMENT '읽지않은알림수',
+    `updated_at`   DATETIME    NOT NULL COMMENT '갱신일시',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_notification_unread_counter` (`family_uuid`, `user_uuid`)
+) COMMENT='읽지않은알림수';
+
+-- 기존 알림으로 초기 집계
+INSERT INTO `notification_unread_counters` (`family_uuid`, `user_uuid`, `unread_count`, `updated_at`)
+SELECT n.`family_uuid`, n.`user_uuid`, COUNT(*), NOW()
+FROM `notifications` n
+WHERE n.`user_uuid` IS NOT NULL
+  AND n.`is_read` = FALSE
+GROUP BY n.`family_uuid`, n.`user_uuid`;
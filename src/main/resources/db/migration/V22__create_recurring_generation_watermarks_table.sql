@@ -0,0 +1,12 @@
+-- V22: recurring_generation_watermarks 테이블 생성
+-- 반복 지출 생성 작업의 마지막 완료 일자를 기록해, 노드 다운·재배포로 놓친 일자를 다음 실행/기동 시 따라잡음
+-- 하루치 생성이 모든 청크에서 성공했을 때만 전진 (UPSERT + GREATEST로 뒤로 가지 않음)
+
+CREATE TABLE `recurring_generation_watermarks` (
+    `id`                  BIGINT       NOT NULL AUTO_INCREMENT,
+    `job_name`            VARCHAR(100) NOT NULL COMMENT '작업이름',
+    `last_completed_date` DATE         NOT NULL COMMENT '마지막완료일자',
+    `updated_at`          DATETIME     NOT NULL COMMENT '갱신일시',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_recurring_generation_watermark_job` (`job_name`)
+) COMMENT='반복지출생성워터마크';
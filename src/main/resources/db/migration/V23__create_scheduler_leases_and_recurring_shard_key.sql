@@ -0,0 +1,25 @@
+-- V23: 스케줄 작업 임대(scheduler_leases)와 반복 지출 샤드 키
+-- 여러 노드가 같은 스케줄을 실행해도 작업(샤드)별로 한 노드만 생성하도록 DB 임대를 사용
+-- - 만료된 임대만 조건부 UPDATE로 획득, 획득할 때마다 fencing_token 증가
+-- - 워터마크는 더 큰 fencing_token으로 이미 기록된 경우 늦은 쓰기를 무시
+-- 샤드 모드에서는 가족 UUID 해시 버킷(family_shard_key, 0~1023)을 노드들이 구간으로 나누어 맡음
+
+CREATE TABLE `scheduler_leases` (
+    `id`            BIGINT       NOT NULL AUTO_INCREMENT,
+    `lease_name`    VARCHAR(100) NOT NULL COMMENT '임대이름',
+    `owner`         VARCHAR(100) NOT NULL COMMENT '보유노드',
+    `fencing_token` BIGINT       NOT NULL COMMENT '펜싱토큰',
+    `expires_at`    DATETIME(6)  NOT NULL COMMENT '만료일시',
+    `updated_at`    DATETIME(6)  NOT NULL COMMENT '갱신일시',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uq_scheduler_leases_name` (`lease_name`)
+) COMMENT='스케줄작업임대';
+
+ALTER TABLE `recurring_generation_watermarks`
+    ADD COLUMN `fencing_token` BIGINT NOT NULL DEFAULT 0 COMMENT '마지막기록펜싱토큰' AFTER `last_completed_date`;
+
+-- Java 쪽 RecurringExpense.shardKeyOf(CRC32(UTF-8 문자열) % 1024)와 같은 값
+ALTER TABLE `recurring_expenses`
+    ADD COLUMN `family_shard_key` SMALLINT NOT NULL DEFAULT 0 COMMENT '가족해시버킷' AFTER `day_of_month`;
+
+UPDATE `recurring_expenses` SET `family_shard_key` = CRC32(`family_uuid`) % 1024;
@@ -0,0 +1,46 @@
+-- V24: 반복 지출 일정 일반화(매월/매주/매년)와 다음 생성 일시(next_run_at)
+-- - 스케줄러는 (status, next_run_at) 인덱스로 도래한 템플릿만 범위 조회하고, 생성과 같은 트랜잭션에서 next_run_at을 전진
+-- - 매월 반복일 29~31일 허용 (그 달에 없는 일자면 말일)
+-- - 생성 멱등 키를 (반복 지출, 월)에서 (반복 지출, 발생일)로 변경 (매주 반복은 한 달에 여러 건)
+
+ALTER TABLE `recurring_expenses`
+    ADD COLUMN `frequency`     VARCHAR(20) NOT NULL DEFAULT 'MONTHLY' COMMENT '반복주기' AFTER `amount`,
+    MODIFY COLUMN `day_of_month` TINYINT NULL COMMENT '반복일(MONTHLY/YEARLY)',
+    ADD COLUMN `day_of_week`   TINYINT     NULL COMMENT '반복요일(WEEKLY, 1=월요일)' AFTER `day_of_month`,
+    ADD COLUMN `month_of_year` TINYINT     NULL COMMENT '반복월(YEARLY)' AFTER `day_of_week`,
+    ADD COLUMN `next_run_at`   DATETIME    NULL COMMENT '다음생성일시' AFTER `month_of_year`;
+
+-- 기존 템플릿(모두 MONTHLY, 1~28일)의 next_run_at = 생성이 완료된 마지막 일자 다음의 첫 발생일 01:00
+-- 워터마크가 여러 개(샤드)면 가장 뒤처진 구간 기준으로 잡고, 이미 생성된 발생은 아래 UNIQUE 키로 건너뜀
+-- 워터마크가 없으면 오늘 실행(01:00)이 끝났는지로 판단
+SET @completed_through = COALESCE(
+    (SELECT MIN(`last_completed_date`)
+     FROM `recurring_generation_watermarks`
+     WHERE `job_name` LIKE 'recurring-expense-generation%'),
+    IF(CURTIME() < '01:00:00', CURDATE() - INTERVAL 1 DAY, CURDATE()));
+
+UPDATE `recurring_expenses`
+SET `next_run_at` = TIMESTAMP(
+    IF(`day_of_month` > DAY(@completed_through),
+       @completed_through + INTERVAL (`day_of_month` - DAY(@completed_through)) DAY,
+       LAST_DAY(@completed_through) + INTERVAL `day_of_month` DAY),
+    '01:00:00');
+
+ALTER TABLE `recurring_expenses`
+    MODIFY COLUMN `next_run_at` DATETIME NOT NULL COMMENT '다음생성일시',
+    ADD INDEX `idx_recurring_status_next_run` (`status`, `next_run_at`),
+    DROP INDEX `idx_recurring_day`;
+
+-- 발생일: 기존 자동 생성 지출은 생성 일자(date)가 발생일
+ALTER TABLE `expenses`
+    ADD COLUMN `recurring_date` DATE NULL COMMENT '반복발생일' AFTER `recurring_expense_uuid`;
+
+UPDATE `expenses`
+SET `recurring_date` = IF(DATE_FORMAT(`date`, '%Y-%m') = `year_month`,
+                          DATE(`date`),
+                          STR_TO_DATE(CONCAT(`year_month`, '-01'), '%Y-%m-%d'))
+WHERE `recurring_expense_uuid` IS NOT NULL;
+
+ALTER TABLE `expenses`
+    ADD UNIQUE KEY `uq_recurring_occurrence` (`recurring_expense_uuid`, `recurring_date`),
+    DROP INDEX `uq_recurring_month`;
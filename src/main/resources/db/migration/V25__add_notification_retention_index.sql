@@ -0,0 +1,8 @@
+-- V25: 알림 보관 정리(NotificationRetentionJob) 대상 조회 인덱스
+-- findRetentionKeys: is_read = ? AND type = ? AND created_at < ? AND (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT n
+-- 기존 인덱스는 모두 family_uuid/user_uuid로 시작해 이 조회가 테이블 전체를 스캔하므로,
+-- (is_read, type, created_at) 범위만 읽고 id까지 인덱스에서 바로 얻도록 커버링 인덱스 추가
+
+ALTER TABLE `notifications`
+    ADD INDEX `idx_notifications_retention` (`is_read`, `type`, `created_at`, `id`),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,470 @@
+-- V26_4 (opt-in, db/uuid-binary/cutover): 섀도 컬럼을 원래 UUID 컬럼으로 교체
+-- UUID_JDBC_TYPE=BINARY로 전환하는 배포에서만 실행 (prepare 단계 V26_1 ~ V26_3 완료 후)
+-- 모든 DDL이 메타데이터 변경(INSTANT / INPLACE)이라 테이블 크기와 무관하게 짧게 끝나지만,
+-- VARCHAR 모드로 동작 중인 이전 인스턴스는 컷오버 직후부터 UUID 컬럼을 읽지 못하므로 먼저 내려야 함
+--
+-- 1. 외래키 / 동기화 트리거 제거
+-- 2. 기존 VARCHAR 인덱스 제거 → VARCHAR 컬럼 제거 → 섀도 컬럼/인덱스를 원래 이름으로 변경
+--    (recurring_expenses.family_shard_key는 BINARY 컬럼 기준으로 다시 계산)
+-- 3. 임시 DEFAULT 제거
+-- 4. 외래키 재생성 (값은 백필 + 트리거로 이미 일치하므로 FOREIGN_KEY_CHECKS=0으로 검증 스캔 생략)
+
+-- 1. 외래키 / 트리거 제거
+
+ALTER TABLE `family_members`
+    DROP FOREIGN KEY `fk_family_members_family`,
+    DROP FOREIGN KEY `fk_family_members_user`;
+
+ALTER TABLE `categories`
+    DROP FOREIGN KEY `fk_categories_family`;
+
+ALTER TABLE `expenses`
+    DROP FOREIGN KEY `fk_expenses_family`,
+    DROP FOREIGN KEY `fk_expenses_category`,
+    DROP FOREIGN KEY `fk_expenses_user`;
+
+ALTER TABLE `invitations`
+    DROP FOREIGN KEY `fk_invitations_family`,
+    DROP FOREIGN KEY `fk_invitations_inviter`;
+
+ALTER TABLE `incomes`
+    DROP FOREIGN KEY `fk_incomes_family`,
+    DROP FOREIGN KEY `fk_incomes_category`,
+    DROP FOREIGN KEY `fk_incomes_user`;
+
+ALTER TABLE `recurring_expenses`
+    DROP FOREIGN KEY `fk_recurring_family`;
+
+DROP TRIGGER `trg_users_uuid_bin_insert`;
+DROP TRIGGER `trg_users_uuid_bin_update`;
+DROP TRIGGER `trg_families_uuid_bin_insert`;
+DROP TRIGGER `trg_families_uuid_bin_update`;
+DROP TRIGGER `trg_family_members_uuid_bin_insert`;
+DROP TRIGGER `trg_family_members_uuid_bin_update`;
+DROP TRIGGER `trg_categories_uuid_bin_insert`;
+DROP TRIGGER `trg_categories_uuid_bin_update`;
+DROP TRIGGER `trg_expenses_uuid_bin_insert`;
+DROP TRIGGER `trg_expenses_uuid_bin_update`;
+DROP TRIGGER `trg_incomes_uuid_bin_insert`;
+DROP TRIGGER `trg_incomes_uuid_bin_update`;
+DROP TRIGGER `trg_invitations_uuid_bin_insert`;
+DROP TRIGGER `trg_invitations_uuid_bin_update`;
+DROP TRIGGER `trg_user_profiles_uuid_bin_insert`;
+DROP TRIGGER `trg_user_profiles_uuid_bin_update`;
+DROP TRIGGER `trg_notifications_uuid_bin_insert`;
+DROP TRIGGER `trg_notifications_uuid_bin_update`;
+DROP TRIGGER `trg_recurring_expenses_uuid_bin_insert`;
+DROP TRIGGER `trg_recurring_expenses_uuid_bin_update`;
+DROP TRIGGER `trg_daily_expense_rollups_uuid_bin_insert`;
+DROP TRIGGER `trg_daily_expense_rollups_uuid_bin_update`;
+DROP TRIGGER `trg_notification_unread_counters_uuid_bin_insert`;
+DROP TRIGGER `trg_notification_unread_counters_uuid_bin_update`;
+
+-- 2. 컬럼 / 인덱스 교체
+
+-- users
+ALTER TABLE `users`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_users_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `users`
+    DROP COLUMN `uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `users`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `users`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_users_uuid_bin` TO `idx_users_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- families
+ALTER TABLE `families`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_families_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `families`
+    DROP COLUMN `uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `families`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `families`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_families_uuid_bin` TO `idx_families_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- family_members
+ALTER TABLE `family_members`
+    DROP INDEX `uuid`,
+    DROP INDEX `unique_family_user`,
+    DROP INDEX `idx_family_members_family_uuid`,
+    DROP INDEX `idx_family_members_user_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `family_members`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `family_members`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `family_members`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `unique_family_user_bin` TO `unique_family_user`,
+    RENAME INDEX `idx_family_members_family_uuid_bin` TO `idx_family_members_family_uuid`,
+    RENAME INDEX `idx_family_members_user_uuid_bin` TO `idx_family_members_user_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- categories
+ALTER TABLE `categories`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_categories_family_uuid`,
+    DROP INDEX `idx_categories_exclude_from_budget`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `categories`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `categories`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `categories`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_categories_family_uuid_bin` TO `idx_categories_family_uuid`,
+    RENAME INDEX `idx_categories_exclude_from_budget_bin` TO `idx_categories_exclude_from_budget`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- expenses
+ALTER TABLE `expenses`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_expenses_family_uuid`,
+    DROP INDEX `idx_expenses_category_uuid`,
+    DROP INDEX `idx_expenses_user_uuid`,
+    DROP INDEX `idx_expenses_exclude_from_budget`,
+    DROP INDEX `uq_recurring_occurrence`,
+    DROP INDEX `idx_expenses_family_status_date_cover`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `expenses`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `category_uuid`,
+    DROP COLUMN `user_uuid`,
+    DROP COLUMN `recurring_expense_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `expenses`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `category_uuid_bin` TO `category_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    RENAME COLUMN `recurring_expense_uuid_bin` TO `recurring_expense_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `expenses`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_expenses_family_uuid_bin` TO `idx_expenses_family_uuid`,
+    RENAME INDEX `idx_expenses_category_uuid_bin` TO `idx_expenses_category_uuid`,
+    RENAME INDEX `idx_expenses_user_uuid_bin` TO `idx_expenses_user_uuid`,
+    RENAME INDEX `idx_expenses_exclude_from_budget_bin` TO `idx_expenses_exclude_from_budget`,
+    RENAME INDEX `uq_recurring_occurrence_bin` TO `uq_recurring_occurrence`,
+    RENAME INDEX `idx_expenses_family_status_date_cover_bin` TO `idx_expenses_family_status_date_cover`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- incomes
+ALTER TABLE `incomes`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_incomes_family_uuid`,
+    DROP INDEX `idx_incomes_category_uuid`,
+    DROP INDEX `idx_incomes_user_uuid`,
+    DROP INDEX `idx_incomes_family_status_date_cover`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `incomes`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `category_uuid`,
+    DROP COLUMN `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `incomes`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `category_uuid_bin` TO `category_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `incomes`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_incomes_family_uuid_bin` TO `idx_incomes_family_uuid`,
+    RENAME INDEX `idx_incomes_category_uuid_bin` TO `idx_incomes_category_uuid`,
+    RENAME INDEX `idx_incomes_user_uuid_bin` TO `idx_incomes_user_uuid`,
+    RENAME INDEX `idx_incomes_family_status_date_cover_bin` TO `idx_incomes_family_status_date_cover`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- invitations
+ALTER TABLE `invitations`
+    DROP INDEX `uuid`,
+    DROP INDEX `idx_invitations_family_uuid`,
+    DROP INDEX `idx_invitations_inviter_user_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `invitations`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `inviter_user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `invitations`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `inviter_user_uuid_bin` TO `inviter_user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `invitations`
+    RENAME INDEX `uuid_bin` TO `uuid`,
+    RENAME INDEX `idx_invitations_family_uuid_bin` TO `idx_invitations_family_uuid`,
+    RENAME INDEX `idx_invitations_inviter_user_uuid_bin` TO `idx_invitations_inviter_user_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- user_profiles
+ALTER TABLE `user_profiles`
+    DROP INDEX `user_uuid`,
+    DROP INDEX `idx_user_profiles_user_uuid`,
+    DROP INDEX `idx_user_profiles_default_family_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `user_profiles`
+    DROP COLUMN `user_uuid`,
+    DROP COLUMN `default_family_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `user_profiles`
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    RENAME COLUMN `default_family_uuid_bin` TO `default_family_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `user_profiles`
+    RENAME INDEX `user_uuid_bin` TO `user_uuid`,
+    RENAME INDEX `idx_user_profiles_user_uuid_bin` TO `idx_user_profiles_user_uuid`,
+    RENAME INDEX `idx_user_profiles_default_family_uuid_bin` TO `idx_user_profiles_default_family_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- notifications
+ALTER TABLE `notifications`
+    DROP INDEX `notification_uuid`,
+    DROP INDEX `idx_family_uuid`,
+    DROP INDEX `idx_family_type_month`,
+    DROP INDEX `idx_family_user_created`,
+    DROP INDEX `idx_user_is_read`,
+    DROP INDEX `uq_notifications_family_user_type_month`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `notifications`
+    DROP COLUMN `notification_uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `user_uuid`,
+    DROP COLUMN `reference_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notifications`
+    RENAME COLUMN `notification_uuid_bin` TO `notification_uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    RENAME COLUMN `reference_uuid_bin` TO `reference_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notifications`
+    RENAME INDEX `notification_uuid_bin` TO `notification_uuid`,
+    RENAME INDEX `idx_family_uuid_bin` TO `idx_family_uuid`,
+    RENAME INDEX `idx_family_type_month_bin` TO `idx_family_type_month`,
+    RENAME INDEX `idx_family_user_created_bin` TO `idx_family_user_created`,
+    RENAME INDEX `idx_user_is_read_bin` TO `idx_user_is_read`,
+    RENAME INDEX `uq_notifications_family_user_type_month_bin` TO `uq_notifications_family_user_type_month`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- recurring_expenses
+ALTER TABLE `recurring_expenses`
+    DROP INDEX `uq_recurring_uuid`,
+    DROP INDEX `idx_recurring_family_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `recurring_expenses`
+    DROP COLUMN `uuid`,
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `category_uuid`,
+    DROP COLUMN `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `recurring_expenses`
+    RENAME COLUMN `uuid_bin` TO `uuid`,
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `category_uuid_bin` TO `category_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `recurring_expenses`
+    RENAME INDEX `uq_recurring_uuid_bin` TO `uq_recurring_uuid`,
+    RENAME INDEX `idx_recurring_family_uuid_bin` TO `idx_recurring_family_uuid`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 샤드 키는 문자열 UUID의 CRC32(RecurringExpense.shardKeyOf)이므로 BIN_TO_UUID로 문자열을 복원해 다시 계산
+-- (템플릿 수만큼의 UPDATE 한 번, 값은 V23 초기화와 같음)
+UPDATE `recurring_expenses`
+SET `family_shard_key` = CRC32(BIN_TO_UUID(`family_uuid`)) % 1024;
+
+-- daily_expense_rollups
+ALTER TABLE `daily_expense_rollups`
+    DROP INDEX `uq_daily_expense_rollup`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `daily_expense_rollups`
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `category_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `daily_expense_rollups`
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `category_uuid_bin` TO `category_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `daily_expense_rollups`
+    RENAME INDEX `uq_daily_expense_rollup_bin` TO `uq_daily_expense_rollup`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- notification_unread_counters
+ALTER TABLE `notification_unread_counters`
+    DROP INDEX `uq_notification_unread_counter`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `notification_unread_counters`
+    DROP COLUMN `family_uuid`,
+    DROP COLUMN `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notification_unread_counters`
+    RENAME COLUMN `family_uuid_bin` TO `family_uuid`,
+    RENAME COLUMN `user_uuid_bin` TO `user_uuid`,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notification_unread_counters`
+    RENAME INDEX `uq_notification_unread_counter_bin` TO `uq_notification_unread_counter`,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 3. 임시 DEFAULT 제거
+
+ALTER TABLE `users`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `families`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `family_members`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `categories`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `expenses`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `category_uuid` DROP DEFAULT,
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `incomes`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `category_uuid` DROP DEFAULT,
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `invitations`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `inviter_user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `user_profiles`
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notifications`
+    ALTER COLUMN `notification_uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `recurring_expenses`
+    ALTER COLUMN `uuid` DROP DEFAULT,
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `category_uuid` DROP DEFAULT,
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `daily_expense_rollups`
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `category_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notification_unread_counters`
+    ALTER COLUMN `family_uuid` DROP DEFAULT,
+    ALTER COLUMN `user_uuid` DROP DEFAULT,
+    ALGORITHM = INSTANT;
+
+-- 4. 외래키 재생성
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE `family_members`
+    ADD CONSTRAINT `fk_family_members_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`) ON DELETE CASCADE,
+    ADD CONSTRAINT `fk_family_members_user` FOREIGN KEY (`user_uuid`) REFERENCES `users` (`uuid`) ON DELETE CASCADE,
+    ALGORITHM = INPLACE;
+
+ALTER TABLE `categories`
+    ADD CONSTRAINT `fk_categories_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`) ON DELETE CASCADE,
+    ALGORITHM = INPLACE;
+
+ALTER TABLE `expenses`
+    ADD CONSTRAINT `fk_expenses_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`) ON DELETE CASCADE,
+    ADD CONSTRAINT `fk_expenses_category` FOREIGN KEY (`category_uuid`) REFERENCES `categories` (`uuid`) ON DELETE RESTRICT,
+    ADD CONSTRAINT `fk_expenses_user` FOREIGN KEY (`user_uuid`) REFERENCES `users` (`uuid`) ON DELETE CASCADE,
+    ALGORITHM = INPLACE;
+
+ALTER TABLE `invitations`
+    ADD CONSTRAINT `fk_invitations_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`) ON DELETE CASCADE,
+    ADD CONSTRAINT `fk_invitations_inviter` FOREIGN KEY (`inviter_user_uuid`) REFERENCES `users` (`uuid`) ON DELETE CASCADE,
+    ALGORITHM = INPLACE;
+
+ALTER TABLE `incomes`
+    ADD CONSTRAINT `fk_incomes_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`) ON DELETE CASCADE,
+    ADD CONSTRAINT `fk_incomes_category` FOREIGN KEY (`category_uuid`) REFERENCES `categories` (`uuid`) ON DELETE RESTRICT,
+    ADD CONSTRAINT `fk_incomes_user` FOREIGN KEY (`user_uuid`) REFERENCES `users` (`uuid`) ON DELETE CASCADE,
+    ALGORITHM = INPLACE;
+
+ALTER TABLE `recurring_expenses`
+    ADD CONSTRAINT `fk_recurring_family` FOREIGN KEY (`family_uuid`) REFERENCES `families` (`uuid`),
+    ALGORITHM = INPLACE;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,237 @@
+-- V26_1 (opt-in, db/uuid-binary/prepare): UUID 컬럼별 BINARY(16) 섀도 컬럼 추가
+-- VARCHAR(36) UUID를 BINARY(16)으로 옮기는 온라인 마이그레이션 1단계 (docs/data-schema.md "UUID BINARY(16) 저장" 참고)
+-- - ALGORITHM=INSTANT: 테이블 재작성 없이 메타데이터만 변경
+-- - NOT NULL 컬럼은 임시 DEFAULT ''(0x00 * 16)로 추가하고, 컷오버(V26_4)에서 DEFAULT 제거
+-- - 트리거로 이후 INSERT/UPDATE되는 행의 섀도 컬럼을 UUID_TO_BIN(원본)으로 동기화
+--   (UUID_TO_BIN(x)는 UUID 문자열 순서 그대로의 16바이트 = Hibernate BINARY 매핑과 동일한 바이트 순서)
+
+ALTER TABLE `users`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `families`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `family_members`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `categories`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `expenses`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `category_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `recurring_expense_uuid_bin` BINARY(16) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `incomes`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `category_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `invitations`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `inviter_user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `user_profiles`
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `default_family_uuid_bin` BINARY(16) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notifications`
+    ADD COLUMN `notification_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NULL,
+    ADD COLUMN `reference_uuid_bin` BINARY(16) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `recurring_expenses`
+    ADD COLUMN `uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `category_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `daily_expense_rollups`
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `category_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE `notification_unread_counters`
+    ADD COLUMN `family_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ADD COLUMN `user_uuid_bin` BINARY(16) NOT NULL DEFAULT '',
+    ALGORITHM = INSTANT;
+
+CREATE TRIGGER `trg_users_uuid_bin_insert`
+    BEFORE INSERT ON `users`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`);
+
+CREATE TRIGGER `trg_users_uuid_bin_update`
+    BEFORE UPDATE ON `users`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`);
+
+CREATE TRIGGER `trg_families_uuid_bin_insert`
+    BEFORE INSERT ON `families`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`);
+
+CREATE TRIGGER `trg_families_uuid_bin_update`
+    BEFORE UPDATE ON `families`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`);
+
+CREATE TRIGGER `trg_family_members_uuid_bin_insert`
+    BEFORE INSERT ON `family_members`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_family_members_uuid_bin_update`
+    BEFORE UPDATE ON `family_members`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_categories_uuid_bin_insert`
+    BEFORE INSERT ON `categories`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`);
+
+CREATE TRIGGER `trg_categories_uuid_bin_update`
+    BEFORE UPDATE ON `categories`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`);
+
+CREATE TRIGGER `trg_expenses_uuid_bin_insert`
+    BEFORE INSERT ON `expenses`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`recurring_expense_uuid_bin` = UUID_TO_BIN(NEW.`recurring_expense_uuid`);
+
+CREATE TRIGGER `trg_expenses_uuid_bin_update`
+    BEFORE UPDATE ON `expenses`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`recurring_expense_uuid_bin` = UUID_TO_BIN(NEW.`recurring_expense_uuid`);
+
+CREATE TRIGGER `trg_incomes_uuid_bin_insert`
+    BEFORE INSERT ON `incomes`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_incomes_uuid_bin_update`
+    BEFORE UPDATE ON `incomes`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_invitations_uuid_bin_insert`
+    BEFORE INSERT ON `invitations`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`inviter_user_uuid_bin` = UUID_TO_BIN(NEW.`inviter_user_uuid`);
+
+CREATE TRIGGER `trg_invitations_uuid_bin_update`
+    BEFORE UPDATE ON `invitations`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`inviter_user_uuid_bin` = UUID_TO_BIN(NEW.`inviter_user_uuid`);
+
+CREATE TRIGGER `trg_user_profiles_uuid_bin_insert`
+    BEFORE INSERT ON `user_profiles`
+    FOR EACH ROW
+    SET NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`default_family_uuid_bin` = UUID_TO_BIN(NEW.`default_family_uuid`);
+
+CREATE TRIGGER `trg_user_profiles_uuid_bin_update`
+    BEFORE UPDATE ON `user_profiles`
+    FOR EACH ROW
+    SET NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`default_family_uuid_bin` = UUID_TO_BIN(NEW.`default_family_uuid`);
+
+CREATE TRIGGER `trg_notifications_uuid_bin_insert`
+    BEFORE INSERT ON `notifications`
+    FOR EACH ROW
+    SET NEW.`notification_uuid_bin` = UUID_TO_BIN(NEW.`notification_uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`reference_uuid_bin` = UUID_TO_BIN(NEW.`reference_uuid`);
+
+CREATE TRIGGER `trg_notifications_uuid_bin_update`
+    BEFORE UPDATE ON `notifications`
+    FOR EACH ROW
+    SET NEW.`notification_uuid_bin` = UUID_TO_BIN(NEW.`notification_uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`),
+        NEW.`reference_uuid_bin` = UUID_TO_BIN(NEW.`reference_uuid`);
+
+CREATE TRIGGER `trg_recurring_expenses_uuid_bin_insert`
+    BEFORE INSERT ON `recurring_expenses`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_recurring_expenses_uuid_bin_update`
+    BEFORE UPDATE ON `recurring_expenses`
+    FOR EACH ROW
+    SET NEW.`uuid_bin` = UUID_TO_BIN(NEW.`uuid`),
+        NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_daily_expense_rollups_uuid_bin_insert`
+    BEFORE INSERT ON `daily_expense_rollups`
+    FOR EACH ROW
+    SET NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`);
+
+CREATE TRIGGER `trg_daily_expense_rollups_uuid_bin_update`
+    BEFORE UPDATE ON `daily_expense_rollups`
+    FOR EACH ROW
+    SET NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`category_uuid_bin` = UUID_TO_BIN(NEW.`category_uuid`);
+
+CREATE TRIGGER `trg_notification_unread_counters_uuid_bin_insert`
+    BEFORE INSERT ON `notification_unread_counters`
+    FOR EACH ROW
+    SET NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
+
+CREATE TRIGGER `trg_notification_unread_counters_uuid_bin_update`
+    BEFORE UPDATE ON `notification_unread_counters`
+    FOR EACH ROW
+    SET NEW.`family_uuid_bin` = UUID_TO_BIN(NEW.`family_uuid`),
+        NEW.`user_uuid_bin` = UUID_TO_BIN(NEW.`user_uuid`);
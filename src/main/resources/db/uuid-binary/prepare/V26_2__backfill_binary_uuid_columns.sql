@@ -0,0 +1,45 @@
+-- V26_2 (opt-in, db/uuid-binary/prepare): 기존 행의 BINARY(16) 섀도 컬럼 채우기
+-- id 범위 5,000행 단위로 나눠 UPDATE하고 청크마다 커밋 (긴 트랜잭션/락 없이 서비스 중 실행 가능)
+-- 실행 중 새로 INSERT/UPDATE되는 행은 V26_1 트리거가 채우므로 MAX(id) 시점 이후는 따로 처리하지 않음
+-- 트랜잭션 밖에서 실행: V26_2__backfill_binary_uuid_columns.sql.conf (executeInTransaction=false)
+
+DROP PROCEDURE IF EXISTS `backfill_binary_uuid`;
+
+DELIMITER $$
+CREATE PROCEDURE `backfill_binary_uuid`(IN p_table VARCHAR(64), IN p_assignments VARCHAR(1024))
+BEGIN
+    DECLARE v_from BIGINT DEFAULT 0;
+    DECLARE v_max BIGINT DEFAULT 0;
+
+    SET @backfill_max_id = 0;
+    SET @backfill_sql = CONCAT('SELECT COALESCE(MAX(`id`), 0) INTO @backfill_max_id FROM `', p_table, '`');
+    PREPARE stmt FROM @backfill_sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+    SET v_max = @backfill_max_id;
+
+    WHILE v_from < v_max DO
+        SET @backfill_sql = CONCAT('UPDATE `', p_table, '` SET ', p_assignments,
+                                   ' WHERE `id` > ', v_from, ' AND `id` <= ', v_from + 5000);
+        PREPARE stmt FROM @backfill_sql;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+        SET v_from = v_from + 5000;
+    END WHILE;
+END$$
+DELIMITER ;
+
+CALL `backfill_binary_uuid`('users', '`uuid_bin` = UUID_TO_BIN(`uuid`)');
+CALL `backfill_binary_uuid`('families', '`uuid_bin` = UUID_TO_BIN(`uuid`)');
+CALL `backfill_binary_uuid`('family_members', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`)');
+CALL `backfill_binary_uuid`('categories', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`)');
+CALL `backfill_binary_uuid`('expenses', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `category_uuid_bin` = UUID_TO_BIN(`category_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`), `recurring_expense_uuid_bin` = UUID_TO_BIN(`recurring_expense_uuid`)');
+CALL `backfill_binary_uuid`('incomes', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `category_uuid_bin` = UUID_TO_BIN(`category_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`)');
+CALL `backfill_binary_uuid`('invitations', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `inviter_user_uuid_bin` = UUID_TO_BIN(`inviter_user_uuid`)');
+CALL `backfill_binary_uuid`('user_profiles', '`user_uuid_bin` = UUID_TO_BIN(`user_uuid`), `default_family_uuid_bin` = UUID_TO_BIN(`default_family_uuid`)');
+CALL `backfill_binary_uuid`('notifications', '`notification_uuid_bin` = UUID_TO_BIN(`notification_uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`), `reference_uuid_bin` = UUID_TO_BIN(`reference_uuid`)');
+CALL `backfill_binary_uuid`('recurring_expenses', '`uuid_bin` = UUID_TO_BIN(`uuid`), `family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `category_uuid_bin` = UUID_TO_BIN(`category_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`)');
+CALL `backfill_binary_uuid`('daily_expense_rollups', '`family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `category_uuid_bin` = UUID_TO_BIN(`category_uuid`)');
+CALL `backfill_binary_uuid`('notification_unread_counters', '`family_uuid_bin` = UUID_TO_BIN(`family_uuid`), `user_uuid_bin` = UUID_TO_BIN(`user_uuid`)');
+
+DROP PROCEDURE `backfill_binary_uuid`;
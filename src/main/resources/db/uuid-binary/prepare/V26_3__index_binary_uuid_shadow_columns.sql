@@ -0,0 +1,79 @@
+-- V26_3 (opt-in, db/uuid-binary/prepare): 섀도 컬럼에 기존 UUID 인덱스와 같은 구성의 인덱스 생성
+-- 이름은 원본 인덱스 + '_bin' (컷오버에서 원래 이름으로 RENAME)
+-- ALGORITHM=INPLACE, LOCK=NONE: 인덱스 생성 중에도 읽기/쓰기 허용
+-- UNIQUE 인덱스는 백필(V26_2) 이후에 생성해야 임시 DEFAULT('') 값과 충돌하지 않음
+
+ALTER TABLE `users`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_users_uuid_bin` (`uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `families`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_families_uuid_bin` (`uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `family_members`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD UNIQUE INDEX `unique_family_user_bin` (`family_uuid_bin`, `user_uuid_bin`),
+    ADD INDEX `idx_family_members_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_family_members_user_uuid_bin` (`user_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `categories`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_categories_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_categories_exclude_from_budget_bin` (`family_uuid_bin`, `exclude_from_budget`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `expenses`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_expenses_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_expenses_category_uuid_bin` (`category_uuid_bin`),
+    ADD INDEX `idx_expenses_user_uuid_bin` (`user_uuid_bin`),
+    ADD INDEX `idx_expenses_exclude_from_budget_bin` (`family_uuid_bin`, `exclude_from_budget`, `date`),
+    ADD UNIQUE INDEX `uq_recurring_occurrence_bin` (`recurring_expense_uuid_bin`, `recurring_date`),
+    ADD INDEX `idx_expenses_family_status_date_cover_bin` (`family_uuid_bin`, `status`, `date`, `amount`, `category_uuid_bin`, `exclude_from_budget`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `incomes`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_incomes_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_incomes_category_uuid_bin` (`category_uuid_bin`),
+    ADD INDEX `idx_incomes_user_uuid_bin` (`user_uuid_bin`),
+    ADD INDEX `idx_incomes_family_status_date_cover_bin` (`family_uuid_bin`, `status`, `date`, `amount`, `category_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `invitations`
+    ADD UNIQUE INDEX `uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_invitations_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_invitations_inviter_user_uuid_bin` (`inviter_user_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `user_profiles`
+    ADD UNIQUE INDEX `user_uuid_bin` (`user_uuid_bin`),
+    ADD INDEX `idx_user_profiles_user_uuid_bin` (`user_uuid_bin`),
+    ADD INDEX `idx_user_profiles_default_family_uuid_bin` (`default_family_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `notifications`
+    ADD UNIQUE INDEX `notification_uuid_bin` (`notification_uuid_bin`),
+    ADD INDEX `idx_family_uuid_bin` (`family_uuid_bin`),
+    ADD INDEX `idx_family_type_month_bin` (`family_uuid_bin`, `type`, `alert_month`),
+    ADD INDEX `idx_family_user_created_bin` (`family_uuid_bin`, `user_uuid_bin`, `created_at` DESC),
+    ADD INDEX `idx_user_is_read_bin` (`user_uuid_bin`, `is_read`),
+    ADD UNIQUE INDEX `uq_notifications_family_user_type_month_bin` (`family_uuid_bin`, `user_uuid_bin`, `type`, `alert_month`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `recurring_expenses`
+    ADD UNIQUE INDEX `uq_recurring_uuid_bin` (`uuid_bin`),
+    ADD INDEX `idx_recurring_family_uuid_bin` (`family_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `daily_expense_rollups`
+    ADD UNIQUE INDEX `uq_daily_expense_rollup_bin` (`family_uuid_bin`, `expense_date`, `category_uuid_bin`, `exclude_from_budget`),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE `notification_unread_counters`
+    ADD UNIQUE INDEX `uq_notification_unread_counter_bin` (`family_uuid_bin`, `user_uuid_bin`),
+    ALGORITHM = INPLACE, LOCK = NONE;
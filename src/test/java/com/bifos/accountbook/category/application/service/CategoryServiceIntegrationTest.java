@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.bifos.accountbook.shared.exception.BusinessException;
 import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
 import com.bifos.accountbook.category.domain.entity.Category;
 import com.bifos.accountbook.expense.domain.entity.Expense;
 import com.bifos.accountbook.family.domain.entity.Family;
@@ -18,8 +20,10 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 
 @DisplayName("CategoryService 통합 테스트")
+@Import(SqlRecorderConfig.class)
 class CategoryServiceIntegrationTest extends TestFixturesSupport {
 
   @Autowired
@@ -51,6 +55,22 @@ class CategoryServiceIntegrationTest extends TestFixturesSupport {
     assertThat(defaultCategory.getName()).isEqualTo("미분류");
   }
 
+  @Test
+  @DisplayName("기본 카테고리는 한 번의 JDBC 배치 INSERT로 저장된다")
+  void createDefaultCategoriesForFamily_SingleBatch() {
+    // given
+    Family family = fixtures.families.family().build();
+    SqlRecorder.clear();
+
+    // when
+    categoryService.createDefaultCategoriesForFamily(family.getUuid());
+
+    // then: 11건이 batch_size(20) 이내이므로 배치 1회
+    List<SqlRecorder.RecordedStatement> inserts = SqlRecorder.allMatching("insert into categories");
+    assertThat(inserts).hasSize(1);
+    assertThat(inserts.getFirst().batchSize()).isEqualTo(categoryRepository.countByFamilyUuid(family.getUuid()));
+  }
+
   @Test
   @DisplayName("기본 카테고리는 삭제할 수 없다")
   void cannotDeleteDefaultCategory() {
@@ -8,7 +8,9 @@ import io.jsonwebtoken.Jws;
 import java.time.LocalDateTime;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.springframework.security.core.Authentication;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,4 +51,70 @@ class JwtTokenProviderTest {
 
     assertEquals(issuedAtLocalDateTime, TimeUtils.toLocalDateTime(issuedAtDate));
   }
+
+  @Test
+  @DisplayName("유효한 토큰은 한 번의 검증으로 subject를 담은 Authentication이 된다")
+  void parseAccessTokenClaims_ValidToken() {
+    // given
+    User user = User.builder().uuid(CustomUuid.generate()).build();
+    String token = sut.generateToken(user).getToken();
+
+    // when
+    Claims claims = sut.parseAccessTokenClaims(token);
+    Authentication authentication = sut.createAuthentication(claims);
+
+    // then
+    assertThat(claims.getId()).isNotNull();
+    assertThat(authentication.getPrincipal()).isEqualTo(user.getUuid().getValue());
+    assertThat(sut.parseAccessTokenClaims(token).getSubject()).isEqualTo(user.getUuid().getValue());
+  }
+
+  @Test
+  @DisplayName("refresh 토큰은 Access 토큰으로, Access 토큰은 refresh 토큰으로 사용할 수 없다")
+  void tokenTypes_AreNotInterchangeable() {
+    // given
+    User user = User.builder().uuid(CustomUuid.generate()).build();
+    String accessToken = sut.generateToken(user).getToken();
+    String refreshToken = sut.generateRefreshToken(user);
+
+    // when & then
+    assertThat(sut.parseAccessTokenClaims(refreshToken)).isNull();
+    assertThat(sut.parseRefreshTokenClaims(accessToken)).isNull();
+    assertThat(sut.parseRefreshTokenClaims(refreshToken).getId()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("서명이 변조되었거나 다른 키로 서명된 토큰은 예외 없이 거부된다")
+  void parseClaims_InvalidSignature() {
+    // given
+    User user = User.builder().uuid(CustomUuid.generate()).build();
+    String token = sut.generateToken(user).getToken();
+    String tampered = token.substring(0, token.length() - 2)
+                      + (token.endsWith("AA") ? "BB" : "AA");
+    JwtTokenProvider otherKeyProvider = new JwtTokenProvider(
+        new JwtProperties("another-secret", 24 * 60 * 60 * 1000L, 24 * 60 * 60 * 1000L));
+    String foreign = otherKeyProvider.generateToken(user).getToken();
+
+    // when & then
+    assertThat(sut.parseAccessTokenClaims(tampered)).isNull();
+    assertThat(sut.parseAccessTokenClaims(foreign)).isNull();
+    assertThat(sut.validateToken("not-a-jwt")).isFalse();
+    assertThat(sut.validateToken("")).isFalse();
+  }
+
+  @Test
+  @DisplayName("검증 결과 캐시는 토큰 만료 시각을 넘겨 유지되지 않는다")
+  void parseClaims_CacheDoesNotOutliveExpiration() throws InterruptedException {
+    // given: 만료 2초 토큰 (exp는 초 단위로 절삭되므로 실제 남은 시간은 1~2초)
+    JwtTokenProvider shortLived = new JwtTokenProvider(new JwtProperties("test-secret", 2_000L, 2_000L));
+    User user = User.builder().uuid(CustomUuid.generate()).build();
+    String token = shortLived.generateToken(user).getToken();
+    assertThat(shortLived.parseClaims(token)).isNotNull();
+
+    // when
+    Thread.sleep(2_100);
+
+    // then
+    assertThat(shortLived.parseClaims(token)).isNull();
+  }
 }
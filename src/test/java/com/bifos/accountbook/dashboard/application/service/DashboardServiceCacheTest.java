@@ -0,0 +1,243 @@
+package com.bifos.accountbook.dashboard.application.service;
+
+import com.bifos.accountbook.category.application.dto.UpdateCategoryRequest;
+import com.bifos.accountbook.category.application.service.CategoryService;
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.config.CacheConfig;
+import com.bifos.accountbook.dashboard.application.dto.CategoryBreakdownResponse;
+import com.bifos.accountbook.dashboard.application.dto.DailyStatsResponse;
+import com.bifos.accountbook.dashboard.application.dto.MonthlyStatsResponse;
+import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
+import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
+import com.bifos.accountbook.expense.application.dto.UpdateExpenseRequest;
+import com.bifos.accountbook.expense.application.service.ExpenseService;
+import com.bifos.accountbook.family.application.service.FamilyService;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.income.application.dto.CreateIncomeRequest;
+import com.bifos.accountbook.income.application.service.IncomeService;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+/**
+ * DashboardService 캐시 동작 검증 테스트
+ *
+ * 검증 항목:
+ * 1. 조회 결과 캐싱 (리포지토리 직접 저장은 반영되지 않음)
+ * 2. 지출 생성/수정 시 해당 가족·기간만 무효화
+ * 3. 수입 생성 시 무효화
+ * 4. 카테고리 변경 시 가족 전체 무효화
+ * 5. 가족 삭제 시 가족 전체 무효화
+ * 6. 무효화 카운터 메트릭
+ */
+@DisplayName("대시보드 서비스 캐시 테스트")
+class DashboardServiceCacheTest extends TestFixturesSupport {
+
+  @Autowired
+  private DashboardService dashboardService;
+
+  @Autowired
+  private ExpenseService expenseService;
+
+  @Autowired
+  private IncomeService incomeService;
+
+  @Autowired
+  private CategoryService categoryService;
+
+  @Autowired
+  private FamilyService familyService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private User user;
+  private Family family;
+  private Category food;
+
+  @BeforeEach
+  void setUp() {
+    CacheConfig.DASHBOARD_CACHES.forEach(name -> cacheManager.getCache(name).clear());
+
+    user = fixtures.getDefaultUser();
+    family = fixtures.getDefaultFamily();
+    food = fixtures.categories.category(family).name("식비").build();
+  }
+
+  @Test
+  @DisplayName("월별 통계는 캐싱되어 리포지토리 직접 저장은 무효화 전까지 반영되지 않는다")
+  void monthlyStats_IsCached() {
+    // Given: 첫 조회로 캐시 적재
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(10000))
+                     .date(LocalDateTime.of(2025, 3, 5, 12, 0)).build();
+    MonthlyStatsResponse first = dashboardService.getMonthlyStats(user.getUuid(), family.getUuid(), 2025, 3);
+
+    // When: 이벤트 없이 리포지토리로 직접 저장
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(5000))
+                     .date(LocalDateTime.of(2025, 3, 6, 12, 0)).build();
+    MonthlyStatsResponse second = dashboardService.getMonthlyStats(user.getUuid(), family.getUuid(), 2025, 3);
+
+    // Then: 캐시된 값 반환
+    assertThat(first.getMonthlyExpense()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+    assertThat(second.getMonthlyExpense()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("지출 생성 시 해당 월과 그 월에 의존하는 항목만 무효화된다")
+  void createExpense_EvictsOnlyAffectedPeriod() {
+    // Given: 3월, 4월(전월 비교 포함), 5월 캐시 적재
+    CustomUuid familyUuid = family.getUuid();
+    dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3);
+    dashboardService.getDailyStats(user.getUuid(), familyUuid, 2025, 3);
+    dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2025, 4, true);
+    dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2025, 5, true);
+    dashboardService.getMonthlyTrend(user.getUuid(), familyUuid, YearMonth.of(2025, 1), YearMonth.of(2025, 6));
+
+    // When: 3월 지출 생성
+    expenseService.createExpense(user.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(food.getUuid().getValue(), BigDecimal.valueOf(7000), "점심",
+                                                          LocalDateTime.of(2025, 3, 10, 12, 0), null));
+
+    // Then: 3월 의존 항목(3월 통계, 4월 전월 비교, 추이)은 무효화, 5월 분류는 유지
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE)).isZero();
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_DAILY_STATS_CACHE)).isZero();
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_TREND_CACHE)).isZero();
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_CATEGORY_BREAKDOWN_CACHE)).isEqualTo(1);
+
+    MonthlyStatsResponse stats = dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3);
+    DailyStatsResponse daily = dashboardService.getDailyStats(user.getUuid(), familyUuid, 2025, 3);
+    assertThat(stats.getMonthlyExpense()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+    assertThat(daily.getTotalExpense()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+  }
+
+  @Test
+  @DisplayName("다음 달 1일 00:00 지출은 이번 달 카테고리 분류에 포함되지 않아 캐시된 분류가 그대로 맞다")
+  void categoryBreakdown_ExcludesStartOfNextMonth() {
+    // Given: 3월 분류 캐시 적재
+    CustomUuid familyUuid = family.getUuid();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(10000))
+                     .date(LocalDateTime.of(2025, 3, 31, 23, 0)).build();
+    dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2025, 3, false);
+
+    // When: 4월 1일 00:00 지출 생성 (반복 지출 생성 시각)
+    expenseService.createExpense(user.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(food.getUuid().getValue(), BigDecimal.valueOf(7000), "월초",
+                                                          LocalDateTime.of(2025, 4, 1, 0, 0), null));
+
+    // Then: 3월 분류는 무효화 대상이 아니며, 다시 집계해도 4월 1일 지출은 빠짐
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_CATEGORY_BREAKDOWN_CACHE)).isEqualTo(1);
+    CacheConfig.DASHBOARD_CACHES.forEach(name -> cacheManager.getCache(name).clear());
+    assertThat(dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2025, 3, false).getTotalExpense())
+        .isEqualByComparingTo(BigDecimal.valueOf(10000));
+  }
+
+  @Test
+  @DisplayName("지출 날짜 수정 시 이전 월과 새 월이 모두 무효화된다")
+  void updateExpenseDate_EvictsOldAndNewPeriod() {
+    // Given
+    CustomUuid familyUuid = family.getUuid();
+    ExpenseResponse created = expenseService.createExpense(
+        user.getUuid(), familyUuid,
+        new CreateExpenseRequest(food.getUuid().getValue(), BigDecimal.valueOf(12000), "저녁",
+                                 LocalDateTime.of(2025, 3, 20, 19, 0), null));
+    dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3);
+    dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 4);
+
+    // When: 3월 → 4월로 날짜 변경 (금액 변경 없음)
+    expenseService.updateExpense(user.getUuid(), familyUuid, CustomUuid.from(created.getUuid()),
+                                 new UpdateExpenseRequest(null, null, null, LocalDateTime.of(2025, 4, 2, 19, 0), null));
+
+    // Then
+    assertThat(dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3).getMonthlyExpense())
+        .isEqualByComparingTo(BigDecimal.ZERO);
+    assertThat(dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 4).getMonthlyExpense())
+        .isEqualByComparingTo(BigDecimal.valueOf(12000));
+  }
+
+  @Test
+  @DisplayName("수입 생성 시 해당 월 캐시가 무효화된다")
+  void createIncome_EvictsPeriod() {
+    // Given
+    CustomUuid familyUuid = family.getUuid();
+    dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3);
+
+    // When
+    incomeService.createIncome(user.getUuid(), familyUuid,
+                               new CreateIncomeRequest(food.getUuid().getValue(), BigDecimal.valueOf(300000), "월급",
+                                                       LocalDateTime.of(2025, 3, 25, 9, 0)));
+
+    // Then
+    assertThat(dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3).getMonthlyIncome())
+        .isEqualByComparingTo(BigDecimal.valueOf(300000));
+  }
+
+  @Test
+  @DisplayName("카테고리 변경 시 가족의 모든 기간 캐시가 무효화된다")
+  void updateCategory_EvictsWholeFamily() {
+    // Given: 다른 가족 캐시도 함께 적재
+    CustomUuid familyUuid = family.getUuid();
+    Family otherFamily = fixtures.families.family().owner(user).build();
+    dashboardService.getMonthlyStats(user.getUuid(), familyUuid, 2025, 3);
+    dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2024, 11, false);
+    dashboardService.getMonthlyStats(user.getUuid(), otherFamily.getUuid(), 2025, 3);
+    double before = familyInvalidations();
+
+    // When
+    categoryService.updateCategory(user.getUuid(), familyUuid, food.getUuid().getValue(),
+                                   new UpdateCategoryRequest("외식", null, null, null));
+
+    // Then: 대상 가족만 무효화
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_CATEGORY_BREAKDOWN_CACHE)).isZero();
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE)).isEqualTo(1);
+    assertThat(familyInvalidations()).isEqualTo(before + 1);
+
+    CategoryBreakdownResponse breakdown =
+        dashboardService.getCategoryBreakdown(user.getUuid(), familyUuid, 2024, 11, false);
+    assertThat(breakdown.getItems()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("가족 삭제 시 해당 가족의 캐시만 무효화된다")
+  void deleteFamily_EvictsWholeFamily() {
+    // Given: 삭제할 가족과 기본 가족 캐시 적재
+    Family deletedFamily = fixtures.families.family().owner(user).build();
+    dashboardService.getMonthlyStats(user.getUuid(), deletedFamily.getUuid(), 2025, 3);
+    dashboardService.getMonthlyTrend(user.getUuid(), deletedFamily.getUuid(), YearMonth.of(2025, 1), YearMonth.of(2025, 6));
+    dashboardService.getMonthlyStats(user.getUuid(), family.getUuid(), 2025, 3);
+    double before = familyInvalidations();
+
+    // When
+    familyService.deleteFamily(user.getUuid(), deletedFamily.getUuid());
+
+    // Then: 삭제된 가족 항목만 제거
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_TREND_CACHE)).isZero();
+    assertThat(cachedKeyCount(CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE)).isEqualTo(1);
+    assertThat(cacheManager.getCache(CacheConfig.DASHBOARD_MONTHLY_AMOUNTS_CACHE)
+                           .get(DashboardStatsCache.Key.of(family.getUuid(), YearMonth.of(2025, 3))))
+        .isNotNull();
+    assertThat(familyInvalidations()).isEqualTo(before + 1);
+  }
+
+  private long cachedKeyCount(String cacheName) {
+    var nativeCache = (com.github.benmanes.caffeine.cache.Cache<?, ?>) cacheManager.getCache(cacheName).getNativeCache();
+    return nativeCache.asMap().size();
+  }
+
+  private double familyInvalidations() {
+    return meterRegistry.get("dashboard.cache.invalidations").tag("scope", "family").counter().count();
+  }
+}
@@ -0,0 +1,177 @@
+package com.bifos.accountbook.dashboard.infra.repository;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.dashboard.infra.repository.impl.DashboardRepositoryImpl;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 대시보드 월별/일별 집계 쿼리 실행 계획 테스트
+ * - 리포지토리가 실제로 실행한 SQL을 기록하여 같은 파라미터로 EXPLAIN 실행
+ * - YEAR(date)/MONTH(date) 같은 함수 조건이 다시 들어와 전체 스캔이 발생하는 것을 방지
+ *
+ * MySQL에서 실행하면 EXPLAIN의 type/key를 검증하고,
+ * H2(기본 테스트 DB)에서는 tableScan 여부와 인덱스 조건에 date 범위가 포함되는지 검증합니다.
+ */
+@Import(SqlRecorderConfig.class)
+@DisplayName("대시보드 집계 쿼리 실행 계획 테스트")
+class DashboardQueryPlanTest extends TestFixturesSupport {
+
+  private static final Set<String> EXPENSE_DATE_INDEXES =
+      Set.of("idx_expenses_family_status_date_cover", "idx_family_uuid_date", "idx_expenses_exclude_from_budget");
+  private static final Set<String> INCOME_DATE_INDEXES =
+      Set.of("idx_incomes_family_status_date_cover", "idx_family_uuid_date");
+
+  private static final Pattern FROM_TABLE_ALIAS = Pattern.compile("from\\s+(\\w+)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+  @Autowired
+  private DashboardRepositoryImpl dashboardRepository;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private Family family;
+
+  @BeforeEach
+  void setUp() {
+    family = fixtures.getDefaultFamily();
+    Category category = fixtures.categories.category(family).name("식비").build();
+
+    // 여러 달에 걸친 데이터 (월 조건이 범위 스캔으로 좁혀져야 의미가 있음)
+    for (int month = 1; month <= 12; month++) {
+      for (int day = 1; day <= 28; day += 9) {
+        fixtures.expenses.expense(family, category).amount(BigDecimal.valueOf(1000L * day))
+                         .date(LocalDateTime.of(2025, month, day, 12, 0)).build();
+        fixtures.incomes.income(family, category).amount(BigDecimal.valueOf(5000L * day))
+                        .date(LocalDateTime.of(2025, month, day, 9, 0)).build();
+      }
+    }
+
+    SqlRecorder.clear();
+  }
+
+  @Test
+  @DisplayName("월별 지출 합계는 전체 스캔 없이 date 범위 인덱스를 사용한다")
+  void monthlyExpenseAmount_UsesDateRangeIndex() throws SQLException {
+    dashboardRepository.getMonthlyExpenseAmount(family.getUuid(), 2025, 3);
+
+    assertUsesDateRangeIndex(SqlRecorder.lastMatching("from expenses"), "expenses", EXPENSE_DATE_INDEXES);
+  }
+
+  @Test
+  @DisplayName("일별 지출 합계는 전체 스캔 없이 date 범위 인덱스를 사용한다")
+  void dailyExpenseAmounts_UsesDateRangeIndex() throws SQLException {
+    dashboardRepository.getDailyExpenseAmounts(family.getUuid(), 2025, 3);
+
+    assertUsesDateRangeIndex(SqlRecorder.lastMatching("from expenses"), "expenses", EXPENSE_DATE_INDEXES);
+  }
+
+  @Test
+  @DisplayName("월별 수입 합계는 전체 스캔 없이 date 범위 인덱스를 사용한다")
+  void monthlyIncomeAmount_UsesDateRangeIndex() throws SQLException {
+    dashboardRepository.getMonthlyIncomeAmount(family.getUuid(), 2025, 3);
+
+    assertUsesDateRangeIndex(SqlRecorder.lastMatching("from incomes"), "incomes", INCOME_DATE_INDEXES);
+  }
+
+  @Test
+  @DisplayName("일별 수입 합계는 전체 스캔 없이 date 범위 인덱스를 사용한다")
+  void dailyIncomeAmounts_UsesDateRangeIndex() throws SQLException {
+    dashboardRepository.getDailyIncomeAmounts(family.getUuid(), 2025, 3);
+
+    assertUsesDateRangeIndex(SqlRecorder.lastMatching("from incomes"), "incomes", INCOME_DATE_INDEXES);
+  }
+
+  private void assertUsesDateRangeIndex(SqlRecorder.RecordedStatement statement,
+                                        String table,
+                                        Set<String> expectedIndexes) throws SQLException {
+    String alias = tableAlias(statement.sql(), table);
+
+    try (Connection connection = dataSource.getConnection();
+         PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+      statement.bindTo(explain);
+
+      String product = connection.getMetaData().getDatabaseProductName();
+      try (ResultSet resultSet = explain.executeQuery()) {
+        if ("MySQL".equalsIgnoreCase(product)) {
+          assertMySqlPlan(resultSet, alias, expectedIndexes);
+        } else {
+          assertH2Plan(resultSet, alias, expectedIndexes);
+        }
+      }
+    }
+  }
+
+  /**
+   * MySQL EXPLAIN: 대상 테이블 행의 type이 ALL이 아니고 date 범위를 포함하는 인덱스를 사용하는지 검증
+   */
+  private void assertMySqlPlan(ResultSet resultSet, String alias, Set<String> expectedIndexes) throws SQLException {
+    List<String> checkedRows = new ArrayList<>();
+    while (resultSet.next()) {
+      if (!alias.equalsIgnoreCase(resultSet.getString("table"))) {
+        continue;
+      }
+      String type = resultSet.getString("type");
+      String key = resultSet.getString("key");
+      checkedRows.add(type + "/" + key);
+
+      assertThat(type).as("EXPLAIN type for %s", alias).isNotEqualTo("ALL").isEqualTo("range");
+      assertThat(key).as("EXPLAIN key for %s", alias).isIn(expectedIndexes);
+    }
+    assertThat(checkedRows).as("EXPLAIN rows for %s", alias).hasSize(1);
+  }
+
+  /**
+   * H2 EXPLAIN: 대상 테이블이 tableScan이 아니고 인덱스 조건에 date 범위가 포함되는지 검증
+   * H2 계획은 테이블 별칭 뒤의 주석에 사용 인덱스와 인덱스 조건을 표시
+   */
+  private void assertH2Plan(ResultSet resultSet, String alias, Set<String> expectedIndexes) throws SQLException {
+    assertThat(resultSet.next()).isTrue();
+    String plan = resultSet.getString(1);
+
+    Matcher matcher = Pattern.compile("\"" + alias + "\"\\s*/\\*(.*?)\\*/", Pattern.DOTALL | Pattern.CASE_INSENSITIVE)
+                             .matcher(plan);
+    assertThat(matcher.find()).as("table plan for %s in:%n%s", alias, plan).isTrue();
+    String tablePlan = matcher.group(1);
+
+    assertThat(tablePlan).as("plan for %s", alias).doesNotContain("tableScan");
+    assertThat(expectedIndexes)
+        .as("index used for %s: %s", alias, tablePlan)
+        .anyMatch(index -> tablePlan.toUpperCase(Locale.ROOT).contains(index.toUpperCase(Locale.ROOT)));
+    assertThat(tablePlan.toUpperCase(Locale.ROOT))
+        .as("index condition for %s", alias)
+        .containsPattern("\"?DATE\"?\\s*>=")
+        .containsPattern("\"?DATE\"?\\s*<");
+  }
+
+  private static String tableAlias(String sql, String table) {
+    Matcher matcher = FROM_TABLE_ALIAS.matcher(sql);
+    while (matcher.find()) {
+      if (matcher.group(1).equalsIgnoreCase(table)) {
+        return matcher.group(2);
+      }
+    }
+    throw new IllegalStateException("No alias for table " + table + " in: " + sql);
+  }
+}
@@ -0,0 +1,191 @@
+package com.bifos.accountbook.dashboard.infra.repository;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.dashboard.application.service.DailyExpenseRollupService;
+import com.bifos.accountbook.dashboard.domain.repository.DashboardRepository;
+import com.bifos.accountbook.dashboard.domain.repository.projection.MonthlyTrendProjection;
+import com.bifos.accountbook.dashboard.infra.repository.impl.DashboardRepositoryImpl;
+import com.bifos.accountbook.dashboard.infra.repository.impl.RollupDashboardRepositoryImpl;
+import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
+import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
+import com.bifos.accountbook.expense.application.dto.UpdateExpenseRequest;
+import com.bifos.accountbook.expense.application.service.ExpenseService;
+import com.bifos.accountbook.expense.domain.repository.projection.CategoryExpenseProjection;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.entity.User;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 일별 롤업 기반 DashboardRepository 통합 테스트
+ * - 롤업 조회 결과가 원본(expenses) 집계와 동일한지 검증
+ * - ExpenseService 쓰기 경로의 증분 반영 검증
+ */
+@TestPropertySource(properties = "dashboard.rollup.enabled=true")
+@DisplayName("RollupDashboardRepository 통합 테스트")
+class RollupDashboardRepositoryTest extends TestFixturesSupport {
+
+  @Autowired
+  private DashboardRepository dashboardRepository;
+
+  @Autowired
+  private DashboardRepositoryImpl rawDashboardRepository;
+
+  @Autowired
+  private DailyExpenseRollupService dailyExpenseRollupService;
+
+  @Autowired
+  private ExpenseService expenseService;
+
+  private User user;
+  private Family family;
+  private Category food;
+  private Category transport;
+
+  @BeforeEach
+  void setUp() {
+    user = fixtures.getDefaultUser();
+    family = fixtures.getDefaultFamily();
+    food = fixtures.categories.category(family).name("식비").build();
+    transport = fixtures.categories.category(family).name("교통비").build();
+  }
+
+  @Test
+  @DisplayName("롤업 활성화 시 DashboardRepository는 롤업 구현체가 주입된다")
+  void rollupRepositoryIsPrimary() {
+    assertThat(dashboardRepository).isInstanceOf(RollupDashboardRepositoryImpl.class);
+  }
+
+  @Test
+  @DisplayName("재생성한 롤업 조회 결과는 원본 집계와 동일하다 (자정이 아닌 경계 포함)")
+  void rebuiltRollup_MatchesRawAggregation() {
+    // Given: 여러 날짜/시각의 지출 (픽스처는 리포지토리에 직접 저장하므로 롤업은 재생성으로 맞춤)
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(10000))
+                     .date(LocalDateTime.of(2025, 3, 1, 0, 0)).build();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(12000))
+                     .date(LocalDateTime.of(2025, 3, 10, 9, 30)).build();
+    fixtures.expenses.expense(family, transport).amount(BigDecimal.valueOf(3000))
+                     .date(LocalDateTime.of(2025, 3, 10, 21, 0)).build();
+    fixtures.expenses.expense(family, transport).amount(BigDecimal.valueOf(4500))
+                     .date(LocalDateTime.of(2025, 3, 31, 23, 0)).build();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(7000))
+                     .date(LocalDateTime.of(2025, 4, 1, 0, 0)).build();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(20000))
+                     .date(LocalDateTime.of(2025, 2, 14, 18, 0)).build();
+
+    dailyExpenseRollupService.rebuild(family.getUuid());
+
+    CustomUuid familyUuid = family.getUuid();
+    LocalDateTime[][] ranges = {
+        {LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0)},
+        {LocalDateTime.of(2025, 3, 10, 12, 0), LocalDateTime.of(2025, 3, 31, 22, 0)},
+        {LocalDateTime.of(2025, 3, 10, 9, 0), LocalDateTime.of(2025, 3, 10, 10, 0)},
+        {null, LocalDateTime.of(2025, 3, 10, 9, 30)},
+        {LocalDateTime.of(2025, 3, 1, 0, 1), null},
+        {null, null}
+    };
+
+    for (LocalDateTime[] range : ranges) {
+      assertSameStats(dashboardRepository.getCategoryExpenseStats(familyUuid, null, range[0], range[1]),
+                      rawDashboardRepository.getCategoryExpenseStats(familyUuid, null, range[0], range[1]));
+      assertThat(dashboardRepository.getTotalExpenseAmount(familyUuid, food.getUuid(), range[0], range[1]))
+          .isEqualByComparingTo(rawDashboardRepository.getTotalExpenseAmount(familyUuid, food.getUuid(),
+                                                                             range[0], range[1]));
+    }
+
+    assertThat(dashboardRepository.getMonthlyExpenseAmount(familyUuid, 2025, 3))
+        .isEqualByComparingTo(rawDashboardRepository.getMonthlyExpenseAmount(familyUuid, 2025, 3));
+    // 월별 카테고리 통계는 반열린 구간: 4월 1일 00:00 지출(7,000)은 3월에 포함되지 않음
+    assertSameStats(dashboardRepository.getMonthlyCategoryExpenseStats(familyUuid, 2025, 3),
+                    rawDashboardRepository.getMonthlyCategoryExpenseStats(familyUuid, 2025, 3));
+    assertThat(dashboardRepository.getMonthlyCategoryExpenseStats(familyUuid, 2025, 3).stream()
+                                  .map(CategoryExpenseProjection::totalAmount)
+                                  .reduce(BigDecimal.ZERO, BigDecimal::add))
+        .isEqualByComparingTo(BigDecimal.valueOf(29500));
+    assertSameDaily(dashboardRepository.getDailyExpenseAmounts(familyUuid, 2025, 3),
+                    rawDashboardRepository.getDailyExpenseAmounts(familyUuid, 2025, 3));
+
+    LocalDateTime trendFrom = LocalDateTime.of(2025, 1, 1, 0, 0);
+    LocalDateTime trendTo = LocalDateTime.of(2025, 5, 1, 0, 0);
+    List<MonthlyTrendProjection> trend = dashboardRepository.getMonthlyExpenseTrend(familyUuid, trendFrom, trendTo);
+    List<MonthlyTrendProjection> rawTrend =
+        rawDashboardRepository.getMonthlyExpenseTrend(familyUuid, trendFrom, trendTo);
+    assertThat(trend).hasSameSizeAs(rawTrend);
+    for (int i = 0; i < rawTrend.size(); i++) {
+      assertThat(trend.get(i).year()).isEqualTo(rawTrend.get(i).year());
+      assertThat(trend.get(i).month()).isEqualTo(rawTrend.get(i).month());
+      assertThat(trend.get(i).totalExpense()).isEqualByComparingTo(rawTrend.get(i).totalExpense());
+    }
+  }
+
+  @Test
+  @DisplayName("지출 생성·수정·삭제 시 롤업이 증분 반영된다")
+  void expenseWritePaths_ApplyDeltas() {
+    // Given: 서비스 경로로 지출 생성
+    ExpenseResponse created = expenseService.createExpense(
+        user.getUuid(), family.getUuid(),
+        new CreateExpenseRequest(food.getUuid().getValue(), BigDecimal.valueOf(15000), "점심",
+                                 LocalDateTime.of(2025, 5, 3, 12, 0), null));
+    expenseService.createExpense(
+        user.getUuid(), family.getUuid(),
+        new CreateExpenseRequest(transport.getUuid().getValue(), BigDecimal.valueOf(2000), "버스",
+                                 LocalDateTime.of(2025, 5, 3, 8, 0), true));
+
+    assertThat(dashboardRepository.getDailyExpenseAmounts(family.getUuid(), 2025, 5))
+        .containsOnlyKeys(3);
+    assertThat(dashboardRepository.getMonthlyExpenseAmount(family.getUuid(), 2025, 5))
+        .isEqualByComparingTo(BigDecimal.valueOf(15000));
+
+    // When: 날짜·카테고리·금액 수정
+    CustomUuid expenseUuid = CustomUuid.from(created.getUuid());
+    expenseService.updateExpense(
+        user.getUuid(), family.getUuid(), expenseUuid,
+        new UpdateExpenseRequest(transport.getUuid().getValue(), BigDecimal.valueOf(18000), null,
+                                 LocalDateTime.of(2025, 5, 7, 12, 0), null));
+
+    // Then: 이전 날짜에서 빠지고 새 날짜/카테고리에 반영
+    Map<Integer, BigDecimal> daily = dashboardRepository.getDailyExpenseAmounts(family.getUuid(), 2025, 5);
+    assertThat(daily.get(3)).isEqualByComparingTo(BigDecimal.valueOf(2000));
+    assertThat(daily.get(7)).isEqualByComparingTo(BigDecimal.valueOf(18000));
+    assertSameStats(
+        dashboardRepository.getCategoryExpenseStats(family.getUuid(), null, null, null),
+        rawDashboardRepository.getCategoryExpenseStats(family.getUuid(), null, null, null));
+
+    // When: 삭제
+    expenseService.deleteExpense(user.getUuid(), family.getUuid(), expenseUuid);
+
+    // Then: 건수가 0이 된 날짜는 결과에서 제외
+    assertThat(dashboardRepository.getDailyExpenseAmounts(family.getUuid(), 2025, 5))
+        .containsOnlyKeys(3);
+    assertThat(dashboardRepository.getMonthlyExpenseAmount(family.getUuid(), 2025, 5))
+        .isEqualByComparingTo(BigDecimal.ZERO);
+    assertSameStats(
+        dashboardRepository.getCategoryExpenseStats(family.getUuid(), null, null, null),
+        rawDashboardRepository.getCategoryExpenseStats(family.getUuid(), null, null, null));
+  }
+
+  private void assertSameStats(List<CategoryExpenseProjection> actual, List<CategoryExpenseProjection> expected) {
+    assertThat(actual).hasSameSizeAs(expected);
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(actual.get(i).categoryUuid()).isEqualTo(expected.get(i).categoryUuid());
+      assertThat(actual.get(i).categoryName()).isEqualTo(expected.get(i).categoryName());
+      assertThat(actual.get(i).totalAmount()).isEqualByComparingTo(expected.get(i).totalAmount());
+      assertThat(actual.get(i).count()).isEqualTo(expected.get(i).count());
+    }
+  }
+
+  private void assertSameDaily(Map<Integer, BigDecimal> actual, Map<Integer, BigDecimal> expected) {
+    assertThat(actual).containsOnlyKeys(expected.keySet());
+    expected.forEach((day, amount) -> assertThat(actual.get(day)).isEqualByComparingTo(amount));
+  }
+}
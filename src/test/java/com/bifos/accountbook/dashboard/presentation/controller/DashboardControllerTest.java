@@ -519,6 +519,59 @@ class DashboardControllerTest extends AbstractControllerTest {
            .andExpect(jsonPath("$.data.items").isEmpty());
   }
 
+  // ===== snapshot 통합 테스트 =====
+
+  @Test
+  @DisplayName("대시보드 스냅샷 - 개별 API 결과를 한 번에 반환")
+  void getSnapshot_Success() throws Exception {
+    User user = fixtures.getDefaultUser();
+    Family family = fixtures.getDefaultFamily();
+    Category foodCategory = fixtures.categories.category(family).name("식비").build();
+
+    createExpense(family.getUuid(), user.getUuid(), foodCategory.getUuid(),
+                  BigDecimal.valueOf(50000), LocalDateTime.of(2025, 4, 15, 10, 0));
+    createExpense(family.getUuid(), user.getUuid(), foodCategory.getUuid(),
+                  BigDecimal.valueOf(75000), LocalDateTime.of(2025, 5, 15, 10, 0));
+    createIncome(family.getUuid(), user.getUuid(), foodCategory.getUuid(),
+                 BigDecimal.valueOf(300000), LocalDateTime.of(2025, 5, 1, 9, 0));
+
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/dashboard/snapshot", family.getUuid().getValue())
+                        .param("year", "2025")
+                        .param("month", "5")
+                        .param("trendMonths", "3")
+                        .contentType(MediaType.APPLICATION_JSON))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.success").value(true))
+           .andExpect(jsonPath("$.data.monthlyStats.monthlyExpense").value(75000))
+           .andExpect(jsonPath("$.data.monthlyStats.monthlyIncome").value(300000))
+           .andExpect(jsonPath("$.data.categoryBreakdown.totalExpense").value(75000))
+           .andExpect(jsonPath("$.data.categoryBreakdown.items[0].deltaPercent").value(50.0))
+           .andExpect(jsonPath("$.data.dailyStats.dailyStats.length()").value(2))
+           .andExpect(jsonPath("$.data.monthlyTrend.points.length()").value(2))
+           .andExpect(jsonPath("$.data.unreadNotificationCount").value(0));
+  }
+
+  @Test
+  @DisplayName("대시보드 스냅샷 - 가족 구성원이 아니면 403")
+  void getSnapshot_NotFamilyMember() throws Exception {
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/dashboard/snapshot", CustomUuid.generate().getValue())
+                        .param("year", "2025")
+                        .param("month", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+           .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("대시보드 스냅샷 - trendMonths 범위를 벗어나면 400")
+  void getSnapshot_InvalidTrendMonths() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/dashboard/snapshot", family.getUuid().getValue())
+                        .param("trendMonths", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+           .andExpect(status().isBadRequest());
+  }
+
   // ===== Helper Methods =====
 
   private Expense createExpense(CustomUuid familyUuid, CustomUuid userUuid, CustomUuid categoryUuid,
@@ -0,0 +1,138 @@
+package com.bifos.accountbook.expense.application.service;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.expense.application.dto.BulkCreateExpenseRequest;
+import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
+import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
+import com.bifos.accountbook.expense.application.event.ExpenseBulkCreatedEvent;
+import com.bifos.accountbook.expense.application.event.ExpenseCreatedEvent;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
+import com.bifos.accountbook.user.domain.entity.User;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/**
+ * 지출 일괄 생성 통합 테스트
+ *
+ * 검증 항목:
+ * 1. 전체 행 저장 + JDBC 배치 INSERT 사용
+ * 2. 영향받은 월마다 집계 이벤트 1건 발행 (행 단위 이벤트 없음)
+ * 3. 다른 가족 카테고리가 섞이면 전체 롤백
+ */
+@DisplayName("지출 일괄 생성 테스트")
+@RecordApplicationEvents
+@Import(SqlRecorderConfig.class)
+class ExpenseBulkCreateTest extends TestFixturesSupport {
+
+  @Autowired
+  private ExpenseService expenseService;
+
+  @Autowired
+  private ExpenseRepository expenseRepository;
+
+  @Autowired
+  private ApplicationEvents events;
+
+  private User user;
+  private Family family;
+  private Category food;
+  private Category cafe;
+
+  @BeforeEach
+  void setUp() {
+    user = fixtures.getDefaultUser();
+    family = fixtures.getDefaultFamily();
+    food = fixtures.categories.category(family).name("식비").build();
+    cafe = fixtures.categories.category(family).name("카페").build();
+  }
+
+  @Test
+  @DisplayName("모든 행을 저장하고 INSERT를 JDBC 배치로 실행한다")
+  void createExpenses_SavesAllInBatches() {
+    // Given: batch_size(20)보다 많은 45건
+    List<CreateExpenseRequest> items = new ArrayList<>();
+    for (int i = 0; i < 45; i++) {
+      Category category = i % 2 == 0 ? food : cafe;
+      items.add(item(category, 1000 + i, LocalDateTime.of(2026, 5, 1 + (i % 28), 12, 0)));
+    }
+    SqlRecorder.clear();
+
+    // When
+    List<ExpenseResponse> responses = expenseService.createExpenses(user.getUuid(), family.getUuid(),
+                                                                    new BulkCreateExpenseRequest(items));
+
+    // Then
+    assertThat(responses).hasSize(45);
+    assertThat(responses).allSatisfy(response -> assertThat(response.getUuid()).isNotNull());
+
+    List<SqlRecorder.RecordedStatement> inserts = SqlRecorder.allMatching("insert into expenses");
+    assertThat(inserts).allMatch(SqlRecorder.RecordedStatement::isBatch);
+    assertThat(inserts).hasSizeLessThan(45);
+    assertThat(inserts.stream().mapToInt(SqlRecorder.RecordedStatement::batchSize).sum()).isEqualTo(45);
+  }
+
+  @Test
+  @DisplayName("영향받은 월마다 집계 이벤트를 한 번씩 발행한다")
+  void createExpenses_PublishesOneEventPerMonth() {
+    // Given: 5월 2건, 6월 1건
+    List<CreateExpenseRequest> items = List.of(
+        item(food, 10000, LocalDateTime.of(2026, 5, 3, 12, 0)),
+        item(cafe, 4500, LocalDateTime.of(2026, 5, 20, 9, 0)),
+        item(food, 30000, LocalDateTime.of(2026, 6, 1, 0, 0)));
+
+    // When
+    expenseService.createExpenses(user.getUuid(), family.getUuid(), new BulkCreateExpenseRequest(items));
+
+    // Then
+    List<ExpenseBulkCreatedEvent> published = events.stream(ExpenseBulkCreatedEvent.class).toList();
+    assertThat(published).extracting(ExpenseBulkCreatedEvent::yearMonth)
+                         .containsExactly(YearMonth.of(2026, 5), YearMonth.of(2026, 6));
+    assertThat(published.get(0).count()).isEqualTo(2);
+    assertThat(published.get(0).totalAmount()).isEqualByComparingTo(BigDecimal.valueOf(14500));
+    assertThat(published.get(1).count()).isEqualTo(1);
+    assertThat(events.stream(ExpenseCreatedEvent.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다른 가족의 카테고리가 포함되면 아무것도 저장하지 않는다")
+  void createExpenses_OtherFamilyCategory_RollsBack() {
+    // Given
+    Family otherFamily = fixtures.families.family().owner(user).build();
+    Category otherCategory = fixtures.categories.category(otherFamily).name("기타").build();
+    List<CreateExpenseRequest> items = List.of(
+        item(food, 10000, LocalDateTime.of(2026, 5, 3, 12, 0)),
+        item(otherCategory, 5000, LocalDateTime.of(2026, 5, 4, 12, 0)));
+
+    // When & Then
+    assertThatThrownBy(() -> expenseService.createExpenses(user.getUuid(), family.getUuid(),
+                                                           new BulkCreateExpenseRequest(items)))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.ACCESS_DENIED);
+
+    assertThat(expenseRepository.countByFamilyUuid(family.getUuid())).isZero();
+    assertThat(events.stream(ExpenseBulkCreatedEvent.class)).isEmpty();
+  }
+
+  private CreateExpenseRequest item(Category category, long amount, LocalDateTime date) {
+    return new CreateExpenseRequest(category.getUuid().getValue(), BigDecimal.valueOf(amount), null, date, null);
+  }
+}
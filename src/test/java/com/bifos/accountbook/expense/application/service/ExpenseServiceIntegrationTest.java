@@ -12,11 +12,17 @@ import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.category.domain.repository.CategoryRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.shared.dto.PaginationResponse;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
 import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.shared.value.PageCursor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -352,4 +358,121 @@ class ExpenseServiceIntegrationTest extends TestFixturesSupport {
     assertThat(expenses.getContent()).isEmpty();
     assertThat(expenses.getTotalElements()).isEqualTo(0);
   }
+
+  @Test
+  @DisplayName("커서 페이지네이션은 같은 날짜의 지출도 누락/중복 없이 순회해야 한다")
+  void getFamilyExpensesByCursor_ShouldTraverseTiesWithoutGapsOrDuplicates() {
+    // Given - 2025-01-20 15:00에 동일한 시각의 지출 2개 추가 (총 7개)
+    fixtures.expenses.expense(testFamily, cafeCategory)
+                     .amount(BigDecimal.valueOf(4500))
+                     .description("라떼")
+                     .date(LocalDateTime.of(2025, 1, 20, 15, 0))
+                     .build();
+    fixtures.expenses.expense(testFamily, cafeCategory)
+                     .amount(BigDecimal.valueOf(6000))
+                     .description("케이크")
+                     .date(LocalDateTime.of(2025, 1, 20, 15, 0))
+                     .build();
+
+    // When - 크기 2로 끝까지 순회
+    List<String> descriptions = new ArrayList<>();
+    String cursor = "";
+    int pages = 0;
+    while (cursor != null) {
+      PaginationResponse<ExpenseResponse> page = expenseService.getFamilyExpensesByCursor(
+          testUser.getUuid(), testFamily.getUuid(),
+          ExpenseSearchRequest.builder().size(2).cursor(cursor).build());
+      page.getItems().forEach(expense -> descriptions.add(expense.getDescription()));
+      assertThat(page.getHasNext()).isEqualTo(page.getNextCursor() != null);
+      cursor = page.getNextCursor();
+      pages++;
+    }
+
+    // Then - 7개 모두 한 번씩, 날짜 내림차순 (같은 시각은 나중에 생성된 것 먼저)
+    assertThat(pages).isEqualTo(4);
+    assertThat(descriptions).containsExactly("가족 식사", "택시", "저녁 식사", "케이크", "라떼", "커피", "점심 식사");
+  }
+
+  @Test
+  @DisplayName("커서 페이지네이션은 includeTotal을 요청할 때만 전체 개수를 포함해야 한다")
+  void getFamilyExpensesByCursor_ShouldCountOnlyWhenRequested() {
+    // When
+    PaginationResponse<ExpenseResponse> withoutTotal = expenseService.getFamilyExpensesByCursor(
+        testUser.getUuid(), testFamily.getUuid(),
+        ExpenseSearchRequest.builder().size(2).cursor("").build());
+    PaginationResponse<ExpenseResponse> withTotal = expenseService.getFamilyExpensesByCursor(
+        testUser.getUuid(), testFamily.getUuid(),
+        ExpenseSearchRequest.builder().size(2).cursor("").includeTotal(true).build());
+
+    // Then
+    assertThat(withoutTotal.getTotalElements()).isNull();
+    assertThat(withoutTotal.getTotalPages()).isNull();
+    assertThat(withTotal.getTotalElements()).isEqualTo(5);
+    assertThat(withTotal.getTotalPages()).isEqualTo(3);
+    assertThat(withTotal.getItems()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("커서 페이지네이션은 필터 조건을 유지해야 한다")
+  void getFamilyExpensesByCursor_ShouldKeepFilters() {
+    // Given - 식비만, 크기 1
+    ExpenseSearchRequest first = ExpenseSearchRequest.builder()
+                                                     .size(1)
+                                                     .cursor("")
+                                                     .categoryId(foodCategory.getUuid().getValue())
+                                                     .startDate("2025-01-01")
+                                                     .endDate("2025-01-31")
+                                                     .build();
+
+    // When
+    PaginationResponse<ExpenseResponse> page1 = expenseService.getFamilyExpensesByCursor(
+        testUser.getUuid(), testFamily.getUuid(), first);
+    PaginationResponse<ExpenseResponse> page2 = expenseService.getFamilyExpensesByCursor(
+        testUser.getUuid(), testFamily.getUuid(),
+        ExpenseSearchRequest.builder()
+                            .size(1)
+                            .cursor(page1.getNextCursor())
+                            .categoryId(foodCategory.getUuid().getValue())
+                            .startDate("2025-01-01")
+                            .endDate("2025-01-31")
+                            .build());
+
+    // Then
+    assertThat(page1.getItems()).extracting(ExpenseResponse::getDescription).containsExactly("저녁 식사");
+    assertThat(page2.getItems()).extracting(ExpenseResponse::getDescription).containsExactly("점심 식사");
+    assertThat(page2.getHasNext()).isFalse();
+    assertThat(page2.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR 예외가 발생해야 한다")
+  void getFamilyExpensesByCursor_ShouldRejectInvalidCursor() {
+    ExpenseSearchRequest searchRequest = ExpenseSearchRequest.builder()
+                                                             .size(2)
+                                                             .cursor("not-a-cursor")
+                                                             .build();
+
+    assertThatThrownBy(() -> expenseService.getFamilyExpensesByCursor(
+        testUser.getUuid(), testFamily.getUuid(), searchRequest))
+        .isInstanceOf(BusinessException.class)
+        .extracting(e -> ((BusinessException) e).getErrorCode())
+        .isEqualTo(ErrorCode.INVALID_CURSOR);
+  }
+
+  @Test
+  @DisplayName("커서 페이지 크기가 1 ~ 100 범위를 벗어나면 INVALID_INPUT_VALUE 예외가 발생해야 한다")
+  void getFamilyExpensesByCursor_ShouldRejectOutOfRangeSize() {
+    for (int size : new int[] {0, PageCursor.MAX_SIZE + 1}) {
+      ExpenseSearchRequest searchRequest = ExpenseSearchRequest.builder()
+                                                               .size(size)
+                                                               .cursor("")
+                                                               .build();
+
+      assertThatThrownBy(() -> expenseService.getFamilyExpensesByCursor(
+          testUser.getUuid(), testFamily.getUuid(), searchRequest))
+          .isInstanceOf(BusinessException.class)
+          .extracting(e -> ((BusinessException) e).getErrorCode())
+          .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
 }
@@ -0,0 +1,133 @@
+package com.bifos.accountbook.expense.presentation.controller;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.shared.AbstractControllerTest;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 지출 CSV 내보내기 통합 테스트
+ * StreamingResponseBody는 비동기로 기록되므로 asyncDispatch 후 응답 본문을 검증합니다.
+ */
+@DisplayName("지출 CSV 내보내기 통합 테스트")
+class ExpenseExportControllerTest extends AbstractControllerTest {
+
+  private static final String EXPORT_URL = "/api/v1/families/{familyUuid}/expenses/export";
+
+  @Test
+  @DisplayName("월별 지출을 BOM + 헤더 + 날짜 내림차순 행으로 내보낸다")
+  void exportExpenses_Month() throws Exception {
+    // Given
+    Family family = fixtures.getDefaultFamily();
+    Category food = fixtures.categories.category(family).name("식비").build();
+    Category cafe = fixtures.categories.category(family).name("카페").build();
+
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(12000)).description("점심, 김밥")
+                     .date(LocalDateTime.of(2026, 5, 3, 12, 30)).build();
+    fixtures.expenses.expense(family, cafe).amount(BigDecimal.valueOf(4500)).description("라떼 \"샷 추가\"")
+                     .date(LocalDateTime.of(2026, 5, 20, 9, 0)).build();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(30000)).description("다음 달")
+                     .date(LocalDateTime.of(2026, 6, 1, 0, 0)).build();
+
+    // When
+    String csv = export(family, "2026-05", null);
+
+    // Then
+    assertThat(csv).startsWith("\uFEFF");
+    assertThat(csv.substring(1).split("\n")).containsExactly(
+        "날짜,카테고리,금액,설명",
+        "2026-05-20 09:00,카페,4500.00,\"라떼 \"\"샷 추가\"\"\"",
+        "2026-05-03 12:30,식비,12000.00,\"점심, 김밥\"");
+  }
+
+  @Test
+  @DisplayName("여러 달 범위를 내보낼 수 있고 파일 이름에 기간이 포함된다")
+  void exportExpenses_Range() throws Exception {
+    // Given: fetch size(500)보다 많은 행으로 여러 청크에 걸쳐 기록
+    Family family = fixtures.getDefaultFamily();
+    Category food = fixtures.categories.category(family).name("식비").build();
+    for (int i = 0; i < 520; i++) {
+      fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(1000))
+                       .date(LocalDateTime.of(2025, 1 + (i % 12), 1 + (i % 28), 12, 0)).build();
+    }
+
+    // When
+    MvcResult started = mockMvc.perform(get(EXPORT_URL, family.getUuid().getValue())
+                                            .param("from", "2025-01")
+                                            .param("to", "2025-12"))
+                               .andExpect(request().asyncStarted())
+                               .andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(started))
+                              .andExpect(status().isOk())
+                              .andExpect(header().string("Content-Disposition",
+                                                         "attachment; filename=\"expenses_2025-01_2025-12.csv\""))
+                              .andReturn();
+
+    // Then: 헤더 + 520행
+    String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    assertThat(csv.split("\n")).hasSize(521);
+  }
+
+  @Test
+  @DisplayName("데이터가 없으면 헤더만 있는 CSV를 반환한다")
+  void exportExpenses_Empty() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+
+    String csv = export(family, "2026-05", "2026-05");
+
+    assertThat(csv).isEqualTo("\uFEFF날짜,카테고리,금액,설명\n");
+  }
+
+  @Test
+  @DisplayName("가족 구성원이 아니면 스트리밍 전에 403을 반환한다")
+  void exportExpenses_NotMember() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+    fixtures.users.setSecurityContext(fixtures.users.getOtherUser());
+
+    mockMvc.perform(get(EXPORT_URL, family.getUuid().getValue()).param("from", "2026-05"))
+           .andExpect(request().asyncNotStarted())
+           .andExpect(status().isForbidden())
+           .andExpect(jsonPath("$.code").value("F003"));
+  }
+
+  @Test
+  @DisplayName("기간 형식이 잘못되었거나 역순이면 400을 반환한다")
+  void exportExpenses_InvalidPeriod() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+
+    mockMvc.perform(get(EXPORT_URL, family.getUuid().getValue()).param("from", "2026/05"))
+           .andExpect(status().isBadRequest());
+    mockMvc.perform(get(EXPORT_URL, family.getUuid().getValue()).param("from", "2026-05").param("to", "2026-04"))
+           .andExpect(status().isBadRequest());
+  }
+
+  private String export(Family family, String from, String to) throws Exception {
+    var requestBuilder = get(EXPORT_URL, family.getUuid().getValue()).param("from", from);
+    if (to != null) {
+      requestBuilder.param("to", to);
+    }
+
+    MvcResult started = mockMvc.perform(requestBuilder)
+                               .andExpect(request().asyncStarted())
+                               .andReturn();
+
+    return mockMvc.perform(asyncDispatch(started))
+                  .andExpect(status().isOk())
+                  .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                  .andReturn()
+                  .getResponse()
+                  .getContentAsString(StandardCharsets.UTF_8);
+  }
+}
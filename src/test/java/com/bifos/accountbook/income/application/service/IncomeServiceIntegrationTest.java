@@ -13,6 +13,8 @@ import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.category.domain.repository.CategoryRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 
 /**
@@ -31,6 +34,7 @@ import org.springframework.data.domain.Page;
  * - 페이징 및 정렬 검증
  */
 @DisplayName("IncomeService 통합 테스트")
+@Import(SqlRecorderConfig.class)
 class IncomeServiceIntegrationTest extends TestFixturesSupport {
 
   @Autowired
@@ -418,5 +422,24 @@ class IncomeServiceIntegrationTest extends TestFixturesSupport {
     assertThat(incomes.getContent()).hasSize(5);
     assertThat(incomes.getTotalElements()).isEqualTo(5);
   }
-}
 
+  @Test
+  @DisplayName("커서 목록 조회는 families를 JOIN하지 않고 incomes.family_uuid로 필터링해야 한다")
+  void getFamilyIncomesByCursor_ShouldNotJoinFamilies() {
+    // Given
+    IncomeSearchRequest searchRequest = IncomeSearchRequest.builder()
+                                                           .size(10)
+                                                           .cursor("")
+                                                           .includeTotal(true)
+                                                           .build();
+    SqlRecorder.clear();
+
+    // When
+    incomeService.getFamilyIncomesByCursor(testUser.getUuid(), testFamily.getUuid(), searchRequest);
+
+    // Then: 목록 + 카운트 쿼리 모두 incomes 단독 조회
+    List<SqlRecorder.RecordedStatement> incomeQueries = SqlRecorder.allMatching("from incomes");
+    assertThat(incomeQueries).hasSize(2);
+    assertThat(incomeQueries).allSatisfy(statement -> assertThat(statement.sql()).doesNotContainIgnoringCase("families"));
+  }
+}
@@ -129,6 +129,72 @@ class IncomeControllerTest extends AbstractControllerTest {
            .andExpect(jsonPath("$.data.currentPage").value(0));
   }
 
+  @Test
+  @DisplayName("수입 목록 조회 - 커서 페이지네이션 (카운트 생략)")
+  void getFamilyIncomes_WithCursor() throws Exception {
+    // Given: TestFixtures로 테스트 데이터 생성
+    Family family = fixtures.getDefaultFamily();
+    Category category = fixtures.getDefaultCategory();
+
+    for (int i = 0; i < 3; i++) {
+      fixtures.incomes.income(family, category)
+              .amount(BigDecimal.valueOf(100000 * (i + 1)))
+              .description("수입 " + (i + 1))
+              .date(LocalDateTime.now().minusDays(i))
+              .build();
+    }
+
+    // When & Then: 첫 페이지 (빈 커서)
+    String body = mockMvc.perform(get("/api/v1/families/{familyUuid}/incomes", family.getUuid().getValue())
+                                      .param("cursor", "")
+                                      .param("size", "2"))
+                         .andExpect(status().isOk())
+                         .andExpect(jsonPath("$.data.items", hasSize(2)))
+                         .andExpect(jsonPath("$.data.hasNext").value(true))
+                         .andExpect(jsonPath("$.data.nextCursor").isNotEmpty())
+                         .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                         .andExpect(jsonPath("$.data.currentPage").doesNotExist())
+                         .andReturn()
+                         .getResponse()
+                         .getContentAsString();
+    String nextCursor = objectMapper.readTree(body).path("data").path("nextCursor").asText();
+
+    // When & Then: 다음 페이지 (전체 개수 요청)
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/incomes", family.getUuid().getValue())
+                        .param("cursor", nextCursor)
+                        .param("size", "2")
+                        .param("includeTotal", "true"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.data.items", hasSize(1)))
+           .andExpect(jsonPath("$.data.items[0].description").value("수입 3"))
+           .andExpect(jsonPath("$.data.hasNext").value(false))
+           .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+           .andExpect(jsonPath("$.data.totalElements").value(3));
+  }
+
+  @Test
+  @DisplayName("수입 목록 조회 - 잘못된 커서")
+  void getFamilyIncomes_InvalidCursor() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/incomes", family.getUuid().getValue())
+                        .param("cursor", "%%invalid%%"))
+           .andExpect(status().isBadRequest())
+           .andExpect(jsonPath("$.code").value("C008"));
+  }
+
+  @Test
+  @DisplayName("수입 목록 조회 - 커서 페이지 크기 초과")
+  void getFamilyIncomes_CursorSizeTooLarge() throws Exception {
+    Family family = fixtures.getDefaultFamily();
+
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/incomes", family.getUuid().getValue())
+                        .param("cursor", "")
+                        .param("size", "101"))
+           .andExpect(status().isBadRequest())
+           .andExpect(jsonPath("$.code").value("C001"));
+  }
+
   @Test
   @DisplayName("수입 상세 조회 - 성공")
   void getIncome_Success() throws Exception {
@@ -0,0 +1,268 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * BudgetAlertQueue 병합/동시성 테스트 (Spring 컨텍스트 없이 평가 로직을 스텁으로 대체)
+ */
+@DisplayName("예산 알림 평가 큐 테스트")
+class BudgetAlertQueueTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RecordingBudgetAlertService budgetAlertService = new RecordingBudgetAlertService();
+  private BudgetAlertQueue queue;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (queue != null) {
+      queue.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("평가 중 같은 가족·월로 몰린 요청은 한 번의 재평가로 합쳐진다")
+  void submit_BurstForSameKey_Coalesced() throws InterruptedException {
+    // Given: 첫 평가를 붙잡아 둠
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    budgetAlertService.blockNext();
+    CustomUuid familyUuid = CustomUuid.generate();
+    queue.submit(familyUuid, MONTH);
+    assertThat(budgetAlertService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // When: 평가 중 20건 추가
+    for (int i = 0; i < 20; i++) {
+      queue.submit(familyUuid, MONTH);
+    }
+    assertThat(meterRegistry.get("budget.alert.queue.depth").gauge().value()).isEqualTo(1.0);
+    budgetAlertService.release.countDown();
+
+    // Then: 첫 평가 + 합쳐진 재평가 1회
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(2);
+    assertThat(meterRegistry.get("budget.alert.requests").tag("result", "coalesced").counter().count())
+        .isEqualTo(19.0);
+    assertThat(meterRegistry.get("budget.alert.queue.depth").gauge().value()).isZero();
+    assertThat(meterRegistry.get("budget.alert.lag").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("가족·월이 다르면 각각 평가된다")
+  void submit_DifferentKeys_EvaluatedSeparately() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    CustomUuid familyA = CustomUuid.generate();
+    CustomUuid familyB = CustomUuid.generate();
+
+    // When
+    queue.submit(familyA, MONTH);
+    queue.submit(familyA, MONTH.minusMonths(1));
+    queue.submit(familyB, MONTH);
+
+    // Then
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations)
+        .containsExactlyInAnyOrder(new Evaluation(familyA, MONTH.atDay(1).atStartOfDay()),
+                                   new Evaluation(familyA, MONTH.minusMonths(1).atDay(1).atStartOfDay()),
+                                   new Evaluation(familyB, MONTH.atDay(1).atStartOfDay()));
+  }
+
+  @Test
+  @DisplayName("동시 평가 수는 max-concurrency를 넘지 않는다")
+  void submit_ManyFamilies_BoundedConcurrency() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 2);
+    budgetAlertService.delayMillis = 20;
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      queue.submit(CustomUuid.generate(), MONTH);
+    }
+
+    // Then
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(10);
+    assertThat(budgetAlertService.maxConcurrent.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("평가가 실패해도 이후 요청은 계속 처리된다")
+  void submit_EvaluationFails_QueueKeepsWorking() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    CustomUuid familyUuid = CustomUuid.generate();
+    budgetAlertService.failNext = true;
+
+    // When
+    queue.submit(familyUuid, MONTH);
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    queue.submit(familyUuid, MONTH);
+
+    // Then
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("다른 노드와 알림 저장이 겹쳐 UNIQUE 제약에 걸리면 한 번 더 평가한다")
+  void submit_DuplicateNotification_ReEvaluated() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    budgetAlertService.duplicates = 1;
+
+    // When
+    queue.submit(CustomUuid.generate(), MONTH);
+
+    // Then
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("UNIQUE 제약 위반이 반복돼도 같은 평가 흐름에서는 한 번만 재평가한다")
+  void submit_RepeatedDuplicateNotification_RetriedOnce() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    budgetAlertService.duplicates = 3;
+    CustomUuid familyUuid = CustomUuid.generate();
+
+    // When
+    queue.submit(familyUuid, MONTH);
+
+    // Then: 첫 평가 + 재평가 1회에서 멈춤
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(2);
+
+    // When: 새 요청은 다시 한 번 재평가 가능
+    queue.submit(familyUuid, MONTH);
+
+    // Then: 위반 1회 + 재평가 성공
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("알림 수신자 UNIQUE 제약이 아닌 무결성 위반은 재평가하지 않는다")
+  void submit_OtherIntegrityViolation_NotReEvaluated() throws InterruptedException {
+    // Given
+    queue = new BudgetAlertQueue(budgetAlertService, new BudgetTotalsTracker(), meterRegistry, 4);
+    budgetAlertService.otherViolationNext = true;
+
+    // When
+    queue.submit(CustomUuid.generate(), MONTH);
+
+    // Then
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.evaluations).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("재조정은 임계값 단계가 올라간 가족·월만 평가한다")
+  void reconcile_SubmitsRaisedKeysOnly() throws InterruptedException {
+    // Given: 합계가 있는 두 가족 중 한 가족만 재조정 결과 임계값을 넘음
+    BudgetTotalsTracker tracker = new BudgetTotalsTracker();
+    queue = new BudgetAlertQueue(budgetAlertService, tracker, meterRegistry, 4);
+    YearMonth thisMonth = YearMonth.now();
+    CustomUuid raisedFamily = CustomUuid.generate();
+    CustomUuid unchangedFamily = CustomUuid.generate();
+    tracker.seed(raisedFamily, thisMonth, BigDecimal.TEN, BigDecimal.ONE);
+    tracker.seed(unchangedFamily, thisMonth, BigDecimal.TEN, BigDecimal.ONE);
+    budgetAlertService.raisedOnReconcile = Map.of(raisedFamily, List.of(thisMonth));
+
+    // When
+    queue.reconcile();
+
+    // Then: 재조정은 두 가족을 한 번에 넘기고, 평가는 한 가족만
+    assertThat(queue.awaitIdle(TIMEOUT)).isTrue();
+    assertThat(budgetAlertService.reconciled).containsExactly(Set.of(raisedFamily, unchangedFamily));
+    assertThat(budgetAlertService.evaluations)
+        .containsExactly(new Evaluation(raisedFamily, thisMonth.atDay(1).atStartOfDay()));
+  }
+
+  private record Evaluation(CustomUuid familyUuid, LocalDateTime date) {
+  }
+
+  /**
+   * 평가 호출만 기록하는 스텁 (저장소는 사용하지 않음)
+   */
+  private static class RecordingBudgetAlertService extends BudgetAlertService {
+
+    private final List<Evaluation> evaluations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean block;
+    private volatile boolean failNext;
+    private volatile int duplicates;
+    private volatile boolean otherViolationNext;
+    private volatile long delayMillis;
+    private final List<Set<CustomUuid>> reconciled = new CopyOnWriteArrayList<>();
+    private volatile Map<CustomUuid, List<YearMonth>> raisedOnReconcile = Map.of();
+
+    RecordingBudgetAlertService() {
+      super(null, null, null, null, null, null);
+    }
+
+    void blockNext() {
+      block = true;
+    }
+
+    @Override
+    public Map<CustomUuid, List<YearMonth>> reconcileTotals(Map<CustomUuid, List<YearMonth>> tracked) {
+      reconciled.add(Set.copyOf(tracked.keySet()));
+      return raisedOnReconcile;
+    }
+
+    @Override
+    public void checkAndCreateBudgetAlert(CustomUuid familyUuid, LocalDateTime date) {
+      evaluations.add(new Evaluation(familyUuid, date));
+      maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        if (block) {
+          block = false;
+          started.countDown();
+          release.await(5, TimeUnit.SECONDS);
+        }
+        if (delayMillis > 0) {
+          Thread.sleep(delayMillis);
+        }
+        if (failNext) {
+          failNext = false;
+          throw new IllegalStateException("평가 실패");
+        }
+        if (duplicates > 0) {
+          duplicates--;
+          throw new DataIntegrityViolationException("uq_notifications_family_user_type_month");
+        }
+        if (otherViolationNext) {
+          otherViolationNext = false;
+          throw new DataIntegrityViolationException("fk_notifications_family");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+  }
+}
@@ -4,32 +4,47 @@ import com.bifos.accountbook.expense.application.service.ExpenseService;
 import com.bifos.accountbook.family.application.service.FamilyService;
 
 import com.bifos.accountbook.expense.application.dto.CreateExpenseRequest;
+import com.bifos.accountbook.expense.application.dto.ExpenseResponse;
+import com.bifos.accountbook.expense.application.dto.UpdateExpenseRequest;
 import com.bifos.accountbook.family.application.dto.CreateFamilyRequest;
 import com.bifos.accountbook.family.application.dto.FamilyResponse;
+import com.bifos.accountbook.family.application.dto.UpdateFamilyRequest;
 import com.bifos.accountbook.shared.TestFixturesSupport;
 import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.family.domain.entity.FamilyMember;
 import com.bifos.accountbook.notification.domain.entity.Notification;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.category.domain.repository.CategoryRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
+import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
 import com.bifos.accountbook.user.domain.repository.UserRepository;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.family.domain.value.FamilyMemberStatus;
+import com.bifos.accountbook.notification.domain.value.NotificationType;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * BudgetAlertService 통합 테스트
  * 실제 지출 생성을 통해 예산 알림이 정상적으로 생성되는지 검증합니다.
  */
 @DisplayName("예산 알림 서비스 통합 테스트")
+@Import(SqlRecorderConfig.class)
 class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Autowired
@@ -41,6 +56,16 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
   @Autowired
   private NotificationRepository notificationRepository;
 
+  @Autowired
+  private BudgetAlertQueue budgetAlertQueue;
+
+  /**
+   * 커밋 후 예약된 예산 평가가 끝날 때까지 대기
+   */
+  private void awaitBudgetAlerts() throws InterruptedException {
+    assertThat(budgetAlertQueue.awaitIdle(Duration.ofSeconds(5))).isTrue();
+  }
+
   /**
    * 예산이 설정된 가족 + 기본 카테고리 생성 헬퍼 메서드
    * @return {testUser, testFamily, testCategory}
@@ -65,7 +90,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("예산의 50%를 초과하면 50% 알림이 생성된다")
-  void shouldCreateNotification_When50PercentExceeded() {
+  void shouldCreateNotification_When50PercentExceeded() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -82,9 +107,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
                                  CustomUuid.from(data.testFamily.getUuid()),
                                  request
     );
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
-    // 따라서 별도의 대기 없이 바로 확인 가능
+    // Then: 커밋 후 BudgetAlertQueue에서 비동기로 평가됨 (awaitBudgetAlerts로 완료 대기)
     List<Notification> notifications = notificationRepository
         .findByFamily(CustomUuid.from(data.testFamily.getUuid()));
 
@@ -96,7 +121,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("예산의 80%를 초과하면 80% 알림이 생성된다")
-  void shouldCreateNotification_When80PercentExceeded() {
+  void shouldCreateNotification_When80PercentExceeded() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -113,8 +138,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
                                  CustomUuid.from(data.testFamily.getUuid()),
                                  request
     );
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     List<Notification> notifications = notificationRepository
         .findByFamily(CustomUuid.from(data.testFamily.getUuid()));
 
@@ -126,7 +152,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("예산의 100%를 초과하면 100% 알림이 생성된다")
-  void shouldCreateNotification_When100PercentExceeded() {
+  void shouldCreateNotification_When100PercentExceeded() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -144,8 +170,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
         CustomUuid.from(data.testFamily.getUuid()),
         request
     );
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     List<Notification> notifications = notificationRepository
         .findByFamily(CustomUuid.from(data.testFamily.getUuid()));
 
@@ -157,7 +184,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("같은 월에 동일한 타입의 알림은 중복 생성되지 않는다")
-  void shouldNotCreateDuplicateNotification_InSameMonth() {
+  void shouldNotCreateDuplicateNotification_InSameMonth() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -170,6 +197,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
     );
 
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), firstRequest);
+    awaitBudgetAlerts();
 
     // When: 두 번째 지출 (여전히 50% 초과 구간)
     CreateExpenseRequest secondRequest = new CreateExpenseRequest(
@@ -181,8 +209,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
     );
 
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), secondRequest);
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     // 해당 사용자에게 50% 알림은 여전히 1개만 존재해야 함 (중복 생성되지 않음)
     List<Notification> notifications = notificationRepository
         .findByFamilyAndUser(
@@ -198,7 +227,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("가족의 모든 활성 구성원에게 각각 알림이 생성된다")
-  void shouldCreateNotificationForEachFamilyMember() {
+  void shouldCreateNotificationForEachFamilyMember() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -229,8 +258,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
     );
 
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), request);
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     // 각 구성원별로 알림이 생성되어야 함
     // 첫 번째 사용자의 알림
     List<Notification> user1Notifications = notificationRepository
@@ -254,9 +284,121 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
                                                      && n.getUserUuid().equals(otherUser.getUuid()));
   }
 
+  @Test
+  @DisplayName("구성원별 알림은 한 번의 JDBC 배치 INSERT로 저장된다")
+  void shouldInsertMemberNotificationsInSingleBatch() throws InterruptedException {
+    // Given: 구성원 3명인 가족
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    for (int i = 1; i <= 2; i++) {
+      User member = fixtures.users.user()
+                                  .email("member" + i + "@test.com")
+                                  .name("구성원" + i)
+                                  .build();
+      applicationContext.getBean(FamilyMemberRepository.class)
+                        .save(FamilyMember.builder()
+                                          .uuid(CustomUuid.generate())
+                                          .familyUuid(familyUuid)
+                                          .userUuid(member.getUuid())
+                                          .status(FamilyMemberStatus.ACTIVE)
+                                          .build());
+    }
+    SqlRecorder.clear();
+
+    // When: 예산 50% 초과 지출 생성
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("550000.00"),
+                                                          "배치 테스트 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+
+    // Then: 알림 3건이 배치 1회로 INSERT
+    List<SqlRecorder.RecordedStatement> inserts = SqlRecorder.allMatching("insert into notifications");
+    assertThat(inserts).hasSize(1);
+    assertThat(inserts.getFirst().batchSize()).isEqualTo(3);
+    assertThat(notificationRepository.findByFamily(familyUuid)).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("중복 체크는 알림 이력 크기와 무관하게 한 번의 조회로 끝나고, 알림을 받지 않은 구성원만 저장한다")
+  void shouldCheckDuplicatesInSingleQuery_RegardlessOfHistory() throws InterruptedException {
+    // Given: 구성원 2명인 가족
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    User otherUser = fixtures.users.user()
+                                   .email("notified@test.com")
+                                   .name("이미 알림 받은 구성원")
+                                   .build();
+    applicationContext.getBean(FamilyMemberRepository.class)
+                      .save(FamilyMember.builder()
+                                        .uuid(CustomUuid.generate())
+                                        .familyUuid(familyUuid)
+                                        .userUuid(otherUser.getUuid())
+                                        .status(FamilyMemberStatus.ACTIVE)
+                                        .build());
+
+    // 지난 24개월의 50% 알림 이력 + 다른 구성원은 이번 달 50% 알림을 이미 받음
+    YearMonth thisMonth = YearMonth.now();
+    List<Notification> history = new ArrayList<>();
+    for (int i = 1; i <= 24; i++) {
+      history.add(budget50Notification(familyUuid, data.testUser.getUuid(), thisMonth.minusMonths(i)));
+      history.add(budget50Notification(familyUuid, otherUser.getUuid(), thisMonth.minusMonths(i)));
+    }
+    history.add(budget50Notification(familyUuid, otherUser.getUuid(), thisMonth));
+    notificationRepository.saveAll(history);
+    SqlRecorder.clear();
+
+    // When: 예산 50% 초과 지출 생성
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("550000.00"),
+                                                          "이력 테스트 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+
+    // Then: 중복 체크 조회 1회, 알림 받지 않은 구성원만 INSERT
+    assertThat(SqlRecorder.allMatching("from notifications")).hasSize(1);
+    assertThat(SqlRecorder.allMatching("insert into notifications")).hasSize(1);
+    assertThat(notificationRepository.findNotifiedUserUuids(familyUuid,
+                                                            NotificationType.BUDGET_50_EXCEEDED,
+                                                            Notification.formatYearMonth(thisMonth)))
+        .containsExactlyInAnyOrder(data.testUser.getUuid(), otherUser.getUuid());
+    assertThat(notificationRepository.findByFamily(familyUuid)).hasSize(history.size() + 1);
+  }
+
+  @Test
+  @DisplayName("같은 구성원의 같은 타입·연월 알림은 DB 제약으로 한 건만 저장된다")
+  void shouldRejectDuplicateNotification_ByUniqueConstraint() {
+    // Given
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    YearMonth thisMonth = YearMonth.now();
+    notificationRepository.save(budget50Notification(familyUuid, data.testUser.getUuid(), thisMonth));
+
+    // When & Then
+    assertThatThrownBy(() -> notificationRepository.save(
+        budget50Notification(familyUuid, data.testUser.getUuid(), thisMonth)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  private Notification budget50Notification(CustomUuid familyUuid, CustomUuid userUuid, YearMonth month) {
+    return Notification.builder()
+                       .familyUuid(familyUuid)
+                       .userUuid(userUuid)
+                       .type(NotificationType.BUDGET_50_EXCEEDED)
+                       .title(NotificationType.BUDGET_50_EXCEEDED.getDisplayName())
+                       .message("이전 알림")
+                       .referenceType("BUDGET")
+                       .yearMonth(Notification.formatYearMonth(month))
+                       .build();
+  }
+
   @Test
   @DisplayName("예산이 설정되지 않은 가족은 알림이 생성되지 않는다")
-  void shouldNotCreateNotification_WhenBudgetNotSet() {
+  void shouldNotCreateNotification_WhenBudgetNotSet() throws InterruptedException {
     // Given: TestFixtures로 사용자 생성 + 예산 미설정 가족 생성
     User testUser = fixtures.getDefaultUser();
 
@@ -280,8 +422,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
     );
 
     expenseService.createExpense(testUser.getUuid(), CustomUuid.from(noBudgetFamily.getUuid()), request);
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     // 예산이 설정되지 않은 가족은 알림이 생성되지 않아야 함
     List<Notification> notifications = notificationRepository
         .findByFamily(CustomUuid.from(noBudgetFamily.getUuid()));
@@ -291,7 +434,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
 
   @Test
   @DisplayName("여러 단계를 순차적으로 초과하면 각 단계의 알림이 생성된다")
-  void shouldCreateMultipleNotifications_WhenExceedingMultipleThresholds() {
+  void shouldCreateMultipleNotifications_WhenExceedingMultipleThresholds() throws InterruptedException {
     // Given: TestFixtures로 예산 설정된 가족 + 카테고리 생성
     TestData data = createTestFamilyWithBudget();
 
@@ -304,6 +447,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
         null
     );
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), request1);
+    awaitBudgetAlerts();
 
     // 50% 알림 생성 확인
     List<Notification> notificationsAfter50 = notificationRepository.findByFamily(
@@ -319,6 +463,7 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
         null
     );
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), request2);
+    awaitBudgetAlerts();
 
     // 80% 알림 생성 확인
     List<Notification> notificationsAfter80 = notificationRepository.findByFamily(
@@ -334,8 +479,9 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
         null
     );
     expenseService.createExpense(data.testUser.getUuid(), CustomUuid.from(data.testFamily.getUuid()), request3);
+    awaitBudgetAlerts();
 
-    // Then: TransactionalEventListener로 인해 트랜잭션 커밋 후 동기로 처리됨
+    // Then: 커밋 후 비동기로 평가된 결과 확인
     // 3개의 알림이 모두 생성되어야 함
     List<Notification> notifications = notificationRepository
         .findByFamily(CustomUuid.from(data.testFamily.getUuid()));
@@ -346,6 +492,135 @@ class BudgetAlertServiceIntegrationTest extends TestFixturesSupport {
     assertThat(notifications).anyMatch(n -> n.getType().getCode().equals("BUDGET_100_EXCEEDED"));
   }
 
+  @Test
+  @DisplayName("합계가 채워진 뒤 임계값을 넘지 않는 지출은 월 합계를 다시 조회하지 않는다")
+  void shouldNotSumMonthAgain_WhenNoThresholdCrossed() throws InterruptedException {
+    // Given: 첫 지출로 월 합계를 DB에서 채움 (30%)
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("300000.00"),
+                                                          "합계 채우기",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+    SqlRecorder.clear();
+
+    // When: 50%를 넘지 않는 추가 지출 (40%)
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("100000.00"),
+                                                          "임계값 미만 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+
+    // Then: 월 합계 쿼리 없이 메모리 합계만 갱신
+    assertThat(SqlRecorder.allMatching("sum(")).isEmpty();
+    assertThat(notificationRepository.findByFamily(familyUuid)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("월 예산을 낮춰 임계값을 넘으면 해당 알림이 생성된다")
+  void shouldCreateNotification_WhenBudgetLowered() throws InterruptedException {
+    // Given: 예산 100만원 중 40만원 사용
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("400000.00"),
+                                                          "40% 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+    assertThat(notificationRepository.findByFamily(familyUuid)).isEmpty();
+
+    // When: 예산을 70만원으로 변경 (약 57%)
+    familyService.updateFamily(data.testUser.getUuid(), familyUuid,
+                               UpdateFamilyRequest.builder()
+                                                  .name("예산 알림 테스트 가족")
+                                                  .monthlyBudget(new BigDecimal("700000.00"))
+                                                  .build());
+    awaitBudgetAlerts();
+
+    // Then
+    assertThat(notificationRepository.findByFamily(familyUuid))
+        .singleElement()
+        .satisfies(n -> assertThat(n.getType().getCode()).isEqualTo("BUDGET_50_EXCEEDED"));
+  }
+
+  @Test
+  @DisplayName("예산 제외로 수정한 지출은 합계에서 빠지고 이후 임계값 판정에 반영된다")
+  void shouldSubtractExpense_WhenExcludedFromBudget() throws InterruptedException {
+    // Given: 45% 사용
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    ExpenseResponse expense = expenseService.createExpense(
+        data.testUser.getUuid(), familyUuid,
+        new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                 new BigDecimal("450000.00"),
+                                 "예산 제외 예정 지출",
+                                 LocalDateTime.now(),
+                                 null));
+    awaitBudgetAlerts();
+
+    // When: 해당 지출을 예산 제외로 수정한 뒤 10만원 추가 (합계 10%)
+    expenseService.updateExpense(data.testUser.getUuid(), familyUuid, CustomUuid.from(expense.getUuid()),
+                                 new UpdateExpenseRequest(null, null, null, null, true));
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("100000.00"),
+                                                          "추가 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+
+    // Then: 제외 전 합계(55%)였다면 생겼을 알림이 생성되지 않음
+    assertThat(notificationRepository.findByFamily(familyUuid)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재조정은 이벤트 없이 늘어난 합계를 가족별 합산 한 번으로 바로잡고 임계값을 넘은 경우만 평가한다")
+  void reconcile_ReseedsTotalsAndEvaluatesRaisedOnly() throws InterruptedException {
+    // Given: 메모리 합계 30% (지출 이벤트로 채움)
+    TestData data = createTestFamilyWithBudget();
+    CustomUuid familyUuid = CustomUuid.from(data.testFamily.getUuid());
+    expenseService.createExpense(data.testUser.getUuid(), familyUuid,
+                                 new CreateExpenseRequest(data.testCategory.getUuid().getValue(),
+                                                          new BigDecimal("300000.00"),
+                                                          "합계 채우기",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+
+    // 이벤트 없는 쓰기로 DB 합계만 60%
+    Family family = applicationContext.getBean(FamilyRepository.class).findActiveByUuid(familyUuid).orElseThrow();
+    fixtures.expenses.expense(family, data.testCategory)
+                     .amount(new BigDecimal("300000.00"))
+                     .build();
+    SqlRecorder.clear();
+
+    // When
+    budgetAlertQueue.reconcile();
+    awaitBudgetAlerts();
+
+    // Then: 재조정 합산 1회 + 50% 통과로 예약된 평가의 합산 1회
+    assertThat(SqlRecorder.allMatching("sum(")).hasSize(2);
+    assertThat(notificationRepository.findByFamily(familyUuid))
+        .singleElement()
+        .satisfies(n -> assertThat(n.getType().getCode()).isEqualTo("BUDGET_50_EXCEEDED"));
+
+    // When: 변화 없이 다시 재조정
+    SqlRecorder.clear();
+    budgetAlertQueue.reconcile();
+    awaitBudgetAlerts();
+
+    // Then: 합산만 하고 평가(알림 조회)는 하지 않음
+    assertThat(SqlRecorder.allMatching("sum(")).hasSize(1);
+    assertThat(SqlRecorder.allMatching("from notifications")).isEmpty();
+  }
+
   // 헬퍼 레코드
   private record TestData(User testUser, FamilyResponse testFamily, Category testCategory) {}
 }
@@ -0,0 +1,116 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BudgetTotalsTracker 증감 반영/임계값 감지 테스트
+ */
+@DisplayName("예산 합계 추적 테스트")
+class BudgetTotalsTrackerTest {
+
+  private static final YearMonth MONTH = YearMonth.of(2026, 10);
+  private static final BigDecimal BUDGET = new BigDecimal("1000");
+
+  private final BudgetTotalsTracker tracker = new BudgetTotalsTracker();
+  private final CustomUuid familyUuid = CustomUuid.generate();
+
+  @Test
+  @DisplayName("합계가 없는 월은 증가일 때만 평가를 요청한다")
+  void applyDelta_UnknownMonth_RequestsSeedOnIncrease() {
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("10"))).isTrue();
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("-10"))).isFalse();
+    assertThat(tracker.applyDelta(familyUuid, MONTH, BigDecimal.ZERO)).isFalse();
+  }
+
+  @Test
+  @DisplayName("임계값 단계가 올라갈 때만 평가를 요청한다")
+  void applyDelta_DetectsThresholdCrossings() {
+    // Given: 40%
+    tracker.seed(familyUuid, MONTH, BUDGET, new BigDecimal("400"));
+
+    // When & Then
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("100"))).isFalse(); // 50% (초과 아님)
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("1"))).isTrue();    // 50.1%
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("200"))).isFalse(); // 70.1%
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("500"))).isTrue();  // 120.1% (80/100% 동시 통과)
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("-900"))).isFalse(); // 30.1%
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("300"))).isTrue();  // 60.1%
+  }
+
+  @Test
+  @DisplayName("예산 미설정 가족은 평가를 요청하지 않는다")
+  void applyDelta_NoBudget_NeverRequests() {
+    tracker.seed(familyUuid, MONTH, null, BigDecimal.ZERO);
+
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("1000000"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("예산을 낮추면 새로 임계값을 넘은 월만 반환한다")
+  void updateBudget_ReturnsRaisedMonths() {
+    // Given: 이번 달 40%, 지난 달 10%
+    tracker.seed(familyUuid, MONTH, BUDGET, new BigDecimal("400"));
+    tracker.seed(familyUuid, MONTH.minusMonths(1), BUDGET, new BigDecimal("100"));
+
+    // When & Then: 예산 700 → 이번 달 57%, 지난 달 14%
+    assertThat(tracker.updateBudget(familyUuid, new BigDecimal("700"))).containsExactly(MONTH);
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("10"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("예산 미설정에서 설정으로 바뀌면 합계를 폐기하고 재평가 대상으로 반환한다")
+  void updateBudget_FromNoBudget_Invalidates() {
+    tracker.seed(familyUuid, MONTH, null, BigDecimal.ZERO);
+
+    assertThat(tracker.updateBudget(familyUuid, BUDGET)).containsExactly(MONTH);
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("10"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("가족 합계를 폐기하면 이후 증가는 다시 평가를 요청한다")
+  void invalidateFamily_RemovesTotals() {
+    tracker.seed(familyUuid, MONTH, BUDGET, new BigDecimal("100"));
+
+    assertThat(tracker.invalidateFamily(familyUuid)).containsExactly(MONTH);
+    assertThat(tracker.trackedMonths()).doesNotContainKey(familyUuid);
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("10"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("재조정은 합계가 있는 월만 덮어쓰고 임계값 단계가 올라갔는지 반환한다")
+  void reseed_OverwritesTrackedMonthsOnly() {
+    // Given: 40%
+    tracker.seed(familyUuid, MONTH, BUDGET, new BigDecimal("400"));
+
+    // When & Then
+    assertThat(tracker.reseed(familyUuid, MONTH, BUDGET, new BigDecimal("450"))).isFalse(); // 45%
+    assertThat(tracker.reseed(familyUuid, MONTH, BUDGET, new BigDecimal("600"))).isTrue();  // 60%
+    assertThat(tracker.reseed(familyUuid, MONTH, BUDGET, new BigDecimal("300"))).isFalse(); // 30%
+    assertThat(tracker.applyDelta(familyUuid, MONTH, new BigDecimal("201"))).isTrue();      // 50.1%
+
+    // 합계가 없는 월은 채우지 않음
+    assertThat(tracker.reseed(familyUuid, MONTH.minusMonths(1), BUDGET, new BigDecimal("900"))).isFalse();
+    assertThat(tracker.trackedMonths()).containsEntry(familyUuid, List.of(MONTH));
+  }
+
+  @Test
+  @DisplayName("기준 월 이전 합계는 정리된다")
+  void pruneBefore_RemovesOldMonths() {
+    CustomUuid otherFamily = CustomUuid.generate();
+    tracker.seed(familyUuid, MONTH, BUDGET, new BigDecimal("100"));
+    tracker.seed(familyUuid, MONTH.minusMonths(3), BUDGET, new BigDecimal("100"));
+    tracker.seed(otherFamily, MONTH.minusMonths(3), BUDGET, new BigDecimal("100"));
+
+    tracker.pruneBefore(MONTH.minusMonths(1));
+
+    assertThat(tracker.trackedMonths())
+        .containsOnlyKeys(familyUuid)
+        .containsEntry(familyUuid, List.of(MONTH));
+  }
+}
@@ -0,0 +1,169 @@
+package com.bifos.accountbook.notification.application.service;
+
+import com.bifos.accountbook.config.NotificationRetentionProperties;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.notification.domain.entity.Notification;
+import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
+import com.bifos.accountbook.notification.domain.repository.NotificationUnreadCounterRepository;
+import com.bifos.accountbook.notification.domain.value.NotificationType;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * NotificationRetentionJob 통합 테스트
+ * 정책별 보관 기간, 청크 단위 삭제, 읽지 않은 알림 카운터 차감을 검증합니다.
+ */
+@DisplayName("알림 보관 기간 정리 작업 테스트")
+@Import(SqlRecorderConfig.class)
+class NotificationRetentionJobTest extends TestFixturesSupport {
+
+  @Autowired
+  private NotificationRepository notificationRepository;
+
+  @Autowired
+  private NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private CustomUuid familyUuid;
+  private CustomUuid userUuid;
+  private YearMonth month;
+
+  @BeforeEach
+  void setUp() {
+    User user = fixtures.getDefaultUser();
+    Family family = fixtures.getDefaultFamily();
+    familyUuid = family.getUuid();
+    userUuid = user.getUuid();
+    month = YearMonth.of(2020, 1);
+  }
+
+  @Test
+  @DisplayName("예산/반복 지출, 읽음/읽지 않음 정책별 보관 기간이 지난 알림만 삭제한다")
+  void purgeAll_AppliesPolicyPerTypeAndReadState() {
+    // Given: 기본 정책 (예산 90일/365일, 반복 지출 30일/90일)
+    save(NotificationType.BUDGET_50_EXCEEDED, true, 100);
+    Notification budgetReadRecent = save(NotificationType.BUDGET_80_EXCEEDED, true, 10);
+    Notification budgetUnreadKept = save(NotificationType.BUDGET_50_EXCEEDED, false, 100);
+    save(NotificationType.BUDGET_100_EXCEEDED, false, 400);
+    save(NotificationType.RECURRING_EXPENSE_CREATED, true, 40);
+    Notification recurringUnreadKept = save(NotificationType.RECURRING_EXPENSE_CREATED, false, 40);
+    notificationUnreadCounterRepository.applyDelta(familyUuid, userUuid, 3);
+
+    // When
+    job(500).purgeAll();
+
+    // Then
+    assertThat(notificationRepository.findByFamilyAndUser(familyUuid, userUuid))
+        .extracting(Notification::getId)
+        .containsExactlyInAnyOrder(budgetReadRecent.getId(), budgetUnreadKept.getId(), recurringUnreadKept.getId());
+    assertThat(notificationUnreadCounterRepository.findUnreadCount(familyUuid, userUuid)).isEqualTo(2);
+    assertThat(meterRegistry.get("notification.retention.deleted").tag("policy", "budget-read").counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("notification.retention.deleted").tag("policy", "budget-unread").counter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("notification.retention.deleted").tag("policy", "recurring-read").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("한 번의 DELETE가 아니라 청크 크기만큼 나누어 삭제한다")
+  void purgeAll_DeletesInChunks() {
+    // Given: 보관 기간이 지난 읽은 예산 알림 5건
+    for (int i = 0; i < 5; i++) {
+      save(NotificationType.BUDGET_50_EXCEEDED, true, 100);
+    }
+    SqlRecorder.clear();
+
+    // When: 청크 크기 2
+    job(2).purgeAll();
+
+    // Then: 2 + 2 + 1
+    List<SqlRecorder.RecordedStatement> deletes = SqlRecorder.allMatching("delete from notifications");
+    assertThat(deletes).hasSize(3);
+    assertThat(notificationRepository.findByFamilyAndUser(familyUuid, userUuid)).isEmpty();
+    assertThat(meterRegistry.get("notification.retention.chunk").timer().count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("타입별 (created_at, id) 키셋으로 청크를 나누어 생성 시각이 같은 알림도 빠짐없이 삭제한다")
+  void purgeAll_KeysetPerType_HandlesSameCreatedAt() {
+    // Given: 생성 시각이 같은 50% 알림 3건 + 80% 알림 2건
+    LocalDateTime createdAt = LocalDateTime.now().minusDays(100).withNano(0);
+    for (int i = 0; i < 3; i++) {
+      jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE id = ?",
+                          createdAt, save(NotificationType.BUDGET_50_EXCEEDED, true, 100).getId());
+    }
+    for (int i = 0; i < 2; i++) {
+      jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE id = ?",
+                          createdAt, save(NotificationType.BUDGET_80_EXCEEDED, true, 100).getId());
+    }
+    SqlRecorder.clear();
+
+    // When: 청크 크기 2
+    job(2).purgeAll();
+
+    // Then: 50% (2 + 1) + 80% (2) 청크
+    assertThat(SqlRecorder.allMatching("delete from notifications")).hasSize(3);
+    assertThat(notificationRepository.findByFamilyAndUser(familyUuid, userUuid)).isEmpty();
+    assertThat(meterRegistry.get("notification.retention.deleted").tag("policy", "budget-read").counter().count())
+        .isEqualTo(5.0);
+  }
+
+  @Test
+  @DisplayName("청크 크기가 1 미만이면 설정 바인딩 단계에서 거부한다")
+  void properties_NonPositiveChunkSize_Rejected() {
+    assertThatThrownBy(() -> job(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("chunk-size");
+  }
+
+  private NotificationRetentionJob job(int chunkSize) {
+    NotificationRetentionProperties properties = new NotificationRetentionProperties(
+        Duration.ofDays(90), Duration.ofDays(365), Duration.ofDays(30), Duration.ofDays(90), chunkSize, Duration.ZERO);
+    return new NotificationRetentionJob(notificationRepository, notificationUnreadCounterRepository, properties,
+                                        transactionManager, Clock.systemDefaultZone(), meterRegistry);
+  }
+
+  /**
+   * daysAgo일 전에 생성된 알림 저장 (UNIQUE 키가 겹치지 않도록 알림마다 다른 월 사용)
+   */
+  private Notification save(NotificationType type, boolean read, int daysAgo) {
+    month = month.plusMonths(1);
+    Notification notification = notificationRepository.save(Notification.builder()
+                                                                         .familyUuid(familyUuid)
+                                                                         .userUuid(userUuid)
+                                                                         .type(type)
+                                                                         .title(type.getDisplayName())
+                                                                         .message(type.getDefaultMessage())
+                                                                         .yearMonth(Notification.formatYearMonth(month))
+                                                                         .isRead(read)
+                                                                         .build());
+    jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE id = ?",
+                        LocalDateTime.now().minusDays(daysAgo), notification.getId());
+    return notification;
+  }
+}
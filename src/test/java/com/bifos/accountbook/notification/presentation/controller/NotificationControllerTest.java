@@ -7,14 +7,18 @@ import com.bifos.accountbook.expense.application.service.ExpenseService;
 import com.bifos.accountbook.category.domain.entity.Category;
 import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.family.domain.entity.FamilyMember;
+import com.bifos.accountbook.notification.application.service.BudgetAlertQueue;
 import com.bifos.accountbook.notification.domain.entity.Notification;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.family.domain.repository.FamilyMemberRepository;
 import com.bifos.accountbook.notification.domain.repository.NotificationRepository;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.family.domain.value.FamilyMemberStatus;
+import com.bifos.accountbook.notification.domain.value.NotificationType;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.hamcrest.Matchers;
@@ -44,6 +48,9 @@ class NotificationControllerTest extends AbstractControllerTest {
   @Autowired
   private FamilyMemberRepository familyMemberRepository;
 
+  @Autowired
+  private BudgetAlertQueue budgetAlertQueue;
+
   private User testUser;
   private Family testFamily;
   private Category testCategory;
@@ -61,6 +68,13 @@ class NotificationControllerTest extends AbstractControllerTest {
     });
   }
 
+  /**
+   * 커밋 후 비동기로 예약된 예산 알림 평가가 끝날 때까지 대기
+   */
+  private void awaitBudgetAlerts() throws InterruptedException {
+    assertThat(budgetAlertQueue.awaitIdle(Duration.ofSeconds(5))).isTrue();
+  }
+
   /**
    * 다른 사용자를 생성하고 가족에 추가하는 헬퍼 메서드
    *
@@ -98,6 +112,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    null
     );
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // When & Then
     mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
@@ -120,6 +135,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // When & Then
     mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications/unread-count", testFamily.getUuid().getValue())
@@ -140,6 +156,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // 현재 사용자의 알림 조회
     String notificationUuid = notificationRepository
@@ -169,6 +186,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // When & Then
     mockMvc.perform(post("/api/v1/families/{familyUuid}/notifications/mark-all-read", testFamily.getUuid().getValue())
@@ -209,6 +227,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // 알림 조회
     String notificationUuid = notificationRepository
@@ -244,6 +263,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // When: testUser의 알림 조회
     mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
@@ -281,6 +301,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // 다른 사용자의 알림 조회 (반드시 존재해야 함)
     List<Notification> otherUserNotifications = notificationRepository.findByFamilyAndUser(testFamily.getUuid(), otherUser.getUuid());
@@ -316,6 +337,7 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                                    LocalDateTime.now(),
                                                                    null);
     expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(), expenseRequest);
+    awaitBudgetAlerts();
 
     // testUser의 알림 조회 (반드시 존재해야 함)
     List<Notification> testUserNotifications = notificationRepository.findByFamilyAndUser(testFamily.getUuid(), testUser.getUuid());
@@ -339,4 +361,130 @@ class NotificationControllerTest extends AbstractControllerTest {
                                                       .count();
     assertThat(otherUserUnreadCount).isGreaterThan(0);
   }
+
+  @Test
+  @DisplayName("알림 목록은 커서로 다음 페이지를 이어서 조회한다")
+  void getFamilyNotifications_CursorPagination() throws Exception {
+    // Given: testUser 알림 5건
+    List<Notification> notifications = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      notifications.add(Notification.builder()
+                                    .familyUuid(testFamily.getUuid())
+                                    .userUuid(testUser.getUuid())
+                                    .type(NotificationType.BUDGET_50_EXCEEDED)
+                                    .title("알림 " + i)
+                                    .message("페이지 테스트 알림")
+                                    .yearMonth("2026-0" + i)
+                                    .build());
+    }
+    notificationRepository.saveAll(notifications);
+
+    // When: 첫 페이지 (2건)
+    String firstPage = mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
+                                           .param("size", "2")
+                                           .header("X-User-UUID", testUser.getUuid().getValue()))
+                              .andExpect(status().isOk())
+                              .andExpect(jsonPath("$.data.notifications.length()").value(2))
+                              .andExpect(jsonPath("$.data.hasNext").value(true))
+                              .andReturn().getResponse().getContentAsString();
+    String cursor = objectMapper.readTree(firstPage).at("/data/nextCursor").asText();
+
+    // Then: 두 번째 페이지 2건, 세 번째 페이지 1건으로 끝남
+    String secondPage = mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
+                                            .param("size", "2")
+                                            .param("cursor", cursor)
+                                            .header("X-User-UUID", testUser.getUuid().getValue()))
+                               .andExpect(status().isOk())
+                               .andExpect(jsonPath("$.data.notifications.length()").value(2))
+                               .andExpect(jsonPath("$.data.hasNext").value(true))
+                               .andReturn().getResponse().getContentAsString();
+    cursor = objectMapper.readTree(secondPage).at("/data/nextCursor").asText();
+
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .header("X-User-UUID", testUser.getUuid().getValue()))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.data.notifications.length()").value(1))
+           .andExpect(jsonPath("$.data.hasNext").value(false))
+           .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+
+    List<String> pagedTitles = new ArrayList<>();
+    objectMapper.readTree(firstPage).at("/data/notifications").forEach(n -> pagedTitles.add(n.get("title").asText()));
+    objectMapper.readTree(secondPage).at("/data/notifications").forEach(n -> pagedTitles.add(n.get("title").asText()));
+    assertThat(pagedTitles).doesNotHaveDuplicates().hasSize(4);
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 알림 목록을 조회하면 400 에러가 발생한다")
+  void getFamilyNotifications_InvalidCursor() throws Exception {
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
+                        .param("cursor", "not-a-cursor")
+                        .header("X-User-UUID", testUser.getUuid().getValue()))
+           .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("페이지 크기가 1 ~ 100 범위를 벗어나면 400 에러가 발생한다")
+  void getFamilyNotifications_SizeOutOfRange() throws Exception {
+    for (String size : new String[] {"0", "101"}) {
+      mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications", testFamily.getUuid().getValue())
+                          .param("size", size)
+                          .header("X-User-UUID", testUser.getUuid().getValue()))
+             .andExpect(status().isBadRequest())
+             .andExpect(jsonPath("$.code").value("C001"));
+    }
+  }
+
+  @Test
+  @DisplayName("읽지 않은 알림 수는 알림 생성·읽음·전체 읽음 처리에 맞춰 갱신된다")
+  void getUnreadCount_TracksCreateAndRead() throws Exception {
+    // Given: 50%, 80% 알림 생성
+    expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(),
+                                 new CreateExpenseRequest(testCategory.getUuid().getValue(),
+                                                          new BigDecimal("550000.00"),
+                                                          "50% 초과 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+    expenseService.createExpense(testUser.getUuid(), testFamily.getUuid(),
+                                 new CreateExpenseRequest(testCategory.getUuid().getValue(),
+                                                          new BigDecimal("300000.00"),
+                                                          "80% 초과 지출",
+                                                          LocalDateTime.now(),
+                                                          null));
+    awaitBudgetAlerts();
+    assertUnreadCount(2);
+
+    // When: 한 건 읽음 처리 (두 번 호출해도 한 번만 차감)
+    String notificationUuid = notificationRepository.findByFamilyAndUser(testFamily.getUuid(), testUser.getUuid())
+                                                    .getFirst()
+                                                    .getNotificationUuid()
+                                                    .getValue();
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(patch("/api/v1/families/{familyUuid}/notifications/{notificationUuid}/read",
+                           testFamily.getUuid().getValue(), notificationUuid)
+                          .header("X-User-UUID", testUser.getUuid().getValue()))
+             .andExpect(status().isOk());
+    }
+
+    // Then
+    assertUnreadCount(1);
+
+    // When: 전체 읽음 처리
+    mockMvc.perform(post("/api/v1/families/{familyUuid}/notifications/mark-all-read", testFamily.getUuid().getValue())
+                        .header("X-User-UUID", testUser.getUuid().getValue()))
+           .andExpect(status().isOk());
+
+    // Then: 카운터와 실제 읽지 않은 알림 수가 모두 0
+    assertUnreadCount(0);
+    assertThat(notificationRepository.countUnreadByFamilyAndUser(testFamily.getUuid(), testUser.getUuid())).isZero();
+  }
+
+  private void assertUnreadCount(int expected) throws Exception {
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/notifications/unread-count", testFamily.getUuid().getValue())
+                        .header("X-User-UUID", testUser.getUuid().getValue()))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.data.unreadCount").value(expected));
+  }
 }
@@ -11,12 +11,20 @@ import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
 import com.bifos.accountbook.family.domain.repository.FamilyRepository;
+import com.bifos.accountbook.recurring.application.dto.RecurringGenerationResult;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
+import com.bifos.accountbook.recurring.domain.repository.RecurringGenerationWatermarkRepository;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
+import com.bifos.accountbook.shared.lease.HeldLease;
+import com.bifos.accountbook.shared.lease.SchedulerLeaseJpaRepository;
+import com.bifos.accountbook.shared.lease.SchedulerLeaseManager;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,15 +32,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @DisplayName("RecurringExpenseScheduler 통합 테스트")
 @RecordApplicationEvents
-@Import(RecurringExpenseSchedulerTest.TestClockConfig.class)
+@Import({RecurringExpenseSchedulerTest.TestClockConfig.class, SqlRecorderConfig.class})
 class RecurringExpenseSchedulerTest extends TestFixturesSupport {
 
   private static final LocalDate FIXED_DATE = LocalDate.of(2025, 3, 15);
@@ -60,6 +71,30 @@ class RecurringExpenseSchedulerTest extends TestFixturesSupport {
   @Autowired
   private RecurringExpenseRepository recurringExpenseRepository;
 
+  @Autowired
+  private RecurringExpenseGenerator generator;
+
+  @Autowired
+  private RecurringGenerationWatermarkRepository watermarkRepository;
+
+  @Autowired
+  private SchedulerLeaseManager leaseManager;
+
+  @Autowired
+  private SchedulerLeaseJpaRepository leaseJpaRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private Clock clock;
+
   @Autowired
   private ApplicationEvents events;
 
@@ -220,4 +255,319 @@ class RecurringExpenseSchedulerTest extends TestFixturesSupport {
     assertThat(event.familyUuid()).isEqualTo(family.getUuid().getValue());
     assertThat(event.count()).isEqualTo(1);
   }
+
+  @Test
+  @DisplayName("TC-07: 템플릿을 청크로 나누어 청크마다 일괄 조회 + 배치 INSERT로 생성")
+  void shouldGenerateInChunksWithBatchedQueries() {
+    // Given: 템플릿 5개, 청크 크기 2 → 청크 3개
+    for (int i = 0; i < 5; i++) {
+      fixtures.recurringExpenses
+          .recurringExpense(family, category)
+          .dayOfMonth(15)
+          .name("구독 " + i)
+          .build();
+    }
+    RecurringExpenseScheduler chunkedScheduler = new RecurringExpenseScheduler(
+        recurringExpenseRepository, watermarkRepository, generator, leaseManager, eventPublisher, clock,
+        2, 2, 31, false, 1, 300_000);
+    SqlRecorder.clear();
+
+    // When
+    chunkedScheduler.generateRecurringExpenses();
+
+    // Then: 청크마다 기생성 확인 1회, 가족 조회 1회, 배치 INSERT 1회
+    assertThat(SqlRecorder.allMatching("from expenses")).hasSize(3);
+    assertThat(SqlRecorder.allMatching("from families")).hasSize(3);
+    assertThat(SqlRecorder.allMatching("insert into expenses")).hasSize(3);
+
+    List<Expense> expenses = expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.atStartOfDay(),
+        FIXED_DATE.plusDays(1).atStartOfDay());
+    assertThat(expenses).hasSize(5);
+
+    RecurringExpenseCreatedEvent event = events
+        .stream(RecurringExpenseCreatedEvent.class)
+        .findFirst()
+        .orElseThrow();
+    assertThat(event.count()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("TC-08: next_run_at이 지난 템플릿은 누락된 발생을 생성하고 다음 발생일로 전진")
+  void shouldCatchUpMissedOccurrencesFromNextRunAt() {
+    // Given: 13·14일 실행 누락
+    RecurringExpense missed13 = createTemplate(13, "누락 13일");
+    RecurringExpense missed14 = createTemplate(14, "누락 14일");
+    createTemplate(15, "오늘");
+
+    // When
+    scheduler.generateRecurringExpenses();
+
+    // Then: 13·14·15일 지출이 각 일자로 생성
+    List<Expense> expenses = expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.minusDays(2).atStartOfDay(),
+        FIXED_DATE.plusDays(1).atStartOfDay());
+    assertThat(expenses)
+        .extracting(expense -> expense.getDate().toLocalDate())
+        .containsExactlyInAnyOrder(FIXED_DATE.minusDays(2), FIXED_DATE.minusDays(1), FIXED_DATE);
+    assertThat(nextRunDateOf(missed13)).isEqualTo(LocalDate.of(2025, 4, 13));
+    assertThat(nextRunDateOf(missed14)).isEqualTo(LocalDate.of(2025, 4, 14));
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME))
+        .contains(FIXED_DATE);
+  }
+
+  @Test
+  @DisplayName("TC-09: 정기 실행 시각 전 기동 시에는 전날까지만 따라잡음")
+  void shouldCatchUpThroughYesterdayOnStartupBeforeRunTime() {
+    // Given: Clock은 15일 00:00 (정기 실행 01:00 전), 14일 실행 누락
+    createTemplate(14, "누락 14일");
+    RecurringExpense today = createTemplate(15, "오늘");
+
+    // When
+    scheduler.catchUpOnStartup();
+
+    // Then: 14일만 생성, 15일은 정기 실행에 맡김
+    List<Expense> expenses = expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.minusDays(1).atStartOfDay(),
+        FIXED_DATE.plusDays(1).atStartOfDay());
+    assertThat(expenses)
+        .extracting(expense -> expense.getDate().toLocalDate())
+        .containsExactly(FIXED_DATE.minusDays(1));
+    assertThat(nextRunDateOf(today)).isEqualTo(FIXED_DATE);
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME))
+        .contains(FIXED_DATE.minusDays(1));
+  }
+
+  @Test
+  @DisplayName("TC-10: 백필은 구간의 누락분만 생성하고 워터마크는 변경하지 않음")
+  void shouldBackfillDateRangeWithoutMovingWatermark() {
+    // Given: 10일 템플릿, 10일 이후 등록된 11일 템플릿
+    createTemplate(10, "백필 10일");
+    RecurringExpense lateTemplate = fixtures.recurringExpenses
+        .recurringExpense(family, category)
+        .dayOfMonth(11)
+        .build();
+    jdbcTemplate.update("UPDATE recurring_expenses SET created_at = ? WHERE id = ?",
+        FIXED_DATE.minusDays(4).atTime(12, 0), lateTemplate.getId());
+
+    // When: 같은 구간 2회 실행
+    RecurringGenerationResult first = scheduler.backfill(FIXED_DATE.minusDays(5), FIXED_DATE.minusDays(4));
+    RecurringGenerationResult second = scheduler.backfill(FIXED_DATE.minusDays(5), FIXED_DATE.minusDays(4));
+
+    // Then
+    assertThat(first.created()).isEqualTo(1);
+    assertThat(second.created()).isZero();
+    assertThat(expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.minusDays(5).atStartOfDay(),
+        FIXED_DATE.minusDays(3).atStartOfDay()))
+        .extracting(Expense::getDescription)
+        .containsExactly("백필 10일");
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("TC-11: 샤드 모드에서는 다른 노드가 임대를 가진 구간을 건너뛰고, 반납 후 다음 실행에서 처리")
+  void shouldSkipShardLeasedByAnotherNode() {
+    // Given: 가족 해시 버킷이 구간 0([0, 512))과 구간 1([512, 1024))에 하나씩 속하는 가족
+    Family shard0Family = familyInShard(0);
+    Family shard1Family = familyInShard(1);
+    fixtures.recurringExpenses.recurringExpense(shard0Family, category).dayOfMonth(15).name("구간 0").build();
+    fixtures.recurringExpenses.recurringExpense(shard1Family, category).dayOfMonth(15).name("구간 1").build();
+
+    RecurringExpenseScheduler nodeA = new RecurringExpenseScheduler(
+        recurringExpenseRepository, watermarkRepository, generator, leaseManager, eventPublisher, clock,
+        500, 2, 31, false, 2, 300_000);
+    SchedulerLeaseManager nodeBLeases =
+        new SchedulerLeaseManager(leaseJpaRepository, transactionManager, clock, "node-b");
+    HeldLease nodeBLease = nodeBLeases.acquire(nodeA.jobName(0), Duration.ofMinutes(5)).orElseThrow();
+
+    // When: 노드 B가 구간 0을 처리 중일 때 노드 A 실행
+    nodeA.generateRecurringExpenses();
+
+    // Then: 구간 1만 생성
+    assertThat(expensesOn(shard0Family, FIXED_DATE)).isEmpty();
+    assertThat(expensesOn(shard1Family, FIXED_DATE)).hasSize(1);
+    assertThat(watermarkRepository.findLastCompletedDate(nodeA.jobName(0))).isEmpty();
+    assertThat(watermarkRepository.findLastCompletedDate(nodeA.jobName(1))).contains(FIXED_DATE);
+
+    // When: 노드 B가 반납한 뒤 다시 실행
+    nodeBLease.close();
+    nodeA.generateRecurringExpenses();
+
+    // Then: 구간 0도 생성, 구간 1은 중복 생성 없음
+    assertThat(expensesOn(shard0Family, FIXED_DATE)).hasSize(1);
+    assertThat(expensesOn(shard1Family, FIXED_DATE)).hasSize(1);
+    assertThat(watermarkRepository.findLastCompletedDate(nodeA.jobName(0))).contains(FIXED_DATE);
+  }
+
+  @Test
+  @DisplayName("TC-12: 더 큰 fencing token으로 기록된 워터마크는 이전 임대의 늦은 전진을 무시")
+  void shouldIgnoreWatermarkAdvanceFromStaleFencingToken() {
+    // Given: 토큰 2의 노드가 14일까지 완료
+    watermarkRepository.advance(RecurringExpenseScheduler.JOB_NAME, FIXED_DATE.minusDays(1), 2);
+
+    // When: 임대를 잃은 토큰 1의 노드가 늦게 15일로 전진 시도
+    watermarkRepository.advance(RecurringExpenseScheduler.JOB_NAME, FIXED_DATE, 1);
+
+    // Then
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME))
+        .contains(FIXED_DATE.minusDays(1));
+
+    // When: 같은 토큰이면 전진
+    watermarkRepository.advance(RecurringExpenseScheduler.JOB_NAME, FIXED_DATE, 2);
+
+    // Then
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME))
+        .contains(FIXED_DATE);
+  }
+
+  @Test
+  @DisplayName("TC-13: 31일 템플릿은 31일이 없는 달에 말일로 생성")
+  void shouldGenerateOnLastDayWhenMonthIsShorter() {
+    // Given: 2월에 등록된 31일 템플릿 (첫 발생 2월 28일)
+    RecurringExpense template = fixtures.recurringExpenses
+        .recurringExpense(family, category)
+        .dayOfMonth(31)
+        .name("관리비")
+        .build();
+    moveNextRunDate(template, LocalDate.of(2025, 2, 28));
+
+    // When
+    scheduler.generateRecurringExpenses();
+
+    // Then
+    List<Expense> expenses = expensesOn(family, LocalDate.of(2025, 2, 28));
+    assertThat(expenses).hasSize(1);
+    assertThat(expenses.get(0).getYearMonth()).isEqualTo("2025-02");
+    assertThat(nextRunDateOf(template)).isEqualTo(LocalDate.of(2025, 3, 31));
+  }
+
+  @Test
+  @DisplayName("TC-14: 매주 템플릿은 밀린 주마다 한 건씩 생성")
+  void shouldGenerateEveryWeekForWeeklyTemplate() {
+    // Given: 매주 토요일(15일이 토요일), 1일부터 실행 누락
+    RecurringExpense template = fixtures.recurringExpenses
+        .recurringExpense(family, category)
+        .weekly(6)
+        .name("주간 장보기")
+        .build();
+    moveNextRunDate(template, LocalDate.of(2025, 3, 1));
+
+    // When
+    scheduler.generateRecurringExpenses();
+
+    // Then: 1·8·15일 생성, 다음 생성일은 22일
+    assertThat(expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        LocalDate.of(2025, 3, 1).atStartOfDay(),
+        FIXED_DATE.plusDays(1).atStartOfDay()))
+        .extracting(expense -> expense.getDate().toLocalDate())
+        .containsExactlyInAnyOrder(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 8), FIXED_DATE);
+    assertThat(nextRunDateOf(template)).isEqualTo(LocalDate.of(2025, 3, 22));
+  }
+
+  @Test
+  @DisplayName("TC-15: 백필은 반복일이 바뀐 템플릿이라도 이미 생성된 달에는 다시 생성하지 않음")
+  void shouldSkipBackfillForPeriodAlreadyGenerated() {
+    // Given: 10일 템플릿으로 10일 발생 생성 후 반복일을 12일로 변경
+    RecurringExpense template = createTemplate(10, "반복일 변경");
+    scheduler.backfill(FIXED_DATE.withDayOfMonth(10), FIXED_DATE.withDayOfMonth(10));
+    jdbcTemplate.update("UPDATE recurring_expenses SET day_of_month = 12 WHERE id = ?", template.getId());
+
+    // When: 12일을 포함한 구간 백필
+    RecurringGenerationResult result = scheduler.backfill(FIXED_DATE.withDayOfMonth(1), FIXED_DATE.minusDays(1));
+
+    // Then: 3월 발생은 10일 한 건만 유지
+    assertThat(result.created()).isZero();
+    assertThat(expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.withDayOfMonth(1).atStartOfDay(),
+        FIXED_DATE.atStartOfDay()))
+        .extracting(expense -> expense.getDate().toLocalDate())
+        .containsExactly(FIXED_DATE.withDayOfMonth(10));
+  }
+
+  @Test
+  @DisplayName("TC-16: 청크는 (next_run_at, id) 순으로 이어 읽어 id 순과 도래 순이 달라도 모두 생성")
+  void shouldPageDueTemplatesByNextRunAtAndId() {
+    // Given: id 순과 next_run_at 순이 엇갈린 템플릿 5개, 청크 크기 2 (같은 next_run_at이 청크 경계에 걸침)
+    List<RecurringExpense> templates = List.of(
+        createTemplate(15, "15일 A"),
+        createTemplate(14, "14일 A"),
+        createTemplate(13, "13일"),
+        createTemplate(15, "15일 B"),
+        createTemplate(14, "14일 B"));
+    RecurringExpenseScheduler chunkedScheduler = new RecurringExpenseScheduler(
+        recurringExpenseRepository, watermarkRepository, generator, leaseManager, eventPublisher, clock,
+        2, 2, 31, false, 1, 300_000);
+
+    // When
+    chunkedScheduler.generateRecurringExpenses();
+
+    // Then: 템플릿마다 한 건씩 생성되고 모두 다음 달로 전진
+    assertThat(expenseRepository.findByFamilyUuidAndDateBetween(
+        family.getUuid(),
+        FIXED_DATE.minusDays(2).atStartOfDay(),
+        FIXED_DATE.plusDays(1).atStartOfDay()))
+        .extracting(Expense::getRecurringExpenseUuid)
+        .containsExactlyInAnyOrderElementsOf(templates.stream()
+            .map(template -> template.getUuid().getValue())
+            .toList());
+    assertThat(templates)
+        .extracting(this::nextRunDateOf)
+        .allMatch(date -> date.getMonthValue() == 4);
+    assertThat(watermarkRepository.findLastCompletedDate(RecurringExpenseScheduler.JOB_NAME))
+        .contains(FIXED_DATE);
+  }
+
+  /**
+   * 가족 해시 버킷이 2개 구간 중 shard 구간에 속하는 가족 생성
+   */
+  private Family familyInShard(int shard) {
+    while (true) {
+      Family candidate = fixtures.families.family().build();
+      int shardKey = RecurringExpense.shardKeyOf(candidate.getUuid().getValue());
+      if (shardKey * 2 / RecurringExpense.SHARD_KEYS == shard) {
+        return candidate;
+      }
+    }
+  }
+
+  private List<Expense> expensesOn(Family target, LocalDate date) {
+    return expenseRepository.findByFamilyUuidAndDateBetween(
+        target.getUuid(),
+        date.atStartOfDay(),
+        date.plusDays(1).atStartOfDay());
+  }
+
+  /**
+   * 이달 1일에 등록되어 이달 dayOfMonth일 실행을 기다리는 템플릿 생성 (지난 일자면 실행 누락 상태)
+   */
+  private RecurringExpense createTemplate(int dayOfMonth, String name) {
+    RecurringExpense template = fixtures.recurringExpenses
+        .recurringExpense(family, category)
+        .dayOfMonth(dayOfMonth)
+        .name(name)
+        .build();
+    jdbcTemplate.update("UPDATE recurring_expenses SET created_at = ? WHERE id = ?",
+        FIXED_DATE.withDayOfMonth(1).atStartOfDay(), template.getId());
+    moveNextRunDate(template, FIXED_DATE.withDayOfMonth(dayOfMonth));
+    return template;
+  }
+
+  private void moveNextRunDate(RecurringExpense template, LocalDate date) {
+    jdbcTemplate.update("UPDATE recurring_expenses SET next_run_at = ? WHERE id = ?",
+        date.atTime(RecurringSchedule.RUN_TIME), template.getId());
+  }
+
+  private LocalDate nextRunDateOf(RecurringExpense template) {
+    return recurringExpenseRepository.findActiveByUuid(template.getUuid())
+        .orElseThrow()
+        .getNextRunAt()
+        .toLocalDate();
+  }
 }
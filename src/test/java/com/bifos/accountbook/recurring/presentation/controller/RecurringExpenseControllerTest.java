@@ -4,14 +4,23 @@ import com.bifos.accountbook.shared.AbstractControllerTest;
 
 import com.bifos.accountbook.category.domain.entity.Category;
 import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.shared.value.CustomUuid;
 import com.bifos.accountbook.recurring.presentation.dto.CreateRecurringExpenseRequest;
 import com.bifos.accountbook.recurring.presentation.dto.UpdateRecurringExpenseRequest;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -21,6 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("반복 지출 API 통합 테스트")
+@Import(SqlRecorderConfig.class)
 class RecurringExpenseControllerTest extends AbstractControllerTest {
 
   private User testUser;
@@ -66,13 +76,13 @@ class RecurringExpenseControllerTest extends AbstractControllerTest {
   }
 
   @Test
-  @DisplayName("결제일이 29 이상이면 등록에 실패한다")
-  void createRecurringExpense_FailsWhenDayOfMonthExceeds28() throws Exception {
+  @DisplayName("결제일이 32 이상이면 등록에 실패한다")
+  void createRecurringExpense_FailsWhenDayOfMonthExceeds31() throws Exception {
     CreateRecurringExpenseRequest request = new CreateRecurringExpenseRequest(
         testCategory.getUuid().getValue(),
         "넷플릭스",
         new BigDecimal("17000.00"),
-        29
+        32
     );
 
     mockMvc.perform(post("/api/v1/families/{familyUuid}/recurring-expenses",
@@ -83,6 +93,79 @@ class RecurringExpenseControllerTest extends AbstractControllerTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  @DisplayName("결제일을 31일로 등록하면 다음 생성일은 말일 기준으로 계산된다")
+  void createRecurringExpense_SucceedsWithDay31() throws Exception {
+    CreateRecurringExpenseRequest request = new CreateRecurringExpenseRequest(
+        testCategory.getUuid().getValue(),
+        "관리비",
+        new BigDecimal("150000.00"),
+        31
+    );
+
+    mockMvc.perform(post("/api/v1/families/{familyUuid}/recurring-expenses",
+            testFamily.getUuid().getValue())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-User-UUID", testUser.getUuid().getValue())
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.data.frequency").value("MONTHLY"))
+        .andExpect(jsonPath("$.data.dayOfMonth").value(31))
+        .andExpect(jsonPath("$.data.nextRunDate").exists());
+  }
+
+  @Test
+  @DisplayName("매주 반복을 등록하면 월간 총액에 주간 금액 ×52/12가 반영된다")
+  void createRecurringExpense_WeeklyCountsMonthlyEquivalent() throws Exception {
+    CreateRecurringExpenseRequest request = new CreateRecurringExpenseRequest(
+        testCategory.getUuid().getValue(),
+        "주간 장보기",
+        new BigDecimal("12000.00"),
+        null,
+        "WEEKLY",
+        6,
+        null
+    );
+
+    mockMvc.perform(post("/api/v1/families/{familyUuid}/recurring-expenses",
+            testFamily.getUuid().getValue())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-User-UUID", testUser.getUuid().getValue())
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.data.frequency").value("WEEKLY"))
+        .andExpect(jsonPath("$.data.dayOfWeek").value(6));
+
+    mockMvc.perform(get(
+            "/api/v1/families/{familyUuid}/recurring-expenses/monthly-total",
+            testFamily.getUuid().getValue())
+            .header("X-User-UUID", testUser.getUuid().getValue()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data").value(52000.00));
+  }
+
+  @Test
+  @DisplayName("매주 반복에 요일이 없으면 등록에 실패한다")
+  void createRecurringExpense_FailsWhenWeeklyWithoutDayOfWeek() throws Exception {
+    CreateRecurringExpenseRequest request = new CreateRecurringExpenseRequest(
+        testCategory.getUuid().getValue(),
+        "주간 장보기",
+        new BigDecimal("12000.00"),
+        null,
+        "WEEKLY",
+        null,
+        null
+    );
+
+    mockMvc.perform(post("/api/v1/families/{familyUuid}/recurring-expenses",
+            testFamily.getUuid().getValue())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-User-UUID", testUser.getUuid().getValue())
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("RE003"));
+  }
+
   @Test
   @DisplayName("반복 지출 목록을 조회할 수 있다")
   void getRecurringExpenses_Success() throws Exception {
@@ -127,6 +210,36 @@ class RecurringExpenseControllerTest extends AbstractControllerTest {
         .andExpect(jsonPath("$.data.items[1].generatedThisMonth").value(false));
   }
 
+  @Test
+  @DisplayName("목록 조회 시 이번 달 생성 여부는 템플릿 수와 관계없이 쿼리 1회로 조회한다")
+  void getRecurringExpenses_LooksUpGenerationStatusInSingleQuery() throws Exception {
+    // Given: 템플릿 5건 중 1건만 이번 달 생성됨
+    List<RecurringExpense> templates = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      templates.add(fixtures.recurringExpenses.recurringExpense(testFamily, testCategory)
+          .name("구독 " + i)
+          .build());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    fixtures.expenses.expense(testFamily, testCategory)
+        .recurringExpense(templates.get(0))
+        .date(now)
+        .build();
+    SqlRecorder.clear();
+
+    // When & Then
+    mockMvc.perform(get("/api/v1/families/{familyUuid}/recurring-expenses",
+            testFamily.getUuid().getValue())
+            .param("month", YearMonth.from(now).toString())
+            .header("X-User-UUID", testUser.getUuid().getValue()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.items.length()").value(5))
+        .andExpect(jsonPath("$.data.items[?(@.generatedThisMonth == true)].uuid")
+            .value(templates.get(0).getUuid().getValue()));
+
+    assertThat(SqlRecorder.allMatching("from expenses")).hasSize(1);
+  }
+
   @Test
   @DisplayName("반복 지출을 수정할 수 있다")
   void updateRecurringExpense_Success() throws Exception {
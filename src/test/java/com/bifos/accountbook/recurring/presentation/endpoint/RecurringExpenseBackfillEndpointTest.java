@@ -0,0 +1,70 @@
+package com.bifos.accountbook.recurring.presentation.endpoint;
+
+import com.bifos.accountbook.shared.AbstractControllerTest;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("반복 지출 백필 actuator 엔드포인트 인증 테스트")
+@TestPropertySource(properties = {
+    "management.endpoints.web.exposure.include=health,recurringbackfill",
+    "actuator.admin.username=admin",
+    "actuator.admin.password=test-admin-password"
+})
+class RecurringExpenseBackfillEndpointTest extends AbstractControllerTest {
+
+  private static final String BACKFILL_PATH = "/actuator/recurringbackfill";
+
+  @Test
+  @DisplayName("인증 없이 백필을 호출하면 401")
+  void backfill_Unauthenticated() throws Exception {
+    mockMvc.perform(post(BACKFILL_PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(backfillRequest()))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("관리자 비밀번호가 틀리면 401")
+  void backfill_WrongPassword() throws Exception {
+    mockMvc.perform(post(BACKFILL_PATH)
+            .with(httpBasic("admin", "wrong-password"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(backfillRequest()))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("관리자 인증으로 백필을 실행할 수 있다")
+  void backfill_Admin() throws Exception {
+    mockMvc.perform(post(BACKFILL_PATH)
+            .with(httpBasic("admin", "test-admin-password"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(backfillRequest()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.templates").value(0))
+        .andExpect(jsonPath("$.created").value(0));
+  }
+
+  @Test
+  @DisplayName("읽기 전용 actuator 엔드포인트는 계속 인증 없이 조회")
+  void health_Unauthenticated() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk());
+  }
+
+  private String backfillRequest() throws Exception {
+    LocalDate yesterday = LocalDate.now().minusDays(1);
+    return objectMapper.writeValueAsString(Map.of(
+        "from", yesterday.minusDays(1).toString(),
+        "to", yesterday.toString()));
+  }
+}
@@ -1,8 +1,10 @@
 package com.bifos.accountbook.shared;
 
+import com.bifos.accountbook.notification.application.service.BudgetAlertQueue;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Table;
 import jakarta.persistence.metamodel.EntityType;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -41,6 +43,8 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 @Slf4j
 public class DatabaseCleanupListener extends AbstractTestExecutionListener {
 
+  private static final Duration ASYNC_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
   /**
    * 각 테스트 메서드 실행 후 모든 테이블 데이터 삭제
    * <p>
@@ -48,6 +52,14 @@ public class DatabaseCleanupListener extends AbstractTestExecutionListener {
    */
   @Override
   public void afterTestMethod(TestContext testContext) throws Exception {
+    // 커밋 후 비동기로 실행 중인 예산 알림 평가가 정리 이후에 데이터를 남기지 않도록 먼저 대기
+    BudgetAlertQueue budgetAlertQueue = testContext.getApplicationContext()
+                                                   .getBeanProvider(BudgetAlertQueue.class)
+                                                   .getIfAvailable();
+    if (budgetAlertQueue != null && !budgetAlertQueue.awaitIdle(ASYNC_DRAIN_TIMEOUT)) {
+      log.warn("예산 알림 평가가 {} 안에 끝나지 않았습니다", ASYNC_DRAIN_TIMEOUT);
+    }
+
     // Spring TestContext에서 직접 Bean 가져오기
     EntityManager em = testContext.getApplicationContext().getBean(EntityManager.class);
     PlatformTransactionManager txManager = testContext.getApplicationContext()
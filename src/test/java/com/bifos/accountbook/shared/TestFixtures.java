@@ -16,6 +16,7 @@ import com.bifos.accountbook.family.domain.repository.FamilyRepository;
 import com.bifos.accountbook.income.domain.repository.IncomeRepository;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
 import com.bifos.accountbook.user.domain.repository.UserRepository;
+import java.time.Clock;
 import org.springframework.context.ApplicationContext;
 
 /**
@@ -90,6 +91,7 @@ public class TestFixtures {
     final ExpenseRepository expenseRepository = applicationContext.getBean(ExpenseRepository.class);
     final IncomeRepository incomeRepository = applicationContext.getBean(IncomeRepository.class);
     final RecurringExpenseRepository recurringExpenseRepository = applicationContext.getBean(RecurringExpenseRepository.class);
+    final Clock clock = applicationContext.getBean(Clock.class);
 
     // 의존성 순서대로 초기화
     this.users = new UserFixtures(userRepository);
@@ -97,7 +99,7 @@ public class TestFixtures {
     this.categories = new CategoryFixtures(categoryRepository, families);
     this.expenses = new ExpenseFixtures(expenseRepository, users);
     this.incomes = new IncomeFixtures(incomeRepository, users);
-    this.recurringExpenses = new RecurringExpenseFixtures(recurringExpenseRepository, users);
+    this.recurringExpenses = new RecurringExpenseFixtures(recurringExpenseRepository, users, clock);
   }
 
   /**
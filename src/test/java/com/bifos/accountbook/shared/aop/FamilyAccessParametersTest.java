@@ -0,0 +1,123 @@
+package com.bifos.accountbook.shared.aop;
+
+import com.bifos.accountbook.shared.value.CustomUuid;
+import java.lang.reflect.Method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * FamilyAccessParameters 인자 위치 계산 및 기동 시 검증 테스트
+ */
+@DisplayName("@ValidateFamilyAccess 인자 위치 테스트")
+class FamilyAccessParametersTest {
+
+  @Test
+  @DisplayName("애노테이션이 붙은 파라미터의 인덱스를 계산하고 인자를 꺼낸다")
+  void resolve_AnnotatedParameters() throws NoSuchMethodException {
+    Method method = SampleService.class.getMethod("valid", String.class, CustomUuid.class, int.class, CustomUuid.class);
+    CustomUuid familyUuid = CustomUuid.generate();
+    CustomUuid userUuid = CustomUuid.generate();
+
+    FamilyAccessParameters parameters = FamilyAccessParameters.resolve(method);
+
+    assertThat(parameters).isEqualTo(new FamilyAccessParameters(3, 1));
+    Object[] args = {"memo", familyUuid, 1, userUuid};
+    assertThat(parameters.userUuid(args)).isSameAs(userUuid);
+    assertThat(parameters.familyUuid(args)).isSameAs(familyUuid);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "nameOnly, @UserUuid CustomUuid 파라미터가 필요합니다",
+      "missingFamily, @FamilyUuid CustomUuid 파라미터가 필요합니다",
+      "duplicateUser, @UserUuid 애노테이션이 여러 파라미터에 중복 사용되었습니다",
+      "wrongType, @FamilyUuid 파라미터는 CustomUuid 타입이어야 합니다",
+      "bothOnOne, @UserUuid와 @FamilyUuid를 한 파라미터에 함께 사용할 수 없습니다"
+  })
+  @DisplayName("잘못 설정된 메서드는 원인과 메서드 이름을 담아 거부한다")
+  void resolve_Misconfigured(String methodName, String reason) {
+    Method method = findMethod(methodName);
+
+    assertThatThrownBy(() -> FamilyAccessParameters.resolve(method))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(reason)
+        .hasMessageContaining("SampleService." + methodName);
+  }
+
+  @Test
+  @DisplayName("잘못 설정된 @ValidateFamilyAccess 메서드가 있으면 기동이 실패한다")
+  void startup_FailsOnMisconfiguredBean() {
+    new ApplicationContextRunner()
+        .withBean(FamilyValidationService.class, () -> new FamilyValidationService(null, null, null))
+        .withBean(FamilyAccessAspect.class)
+        .withBean(SampleService.class)
+        .run(context -> assertThat(context)
+            .hasFailed()
+            .getFailure()
+            .hasStackTraceContaining("잘못 설정된 @ValidateFamilyAccess 메서드가 있습니다")
+            .hasStackTraceContaining("SampleService.nameOnly")
+            .hasStackTraceContaining("SampleService.wrongType"));
+  }
+
+  @Test
+  @DisplayName("올바르게 설정된 빈만 있으면 정상 기동한다")
+  void startup_SucceedsOnValidBean() {
+    new ApplicationContextRunner()
+        .withBean(FamilyValidationService.class, () -> new FamilyValidationService(null, null, null))
+        .withBean(FamilyAccessAspect.class)
+        .withBean(ValidService.class)
+        .run(context -> assertThat(context).hasNotFailed());
+  }
+
+  private static Method findMethod(String name) {
+    for (Method method : SampleService.class.getMethods()) {
+      if (method.getName().equals(name)) {
+        return method;
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  static class ValidService {
+
+    @ValidateFamilyAccess
+    public void valid(@UserUuid CustomUuid userUuid, @FamilyUuid CustomUuid familyUuid) {
+    }
+  }
+
+  static class SampleService {
+
+    @ValidateFamilyAccess
+    public void valid(String memo, @FamilyUuid CustomUuid family, int page, @UserUuid CustomUuid user) {
+    }
+
+    /**
+     * 이름만 맞춘 파라미터는 더 이상 인식하지 않음
+     */
+    @ValidateFamilyAccess
+    public void nameOnly(CustomUuid userUuid, CustomUuid familyUuid) {
+    }
+
+    @ValidateFamilyAccess
+    public void missingFamily(@UserUuid CustomUuid userUuid, CustomUuid familyUuid) {
+    }
+
+    @ValidateFamilyAccess
+    public void duplicateUser(@UserUuid CustomUuid userUuid, @UserUuid CustomUuid otherUuid,
+                              @FamilyUuid CustomUuid familyUuid) {
+    }
+
+    @ValidateFamilyAccess
+    public void wrongType(@UserUuid CustomUuid userUuid, @FamilyUuid String familyUuid) {
+    }
+
+    @ValidateFamilyAccess
+    public void bothOnOne(@UserUuid @FamilyUuid CustomUuid uuid) {
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.bifos.accountbook.shared.aop;
+
+import com.bifos.accountbook.family.application.service.FamilyService;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.invitation.application.dto.CreateInvitationRequest;
+import com.bifos.accountbook.invitation.application.dto.InvitationResponse;
+import com.bifos.accountbook.invitation.application.service.InvitationService;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.shared.jdbc.SqlRecorder;
+import com.bifos.accountbook.shared.jdbc.SqlRecorderConfig;
+import com.bifos.accountbook.user.domain.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 가족 구성원 자격 캐시 통합 테스트
+ *
+ * 검증 항목:
+ * 1. 같은 (사용자, 가족) 반복 검증 시 구성원 조회는 한 번만 실행
+ * 2. 초대 수락 시 해당 사용자 항목 무효화 → 즉시 접근 가능
+ * 3. 가족 삭제 시 가족 전체 항목 무효화 → 즉시 접근 차단
+ * 4. 히트/미스 메트릭 노출
+ */
+@DisplayName("가족 구성원 자격 캐시 테스트")
+@Import(SqlRecorderConfig.class)
+class FamilyMembershipCacheTest extends TestFixturesSupport {
+
+  @Autowired
+  private FamilyValidationService familyValidationService;
+
+  @Autowired
+  private FamilyService familyService;
+
+  @Autowired
+  private InvitationService invitationService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private User owner;
+  private Family family;
+
+  @BeforeEach
+  void setUp() {
+    owner = fixtures.getDefaultUser();
+    family = fixtures.getDefaultFamily();
+  }
+
+  @Test
+  @DisplayName("반복 검증 시 구성원 조회는 한 번만 실행되고 히트로 집계된다")
+  void repeatedValidation_QueriesOnce() {
+    // Given
+    double hitsBefore = cacheGets("hit");
+    SqlRecorder.clear();
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      familyValidationService.validateFamilyAccess(owner.getUuid(), family.getUuid());
+    }
+    familyValidationService.validateFamilyOwner(owner.getUuid(), family.getUuid());
+
+    // Then
+    assertThat(SqlRecorder.allMatching("from family_members")).hasSize(1);
+    assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 5);
+  }
+
+  @Test
+  @DisplayName("구성원이 아닌 결과는 캐싱하지 않아 초대 수락 직후 접근할 수 있다")
+  void acceptInvitation_GrantsAccessImmediately() {
+    // Given
+    User invitee = fixtures.users.user().email("invitee@test.com").name("초대받은사람").build();
+    assertThatThrownBy(() -> familyValidationService.validateFamilyAccess(invitee.getUuid(), family.getUuid()))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.NOT_FAMILY_MEMBER);
+    InvitationResponse invitation = invitationService.createInvitation(owner.getUuid(), family.getUuid(),
+                                                                       new CreateInvitationRequest(24));
+
+    // When
+    invitationService.acceptInvitation(invitee.getUuid(), invitation.getToken());
+
+    // Then
+    assertThatCode(() -> familyValidationService.validateFamilyAccess(invitee.getUuid(), family.getUuid()))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("가족 삭제 후에는 캐시된 구성원도 즉시 접근이 차단된다")
+  void deleteFamily_RevokesCachedMembership() {
+    // Given: 캐시 적재
+    familyValidationService.validateFamilyAccess(owner.getUuid(), family.getUuid());
+
+    // When
+    familyService.deleteFamily(owner.getUuid(), family.getUuid());
+
+    // Then
+    assertThatThrownBy(() -> familyValidationService.validateFamilyAccess(owner.getUuid(), family.getUuid()))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.NOT_FAMILY_MEMBER);
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry.get("cache.gets")
+                        .tag("cache", "familyMemberships")
+                        .tag("result", result)
+                        .functionCounter()
+                        .count();
+  }
+}
@@ -0,0 +1,132 @@
+package com.bifos.accountbook.shared.converter;
+
+import com.bifos.accountbook.category.domain.entity.Category;
+import com.bifos.accountbook.dashboard.domain.repository.DailyExpenseRollupRepository;
+import com.bifos.accountbook.expense.domain.entity.Expense;
+import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
+import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
+import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * UUID BINARY(16) 저장 모드 통합 테스트
+ * - 엔티티 UUID 컬럼이 16바이트로 저장되고 조회/조인 시 원래 값으로 복원되는지 검증
+ * - 네이티브 쿼리(일별 롤업)와 String 매핑(반복 지출) 경로도 같은 형식으로 동작하는지 검증
+ *
+ * 스키마가 기본 테스트(VARCHAR)와 달라 별도 인메모리 DB를 사용합니다.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=BINARY",
+    "spring.datasource.url=jdbc:h2:mem:uuidbinary;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("UUID BINARY(16) 저장 모드 테스트")
+class UuidBinaryStorageTest extends TestFixturesSupport {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private ExpenseRepository expenseRepository;
+
+  @Autowired
+  private RecurringExpenseRepository recurringExpenseRepository;
+
+  @Autowired
+  private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+  @Autowired
+  private UuidColumnBinder uuidColumnBinder;
+
+  private Family family;
+  private Category food;
+
+  @BeforeEach
+  void setUp() {
+    family = fixtures.getDefaultFamily();
+    food = fixtures.categories.category(family).name("식비").build();
+  }
+
+  @Test
+  @DisplayName("UUID 컬럼은 16바이트로 저장되고 조회 시 같은 UUID로 복원된다")
+  void entityUuid_StoredAsSixteenBytes() {
+    // Given
+    Expense expense = fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(12000)).build();
+
+    // When
+    Map<String, Object> row = jdbcTemplate.queryForMap(
+        "SELECT uuid, family_uuid FROM expenses WHERE id = ?", expense.getId());
+
+    // Then
+    assertThat(row.get("UUID")).isInstanceOf(byte[].class);
+    assertThat((byte[]) row.get("UUID")).hasSize(16);
+    assertThat((byte[]) row.get("FAMILY_UUID")).isEqualTo(uuidColumnBinder.bind(family.getUuid()));
+
+    Expense found = transactionTemplate.execute(status -> {
+      Expense loaded = expenseRepository.findActiveByUuid(expense.getUuid()).orElseThrow();
+      loaded.getFamily().getName(); // families.uuid 조인
+      return loaded;
+    });
+    assertThat(found.getUuid()).isEqualTo(expense.getUuid());
+    assertThat(found.getFamily().getUuid()).isEqualTo(family.getUuid());
+    assertThat(found.getCategoryUuid()).isEqualTo(food.getUuid());
+  }
+
+  @Test
+  @DisplayName("네이티브 쿼리(롤업 UPSERT/재생성)도 BINARY 컬럼에 맞춰 바인딩된다")
+  void nativeRollupQueries_BindBinaryUuid() {
+    // Given
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(10000))
+                     .date(LocalDateTime.of(2026, 5, 3, 12, 0)).build();
+    fixtures.expenses.expense(family, food).amount(BigDecimal.valueOf(5000))
+                     .date(LocalDateTime.of(2026, 5, 3, 18, 0)).build();
+
+    // When
+    int rebuilt = transactionTemplate.execute(
+        status -> dailyExpenseRollupRepository.rebuildByFamilyUuid(family.getUuid()));
+    transactionTemplate.executeWithoutResult(status -> dailyExpenseRollupRepository.applyDelta(
+        family.getUuid(), LocalDate.of(2026, 5, 3), food.getUuid(), false, BigDecimal.valueOf(2000), 1));
+
+    // Then
+    assertThat(rebuilt).isEqualTo(1);
+    List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+        "SELECT total_amount, expense_count FROM daily_expense_rollups WHERE family_uuid = ? AND category_uuid = ?",
+        uuidColumnBinder.bind(family.getUuid()), uuidColumnBinder.bind(food.getUuid()));
+    assertThat(rows).hasSize(1);
+    assertThat((BigDecimal) rows.get(0).get("TOTAL_AMOUNT")).isEqualByComparingTo(BigDecimal.valueOf(17000));
+    assertThat(((Number) rows.get(0).get("EXPENSE_COUNT")).longValue()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("String으로 매핑된 반복 지출 UUID도 BINARY로 저장되고 String으로 조회된다")
+  void stringMappedUuid_RoundTrips() {
+    // Given
+    RecurringExpense recurring = fixtures.recurringExpenses.recurringExpense(family, food).build();
+
+    // When
+    List<RecurringExpense> found = recurringExpenseRepository.findAllActiveByFamilyUuid(family.getUuid().getValue());
+    byte[] stored = jdbcTemplate.queryForObject(
+        "SELECT family_uuid FROM recurring_expenses WHERE id = ?", byte[].class, recurring.getId());
+
+    // Then
+    assertThat(found).extracting(RecurringExpense::getUuid).containsExactly(recurring.getUuid());
+    assertThat(found.get(0).getFamilyUuid()).isEqualTo(family.getUuid().getValue());
+    assertThat(stored).isEqualTo(uuidColumnBinder.bind(family.getUuid()));
+  }
+}
@@ -0,0 +1,41 @@
+package com.bifos.accountbook.shared.filter;
+
+import jakarta.servlet.ServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+class RequestResponseLoggingFilterTest {
+
+  private final RequestResponseLoggingFilter sut = new RequestResponseLoggingFilter();
+
+  @Test
+  @DisplayName("CSV 내보내기 응답은 버퍼링 래퍼 없이 원본 응답으로 전달되어야 한다")
+  void exportEndpoint_IsNotBuffered() throws Exception {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/api/v1/families/a1b2/expenses/export");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<ServletResponse> passed = new AtomicReference<>();
+
+    sut.doFilter(request, response, (req, res) -> passed.set(res));
+
+    assertThat(passed.get()).isSameAs(response);
+  }
+
+  @Test
+  @DisplayName("일반 API 응답은 body 로깅을 위해 래핑되어야 한다")
+  void regularEndpoint_IsBuffered() throws Exception {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/api/v1/families/a1b2/expenses");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<ServletResponse> passed = new AtomicReference<>();
+
+    sut.doFilter(request, response, (req, res) -> passed.set(res));
+
+    assertThat(passed.get()).isInstanceOf(ContentCachingResponseWrapper.class);
+  }
+}
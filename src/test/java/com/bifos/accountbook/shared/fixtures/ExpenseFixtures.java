@@ -3,11 +3,13 @@ package com.bifos.accountbook.shared.fixtures;
 import com.bifos.accountbook.category.domain.entity.Category;
 import com.bifos.accountbook.expense.domain.entity.Expense;
 import com.bifos.accountbook.family.domain.entity.Family;
+import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.expense.domain.repository.ExpenseRepository;
 import com.bifos.accountbook.expense.domain.value.ExpenseStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 /**
  * Expense 도메인 테스트 Fixture
@@ -48,6 +50,7 @@ public class ExpenseFixtures {
     private String description = "Test Expense";
     private LocalDateTime date = LocalDateTime.now();
     private User user;
+    private RecurringExpense recurringExpense;
 
     private final ExpenseRepository expenseRepository;
     private final Family family;
@@ -84,6 +87,14 @@ public class ExpenseFixtures {
       return this;
     }
 
+    /**
+     * 반복 지출 템플릿으로 자동 생성된 지출 (발생일 = date)
+     */
+    public ExpenseBuilder recurringExpense(RecurringExpense recurringExpense) {
+      this.recurringExpense = recurringExpense;
+      return this;
+    }
+
     public Expense build() {
       // Expense 직접 생성 (@Transactional 없이도 동작)
       Expense expense = Expense.builder()
@@ -94,6 +105,9 @@ public class ExpenseFixtures {
                                .description(description)
                                .date(date)
                                .status(ExpenseStatus.ACTIVE)
+                               .recurringExpenseUuid(recurringExpense != null ? recurringExpense.getUuid().getValue() : null)
+                               .yearMonth(recurringExpense != null ? YearMonth.from(date).toString() : null)
+                               .recurringDate(recurringExpense != null ? date.toLocalDate() : null)
                                .build();
       return expenseRepository.save(expense);
     }
@@ -5,7 +5,11 @@ import com.bifos.accountbook.family.domain.entity.Family;
 import com.bifos.accountbook.recurring.domain.entity.RecurringExpense;
 import com.bifos.accountbook.user.domain.entity.User;
 import com.bifos.accountbook.recurring.domain.repository.RecurringExpenseRepository;
+import com.bifos.accountbook.recurring.domain.value.RecurringFrequency;
+import com.bifos.accountbook.recurring.domain.value.RecurringSchedule;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * RecurringExpense 도메인 테스트 Fixture
@@ -16,12 +20,15 @@ public class RecurringExpenseFixtures {
 
   private final RecurringExpenseRepository recurringExpenseRepository;
   private final UserFixtures userFixtures;
+  private final Clock clock;
 
   public RecurringExpenseFixtures(
       RecurringExpenseRepository recurringExpenseRepository,
-      UserFixtures userFixtures) {
+      UserFixtures userFixtures,
+      Clock clock) {
     this.recurringExpenseRepository = recurringExpenseRepository;
     this.userFixtures = userFixtures;
+    this.clock = clock;
   }
 
   /**
@@ -35,31 +42,39 @@ public class RecurringExpenseFixtures {
         recurringExpenseRepository,
         family,
         category,
-        userFixtures.getDefaultUser());
+        userFixtures.getDefaultUser(),
+        clock);
   }
 
   /**
    * RecurringExpense Builder - 반복 지출 생성
+   * 다음 생성일은 Clock 기준 등록 시점으로 계산
    */
   public static class RecurringExpenseBuilder {
     private String name = "Test Recurring Expense";
     private BigDecimal amount = BigDecimal.valueOf(50000);
-    private int dayOfMonth = 15;
+    private RecurringFrequency frequency = RecurringFrequency.MONTHLY;
+    private Integer dayOfMonth = 15;
+    private Integer dayOfWeek;
+    private Integer monthOfYear;
     private User user;
 
     private final RecurringExpenseRepository recurringExpenseRepository;
     private final Family family;
     private final Category category;
+    private final Clock clock;
 
     RecurringExpenseBuilder(
         RecurringExpenseRepository recurringExpenseRepository,
         Family family,
         Category category,
-        User defaultUser) {
+        User defaultUser,
+        Clock clock) {
       this.recurringExpenseRepository = recurringExpenseRepository;
       this.family = family;
       this.category = category;
       this.user = defaultUser;
+      this.clock = clock;
     }
 
     public RecurringExpenseBuilder name(String name) {
@@ -77,20 +92,44 @@ public class RecurringExpenseFixtures {
       return this;
     }
 
+    /**
+     * 매주 반복 (1=월요일 ~ 7=일요일)
+     */
+    public RecurringExpenseBuilder weekly(int dayOfWeek) {
+      this.frequency = RecurringFrequency.WEEKLY;
+      this.dayOfWeek = dayOfWeek;
+      return this;
+    }
+
+    /**
+     * 매년 반복
+     */
+    public RecurringExpenseBuilder yearly(int monthOfYear, int dayOfMonth) {
+      this.frequency = RecurringFrequency.YEARLY;
+      this.monthOfYear = monthOfYear;
+      this.dayOfMonth = dayOfMonth;
+      return this;
+    }
+
     public RecurringExpenseBuilder user(User user) {
       this.user = user;
       return this;
     }
 
     public RecurringExpense build() {
+      RecurringSchedule schedule = RecurringSchedule.of(frequency, dayOfMonth, dayOfWeek, monthOfYear);
       RecurringExpense recurringExpense = RecurringExpense.builder()
           .familyUuid(family.getUuid().getValue())
           .categoryUuid(category.getUuid().getValue())
           .userUuid(user.getUuid().getValue())
           .name(name)
           .amount(amount)
-          .dayOfMonth(dayOfMonth)
+          .frequency(schedule.frequency())
+          .dayOfMonth(schedule.dayOfMonth())
+          .dayOfWeek(schedule.dayOfWeek())
+          .monthOfYear(schedule.monthOfYear())
           .build();
+      recurringExpense.scheduleFrom(LocalDateTime.now(clock));
       return recurringExpenseRepository.save(recurringExpense);
     }
   }
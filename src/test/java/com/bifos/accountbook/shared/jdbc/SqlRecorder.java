@@ -0,0 +1,192 @@
+package com.bifos.accountbook.shared.jdbc;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+/**
+ * 실제 실행된 SQL과 바인딩 파라미터를 기록하는 테스트용 JDBC 레코더
+ *
+ * <p>DataSource → Connection → PreparedStatement를 JDK Proxy로 감싸서
+ * 실행 시점의 SQL과 setXxx 호출을 그대로 기록합니다.
+ * 기록된 바인딩은 다른 PreparedStatement(예: {@code EXPLAIN <sql>})에 재생할 수 있습니다.</p>
+ *
+ * <h3>사용법:</h3>
+ * <pre>{@code
+ * @Import(SqlRecorderConfig.class)
+ * class MyQueryTest extends TestFixturesSupport {
+ *     @Test
+ *     void test() {
+ *         SqlRecorder.clear();
+ *         repository.someQuery(...);
+ *         SqlRecorder.RecordedStatement statement = SqlRecorder.lastMatching("from expenses");
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see SqlRecorderConfig
+ */
+public final class SqlRecorder {
+
+  private static final Set<String> EXECUTE_METHODS =
+      Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+  private static final List<RecordedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  private SqlRecorder() {
+  }
+
+  /**
+   * 기록된 SQL 초기화
+   */
+  public static void clear() {
+    STATEMENTS.clear();
+  }
+
+  /**
+   * 기록된 전체 SQL (실행 순서)
+   */
+  public static List<RecordedStatement> statements() {
+    return List.copyOf(STATEMENTS);
+  }
+
+  /**
+   * 주어진 문자열을 포함하는 전체 SQL (실행 순서, 대소문자 무시)
+   */
+  public static List<RecordedStatement> allMatching(String fragment) {
+    String lowerFragment = fragment.toLowerCase();
+    return statements().stream()
+                       .filter(statement -> statement.sql().toLowerCase().contains(lowerFragment))
+                       .toList();
+  }
+
+  /**
+   * 주어진 문자열을 포함하는 마지막 SQL (대소문자 무시)
+   */
+  public static RecordedStatement lastMatching(String fragment) {
+    String lowerFragment = fragment.toLowerCase();
+    List<RecordedStatement> statements = statements();
+    for (int i = statements.size() - 1; i >= 0; i--) {
+      if (statements.get(i).sql().toLowerCase().contains(lowerFragment)) {
+        return statements.get(i);
+      }
+    }
+    throw new IllegalStateException("No recorded statement contains: " + fragment);
+  }
+
+  static DataSource wrap(DataSource dataSource) {
+    Class<?>[] interfaces = dataSource instanceof Closeable
+        ? new Class<?>[] {DataSource.class, Closeable.class}
+        : new Class<?>[] {DataSource.class};
+
+    return (DataSource) Proxy.newProxyInstance(
+        SqlRecorder.class.getClassLoader(),
+        interfaces,
+        (proxy, method, args) -> {
+          Object result = invoke(dataSource, method, args);
+          return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+  }
+
+  private static Connection wrapConnection(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(
+        SqlRecorder.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args);
+          if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+            return wrapPreparedStatement(statement, (String) args[0]);
+          }
+          return result;
+        });
+  }
+
+  private static PreparedStatement wrapPreparedStatement(PreparedStatement statement, String sql) {
+    Map<Integer, Binding> bindings = new TreeMap<>();
+    int[] batchSize = {0};
+
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (method.getName().startsWith("set") && args != null && args.length >= 2
+          && args[0] instanceof Integer index) {
+        bindings.put(index, new Binding(method, args.clone()));
+      } else if (method.getName().equals("clearParameters")) {
+        bindings.clear();
+      } else if (method.getName().equals("addBatch") && (args == null || args.length == 0)) {
+        batchSize[0]++;
+      } else if (method.getName().equals("executeBatch") || method.getName().equals("executeLargeBatch")) {
+        // 배치는 마지막 행의 바인딩만 남김
+        STATEMENTS.add(new RecordedStatement(sql, new ArrayList<>(bindings.values()), batchSize[0]));
+        batchSize[0] = 0;
+      } else if (EXECUTE_METHODS.contains(method.getName()) && (args == null || args.length == 0)) {
+        STATEMENTS.add(new RecordedStatement(sql, new ArrayList<>(bindings.values()), 0));
+      }
+      return invoke(statement, method, args);
+    };
+
+    return (PreparedStatement) Proxy.newProxyInstance(
+        SqlRecorder.class.getClassLoader(),
+        new Class<?>[] {PreparedStatement.class},
+        handler);
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * 실행된 SQL과 바인딩 정보
+   *
+   * @param sql       실행된 SQL (파라미터는 ? 그대로)
+   * @param bindings  파라미터 인덱스 순서의 setXxx 호출 기록
+   * @param batchSize executeBatch로 실행된 경우 묶인 행 수 (단건 실행이면 0)
+   */
+  public record RecordedStatement(String sql, List<Binding> bindings, int batchSize) {
+
+    /**
+     * JDBC 배치로 실행되었는지 여부
+     */
+    public boolean isBatch() {
+      return batchSize > 0;
+    }
+
+    /**
+     * 기록된 바인딩을 다른 PreparedStatement에 동일하게 재생
+     */
+    public void bindTo(PreparedStatement target) throws SQLException {
+      for (Binding binding : bindings) {
+        try {
+          binding.setter().invoke(target, binding.args());
+        } catch (InvocationTargetException e) {
+          if (e.getCause() instanceof SQLException sqlException) {
+            throw sqlException;
+          }
+          throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * PreparedStatement setXxx 호출 기록
+   */
+  public record Binding(Method setter, Object[] args) {
+  }
+}
@@ -0,0 +1,24 @@
+package com.bifos.accountbook.shared.jdbc;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link SqlRecorder}를 애플리케이션 DataSource에 적용하는 테스트 설정
+ * 필요한 테스트 클래스에서만 {@code @Import(SqlRecorderConfig.class)}로 사용
+ */
+@TestConfiguration
+public class SqlRecorderConfig {
+
+  @Bean
+  static BeanPostProcessor sqlRecorderDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource) : bean;
+      }
+    };
+  }
+}
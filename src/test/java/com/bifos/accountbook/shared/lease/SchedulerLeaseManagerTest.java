@@ -0,0 +1,114 @@
+package com.bifos.accountbook.shared.lease;
+
+import com.bifos.accountbook.shared.FosSpringBootTest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * SchedulerLeaseManager 통합 테스트
+ * 두 노드를 owner가 다른 매니저로 흉내 내고, 시각은 직접 움직이는 Clock으로 제어합니다.
+ */
+@FosSpringBootTest
+@DisplayName("스케줄 작업 임대 테스트")
+class SchedulerLeaseManagerTest {
+
+  private static final String LEASE_NAME = "test-job";
+  private static final Duration DURATION = Duration.ofMinutes(1);
+
+  @Autowired
+  private SchedulerLeaseJpaRepository jpaRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-03-15T00:00:00Z"));
+  private SchedulerLeaseManager nodeA;
+  private SchedulerLeaseManager nodeB;
+
+  @BeforeEach
+  void setUp() {
+    nodeA = new SchedulerLeaseManager(jpaRepository, transactionManager, clock, "node-a");
+    nodeB = new SchedulerLeaseManager(jpaRepository, transactionManager, clock, "node-b");
+  }
+
+  @Test
+  @DisplayName("다른 노드가 보유 중인 임대는 얻을 수 없고, 반납 후에는 더 큰 fencing token으로 얻는다")
+  void acquire_HeldByOtherNode_BlockedUntilReleased() {
+    // Given
+    HeldLease leaseA = nodeA.acquire(LEASE_NAME, DURATION).orElseThrow();
+
+    // When
+    Optional<HeldLease> blocked = nodeB.acquire(LEASE_NAME, DURATION);
+    leaseA.close();
+    Optional<HeldLease> acquired = nodeB.acquire(LEASE_NAME, DURATION);
+
+    // Then
+    assertThat(blocked).isEmpty();
+    assertThat(acquired).isPresent();
+    assertThat(acquired.get().fencingToken()).isGreaterThan(leaseA.fencingToken());
+    acquired.get().close();
+  }
+
+  @Test
+  @DisplayName("만료된 임대는 다른 노드가 가져가며, 이전 보유 노드는 무효가 되고 연장할 수 없다")
+  void acquire_Expired_TakenOverAndStaleHolderFenced() {
+    // Given: A가 임대를 얻은 뒤 heartbeat 없이 만료 시간이 지남
+    HeldLease leaseA = nodeA.acquire(LEASE_NAME, DURATION).orElseThrow();
+    clock.advance(DURATION.plusSeconds(1));
+
+    // When
+    HeldLease leaseB = nodeB.acquire(LEASE_NAME, DURATION).orElseThrow();
+
+    // Then
+    assertThat(leaseA.isValid()).isFalse();
+    assertThat(leaseB.isValid()).isTrue();
+    assertThat(leaseB.fencingToken()).isEqualTo(leaseA.fencingToken() + 1);
+    assertThat(nodeA.renew(LEASE_NAME, leaseA.fencingToken(), DURATION)).isFalse();
+    assertThat(nodeB.renew(LEASE_NAME, leaseB.fencingToken(), DURATION)).isTrue();
+
+    // A의 늦은 반납은 B의 임대에 영향을 주지 않음
+    leaseA.close();
+    assertThat(nodeA.acquire(LEASE_NAME, DURATION)).isEmpty();
+    leaseB.close();
+  }
+
+  /**
+   * 테스트에서 직접 움직이는 Clock
+   */
+  private static class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.bifos.accountbook.shared.value;
+
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("CustomUuid 값 객체 테스트")
+class CustomUuidTest {
+
+  @Test
+  @DisplayName("문자열로 만든 값은 UUID.fromString과 같은 128비트 값을 가진다")
+  void fromString_MatchesJdkParsing() {
+    for (int i = 0; i < 1_000; i++) {
+      UUID expected = UUID.randomUUID();
+
+      CustomUuid uuid = CustomUuid.from(expected.toString());
+
+      assertThat(uuid.toUuid()).isEqualTo(expected);
+      assertThat(uuid.getValue()).isEqualTo(expected.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("java.util.UUID로 만든 값은 정규 소문자 문자열로 표현되고 같은 문자열 값과 동등하다")
+  void fromUuid_EqualsFromString() {
+    UUID source = UUID.fromString("0192f1c8-7a3b-7c4d-8e5f-a1b2c3d4e5f6");
+
+    CustomUuid fromUuid = CustomUuid.from(source);
+    CustomUuid fromString = CustomUuid.from("0192F1C8-7A3B-7C4D-8E5F-A1B2C3D4E5F6");
+
+    assertThat(fromUuid.getValue()).isEqualTo("0192f1c8-7a3b-7c4d-8e5f-a1b2c3d4e5f6");
+    assertThat(fromUuid).isEqualTo(fromString).hasSameHashCodeAs(fromString);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"   "})
+  @DisplayName("null 또는 빈 문자열은 거부한다")
+  void from_NullOrBlank(String value) {
+    assertThatThrownBy(() -> CustomUuid.from(value))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UUID value cannot be null or empty");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "not-a-uuid",
+      "0192f1c8-7a3b-7c4d-8e5f-a1b2c3d4e5f",    // 35자
+      "0192f1c8-7a3b-7c4d-8e5f-a1b2c3d4e5f6a",  // 37자
+      "0192f1c8x7a3b-7c4d-8e5f-a1b2c3d4e5f6",   // 구분자 위치
+      "0192f1c8-7a3b-7c4d-8e5f-a1b2c3d4e5g6",   // 16진수 아님
+      "1-2-3-4-5"                               // 축약형 (UUID.fromString은 허용)
+  })
+  @DisplayName("정규 8-4-4-4-12 형식이 아니면 거부한다")
+  void from_InvalidFormat(String value) {
+    assertThatThrownBy(() -> CustomUuid.from(value))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid UUID format");
+  }
+}
@@ -0,0 +1,87 @@
+package com.bifos.accountbook.shared.value;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UUIDv7 생성기 테스트")
+class UuidV7Test {
+
+  @Test
+  @DisplayName("버전 7, RFC 4122 variant, 현재 시각 타임스탬프를 가진다")
+  void versionVariantAndTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID uuid = UuidV7.next();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, before + 1000);
+  }
+
+  @Test
+  @DisplayName("같은 밀리초 안에서도 문자열 순서가 발급 순서와 일치한다")
+  void monotonicWithinSameMillisecond() {
+    UuidV7 generator = new UuidV7();
+    long fixedMillis = System.currentTimeMillis();
+    List<String> issued = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) { // 카운터(4096) 자리올림 포함
+      issued.add(generator.next(fixedMillis).toString());
+    }
+
+    assertThat(issued).isSorted();
+    assertThat(new HashSet<>(issued)).hasSize(issued.size());
+  }
+
+  @Test
+  @DisplayName("시계가 뒤로 가더라도 이전 값보다 큰 값을 발급한다")
+  void monotonicWhenClockGoesBackwards() {
+    UuidV7 generator = new UuidV7();
+    long now = System.currentTimeMillis();
+    String first = generator.next(now).toString();
+    String second = generator.next(now - 5_000).toString();
+
+    assertThat(second).isGreaterThan(first);
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 발급해도 중복이 없고 스레드별 순서가 유지된다")
+  void concurrentGeneration() throws InterruptedException {
+    int threads = 8;
+    int perThread = 5_000;
+    ConcurrentLinkedQueue<String> all = new ConcurrentLinkedQueue<>();
+    ConcurrentLinkedQueue<Boolean> sortedPerThread = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      for (int t = 0; t < threads; t++) {
+        executor.submit(() -> {
+          List<String> local = new ArrayList<>(perThread);
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            local.add(CustomUuid.generate().getValue());
+          }
+          all.addAll(local);
+          sortedPerThread.add(local.equals(local.stream().sorted().toList()));
+          return null;
+        });
+      }
+      start.countDown();
+      executor.shutdown();
+      assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    Set<String> unique = new HashSet<>(all);
+    assertThat(unique).hasSize(threads * perThread);
+    assertThat(sortedPerThread).hasSize(threads).containsOnly(true);
+  }
+}
@@ -0,0 +1,126 @@
+package com.bifos.accountbook.user.application.service;
+
+import com.bifos.accountbook.config.security.JwtTokenProvider;
+import com.bifos.accountbook.config.security.TokenRevocationRegistry;
+import com.bifos.accountbook.shared.TestFixturesSupport;
+import com.bifos.accountbook.shared.exception.BusinessException;
+import com.bifos.accountbook.shared.exception.ErrorCode;
+import com.bifos.accountbook.user.presentation.dto.AuthResponse;
+import com.bifos.accountbook.user.presentation.dto.SocialLoginRequest;
+import com.bifos.accountbook.shared.value.CustomUuid;
+import com.bifos.accountbook.user.domain.value.UserStatus;
+import io.jsonwebtoken.Claims;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Refresh 토큰 회전 및 폐기 목록 통합 테스트
+ *
+ * 검증 항목:
+ * 1. 갱신 시 새 refresh 토큰이 발급되고, 사용된 토큰은 다시 쓸 수 없음
+ * 2. 다른 노드에서 폐기된 토큰도 증분 갱신 후 거부
+ * 3. 삭제된 사용자의 Access 토큰은 증분 갱신 후 거부
+ */
+@DisplayName("인증 서비스 토큰 회전 테스트")
+class AuthServiceTest extends TestFixturesSupport {
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private TokenRevocationRegistry tokenRevocationRegistry;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Test
+  @DisplayName("refresh 토큰으로 갱신하면 새 refresh 토큰이 발급되고 기존 토큰은 재사용할 수 없다")
+  void refreshToken_RotatesAndRejectsReuse() {
+    // Given
+    AuthResponse login = authService.socialLogin(loginRequest("rotate"));
+
+    // When
+    AuthResponse refreshed = authService.refreshToken(login.getRefreshToken());
+
+    // Then
+    assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+    assertThat(refreshed.getUser().getUuid()).isEqualTo(login.getUser().getUuid());
+    assertThatThrownBy(() -> authService.refreshToken(login.getRefreshToken()))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_TOKEN);
+    assertThat(authService.refreshToken(refreshed.getRefreshToken()).getRefreshToken()).isNotBlank();
+  }
+
+  @Test
+  @DisplayName("Access 토큰으로는 갱신할 수 없다")
+  void refreshToken_WithAccessToken_Rejected() {
+    // Given
+    AuthResponse login = authService.socialLogin(loginRequest("access"));
+
+    // When & Then
+    assertThatThrownBy(() -> authService.refreshToken(login.getAccessToken()))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_TOKEN);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 폐기한 토큰은 증분 갱신 후 메모리 목록에서 거부된다")
+  void registry_LoadsRevocationsFromDatabase() {
+    // Given: 이 노드의 메모리를 거치지 않고 DB에만 폐기 기록
+    AuthResponse login = authService.socialLogin(loginRequest("other-node"));
+    Claims claims = jwtTokenProvider.parseRefreshTokenClaims(login.getRefreshToken());
+    jdbcTemplate.update("INSERT INTO revoked_tokens (jti, user_uuid, expires_at, revoked_at) VALUES (?, ?, ?, ?)",
+                        claims.getId(), claims.getSubject(), LocalDateTime.now().plusDays(1), LocalDateTime.now());
+    assertThat(tokenRevocationRegistry.isRevoked(claims)).isFalse();
+
+    // When
+    tokenRevocationRegistry.refresh();
+
+    // Then
+    assertThat(tokenRevocationRegistry.isRevoked(claims)).isTrue();
+  }
+
+  @Test
+  @DisplayName("삭제된 사용자의 Access 토큰은 증분 갱신 후 거부된다")
+  void registry_RejectsDeletedUser() {
+    // Given
+    AuthResponse login = authService.socialLogin(loginRequest("deleted"));
+    Claims claims = jwtTokenProvider.parseAccessTokenClaims(login.getAccessToken());
+    assertThat(tokenRevocationRegistry.isRevoked(claims)).isFalse();
+
+    // When
+    transactionTemplate.executeWithoutResult(status -> entityManager
+        .createQuery("UPDATE User u SET u.status = :status, u.updatedAt = :now WHERE u.uuid = :uuid")
+        .setParameter("status", UserStatus.DELETED)
+        .setParameter("now", LocalDateTime.now())
+        .setParameter("uuid", CustomUuid.from(login.getUser().getUuid()))
+        .executeUpdate());
+    tokenRevocationRegistry.refresh();
+
+    // Then
+    assertThat(tokenRevocationRegistry.isRevoked(claims)).isTrue();
+  }
+
+  private static SocialLoginRequest loginRequest(String providerId) {
+    return new SocialLoginRequest("google", providerId, providerId + "@test.com", providerId, null);
+  }
+}